@@ -0,0 +1,288 @@
+package entidades;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import java.util.function.Consumer;
+
+/**
+ * Archivo con los proyectos finalizados de un HomeSolution. En memoria quedan
+ * un ResumenDeProyecto por cada uno y, en un caché LRU acotado, los últimos
+ * proyectos completos que se consultaron.
+ *
+ * Cada proyecto se escribe al final del archivo como [longitud][crc32][proyecto
+ * con el formato de Instantanea], y guardar() no vuelve hasta que el registro
+ * está en disco. Si un proyecto archivado cambia (por ejemplo, por un retraso
+ * registrado después de finalizarlo) se vuelve a escribir al final y el
+ * registro anterior queda sin usar.
+ *
+ * Al abrirlo se leen los registros que ya tiene, quedándose con el último de
+ * cada número, y se descarta un registro incompleto o corrupto al final. Si
+ * más de la mitad de los registros quedaron sin usar, se reescribe el archivo.
+ */
+public class AlmacenDeFinalizados {
+	private static final int tamanioDeEncabezado = 8;
+
+	private final Path archivo;
+	private FileChannel canal;
+	private long fin;
+
+	private TreeMap<Integer, ResumenDeProyecto> resumenes; // Ordenados por número, para listar y paginar.
+	private LinkedHashMap<Integer, Proyecto> cache; // En orden de acceso: el primero es el menos usado.
+	private HomeSolution homeSolution; // Resuelve los legajos de las tareas al leer un proyecto.
+
+	/**
+	 * @param homeSolution Tiene que tener registrados los empleados de las tareas
+	 *                     de los proyectos que ya están en el archivo.
+	 */
+	protected AlmacenDeFinalizados(Path archivo, int proyectosEnCache, HomeSolution homeSolution) throws IOException {
+		if (proyectosEnCache <= 0)
+			throw new IllegalArgumentException("La cantidad de proyectos en caché debe ser mayor a 0.");
+
+		this.archivo = archivo;
+		canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+
+		resumenes = new TreeMap<>();
+		// get() reordena el mapa, así que incluso las consultas lo usan con el
+		// bloqueo del propio caché.
+		cache = new LinkedHashMap<Integer, Proyecto>(proyectosEnCache * 4 / 3 + 1, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Proyecto> menosUsado) {
+				return size() > proyectosEnCache;
+			}
+		};
+
+		this.homeSolution = homeSolution;
+
+		try {
+			if (cargar() > 2 * resumenes.size())
+				compactar();
+		} catch (IOException | RuntimeException e) {
+			canal.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return La cantidad de registros válidos leídos.
+	 */
+	private int cargar() throws IOException {
+		long tamanio = canal.size();
+		long posicion = 0;
+		int registros = 0;
+
+		ByteBuffer encabezado = ByteBuffer.allocate(tamanioDeEncabezado);
+		CRC32 crc = new CRC32();
+
+		while (posicion + tamanioDeEncabezado <= tamanio) {
+			encabezado.clear();
+			leerCompleto(encabezado, posicion);
+			encabezado.flip();
+
+			int longitud = encabezado.getInt();
+			int crcEsperado = encabezado.getInt();
+
+			if (longitud <= 0 || posicion + tamanioDeEncabezado + longitud > tamanio)
+				break;
+
+			ByteBuffer contenido = ByteBuffer.allocate(longitud);
+			leerCompleto(contenido, posicion + tamanioDeEncabezado);
+
+			crc.reset();
+			crc.update(contenido.array(), 0, longitud);
+			if ((int) crc.getValue() != crcEsperado)
+				break;
+
+			contenido.flip();
+			Proyecto proyecto = Instantanea.leerProyecto(contenido, homeSolution::obtenerEmpleado);
+			resumenes.put(proyecto.obtenerId(),
+					new ResumenDeProyecto(proyecto, posicion + tamanioDeEncabezado, longitud));
+
+			posicion += tamanioDeEncabezado + longitud;
+			registros++;
+		}
+
+		if (posicion < tamanio) { // Una escritura cortada: lo que sigue nunca se confirmó.
+			canal.truncate(posicion);
+			canal.force(true);
+		}
+
+		fin = posicion;
+
+		return registros;
+	}
+
+	/**
+	 * Reescribe en un archivo nuevo sólo el último registro de cada proyecto y lo
+	 * pone en lugar del actual.
+	 */
+	private void compactar() throws IOException {
+		Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+		TreeMap<Integer, ResumenDeProyecto> compactados = new TreeMap<>();
+		long posicion = 0;
+
+		try (FileChannel nuevo = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			for (ResumenDeProyecto resumen : resumenes.values()) {
+				ByteBuffer registro = ByteBuffer.allocate(tamanioDeEncabezado + resumen.obtenerLongitud());
+				leerCompleto(registro, resumen.obtenerPosicion() - tamanioDeEncabezado);
+				registro.flip();
+
+				escribirCompleto(nuevo, registro, posicion);
+				compactados.put(resumen.obtenerNumero(), resumen.enPosicion(posicion + tamanioDeEncabezado));
+				posicion += registro.capacity();
+			}
+
+			nuevo.force(true);
+		}
+
+		Archivos.renombrar(temporal, archivo);
+
+		canal.close();
+		canal = FileChannel.open(archivo, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		resumenes = compactados;
+		fin = posicion;
+	}
+
+	/**
+	 * Escribe el proyecto al final del archivo, lo fuerza a disco y recién
+	 * entonces actualiza su resumen. El proyecto queda en el caché. Si falla, el
+	 * archivo y el resumen quedan como estaban: lo escrito a medias se pisa con el
+	 * próximo registro.
+	 */
+	protected void guardar(Proyecto proyecto) {
+		int idProyecto = proyecto.obtenerId();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+		try {
+			DataOutputStream salida = new DataOutputStream(bytes);
+			salida.writeLong(0); // Lugar para la longitud y el crc.
+			Instantanea.escribirProyecto(salida, proyecto);
+
+			byte[] registro = bytes.toByteArray();
+			int longitud = registro.length - tamanioDeEncabezado;
+
+			CRC32 crc = new CRC32();
+			crc.update(registro, tamanioDeEncabezado, longitud);
+
+			ByteBuffer datos = ByteBuffer.wrap(registro);
+			datos.putInt(0, longitud);
+			datos.putInt(4, (int) crc.getValue());
+
+			escribirCompleto(canal, datos, fin);
+			canal.force(false);
+
+			resumenes.put(idProyecto, new ResumenDeProyecto(proyecto, fin + tamanioDeEncabezado, longitud));
+			fin += registro.length;
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo archivar el proyecto " + idProyecto, e);
+		}
+
+		synchronized (cache) {
+			cache.put(idProyecto, proyecto);
+		}
+	}
+
+	private void leerCompleto(ByteBuffer destino, long posicion) throws IOException {
+		while (destino.hasRemaining()) {
+			if (canal.read(destino, posicion + destino.position()) < 0)
+				throw new IOException("Fin de archivo inesperado en " + archivo);
+		}
+	}
+
+	private static void escribirCompleto(FileChannel canal, ByteBuffer datos, long posicion) throws IOException {
+		while (datos.hasRemaining())
+			canal.write(datos, posicion + datos.position());
+	}
+
+	protected ResumenDeProyecto obtenerResumen(int numero) {
+		return resumenes.get(numero);
+	}
+
+	/**
+	 * @return El proyecto completo, del caché o leído del archivo, o null si no
+	 *         está archivado.
+	 */
+	protected Proyecto obtener(int numero) {
+		Proyecto proyecto;
+
+		synchronized (cache) {
+			proyecto = cache.get(numero);
+		}
+
+		if (proyecto == null) {
+			proyecto = leer(numero);
+
+			if (proyecto != null) {
+				synchronized (cache) {
+					cache.put(numero, proyecto);
+				}
+			}
+		}
+
+		return proyecto;
+	}
+
+	/**
+	 * Lee el proyecto del archivo sin pasar por el caché, para recorridos que no
+	 * deberían desplazar a los proyectos consultados.
+	 */
+	protected Proyecto leer(int numero) {
+		ResumenDeProyecto resumen = resumenes.get(numero);
+
+		if (resumen == null)
+			return null;
+
+		ByteBuffer datos = ByteBuffer.allocate(resumen.obtenerLongitud());
+
+		try {
+			leerCompleto(datos, resumen.obtenerPosicion());
+			datos.flip();
+
+			return Instantanea.leerProyecto(datos, homeSolution::obtenerEmpleado);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo leer el proyecto archivado " + numero, e);
+		}
+	}
+
+	/**
+	 * Recorre los proyectos archivados, en orden de número, leyéndolos de a uno.
+	 */
+	protected void recorrer(Consumer<Proyecto> accion) {
+		for (Integer numero : resumenes.keySet())
+			accion.accept(leer(numero));
+	}
+
+	protected void recorrerResumenes(Consumer<ResumenDeProyecto> accion) {
+		resumenes.values().forEach(accion);
+	}
+
+	protected void paginar(ArmadorDePagina<ResumenDeProyecto, ?> armador) {
+		for (ResumenDeProyecto resumen : resumenes.tailMap(armador.despuesDe(), false).values()) {
+			if (!armador.agregar(resumen.obtenerNumero(), resumen))
+				return;
+		}
+	}
+
+	protected int cantidad() {
+		return resumenes.size();
+	}
+
+	protected int mayorNumero() {
+		return resumenes.isEmpty() ? -1 : resumenes.lastKey();
+	}
+
+	public void cerrar() throws IOException {
+		canal.close();
+	}
+}
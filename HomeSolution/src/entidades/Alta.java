@@ -0,0 +1,95 @@
+package entidades;
+
+/**
+ * Un empleado o un proyecto ya creado y validado, que todavía no tiene legajo
+ * o número, para registrar junto con otros con IHomeSolution.registrarAltas.
+ * Se puede crear en cualquier hilo: validar y armar el proyecto (leer las
+ * fechas, crear las tareas) es lo caro del alta, y al registrarlo sólo se copia
+ * con el id que le toca.
+ */
+public class Alta {
+	private final Empleado empleado; // null si es un proyecto.
+	private final Proyecto proyecto; // null si es un empleado.
+
+	// Los datos con que se creó, para los diarios y los eventos.
+	private String nombre;
+	private double valor;
+	private String categoria; // null si es un empleado contratado.
+
+	private String[] titulos;
+	private String[] descripciones;
+	private double[] dias;
+	private String domicilio;
+	private String[] cliente;
+	private String inicio;
+	private String fin;
+
+	private Alta(Empleado empleado, Proyecto proyecto) {
+		this.empleado = empleado;
+		this.proyecto = proyecto;
+	}
+
+	/**
+	 * @param categoria null para un empleado contratado.
+	 * @throws IllegalArgumentException Si registrarEmpleado rechazaría los datos.
+	 */
+	public static Alta deEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
+		Empleado empleado = (categoria == null ? new EmpleadoContratado(0, nombre, valor)
+				: new EmpleadoDePlanta(0, nombre, valor, categoria));
+
+		Alta alta = new Alta(empleado, null);
+		alta.nombre = nombre;
+		alta.valor = valor;
+		alta.categoria = categoria;
+
+		return alta;
+	}
+
+	/**
+	 * @throws IllegalArgumentException Si registrarProyecto rechazaría los datos.
+	 */
+	public static Alta deProyecto(String[] titulos, String[] descripciones, double[] dias, String domicilio,
+			String[] cliente, String inicio, String fin) throws IllegalArgumentException {
+		Alta alta = new Alta(null, new Proyecto(0, titulos, descripciones, dias, domicilio, cliente, inicio, fin));
+		alta.titulos = titulos.clone();
+		alta.descripciones = descripciones.clone();
+		alta.dias = dias.clone();
+		alta.domicilio = domicilio;
+		alta.cliente = cliente.clone();
+		alta.inicio = inicio;
+		alta.fin = fin;
+
+		return alta;
+	}
+
+	protected boolean esEmpleado() {
+		return empleado != null;
+	}
+
+	protected Empleado crearEmpleado(int legajo) {
+		return empleado.conLegajo(legajo);
+	}
+
+	protected Proyecto crearProyecto(int numero) {
+		return proyecto.conNumero(numero);
+	}
+
+	/**
+	 * @return El evento que registra el alta ya registrada con el id indicado.
+	 */
+	protected Evento comoEvento(long instante, int id) {
+		if (esEmpleado())
+			return new Evento.EmpleadoRegistrado(instante, id, nombre, valor, categoria);
+
+		return new Evento.ProyectoRegistrado(instante, id, titulos, descripciones, dias, domicilio, cliente, inicio,
+				fin);
+	}
+
+	/**
+	 * @return El motivo por el que no se pudo registrar un alta, para informarlo
+	 *         junto con ella.
+	 */
+	protected static String motivo(RuntimeException e) {
+		return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+	}
+}
@@ -0,0 +1,561 @@
+package entidades;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Archivo de sólo lectura con los proyectos finalizados guardados por columnas,
+ * pensado para consultas que recorren todo el historial, como el costo por mes
+ * o los días de retraso por legajo.
+ *
+ * Los proyectos se agrupan en bloques. Cada bloque guarda cada columna por
+ * separado y comprimida con Deflater, así que una consulta sólo descomprime las
+ * columnas que usa. Los textos (domicilios, datos del cliente, títulos y
+ * descripciones de tareas, que se repiten mucho) se guardan una sola vez en un
+ * diccionario y las columnas tienen su índice. Los números de proyecto y las
+ * fechas de inicio se guardan como diferencia con el proyecto anterior, y las
+ * fechas de fin como diferencia con la de inicio, en varints.
+ *
+ * Formato (versión 1), big-endian:
+ *
+ * <pre>
+ * encabezado: int firma, int versión, int cantidad de proyectos, int cantidad de tareas,
+ *     int cantidad de bloques, long posición del pie
+ * bloque: int proyectos, int tareas, por cada columna int longitud comprimida e
+ *     int longitud original, y después las columnas comprimidas en el mismo orden
+ * pie: long posición de cada bloque, int cantidad de textos, y el diccionario
+ *     comprimido como una columna más (textos: int longitud en bytes, -1 si es
+ *     null, y los bytes en UTF-8)
+ * varint: 7 bits por byte, el bit alto indica que sigue otro byte; las
+ *     diferencias, que pueden ser negativas, van en zigzag
+ * </pre>
+ *
+ * Columnas de proyectos: número, inicio, fin estimado, fin real, domicilio,
+ * nombre, mail y teléfono del cliente, hubo retrasos, siguiente orden de tarea,
+ * cantidad de tareas y costo. Columnas de tareas, en el orden de los proyectos:
+ * título, descripción, orden, días estimados, días de retraso, finalizada,
+ * legajo (0 si no tiene) y costo.
+ */
+public class ArchivoColumnar {
+	private static final int firma = 0x48534341; // "HSCA"
+	private static final int version = 1;
+	private static final int tamanioDeEncabezado = 28;
+
+	private static final int numeros = 0;
+	private static final int inicios = 1;
+	private static final int finesEstimados = 2;
+	private static final int finesReales = 3;
+	private static final int domicilios = 4;
+	private static final int nombres = 5;
+	private static final int mails = 6;
+	private static final int telefonos = 7;
+	private static final int conRetrasos = 8;
+	private static final int siguientesOrdenes = 9;
+	private static final int cantidadesDeTareas = 10;
+	private static final int costos = 11;
+	private static final int titulos = 12;
+	private static final int descripciones = 13;
+	private static final int ordenes = 14;
+	private static final int diasEstimados = 15;
+	private static final int diasDeRetraso = 16;
+	private static final int finalizadas = 17;
+	private static final int legajos = 18;
+	private static final int costosDeTareas = 19;
+	private static final int cantidadDeColumnas = 20;
+
+	private final MappedByteBuffer datos;
+	private final int cantidadDeProyectos;
+	private final int cantidadDeTareas;
+	private final long[] bloques;
+	private final String[] textos; // El índice 0 es null.
+
+	private ArchivoColumnar(MappedByteBuffer datos, int cantidadDeProyectos, int cantidadDeTareas, long[] bloques,
+			String[] textos) {
+		this.datos = datos;
+		this.cantidadDeProyectos = cantidadDeProyectos;
+		this.cantidadDeTareas = cantidadDeTareas;
+		this.bloques = bloques;
+		this.textos = textos;
+	}
+
+	/**
+	 * Escribe los proyectos finalizados del HomeSolution, incluidos los archivados,
+	 * en un archivo temporal y, ya en disco, lo mueve sobre el destino.
+	 *
+	 * @return La cantidad de proyectos escritos.
+	 */
+	public static int escribir(HomeSolution homeSolution, Path archivo, int proyectosPorBloque) throws IOException {
+		if (proyectosPorBloque <= 0)
+			throw new IllegalArgumentException("La cantidad de proyectos por bloque debe ser mayor a 0.");
+
+		Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+		int escritos;
+
+		try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			Escritor escritor = new Escritor(canal, proyectosPorBloque);
+
+			homeSolution.recorrerProyectos(Estado.FINALIZADO, proyecto -> {
+				try {
+					escritor.agregar(proyecto);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+
+			escritos = escritor.terminar();
+			canal.force(true);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		Archivos.renombrar(temporal, archivo);
+
+		return escritos;
+	}
+
+	/**
+	 * Mapea el archivo y lee el diccionario y la posición de los bloques; los
+	 * bloques se leen recién al consultarlos.
+	 */
+	public static ArchivoColumnar abrir(Path archivo) throws IOException {
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+			if (canal.size() > Integer.MAX_VALUE)
+				throw new IOException("El archivo supera los 2 GB que se pueden mapear de una vez.");
+
+			MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+
+			if (datos.remaining() < tamanioDeEncabezado || datos.getInt() != firma)
+				throw new IOException("El archivo " + archivo + " no es un archivo columnar de HomeSolution.");
+
+			int versionLeida = datos.getInt();
+			if (versionLeida != version)
+				throw new IOException("Versión de archivo columnar no soportada: " + versionLeida);
+
+			int cantidadDeProyectos = datos.getInt();
+			int cantidadDeTareas = datos.getInt();
+			long[] bloques = new long[datos.getInt()];
+
+			datos.position((int) datos.getLong());
+			for (int i = 0; i < bloques.length; i++)
+				bloques[i] = datos.getLong();
+
+			String[] textos = new String[datos.getInt() + 1];
+			int comprimida = datos.getInt();
+			int original = datos.getInt();
+			ByteBuffer diccionario = descomprimir(datos, datos.position(), comprimida, original);
+			for (int i = 1; i < textos.length; i++)
+				textos[i] = leerTexto(diccionario);
+
+			return new ArchivoColumnar(datos, cantidadDeProyectos, cantidadDeTareas, bloques, textos);
+		}
+	}
+
+	public int cantidadDeProyectos() {
+		return cantidadDeProyectos;
+	}
+
+	public int cantidadDeTareas() {
+		return cantidadDeTareas;
+	}
+
+	/**
+	 * Suma el costo de los proyectos según el mes en que se finalizaron. Sólo lee
+	 * las columnas de inicio, fin real y costo.
+	 */
+	public Map<YearMonth, Double> costoPorMes() {
+		Map<YearMonth, Double> costoPorMes = new TreeMap<>();
+
+		for (int bloque = 0; bloque < bloques.length; bloque++) {
+			int proyectos = datos.getInt((int) bloques[bloque]);
+			ByteBuffer columnaDeInicios = columna(bloque, inicios);
+			ByteBuffer columnaDeFines = columna(bloque, finesReales);
+			ByteBuffer columnaDeCostos = columna(bloque, costos);
+
+			long inicio = 0;
+			for (int i = 0; i < proyectos; i++) {
+				inicio += leerVarintConSigno(columnaDeInicios);
+				LocalDate fin = LocalDate.ofEpochDay(inicio + leerVarintConSigno(columnaDeFines));
+
+				costoPorMes.merge(YearMonth.from(fin), columnaDeCostos.getDouble(), Double::sum);
+			}
+		}
+
+		return costoPorMes;
+	}
+
+	/**
+	 * Suma los días de retraso de las tareas según el legajo del empleado que las
+	 * tenía asignadas. Sólo lee las columnas de legajo y días de retraso.
+	 */
+	public Map<Integer, Double> diasDeRetrasoPorLegajo() {
+		Map<Integer, Double> retrasos = new TreeMap<>();
+
+		for (int bloque = 0; bloque < bloques.length; bloque++) {
+			int tareas = datos.getInt((int) bloques[bloque] + 4);
+			ByteBuffer columnaDeLegajos = columna(bloque, legajos);
+			ByteBuffer columnaDeRetrasos = columna(bloque, diasDeRetraso);
+
+			for (int i = 0; i < tareas; i++) {
+				int legajo = leerVarint(columnaDeLegajos);
+				double dias = columnaDeRetrasos.getDouble();
+
+				if (legajo != 0 && dias > 0)
+					retrasos.merge(legajo, dias, Double::sum);
+			}
+		}
+
+		return retrasos;
+	}
+
+	/**
+	 * Reconstruye cada proyecto del archivo, con sus tareas asignadas a los
+	 * empleados del HomeSolution indicado.
+	 */
+	public void recorrer(HomeSolution homeSolution, Consumer<Proyecto> accion) {
+		for (int bloque = 0; bloque < bloques.length; bloque++) {
+			int proyectos = datos.getInt((int) bloques[bloque]);
+			ByteBuffer[] columnas = new ByteBuffer[cantidadDeColumnas];
+			for (int indice = 0; indice < cantidadDeColumnas; indice++)
+				columnas[indice] = columna(bloque, indice);
+
+			int numero = 0;
+			long inicio = 0;
+			for (int i = 0; i < proyectos; i++) {
+				numero += leerVarintConSigno(columnas[numeros]);
+				inicio += leerVarintConSigno(columnas[inicios]);
+				long finEstimado = inicio + leerVarintConSigno(columnas[finesEstimados]);
+				long finReal = inicio + leerVarintConSigno(columnas[finesReales]);
+				String domicilio = texto(columnas[domicilios]);
+				Cliente cliente = new Cliente(texto(columnas[nombres]), texto(columnas[mails]),
+						texto(columnas[telefonos]));
+				boolean huboRetrasos = columnas[conRetrasos].get() != 0;
+				int siguienteOrden = leerVarint(columnas[siguientesOrdenes]);
+				int tareas = leerVarint(columnas[cantidadesDeTareas]);
+				columnas[costos].getDouble();
+
+				Proyecto proyecto = new Proyecto(numero, domicilio, cliente, LocalDate.ofEpochDay(inicio),
+						LocalDate.ofEpochDay(finEstimado), LocalDate.ofEpochDay(finReal), Estado.FINALIZADO,
+						huboRetrasos, tareas, siguienteOrden);
+
+				for (int j = 0; j < tareas; j++) {
+					String titulo = texto(columnas[titulos]);
+					String descripcion = texto(columnas[descripciones]);
+					int orden = leerVarint(columnas[ordenes]);
+					double estimados = columnas[diasEstimados].getDouble();
+					double retraso = columnas[diasDeRetraso].getDouble();
+					boolean finalizada = columnas[finalizadas].get() != 0;
+					int legajo = leerVarint(columnas[legajos]);
+					columnas[costosDeTareas].getDouble();
+
+					Empleado empleado = (legajo == 0 ? null : homeSolution.obtenerEmpleado(legajo));
+
+					proyecto.restaurarTarea(
+							new Tarea(titulo, descripcion, orden, estimados, retraso, finalizada, empleado));
+				}
+
+				accion.accept(proyecto);
+			}
+		}
+	}
+
+	private String texto(ByteBuffer columna) {
+		return textos[leerVarint(columna)];
+	}
+
+	private ByteBuffer columna(int bloque, int indice) {
+		int encabezado = (int) bloques[bloque] + 8;
+		int posicion = encabezado + cantidadDeColumnas * 8;
+
+		for (int i = 0; i < indice; i++)
+			posicion += datos.getInt(encabezado + i * 8);
+
+		return descomprimir(datos, posicion, datos.getInt(encabezado + indice * 8),
+				datos.getInt(encabezado + indice * 8 + 4));
+	}
+
+	private static ByteBuffer descomprimir(ByteBuffer datos, int posicion, int comprimida, int original) {
+		byte[] entrada = new byte[comprimida];
+		ByteBuffer origen = datos.duplicate();
+		origen.position(posicion);
+		origen.get(entrada);
+
+		byte[] salida = new byte[original];
+		Inflater inflater = new Inflater();
+
+		try {
+			inflater.setInput(entrada);
+			int leidos = 0;
+
+			while (leidos < original) {
+				int descomprimidos = inflater.inflate(salida, leidos, original - leidos);
+
+				if (descomprimidos == 0 && (inflater.finished() || inflater.needsInput()))
+					throw new DataFormatException("La columna es más corta de lo que indica su encabezado.");
+				leidos += descomprimidos;
+			}
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Hay un bloque dañado en el archivo columnar.", e);
+		} finally {
+			inflater.end();
+		}
+
+		return ByteBuffer.wrap(salida);
+	}
+
+	private static int leerVarint(ByteBuffer columna) {
+		int valor = 0;
+
+		for (int desplazamiento = 0;; desplazamiento += 7) {
+			byte actual = columna.get();
+			valor |= (actual & 0x7F) << desplazamiento;
+
+			if (actual >= 0)
+				return valor;
+		}
+	}
+
+	private static int leerVarintConSigno(ByteBuffer columna) {
+		int zigzag = leerVarint(columna);
+
+		return (zigzag >>> 1) ^ -(zigzag & 1);
+	}
+
+	private static String leerTexto(ByteBuffer datos) {
+		int longitud = datos.getInt();
+
+		if (longitud < 0)
+			return null;
+
+		byte[] bytes = new byte[longitud];
+		datos.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Arma las columnas de un bloque a medida que se le agregan proyectos y lo
+	 * escribe al llenarse.
+	 */
+	private static class Escritor {
+		private final FileChannel canal;
+		private final int proyectosPorBloque;
+
+		private final Columna[] columnas;
+		private final Map<String, Integer> indices; // Índice de cada texto en el diccionario.
+		private final Columna diccionario;
+		private final List<Long> bloques;
+		private long posicion;
+
+		private int proyectosEnBloque;
+		private int tareasEnBloque;
+		private int numeroAnterior;
+		private long inicioAnterior;
+		private int proyectos;
+		private int tareas;
+
+		private Escritor(FileChannel canal, int proyectosPorBloque) {
+			this.canal = canal;
+			this.proyectosPorBloque = proyectosPorBloque;
+
+			columnas = new Columna[cantidadDeColumnas];
+			for (int i = 0; i < cantidadDeColumnas; i++)
+				columnas[i] = new Columna();
+
+			indices = new HashMap<>();
+			diccionario = new Columna();
+			bloques = new ArrayList<>();
+			posicion = tamanioDeEncabezado;
+		}
+
+		private void agregar(Proyecto proyecto) throws IOException {
+			Cliente cliente = proyecto.obtenerCliente();
+			long inicio = proyecto.obtenerFechaInicio().toEpochDay();
+
+			columnas[numeros].escribirVarintConSigno(proyecto.obtenerId() - numeroAnterior);
+			columnas[inicios].escribirVarintConSigno((int) (inicio - inicioAnterior));
+			columnas[finesEstimados]
+					.escribirVarintConSigno((int) (proyecto.obtenerFechaFinEstimada().toEpochDay() - inicio));
+			columnas[finesReales].escribirVarintConSigno((int) (proyecto.obtenerFechaFinReal().toEpochDay() - inicio));
+			columnas[domicilios].escribirVarint(indice(proyecto.obtenerDomicilio()));
+			columnas[nombres].escribirVarint(indice(cliente.nombre));
+			columnas[mails].escribirVarint(indice(cliente.mail));
+			columnas[telefonos].escribirVarint(indice(cliente.telefono));
+			columnas[conRetrasos].write(proyecto.huboRetrasos() ? 1 : 0);
+			columnas[siguientesOrdenes].escribirVarint(proyecto.obtenerSiguienteOrdenDeTarea());
+			columnas[cantidadesDeTareas].escribirVarint(proyecto.cantidadDeTareas());
+			columnas[costos].escribirDouble(proyecto.costoProyecto());
+
+			proyecto.recorrerTareas(tarea -> {
+				Empleado empleado = tarea.obtenerEmpleado();
+
+				columnas[titulos].escribirVarint(indice(tarea.obtenerTitulo()));
+				columnas[descripciones].escribirVarint(indice(tarea.obtenerDescripcion()));
+				columnas[ordenes].escribirVarint(tarea.obtenerOrden());
+				columnas[diasEstimados].escribirDouble(tarea.obtenerDiasEstimados());
+				columnas[diasDeRetraso].escribirDouble(tarea.obtenerDiasDeRetraso());
+				columnas[finalizadas].write(tarea.estaFinalizada() ? 1 : 0);
+				columnas[legajos].escribirVarint(empleado == null ? 0 : empleado.obtenerLegajo());
+				columnas[costosDeTareas].escribirDouble(empleado == null ? 0 : tarea.obtenerCosto());
+				tareasEnBloque++;
+			});
+
+			numeroAnterior = proyecto.obtenerId();
+			inicioAnterior = inicio;
+			proyectos++;
+
+			if (++proyectosEnBloque == proyectosPorBloque)
+				escribirBloque();
+		}
+
+		private int indice(String texto) {
+			if (texto == null)
+				return 0;
+
+			Integer indice = indices.get(texto);
+			if (indice == null) {
+				indice = indices.size() + 1;
+				indices.put(texto, indice);
+				diccionario.escribirTexto(texto);
+			}
+
+			return indice;
+		}
+
+		private void escribirBloque() throws IOException {
+			ByteBuffer encabezado = ByteBuffer.allocate(8 + cantidadDeColumnas * 8);
+			encabezado.putInt(proyectosEnBloque);
+			encabezado.putInt(tareasEnBloque);
+
+			byte[][] comprimidas = new byte[cantidadDeColumnas][];
+			for (int i = 0; i < cantidadDeColumnas; i++) {
+				comprimidas[i] = columnas[i].comprimir();
+				encabezado.putInt(comprimidas[i].length);
+				encabezado.putInt(columnas[i].size());
+				columnas[i].reset();
+			}
+
+			bloques.add(posicion);
+			escribir(encabezado.array());
+			for (byte[] comprimida : comprimidas)
+				escribir(comprimida);
+
+			tareas += tareasEnBloque;
+			proyectosEnBloque = 0;
+			tareasEnBloque = 0;
+			numeroAnterior = 0;
+			inicioAnterior = 0;
+		}
+
+		/**
+		 * Escribe el último bloque, el pie y el encabezado.
+		 *
+		 * @return La cantidad de proyectos escritos.
+		 */
+		private int terminar() throws IOException {
+			if (proyectosEnBloque > 0)
+				escribirBloque();
+
+			long pie = posicion;
+			byte[] textos = diccionario.comprimir();
+
+			ByteBuffer indice = ByteBuffer.allocate(bloques.size() * 8 + 12);
+			for (long bloque : bloques)
+				indice.putLong(bloque);
+			indice.putInt(indices.size());
+			indice.putInt(textos.length);
+			indice.putInt(diccionario.size());
+			escribir(indice.array());
+			escribir(textos);
+
+			ByteBuffer encabezado = ByteBuffer.allocate(tamanioDeEncabezado);
+			encabezado.putInt(firma);
+			encabezado.putInt(version);
+			encabezado.putInt(proyectos);
+			encabezado.putInt(tareas);
+			encabezado.putInt(bloques.size());
+			encabezado.putLong(pie);
+			encabezado.flip();
+			while (encabezado.hasRemaining())
+				canal.write(encabezado, encabezado.position());
+
+			return proyectos;
+		}
+
+		private void escribir(byte[] bytes) throws IOException {
+			ByteBuffer datos = ByteBuffer.wrap(bytes);
+
+			while (datos.hasRemaining())
+				posicion += canal.write(datos, posicion);
+		}
+	}
+
+	private static class Columna extends ByteArrayOutputStream {
+		private void escribirVarint(int valor) {
+			while ((valor & ~0x7F) != 0) {
+				write((valor & 0x7F) | 0x80);
+				valor >>>= 7;
+			}
+
+			write(valor);
+		}
+
+		private void escribirVarintConSigno(int valor) {
+			escribirVarint((valor << 1) ^ (valor >> 31));
+		}
+
+		private void escribirDouble(double valor) {
+			long bits = Double.doubleToLongBits(valor);
+
+			for (int desplazamiento = 56; desplazamiento >= 0; desplazamiento -= 8)
+				write((int) (bits >>> desplazamiento));
+		}
+
+		private void escribirTexto(String texto) {
+			byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+			int longitud = bytes.length;
+
+			write(longitud >>> 24);
+			write(longitud >>> 16);
+			write(longitud >>> 8);
+			write(longitud);
+			write(bytes, 0, longitud);
+		}
+
+		private byte[] comprimir() {
+			Deflater deflater = new Deflater();
+			ByteArrayOutputStream comprimida = new ByteArrayOutputStream(Math.max(count / 4, 16));
+			byte[] buffer = new byte[8192];
+
+			try {
+				deflater.setInput(buf, 0, count);
+				deflater.finish();
+
+				while (!deflater.finished())
+					comprimida.write(buffer, 0, deflater.deflate(buffer));
+			} finally {
+				deflater.end();
+			}
+
+			return comprimida.toByteArray();
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package entidades;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Operaciones sobre archivos que tienen que sobrevivir a una caída del sistema,
+ * no sólo del proceso.
+ */
+class Archivos {
+	private static final boolean sePuedeSincronizarDirectorios = !System.getProperty("os.name", "")
+			.startsWith("Windows");
+
+	private Archivos() {
+	}
+
+	/**
+	 * Reemplaza el contenido del archivo de forma atómica: escribe un temporal,
+	 * lo fuerza a disco, lo renombra sobre el archivo y fuerza el directorio para
+	 * que el renombre también quede en disco.
+	 */
+	protected static void reemplazar(Path archivo, byte[] contenido) throws IOException {
+		Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+
+		try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.wrap(contenido);
+			while (buffer.hasRemaining())
+				canal.write(buffer);
+
+			canal.force(true);
+		}
+
+		renombrar(temporal, archivo);
+	}
+
+	/**
+	 * Renombra de forma atómica un archivo ya forzado a disco, y fuerza el
+	 * directorio.
+	 */
+	protected static void renombrar(Path origen, Path destino) throws IOException {
+		Files.move(origen, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		sincronizarDirectorio(destino.toAbsolutePath().getParent());
+	}
+
+	/**
+	 * Fuerza a disco las entradas del directorio (altas, bajas y renombres). En
+	 * Windows no se puede abrir un directorio para forzarlo y el sistema de
+	 * archivos ya registra esos cambios en su propio diario, así que no se hace
+	 * nada.
+	 */
+	protected static void sincronizarDirectorio(Path directorio) throws IOException {
+		if (!sePuedeSincronizarDirectorios)
+			return;
+
+		try (FileChannel canal = FileChannel.open(directorio, StandardOpenOption.READ)) {
+			canal.force(true);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Junta los elementos de una página a medida que el listado recorre sus
+ * entidades en orden creciente de clave. Las claves son las que identifican a
+ * cada elemento en su listado (número de proyecto, legajo u orden de la tarea)
+ * y son las que se codifican en el cursor. Sólo se convierten las entidades que
+ * entran en la página.
+ */
+class ArmadorDePagina<E, T> {
+	private int desplazamiento;
+	private int despuesDe;
+	private int limite;
+	private Function<? super E, ? extends T> conversor;
+
+	private List<T> elementos;
+	private int salteados;
+	private int ultimaClave;
+	private boolean hayMas;
+
+	private ArmadorDePagina(int desplazamiento, int despuesDe, int limite, Function<? super E, ? extends T> conversor) {
+		if (desplazamiento < 0)
+			throw new IllegalArgumentException("El desplazamiento no puede ser negativo.");
+		if (limite <= 0)
+			throw new IllegalArgumentException("El límite debe ser mayor a 0.");
+
+		this.desplazamiento = desplazamiento;
+		this.despuesDe = despuesDe;
+		this.limite = limite;
+		this.conversor = conversor;
+
+		elementos = new ArrayList<>(Math.min(limite, 1024));
+		ultimaClave = despuesDe;
+	}
+
+	static <E, T> ArmadorDePagina<E, T> porDesplazamiento(int desplazamiento, int limite,
+			Function<? super E, ? extends T> conversor) {
+		return new ArmadorDePagina<>(desplazamiento, -1, limite, conversor);
+	}
+
+	static <E, T> ArmadorDePagina<E, T> porCursor(String cursor, int limite,
+			Function<? super E, ? extends T> conversor) {
+		return new ArmadorDePagina<>(0, Pagina.decodificarCursor(cursor), limite, conversor);
+	}
+
+	/**
+	 * @return La clave a partir de la cual (sin incluirla) debe empezar el
+	 *         recorrido, o -1 para empezar desde el principio.
+	 */
+	int despuesDe() {
+		return despuesDe;
+	}
+
+	/**
+	 * @return false cuando la página ya está completa y el recorrido puede
+	 *         terminar.
+	 */
+	boolean agregar(int clave, E entidad) {
+		if (clave <= despuesDe)
+			return true;
+
+		if (salteados < desplazamiento) {
+			salteados++;
+			return true;
+		}
+
+		if (elementos.size() == limite) {
+			hayMas = true;
+			return false;
+		}
+
+		elementos.add(conversor.apply(entidad));
+		ultimaClave = clave;
+
+		return true;
+	}
+
+	Pagina<T> armar() {
+		String siguienteCursor = hayMas ? Pagina.codificarCursor(ultimaClave) : null;
+
+		return new Pagina<>(elementos, siguienteCursor);
+	}
+}
@@ -19,7 +19,7 @@ public class Cliente {
 		infoCliente.append(" | ");
 		infoCliente.append("Mail: " + mail);
 		infoCliente.append(" | ");
-		infoCliente.append("Telfono: " + telefono);
+		infoCliente.append("Teléfono: " + telefono);
 
 		return infoCliente.toString();
 	}
@@ -0,0 +1,396 @@
+package entidades;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Operación sobre las tareas de un proyecto, para aplicar junto con otras en un
+ * lote (ver IHomeSolution.aplicarLote). Cada comando tiene las mismas reglas
+ * que la operación de IHomeSolution del mismo nombre, pero se aplica directo
+ * sobre el proyecto, que el lote busca una sola vez para todos sus comandos.
+ *
+ * A diferencia de un Evento, un comando todavía decide: AsignarResponsable elige
+ * al empleado cuando se aplica.
+ */
+public abstract class Comando {
+	private static final byte asignarResponsable = 1;
+	private static final byte asignarResponsableMenosRetraso = 2;
+	private static final byte registrarRetraso = 3;
+	private static final byte agregarTarea = 4;
+	private static final byte finalizarTarea = 5;
+	private static final byte finalizarProyecto = 6;
+	private static final byte reasignarEmpleado = 7;
+
+	private final int numero;
+
+	private Comando(int numero) {
+		this.numero = numero;
+	}
+
+	/**
+	 * @return El número del proyecto sobre el que opera el comando.
+	 */
+	public int obtenerNumero() {
+		return numero;
+	}
+
+	/**
+	 * Aplica el comando sobre su proyecto y el registro de empleados, validando
+	 * lo mismo que la operación de IHomeSolution. No guarda nada.
+	 */
+	protected abstract void aplicarEn(Proyecto proyecto, RegistroDeEmpleados empleados);
+
+	/**
+	 * @return El evento que registra el resultado del comando, recién aplicado
+	 *         sobre el proyecto.
+	 */
+	protected abstract Evento comoEvento(long instante, Proyecto proyecto);
+
+	protected abstract byte tipo();
+
+	protected abstract void escribirDatos(DataOutputStream salida) throws IOException;
+
+	protected byte[] codificar() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+		DataOutputStream salida = new DataOutputStream(bytes);
+
+		try {
+			salida.writeByte(tipo());
+			salida.writeInt(numero);
+			escribirDatos(salida);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // No ocurre: se escribe en memoria.
+		}
+
+		return bytes.toByteArray();
+	}
+
+	protected static Comando decodificar(DataInputStream entrada) throws IOException {
+		byte tipo = entrada.readByte();
+		int numero = entrada.readInt();
+
+		switch (tipo) {
+		case asignarResponsable:
+			return new AsignarResponsable(numero, Evento.leerTexto(entrada));
+		case asignarResponsableMenosRetraso:
+			return new AsignarResponsableMenosRetraso(numero, Evento.leerTexto(entrada));
+		case registrarRetraso:
+			return new RegistrarRetraso(numero, Evento.leerTexto(entrada), entrada.readDouble());
+		case agregarTarea:
+			return new AgregarTarea(numero, Evento.leerTexto(entrada), Evento.leerTexto(entrada),
+					entrada.readDouble());
+		case finalizarTarea:
+			return new FinalizarTarea(numero, Evento.leerTexto(entrada));
+		case finalizarProyecto:
+			return new FinalizarProyecto(numero, Evento.leerTexto(entrada));
+		case reasignarEmpleado:
+			return new ReasignarEmpleado(numero, entrada.readInt(), Evento.leerTexto(entrada));
+		default:
+			throw new IOException("Tipo de comando desconocido: " + tipo);
+		}
+	}
+
+	private static int legajoAsignado(Proyecto proyecto, String titulo) {
+		return proyecto.obtenerTarea(titulo).obtenerEmpleado().obtenerLegajo();
+	}
+
+	private static void asignar(Proyecto proyecto, String titulo, RegistroDeEmpleados empleados,
+			Empleado empleado) {
+		if (empleado == null)
+			throw new RuntimeException("No hay empleados disponibles.");
+
+		proyecto.asignarResponsableEnTarea(titulo, empleado);
+
+		empleados.marcarComoAsignado(empleado.obtenerLegajo());
+	}
+
+	private static void validarNoFinalizado(Proyecto proyecto) {
+		if (proyecto.estaFinalizado())
+			throw new IllegalArgumentException("El proyecto ya está finalizado.");
+	}
+
+	public static final class AsignarResponsable extends Comando {
+		private final String titulo;
+
+		public AsignarResponsable(int numero, String titulo) {
+			super(numero);
+			this.titulo = titulo;
+		}
+
+		@Override
+		protected void aplicarEn(Proyecto proyecto, RegistroDeEmpleados empleados) {
+			asignar(proyecto, titulo, empleados, empleados.obtenerNoAsignado());
+		}
+
+		@Override
+		protected Evento comoEvento(long instante, Proyecto proyecto) {
+			return new Evento.TareaAsignada(instante, obtenerNumero(), titulo, legajoAsignado(proyecto, titulo));
+		}
+
+		@Override
+		protected byte tipo() {
+			return asignarResponsable;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			Evento.escribirTexto(salida, titulo);
+		}
+
+		@Override
+		public String toString() {
+			return "AsignarResponsable: " + titulo + " del proyecto " + obtenerNumero();
+		}
+	}
+
+	public static final class AsignarResponsableMenosRetraso extends Comando {
+		private final String titulo;
+
+		public AsignarResponsableMenosRetraso(int numero, String titulo) {
+			super(numero);
+			this.titulo = titulo;
+		}
+
+		@Override
+		protected void aplicarEn(Proyecto proyecto, RegistroDeEmpleados empleados) {
+			asignar(proyecto, titulo, empleados, empleados.obtenerConMenosRetrasos());
+		}
+
+		@Override
+		protected Evento comoEvento(long instante, Proyecto proyecto) {
+			return new Evento.TareaAsignada(instante, obtenerNumero(), titulo, legajoAsignado(proyecto, titulo));
+		}
+
+		@Override
+		protected byte tipo() {
+			return asignarResponsableMenosRetraso;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			Evento.escribirTexto(salida, titulo);
+		}
+
+		@Override
+		public String toString() {
+			return "AsignarResponsableMenosRetraso: " + titulo + " del proyecto " + obtenerNumero();
+		}
+	}
+
+	public static final class RegistrarRetraso extends Comando {
+		private final String titulo;
+		private final double dias;
+
+		public RegistrarRetraso(int numero, String titulo, double dias) {
+			super(numero);
+			this.titulo = titulo;
+			this.dias = dias;
+		}
+
+		@Override
+		protected void aplicarEn(Proyecto proyecto, RegistroDeEmpleados empleados) {
+			if (dias <= 0)
+				throw new IllegalArgumentException("La cantidad de días no puede ser menor o igual a 0.");
+
+			proyecto.registrarRetraso(titulo, dias);
+
+			empleados.actualizarPrioridad(proyecto.obtenerTarea(titulo).obtenerEmpleado());
+		}
+
+		@Override
+		protected Evento comoEvento(long instante, Proyecto proyecto) {
+			return new Evento.RetrasoRegistrado(instante, obtenerNumero(), titulo, dias);
+		}
+
+		@Override
+		protected byte tipo() {
+			return registrarRetraso;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			Evento.escribirTexto(salida, titulo);
+			salida.writeDouble(dias);
+		}
+
+		@Override
+		public String toString() {
+			return "RegistrarRetraso: " + dias + " días en " + titulo + " del proyecto " + obtenerNumero();
+		}
+	}
+
+	public static final class AgregarTarea extends Comando {
+		private final String titulo;
+		private final String descripcion;
+		private final double dias;
+
+		public AgregarTarea(int numero, String titulo, String descripcion, double dias) {
+			super(numero);
+			this.titulo = titulo;
+			this.descripcion = descripcion;
+			this.dias = dias;
+		}
+
+		@Override
+		protected void aplicarEn(Proyecto proyecto, RegistroDeEmpleados empleados) {
+			validarNoFinalizado(proyecto);
+
+			proyecto.agregarTarea(titulo, descripcion, dias);
+		}
+
+		@Override
+		protected Evento comoEvento(long instante, Proyecto proyecto) {
+			return new Evento.TareaAgregada(instante, obtenerNumero(), titulo, descripcion, dias);
+		}
+
+		@Override
+		protected byte tipo() {
+			return agregarTarea;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			Evento.escribirTexto(salida, titulo);
+			Evento.escribirTexto(salida, descripcion);
+			salida.writeDouble(dias);
+		}
+
+		@Override
+		public String toString() {
+			return "AgregarTarea: " + titulo + " (" + dias + " días) al proyecto " + obtenerNumero();
+		}
+	}
+
+	public static final class FinalizarTarea extends Comando {
+		private final String titulo;
+
+		public FinalizarTarea(int numero, String titulo) {
+			super(numero);
+			this.titulo = titulo;
+		}
+
+		@Override
+		protected void aplicarEn(Proyecto proyecto, RegistroDeEmpleados empleados) {
+			validarNoFinalizado(proyecto);
+
+			proyecto.finalizarTarea(titulo);
+
+			empleados.liberar(proyecto.obtenerTarea(titulo).obtenerEmpleado());
+		}
+
+		@Override
+		protected Evento comoEvento(long instante, Proyecto proyecto) {
+			return new Evento.TareaFinalizada(instante, obtenerNumero(), titulo);
+		}
+
+		@Override
+		protected byte tipo() {
+			return finalizarTarea;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			Evento.escribirTexto(salida, titulo);
+		}
+
+		@Override
+		public String toString() {
+			return "FinalizarTarea: " + titulo + " del proyecto " + obtenerNumero();
+		}
+	}
+
+	public static final class FinalizarProyecto extends Comando {
+		private final String fin;
+
+		public FinalizarProyecto(int numero, String fin) {
+			super(numero);
+			this.fin = fin;
+		}
+
+		@Override
+		protected void aplicarEn(Proyecto proyecto, RegistroDeEmpleados empleados) {
+			validarNoFinalizado(proyecto);
+
+			for (Empleado empleado : proyecto.finalizarProyecto(fin))
+				empleados.marcarComoNoAsignado(empleado);
+		}
+
+		@Override
+		protected Evento comoEvento(long instante, Proyecto proyecto) {
+			return new Evento.ProyectoFinalizado(instante, obtenerNumero(), fin);
+		}
+
+		@Override
+		protected byte tipo() {
+			return finalizarProyecto;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			Evento.escribirTexto(salida, fin);
+		}
+
+		@Override
+		public String toString() {
+			return "FinalizarProyecto: proyecto " + obtenerNumero() + " el " + fin;
+		}
+	}
+
+	public static final class ReasignarEmpleado extends Comando {
+		private final int legajo;
+		private final String titulo;
+
+		public ReasignarEmpleado(int numero, int legajo, String titulo) {
+			super(numero);
+			this.legajo = legajo;
+			this.titulo = titulo;
+		}
+
+		@Override
+		protected void aplicarEn(Proyecto proyecto, RegistroDeEmpleados empleados) {
+			if (!empleados.hayNoAsignados())
+				throw new IllegalArgumentException("No hay empleados disponibles.");
+			validarNoFinalizado(proyecto);
+
+			Empleado empleado = empleados.obtener(legajo);
+
+			if (empleado == null)
+				throw new IllegalArgumentException("No existe ningún empleado con legajo " + legajo);
+			// Se consulta el registro y no la marca del empleado, como en
+			// ConcurrentHomeSolution: uno reservado por otra operación todavía no está
+			// marcado.
+			if (!empleados.estaNoAsignado(legajo))
+				throw new IllegalArgumentException(
+						"El empleado que se desea asignar ya se encontraba asignado a una tarea.");
+
+			Empleado empleadoAnterior = proyecto.reasignarEmpleado(titulo, empleado);
+
+			empleados.marcarComoAsignado(legajo);
+			empleados.liberar(empleadoAnterior);
+		}
+
+		@Override
+		protected Evento comoEvento(long instante, Proyecto proyecto) {
+			return new Evento.EmpleadoReasignado(instante, obtenerNumero(), titulo, legajo);
+		}
+
+		@Override
+		protected byte tipo() {
+			return reasignarEmpleado;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(legajo);
+			Evento.escribirTexto(salida, titulo);
+		}
+
+		@Override
+		public String toString() {
+			return "ReasignarEmpleado: legajo " + legajo + " en " + titulo + " del proyecto " + obtenerNumero();
+		}
+	}
+}
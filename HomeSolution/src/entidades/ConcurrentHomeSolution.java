@@ -0,0 +1,641 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Implementación de IHomeSolution que puede usarse desde varios hilos a la vez.
+ *
+ * Cada proyecto se protege con una franja de candados elegida por su número,
+ * así las operaciones sobre proyectos distintos corren en paralelo. El registro
+ * de empleados tiene su propio candado de lectura/escritura: las consultas
+ * sobre empleados sólo toman la lectura, y la escritura se toma sólo para el
+ * paso que toca el registro: reservar un empleado libre, devolverlo a los no
+ * asignados o sumarle un retraso. El resto de cada operación (validar la
+ * tarea, actualizar el costo y el estado del proyecto) corre sólo con la
+ * franja. Las reasignaciones son la excepción: cambian a los dos empleados de
+ * la tarea con la escritura tomada, porque si el nuevo se reservara antes de
+ * devolver al anterior, varias reasignaciones a la vez podrían dejar sin
+ * empleados libres a otra que, hecha de a una, los tendría.
+ *
+ * Orden de adquisición: primero la franja del proyecto y después el candado de
+ * empleados, nunca al revés. Ninguna operación toma dos franjas a la vez,
+ * salvo aplicarLote, que toma las de todos sus proyectos en orden creciente de
+ * franja antes de la escritura de empleados, y registrarAltas, que las toma
+ * igual después de soltar la escritura. Por ejemplo,
+ * asignarResponsableEnTarea bloquea la franja del proyecto, toma la escritura
+ * de empleados para validar la tarea y sacar al empleado de los no asignados,
+ * la suelta, y recién ahí lo asigna en la tarea. Como la franja sigue tomada,
+ * la tarea no puede cambiar entre la validación y la asignación.
+ */
+public class ConcurrentHomeSolution implements IHomeSolution {
+	private static final int cantidadDeFranjas = 64; // Debe ser potencia de 2.
+
+	private ConcurrentSkipListMap<Integer, Proyecto> proyectos;
+	private ProyectosPorEstado proyectosPorEstado;
+	private RegistroDeEmpleados empleados;
+
+	private ReentrantLock[] franjas;
+	private ReentrantReadWriteLock candadoDeEmpleados;
+
+	private GeneradorDeIds numerosDeProyecto;
+	private GeneradorDeIds legajos;
+
+	public ConcurrentHomeSolution() {
+		this(new GeneradorDeIds(), new GeneradorDeIds());
+	}
+
+	public ConcurrentHomeSolution(GeneradorDeIds numerosDeProyecto, GeneradorDeIds legajos) {
+		this.numerosDeProyecto = numerosDeProyecto;
+		this.legajos = legajos;
+
+		proyectos = new ConcurrentSkipListMap<>();
+		proyectosPorEstado = new ProyectosPorEstado();
+		empleados = new RegistroDeEmpleados();
+
+		franjas = new ReentrantLock[cantidadDeFranjas];
+		for (int i = 0; i < cantidadDeFranjas; i++)
+			franjas[i] = new ReentrantLock();
+
+		candadoDeEmpleados = new ReentrantReadWriteLock();
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
+		Empleado empleado = legajos.crear(legajo -> new EmpleadoContratado(legajo, nombre, valor));
+
+		Lock escritura = bloquearEscrituraDeEmpleados();
+		try {
+			empleados.registrar(empleado);
+		} finally {
+			escritura.unlock();
+		}
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
+		Empleado empleado = legajos.crear(legajo -> new EmpleadoDePlanta(legajo, nombre, valor, categoria));
+
+		Lock escritura = bloquearEscrituraDeEmpleados();
+		try {
+			empleados.registrar(empleado);
+		} finally {
+			escritura.unlock();
+		}
+	}
+
+	@Override
+	public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
+			String[] cliente, String inicio, String fin) throws IllegalArgumentException {
+		Proyecto proyecto = numerosDeProyecto
+				.crear(numero -> new Proyecto(numero, titulos, descripcion, dias, domicilio, cliente, inicio, fin));
+
+		// Se publica con la franja tomada para que nadie lo modifique antes de que
+		// quede indexado por estado.
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			proyectos.put(proyecto.obtenerId(), proyecto);
+			proyectosPorEstado.agregar(proyecto);
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			Empleado empleado = reservarEmpleado(proyecto, titulo, empleados::obtenerNoAsignado);
+
+			proyecto.asignarResponsableEnTarea(titulo, empleado);
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			Empleado empleado = reservarEmpleado(proyecto, titulo, empleados::obtenerConMenosRetrasos);
+
+			proyecto.asignarResponsableEnTarea(titulo, empleado);
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	/**
+	 * Elige un empleado no asignado y lo saca de los no asignados, después de
+	 * comprobar que la tarea puede recibirlo. Requiere tener tomada la franja del
+	 * proyecto, así la tarea sigue pudiendo recibirlo cuando se suelta el candado
+	 * de empleados.
+	 */
+	private Empleado reservarEmpleado(Proyecto proyecto, String titulo, Supplier<Empleado> eleccion) {
+		Lock escritura = bloquearEscrituraDeEmpleados();
+		try {
+			Empleado empleado = eleccion.get();
+
+			if (empleado == null)
+				throw new RuntimeException("No hay empleados disponibles.");
+
+			proyecto.validarAsignacion(titulo);
+
+			empleados.marcarComoAsignado(empleado.obtenerLegajo());
+
+			return empleado;
+		} finally {
+			escritura.unlock();
+		}
+	}
+
+	@Override
+	public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias)
+			throws IllegalArgumentException {
+		if (cantidadDias <= 0)
+			throw new IllegalArgumentException("La cantidad de días no puede ser menor o igual a 0.");
+
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			// El retraso cambia la prioridad del empleado, que puede estar entre los no
+			// asignados si la tarea ya estaba finalizada, o trabajando en otro proyecto.
+			Lock escritura = bloquearEscrituraDeEmpleados();
+			try {
+				proyecto.registrarRetraso(titulo, cantidadDias);
+
+				Empleado empleado = proyecto.obtenerTarea(titulo).obtenerEmpleado();
+
+				empleados.actualizarPrioridad(empleado);
+			} finally {
+				escritura.unlock();
+			}
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
+			throws IllegalArgumentException {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			if (proyecto.estaFinalizado())
+				throw new IllegalArgumentException("El proyecto ya está finalizado.");
+
+			proyecto.agregarTarea(titulo, descripcion, dias);
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public void finalizarTarea(Integer numero, String titulo) throws Exception {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			if (proyecto.estaFinalizado())
+				throw new IllegalArgumentException("El proyecto ya está finalizado.");
+
+			proyecto.finalizarTarea(titulo);
+
+			Empleado empleado = proyecto.obtenerTarea(titulo).obtenerEmpleado();
+
+			devolverEmpleados(Collections.singletonList(empleado));
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			if (proyecto.estaFinalizado())
+				throw new IllegalArgumentException("El proyecto ya está finalizado.");
+
+			List<Empleado> empleadosLiberados = proyecto.finalizarProyecto(fin);
+
+			devolverEmpleados(empleadosLiberados);
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	/**
+	 * Vuelve a poner entre los no asignados a empleados que el proyecto ya liberó.
+	 */
+	private void devolverEmpleados(List<Empleado> empleadosLiberados) {
+		Lock escritura = bloquearEscrituraDeEmpleados();
+		try {
+			for (Empleado empleado : empleadosLiberados)
+				empleados.marcarComoNoAsignado(empleado);
+		} finally {
+			escritura.unlock();
+		}
+	}
+
+	@Override
+	public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			Lock escritura = bloquearEscrituraDeEmpleados();
+			try {
+				Empleado empleado = empleados.obtener(legajo);
+
+				reasignarEmpleado(proyecto, empleado, legajo, titulo);
+			} finally {
+				escritura.unlock();
+			}
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			Lock escritura = bloquearEscrituraDeEmpleados();
+			try {
+				// Elegir al empleado y reasignarlo bajo el mismo candado evita que otro hilo lo
+				// tome en el medio.
+				Empleado empleado = empleados.obtenerConMenosRetrasos();
+				Integer legajo = (empleado == null ? null : empleado.obtenerLegajo());
+
+				reasignarEmpleado(proyecto, empleado, legajo, titulo);
+			} finally {
+				escritura.unlock();
+			}
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	/**
+	 * Requiere tener tomadas la franja del proyecto y la escritura de empleados.
+	 * Se consulta si el empleado está entre los no asignados y no su marca de
+	 * asignado, porque un empleado reservado por otra operación recién se marca
+	 * al asignarlo en la tarea, ya sin el candado de empleados.
+	 */
+	private void reasignarEmpleado(Proyecto proyecto, Empleado empleado, Integer legajo, String titulo) {
+		if (!empleados.hayNoAsignados())
+			throw new IllegalArgumentException("No hay empleados disponibles.");
+		if (proyecto.estaFinalizado())
+			throw new IllegalArgumentException("El proyecto ya está finalizado.");
+		if (empleado == null)
+			throw new IllegalArgumentException("No existe ningún empleado con legajo " + legajo);
+		if (!empleados.estaNoAsignado(legajo))
+			throw new IllegalArgumentException(
+					"El empleado que se desea asignar ya se encontraba asignado a una tarea.");
+
+		proyecto.validarReasignacion(titulo);
+
+		empleados.marcarComoAsignado(legajo);
+		Empleado empleadoAnterior = proyecto.reasignarEmpleado(titulo, empleado);
+		empleados.marcarComoNoAsignado(empleadoAnterior);
+	}
+
+	@Override
+	public void aplicarLote(List<Comando> comandos) throws IllegalArgumentException {
+		if (comandos == null)
+			throw new IllegalArgumentException("La lista de comandos no puede ser nula.");
+
+		List<Integer> numeros = new ArrayList<>(comandos.size());
+		for (Comando comando : comandos) {
+			if (comando != null)
+				numeros.add(comando.obtenerNumero());
+		}
+
+		List<Lock> tomadas = new ArrayList<>();
+		try {
+			bloquearFranjas(numeros, tomadas);
+
+			Lock escritura = bloquearEscrituraDeEmpleados();
+			try {
+				new Lote(empleados).aplicar(comandos, proyectos::get, null, null);
+			} finally {
+				escritura.unlock();
+			}
+		} finally {
+			for (Lock franja : tomadas)
+				franja.unlock();
+		}
+	}
+
+	/**
+	 * Registra todos los empleados con una sola toma de la escritura de
+	 * empleados, y publica todos los proyectos con sus franjas tomadas.
+	 */
+	@Override
+	public String[] registrarAltas(List<Alta> altas) {
+		if (altas == null)
+			throw new IllegalArgumentException("La lista de altas no puede ser nula.");
+
+		String[] rechazos = new String[altas.size()];
+		List<Empleado> empleadosNuevos = new ArrayList<>();
+		List<Proyecto> proyectosNuevos = new ArrayList<>();
+		List<Integer> numeros = new ArrayList<>();
+
+		for (int i = 0; i < altas.size(); i++) {
+			try {
+				Alta alta = altas.get(i);
+
+				if (alta.esEmpleado()) {
+					empleadosNuevos.add(legajos.crear(alta::crearEmpleado));
+				} else {
+					Proyecto proyecto = numerosDeProyecto.crear(alta::crearProyecto);
+					proyectosNuevos.add(proyecto);
+					numeros.add(proyecto.obtenerId());
+				}
+			} catch (RuntimeException e) {
+				rechazos[i] = Alta.motivo(e);
+			}
+		}
+
+		Lock escritura = bloquearEscrituraDeEmpleados();
+		try {
+			for (Empleado empleado : empleadosNuevos)
+				empleados.registrar(empleado);
+		} finally {
+			escritura.unlock();
+		}
+
+		List<Lock> tomadas = new ArrayList<>();
+		try {
+			bloquearFranjas(numeros, tomadas);
+
+			for (Proyecto proyecto : proyectosNuevos) {
+				proyectos.put(proyecto.obtenerId(), proyecto);
+				proyectosPorEstado.agregar(proyecto);
+			}
+		} finally {
+			for (Lock franja : tomadas)
+				franja.unlock();
+		}
+
+		return rechazos;
+	}
+
+	/**
+	 * Toma las franjas de los proyectos indicados en orden creciente de franja y
+	 * las agrega a tomadas, para que quien llama las suelte aunque falle a mitad
+	 * de camino.
+	 */
+	private void bloquearFranjas(List<Integer> numeros, List<Lock> tomadas) {
+		TreeSet<Integer> franjasDelLote = new TreeSet<>();
+		for (int numero : numeros)
+			franjasDelLote.add(numero & (cantidadDeFranjas - 1));
+
+		for (int franja : franjasDelLote) {
+			franjas[franja].lock();
+			tomadas.add(franjas[franja]);
+		}
+	}
+
+	@Override
+	public double costoProyecto(Integer numero) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			return proyecto.costoProyecto();
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosFinalizados() {
+		return listarProyectos(Estado.FINALIZADO);
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosPendientes() {
+		return listarProyectos(Estado.PENDIENTE);
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosActivos() {
+		return listarProyectos(Estado.ACTIVO);
+	}
+
+	// Los índices por estado son mapas concurrentes y el domicilio no cambia, así
+	// que el listado no necesita candados.
+	private List<Tupla<Integer, String>> listarProyectos(Estado estado) {
+		List<Tupla<Integer, String>> listado = new ArrayList<>();
+
+		for (Proyecto proyecto : proyectosPorEstado.obtener(estado))
+			listado.add(new Tupla<Integer, String>(proyecto.obtenerId(), proyecto.obtenerDomicilio()));
+
+		return listado;
+	}
+
+	@Override
+	public Object[] empleadosNoAsignados() {
+		Lock lectura = bloquearLecturaDeEmpleados();
+		try {
+			return empleados.noAsignados();
+		} finally {
+			lectura.unlock();
+		}
+	}
+
+	@Override
+	public boolean estaFinalizado(Integer numero) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			return proyecto.estaFinalizado();
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public int consultarCantidadRetrasosEmpleado(Integer legajo) {
+		Lock lectura = bloquearLecturaDeEmpleados();
+		try {
+			Empleado empleado = empleados.obtener(legajo);
+
+			if (empleado == null)
+				throw new IllegalArgumentException("No existe ningún empleado con legajo " + legajo);
+
+			return empleado.obtenerCantidadDeRetrasos();
+		} finally {
+			lectura.unlock();
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		List<Tupla<Integer, String>> empleadosAsignados = new ArrayList<>();
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			proyecto.recorrerEmpleadosAsignados(
+					(legajo, nombre) -> empleadosAsignados.add(new Tupla<Integer, String>(legajo, nombre)));
+		} finally {
+			franja.unlock();
+		}
+
+		return empleadosAsignados;
+	}
+
+	@Override
+	public Object[] tareasProyectoNoAsignadas(Integer numero) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			return proyecto.tareasProyectoNoAsignadas();
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public Object[] tareasDeUnProyecto(Integer numero) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			return proyecto.tareasDeUnProyecto();
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	@Override
+	public String consultarDomicilioProyecto(Integer numero) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		return proyecto.obtenerDomicilio();
+	}
+
+	@Override
+	public boolean tieneRestrasos(Integer legajo) {
+		int cantidadDeRetrasos = consultarCantidadRetrasosEmpleado(legajo);
+
+		return (cantidadDeRetrasos > 0 ? true : false);
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleados() {
+		Lock lectura = bloquearLecturaDeEmpleados();
+		try {
+			List<Tupla<Integer, String>> datosEmpleados = new ArrayList<>(empleados.tamanio());
+
+			empleados.recorrer((legajo, nombre) -> datosEmpleados.add(new Tupla<>(legajo, nombre)));
+
+			return datosEmpleados;
+		} finally {
+			lectura.unlock();
+		}
+	}
+
+	@Override
+	public String consultarProyecto(Integer numero) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		Lock franja = bloquearFranja(proyecto);
+		try {
+			return proyecto.toString();
+		} finally {
+			franja.unlock();
+		}
+	}
+
+	/**
+	 * Toma la franja de cada proyecto mientras lo recorre, así que cada uno se ve
+	 * entero, pero no hay una foto de todos a la vez.
+	 */
+	@Override
+	public void recorrerProyectos(Estado estado, Consumer<Proyecto> accion) {
+		for (Proyecto proyecto : proyectos.values()) {
+			Lock franja = bloquearFranja(proyecto);
+			try {
+				if (estado == null || proyecto.obtenerEstado() == estado)
+					accion.accept(proyecto);
+			} finally {
+				franja.unlock();
+			}
+		}
+	}
+
+	private Proyecto obtenerProyecto(Integer numero) {
+		Proyecto proyecto = (numero == null ? null : proyectos.get(numero));
+
+		if (proyecto == null)
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+
+		return proyecto;
+	}
+
+	private Lock bloquearFranja(Proyecto proyecto) {
+		Lock franja = franjas[proyecto.obtenerId() & (cantidadDeFranjas - 1)];
+		franja.lock();
+
+		return franja;
+	}
+
+	private Lock bloquearEscrituraDeEmpleados() {
+		Lock escritura = candadoDeEmpleados.writeLock();
+		escritura.lock();
+
+		return escritura;
+	}
+
+	private Lock bloquearLecturaDeEmpleados() {
+		Lock lectura = candadoDeEmpleados.readLock();
+		lectura.lock();
+
+		return lectura;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder infoEmpresa = new StringBuilder();
+
+		infoEmpresa.append("Empresa de servicios de mantenimiento 'HomeSolution'.\n");
+		infoEmpresa.append("Proyectos: \n");
+
+		for (Proyecto proyecto : proyectos.values()) {
+			Lock franja = bloquearFranja(proyecto);
+			try {
+				infoEmpresa.append("	");
+				infoEmpresa.append(proyecto);
+				infoEmpresa.append("\n");
+			} finally {
+				franja.unlock();
+			}
+		}
+
+		return infoEmpresa.toString();
+	}
+}
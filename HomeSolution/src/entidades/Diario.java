@@ -0,0 +1,290 @@
+package entidades;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Archivo de registros binarios que sólo crece al final (write-ahead log).
+ *
+ * Cada registro se guarda como [longitud][crc32][contenido]. agregar() sólo
+ * copia el registro a un buffer en memoria y devuelve la posición en la que
+ * termina; sincronizar() garantiza que todo lo anterior a esa posición esté en
+ * disco. Cuando varios hilos esperan a la vez, uno de ellos escribe y hace un
+ * único force() por todos los registros pendientes (group commit) mientras los
+ * demás esperan su turno.
+ *
+ * Al abrirlo, un registro incompleto o corrupto al final del archivo (por
+ * ejemplo, por un corte en medio de una escritura) se descarta.
+ */
+public class Diario {
+	private static final int tamanioDeEncabezado = 8;
+
+	private FileChannel canal;
+
+	private ByteArrayOutputStream pendientes; // Registros agregados que todavía no se escribieron.
+	private ByteArrayOutputStream enEscritura;
+	private long posicionAgregada; // Fin del último registro agregado.
+	private long posicionSincronizada; // Fin del último registro que ya está en disco.
+	private boolean hayEscrituraEnCurso;
+	private boolean averiado; // Falló una escritura: lo pendiente se perdió y no se puede seguir agregando.
+	private int registrosDescartados; // En el último recorrer().
+
+	public Diario(Path archivo) throws IOException {
+		boolean esNuevo = Files.notExists(archivo);
+
+		canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+
+		if (esNuevo) // Sin esto, el archivo podría desaparecer con todo lo sincronizado en él.
+			Archivos.sincronizarDirectorio(archivo.toAbsolutePath().getParent());
+
+		pendientes = new ByteArrayOutputStream();
+		enEscritura = new ByteArrayOutputStream();
+
+		posicionAgregada = canal.size();
+		posicionSincronizada = posicionAgregada;
+	}
+
+	/**
+	 * Recorre los registros del diario desde el principio. Si encuentra un registro
+	 * incompleto o con crc inválido, trunca el archivo en ese punto y termina.
+	 *
+	 * @return La cantidad de bytes descartados al truncar.
+	 */
+	public synchronized long recorrer(LectorDeRegistros lector) throws IOException {
+		long tamanio = canal.size();
+		long posicion = leerRegistros(canal, lector);
+
+		registrosDescartados = 0;
+		if (posicion < tamanio) {
+			registrosDescartados = contarRegistros(canal, posicion);
+			canal.truncate(posicion);
+			canal.force(true);
+		}
+
+		posicionAgregada = posicion;
+		posicionSincronizada = posicion;
+
+		return tamanio - posicion;
+	}
+
+	/**
+	 * @return La cantidad de registros que se descartaron en el último recorrer().
+	 */
+	public synchronized int obtenerRegistrosDescartados() {
+		return registrosDescartados;
+	}
+
+	/**
+	 * Recorre los registros válidos de un diario sin abrirlo para escribir ni
+	 * truncarlo, por ejemplo mientras otro Diario sigue agregando en él.
+	 *
+	 * @return La posición en la que termina el último registro válido.
+	 */
+	public static long leer(Path archivo, LectorDeRegistros lector) throws IOException {
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+			return leerRegistros(canal, lector);
+		}
+	}
+
+	/**
+	 * @return La posición en la que termina el último registro válido.
+	 */
+	private static long leerRegistros(FileChannel canal, LectorDeRegistros lector) throws IOException {
+		long tamanio = canal.size();
+		long posicion = 0;
+
+		ByteBuffer encabezado = ByteBuffer.allocate(tamanioDeEncabezado);
+		CRC32 crc = new CRC32();
+
+		while (posicion + tamanioDeEncabezado <= tamanio) {
+			encabezado.clear();
+			leerCompleto(canal, encabezado, posicion);
+			encabezado.flip();
+
+			int longitud = encabezado.getInt();
+			int crcEsperado = encabezado.getInt();
+
+			if (longitud <= 0 || posicion + tamanioDeEncabezado + longitud > tamanio)
+				break;
+
+			ByteBuffer contenido = ByteBuffer.allocate(longitud);
+			leerCompleto(canal, contenido, posicion + tamanioDeEncabezado);
+
+			crc.reset();
+			crc.update(contenido.array(), 0, longitud);
+			if ((int) crc.getValue() != crcEsperado)
+				break;
+
+			lector.leer(new DataInputStream(new ByteArrayInputStream(contenido.array())));
+
+			posicion += tamanioDeEncabezado + longitud;
+		}
+
+		return posicion;
+	}
+
+	/**
+	 * Cuenta los registros desde una posición hasta el final sin verificar su crc:
+	 * los separa por la longitud de cada encabezado y, si una longitud es inválida
+	 * o lo que queda no alcanza para un registro, lo que queda cuenta como uno.
+	 */
+	private static int contarRegistros(FileChannel canal, long posicion) throws IOException {
+		long tamanio = canal.size();
+		int registros = 0;
+
+		ByteBuffer encabezado = ByteBuffer.allocate(tamanioDeEncabezado);
+
+		while (posicion < tamanio) {
+			registros++;
+
+			if (posicion + tamanioDeEncabezado > tamanio)
+				break;
+
+			encabezado.clear();
+			leerCompleto(canal, encabezado, posicion);
+			int longitud = encabezado.getInt(0);
+
+			if (longitud <= 0 || posicion + tamanioDeEncabezado + longitud > tamanio)
+				break;
+
+			posicion += tamanioDeEncabezado + longitud;
+		}
+
+		return registros;
+	}
+
+	private static void leerCompleto(FileChannel canal, ByteBuffer destino, long posicion) throws IOException {
+		while (destino.hasRemaining()) {
+			int leidos = canal.read(destino, posicion + destino.position());
+
+			if (leidos < 0)
+				throw new IOException("Fin de archivo inesperado en el diario.");
+		}
+	}
+
+	/**
+	 * @return La posición en la que termina el registro, para pasarla a
+	 *         sincronizar().
+	 */
+	public synchronized long agregar(byte[] contenido) {
+		if (averiado)
+			throw new IllegalStateException("El diario no se puede usar porque falló una escritura anterior.");
+
+		CRC32 crc = new CRC32();
+		crc.update(contenido, 0, contenido.length);
+
+		ByteBuffer encabezado = ByteBuffer.allocate(tamanioDeEncabezado);
+		encabezado.putInt(contenido.length);
+		encabezado.putInt((int) crc.getValue());
+
+		pendientes.write(encabezado.array(), 0, tamanioDeEncabezado);
+		pendientes.write(contenido, 0, contenido.length);
+
+		posicionAgregada += tamanioDeEncabezado + contenido.length;
+
+		return posicionAgregada;
+	}
+
+	/**
+	 * Bloquea hasta que todo lo agregado antes de la posición indicada esté en
+	 * disco. El hilo que encuentra el diario libre escribe lo pendiente de todos.
+	 */
+	public void sincronizar(long posicion) throws IOException {
+		ByteArrayOutputStream aEscribir;
+		long hasta;
+
+		synchronized (this) {
+			while (posicionSincronizada < posicion && hayEscrituraEnCurso)
+				esperar();
+
+			if (posicionSincronizada >= posicion)
+				return;
+			if (averiado)
+				throw new IOException("El diario no se puede usar porque falló una escritura anterior.");
+
+			hayEscrituraEnCurso = true;
+
+			aEscribir = pendientes;
+			pendientes = enEscritura;
+			enEscritura = aEscribir;
+			hasta = posicionAgregada;
+		}
+
+		boolean escrito = false;
+		try {
+			ByteBuffer datos = ByteBuffer.wrap(aEscribir.toByteArray());
+			long destino = hasta - datos.remaining();
+
+			while (datos.hasRemaining())
+				destino += canal.write(datos, destino);
+
+			canal.force(false);
+			escrito = true;
+		} finally {
+			synchronized (this) {
+				aEscribir.reset();
+				if (escrito)
+					posicionSincronizada = hasta;
+				else
+					averiado = true;
+				hayEscrituraEnCurso = false;
+				notifyAll();
+			}
+		}
+	}
+
+	private void esperar() throws IOException {
+		try {
+			wait();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Se interrumpió la espera de escritura del diario.", e);
+		}
+	}
+
+	/**
+	 * Descarta lo que no llegó a disco, por ejemplo después de una escritura
+	 * fallida: trunca el archivo al fin del último registro sincronizado, lo
+	 * fuerza y cierra el diario.
+	 */
+	public synchronized void cerrarDescartandoLoNoSincronizado() throws IOException {
+		while (hayEscrituraEnCurso)
+			esperar();
+
+		if (!canal.isOpen()) // Se cerró bien, así que no quedó nada sin sincronizar.
+			return;
+
+		averiado = true; // Si truncar también falla, el diario queda inutilizable.
+		pendientes.reset();
+		posicionAgregada = posicionSincronizada;
+
+		canal.truncate(posicionSincronizada);
+		canal.force(true);
+		canal.close();
+	}
+
+	public void cerrar() throws IOException {
+		long posicion;
+
+		synchronized (this) {
+			posicion = posicionAgregada;
+		}
+
+		sincronizar(posicion);
+		canal.close();
+	}
+
+	@FunctionalInterface
+	public interface LectorDeRegistros {
+		void leer(DataInputStream registro) throws IOException;
+	}
+}
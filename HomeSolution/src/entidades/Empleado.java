@@ -3,23 +3,29 @@ package entidades;
 import java.util.Objects;
 
 public abstract class Empleado {
-	private static int siguienteLegajo = 1;
-
 	private String nombre;
-	private Integer legajo;
+	private final Integer legajo;
 	private boolean estaAsignado;
 	private int cantidadDeRetrasos;
 
-	protected Empleado(String nombre) {
+	protected Empleado(int legajo, String nombre) {
 		if (nombre == null || nombre.isEmpty())
-			throw new IllegalArgumentException("El nombre no puede ser nulo ni estar vaco.");
+			throw new IllegalArgumentException("El nombre no puede ser nulo ni estar vacío.");
 
 		this.nombre = nombre;
 
-		this.legajo = siguienteLegajo++;
+		this.legajo = legajo;
 		this.estaAsignado = false;
 	}
 
+	/**
+	 * Recupera el estado guardado en una instantánea.
+	 */
+	protected void restaurar(int cantidadDeRetrasos, boolean estaAsignado) {
+		this.cantidadDeRetrasos = cantidadDeRetrasos;
+		this.estaAsignado = estaAsignado;
+	}
+
 	protected boolean estaAsignado() {
 		return estaAsignado;
 	}
@@ -50,6 +56,11 @@ public abstract class Empleado {
 
 	protected abstract double calcularCosto(double cantidadDeDias);
 
+	/**
+	 * @return Un empleado nuevo con los mismos datos y el legajo indicado.
+	 */
+	protected abstract Empleado conLegajo(int legajo);
+
 	@Override
 	public String toString() {
 //		String infoEmpleado = nombre + " | " + "Legajo: " + legajo;
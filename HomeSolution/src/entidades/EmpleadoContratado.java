@@ -3,8 +3,8 @@ package entidades;
 public class EmpleadoContratado extends Empleado {
 	private double valorHora;
 
-	protected EmpleadoContratado(String nombre, double valorHora) {
-		super(nombre);
+	protected EmpleadoContratado(int legajo, String nombre, double valorHora) {
+		super(legajo, nombre);
 
 		if (valorHora <= 0)
 			throw new IllegalArgumentException("El valor por hora no puede ser menor o igual a 0.");
@@ -12,6 +12,15 @@ public class EmpleadoContratado extends Empleado {
 		this.valorHora = valorHora;
 	}
 
+	protected double obtenerValorHora() {
+		return valorHora;
+	}
+
+	@Override
+	protected Empleado conLegajo(int legajo) {
+		return new EmpleadoContratado(legajo, obtenerNombre(), valorHora);
+	}
+
 	@Override
 	protected double calcularCosto(double cantidadDeDias) {
 		double costo = cantidadDeDias * 8;
@@ -1,7 +1,21 @@
 package entidades;
 
-public class Estado {
-	public static final String activo = "ACTIVO";
-	public static final String pendiente = "PENDIENTE";
-	public static final String finalizado = "FINALIZADO";
+public enum Estado {
+	PENDIENTE, ACTIVO, FINALIZADO;
+
+	/**
+	 * Un proyecto pendiente pasa a activo al asignarse su primera tarea y puede
+	 * finalizarse estando pendiente o activo. Un proyecto finalizado ya no cambia
+	 * de estado.
+	 */
+	boolean puedePasarA(Estado siguiente) {
+		switch (this) {
+		case PENDIENTE:
+			return siguiente == ACTIVO || siguiente == FINALIZADO;
+		case ACTIVO:
+			return siguiente == FINALIZADO;
+		default:
+			return false;
+		}
+	}
 }
@@ -0,0 +1,484 @@
+package entidades;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hecho inmutable que cambió el estado de un HomeSolution. Aplicar en orden los
+ * eventos de una instancia, partiendo de un HomeSolution vacío o de una
+ * instantánea, reconstruye su estado.
+ *
+ * A diferencia de las operaciones de IHomeSolution, los eventos no deciden
+ * nada: una TareaAsignada ya dice qué empleado se asignó.
+ */
+public abstract class Evento {
+	private static final byte empleadoRegistrado = 1;
+	private static final byte proyectoRegistrado = 2;
+	private static final byte tareaAgregada = 3;
+	private static final byte tareaAsignada = 4;
+	private static final byte retrasoRegistrado = 5;
+	private static final byte tareaFinalizada = 6;
+	private static final byte proyectoFinalizado = 7;
+	private static final byte empleadoReasignado = 8;
+	private static final byte loteAplicado = 9;
+
+	private final long instante; // Milisegundos desde 1970-01-01, para auditoría.
+
+	private Evento(long instante) {
+		this.instante = instante;
+	}
+
+	public long obtenerInstante() {
+		return instante;
+	}
+
+	protected abstract void aplicarEn(HomeSolution homeSolution) throws Exception;
+
+	protected abstract byte tipo();
+
+	protected abstract void escribirDatos(DataOutputStream salida) throws IOException;
+
+	protected byte[] codificar() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+		DataOutputStream salida = new DataOutputStream(bytes);
+
+		try {
+			salida.writeByte(tipo());
+			salida.writeLong(instante);
+			escribirDatos(salida);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // No ocurre: se escribe en memoria.
+		}
+
+		return bytes.toByteArray();
+	}
+
+	protected static Evento decodificar(DataInputStream entrada) throws IOException {
+		byte tipo = entrada.readByte();
+		long instante = entrada.readLong();
+
+		switch (tipo) {
+		case empleadoRegistrado:
+			return new EmpleadoRegistrado(instante, entrada.readInt(), leerTexto(entrada), entrada.readDouble(),
+					leerTexto(entrada));
+		case proyectoRegistrado:
+			return new ProyectoRegistrado(instante, entrada.readInt(), leerTextos(entrada), leerTextos(entrada),
+					leerDecimales(entrada), leerTexto(entrada), leerTextos(entrada), leerTexto(entrada),
+					leerTexto(entrada));
+		case tareaAgregada:
+			return new TareaAgregada(instante, entrada.readInt(), leerTexto(entrada), leerTexto(entrada),
+					entrada.readDouble());
+		case tareaAsignada:
+			return new TareaAsignada(instante, entrada.readInt(), leerTexto(entrada), entrada.readInt());
+		case retrasoRegistrado:
+			return new RetrasoRegistrado(instante, entrada.readInt(), leerTexto(entrada), entrada.readDouble());
+		case tareaFinalizada:
+			return new TareaFinalizada(instante, entrada.readInt(), leerTexto(entrada));
+		case proyectoFinalizado:
+			return new ProyectoFinalizado(instante, entrada.readInt(), leerTexto(entrada));
+		case empleadoReasignado:
+			return new EmpleadoReasignado(instante, entrada.readInt(), leerTexto(entrada), entrada.readInt());
+		case loteAplicado:
+			Evento[] eventos = new Evento[entrada.readInt()];
+			for (int i = 0; i < eventos.length; i++)
+				eventos[i] = decodificar(entrada);
+			return new LoteAplicado(instante, Arrays.asList(eventos));
+		default:
+			throw new IOException("Tipo de evento desconocido: " + tipo);
+		}
+	}
+
+	public static final class EmpleadoRegistrado extends Evento {
+		private final int legajo;
+		private final String nombre;
+		private final double valor;
+		private final String categoria; // null si es un empleado contratado.
+
+		protected EmpleadoRegistrado(long instante, int legajo, String nombre, double valor, String categoria) {
+			super(instante);
+			this.legajo = legajo;
+			this.nombre = nombre;
+			this.valor = valor;
+			this.categoria = categoria;
+		}
+
+		@Override
+		protected void aplicarEn(HomeSolution homeSolution) {
+			if (categoria == null)
+				homeSolution.registrarEmpleado(new EmpleadoContratado(legajo, nombre, valor));
+			else
+				homeSolution.registrarEmpleado(new EmpleadoDePlanta(legajo, nombre, valor, categoria));
+		}
+
+		@Override
+		protected byte tipo() {
+			return empleadoRegistrado;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(legajo);
+			escribirTexto(salida, nombre);
+			salida.writeDouble(valor);
+			escribirTexto(salida, categoria);
+		}
+
+		@Override
+		public String toString() {
+			return "EmpleadoRegistrado: legajo " + legajo + ", " + nombre
+					+ (categoria == null ? " (contratado)" : " (de planta, " + categoria + ")");
+		}
+	}
+
+	public static final class ProyectoRegistrado extends Evento {
+		private final int numero;
+		private final String[] titulos;
+		private final String[] descripciones;
+		private final double[] dias;
+		private final String domicilio;
+		private final String[] cliente;
+		private final String inicio;
+		private final String fin;
+
+		protected ProyectoRegistrado(long instante, int numero, String[] titulos, String[] descripciones,
+				double[] dias, String domicilio, String[] cliente, String inicio, String fin) {
+			super(instante);
+			this.numero = numero;
+			this.titulos = titulos.clone();
+			this.descripciones = descripciones.clone();
+			this.dias = dias.clone();
+			this.domicilio = domicilio;
+			this.cliente = cliente.clone();
+			this.inicio = inicio;
+			this.fin = fin;
+		}
+
+		@Override
+		protected void aplicarEn(HomeSolution homeSolution) {
+			homeSolution.registrarProyecto(crearProyecto());
+		}
+
+		/**
+		 * Arma el proyecto que registra el evento sin tocar ningún HomeSolution, así
+		 * que se puede llamar desde otro hilo antes de aplicarlo.
+		 */
+		protected Proyecto crearProyecto() {
+			return new Proyecto(numero, titulos, descripciones, dias, domicilio, cliente, inicio, fin);
+		}
+
+		@Override
+		protected byte tipo() {
+			return proyectoRegistrado;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(numero);
+			escribirTextos(salida, titulos);
+			escribirTextos(salida, descripciones);
+			salida.writeInt(dias.length);
+			for (double cantidad : dias)
+				salida.writeDouble(cantidad);
+			escribirTexto(salida, domicilio);
+			escribirTextos(salida, cliente);
+			escribirTexto(salida, inicio);
+			escribirTexto(salida, fin);
+		}
+
+		@Override
+		public String toString() {
+			return "ProyectoRegistrado: proyecto " + numero + " en " + domicilio + ", tareas "
+					+ Arrays.toString(titulos);
+		}
+	}
+
+	public static final class TareaAgregada extends Evento {
+		private final int numero;
+		private final String titulo;
+		private final String descripcion;
+		private final double dias;
+
+		protected TareaAgregada(long instante, int numero, String titulo, String descripcion, double dias) {
+			super(instante);
+			this.numero = numero;
+			this.titulo = titulo;
+			this.descripcion = descripcion;
+			this.dias = dias;
+		}
+
+		@Override
+		protected void aplicarEn(HomeSolution homeSolution) {
+			homeSolution.agregarTareaEnProyecto(numero, titulo, descripcion, dias);
+		}
+
+		@Override
+		protected byte tipo() {
+			return tareaAgregada;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(numero);
+			escribirTexto(salida, titulo);
+			escribirTexto(salida, descripcion);
+			salida.writeDouble(dias);
+		}
+
+		@Override
+		public String toString() {
+			return "TareaAgregada: " + titulo + " en el proyecto " + numero;
+		}
+	}
+
+	public static final class TareaAsignada extends Evento {
+		private final int numero;
+		private final String titulo;
+		private final int legajo;
+
+		protected TareaAsignada(long instante, int numero, String titulo, int legajo) {
+			super(instante);
+			this.numero = numero;
+			this.titulo = titulo;
+			this.legajo = legajo;
+		}
+
+		@Override
+		protected void aplicarEn(HomeSolution homeSolution) {
+			homeSolution.asignarEmpleadoEnTarea(numero, titulo, legajo);
+		}
+
+		@Override
+		protected byte tipo() {
+			return tareaAsignada;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(numero);
+			escribirTexto(salida, titulo);
+			salida.writeInt(legajo);
+		}
+
+		@Override
+		public String toString() {
+			return "TareaAsignada: " + titulo + " del proyecto " + numero + " al legajo " + legajo;
+		}
+	}
+
+	public static final class RetrasoRegistrado extends Evento {
+		private final int numero;
+		private final String titulo;
+		private final double dias;
+
+		protected RetrasoRegistrado(long instante, int numero, String titulo, double dias) {
+			super(instante);
+			this.numero = numero;
+			this.titulo = titulo;
+			this.dias = dias;
+		}
+
+		@Override
+		protected void aplicarEn(HomeSolution homeSolution) {
+			homeSolution.registrarRetrasoEnTarea(numero, titulo, dias);
+		}
+
+		@Override
+		protected byte tipo() {
+			return retrasoRegistrado;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(numero);
+			escribirTexto(salida, titulo);
+			salida.writeDouble(dias);
+		}
+
+		@Override
+		public String toString() {
+			return "RetrasoRegistrado: " + dias + " días en " + titulo + " del proyecto " + numero;
+		}
+	}
+
+	public static final class TareaFinalizada extends Evento {
+		private final int numero;
+		private final String titulo;
+
+		protected TareaFinalizada(long instante, int numero, String titulo) {
+			super(instante);
+			this.numero = numero;
+			this.titulo = titulo;
+		}
+
+		@Override
+		protected void aplicarEn(HomeSolution homeSolution) throws Exception {
+			homeSolution.finalizarTarea(numero, titulo);
+		}
+
+		@Override
+		protected byte tipo() {
+			return tareaFinalizada;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(numero);
+			escribirTexto(salida, titulo);
+		}
+
+		@Override
+		public String toString() {
+			return "TareaFinalizada: " + titulo + " del proyecto " + numero;
+		}
+	}
+
+	public static final class ProyectoFinalizado extends Evento {
+		private final int numero;
+		private final String fin;
+
+		protected ProyectoFinalizado(long instante, int numero, String fin) {
+			super(instante);
+			this.numero = numero;
+			this.fin = fin;
+		}
+
+		@Override
+		protected void aplicarEn(HomeSolution homeSolution) {
+			homeSolution.finalizarProyecto(numero, fin);
+		}
+
+		@Override
+		protected byte tipo() {
+			return proyectoFinalizado;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(numero);
+			escribirTexto(salida, fin);
+		}
+
+		@Override
+		public String toString() {
+			return "ProyectoFinalizado: proyecto " + numero + " el " + fin;
+		}
+	}
+
+	public static final class EmpleadoReasignado extends Evento {
+		private final int numero;
+		private final String titulo;
+		private final int legajo;
+
+		protected EmpleadoReasignado(long instante, int numero, String titulo, int legajo) {
+			super(instante);
+			this.numero = numero;
+			this.titulo = titulo;
+			this.legajo = legajo;
+		}
+
+		@Override
+		protected void aplicarEn(HomeSolution homeSolution) throws Exception {
+			homeSolution.reasignarEmpleadoEnProyecto(numero, legajo, titulo);
+		}
+
+		@Override
+		protected byte tipo() {
+			return empleadoReasignado;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(numero);
+			escribirTexto(salida, titulo);
+			salida.writeInt(legajo);
+		}
+
+		@Override
+		public String toString() {
+			return "EmpleadoReasignado: legajo " + legajo + " en " + titulo + " del proyecto " + numero;
+		}
+	}
+
+	/**
+	 * Eventos de un lote aplicado todo o nada (ver IHomeSolution.aplicarLote). Se
+	 * guardan en un único registro, así que al recuperar se reproducen todos o
+	 * ninguno.
+	 */
+	public static final class LoteAplicado extends Evento {
+		private final List<Evento> eventos;
+
+		protected LoteAplicado(long instante, List<Evento> eventos) {
+			super(instante);
+			this.eventos = eventos;
+		}
+
+		public List<Evento> obtenerEventos() {
+			return Collections.unmodifiableList(eventos);
+		}
+
+		@Override
+		protected void aplicarEn(HomeSolution homeSolution) throws Exception {
+			for (Evento evento : eventos)
+				evento.aplicarEn(homeSolution);
+		}
+
+		@Override
+		protected byte tipo() {
+			return loteAplicado;
+		}
+
+		@Override
+		protected void escribirDatos(DataOutputStream salida) throws IOException {
+			salida.writeInt(eventos.size());
+			for (Evento evento : eventos)
+				salida.write(evento.codificar());
+		}
+
+		@Override
+		public String toString() {
+			return "LoteAplicado: " + eventos.size() + " eventos";
+		}
+	}
+
+	protected static void escribirTexto(DataOutputStream salida, String texto) throws IOException {
+		salida.writeBoolean(texto == null);
+		if (texto != null)
+			salida.writeUTF(texto);
+	}
+
+	private static void escribirTextos(DataOutputStream salida, String[] textos) throws IOException {
+		salida.writeInt(textos.length);
+		for (String texto : textos)
+			escribirTexto(salida, texto);
+	}
+
+	protected static String leerTexto(DataInputStream entrada) throws IOException {
+		boolean esNulo = entrada.readBoolean();
+
+		return esNulo ? null : entrada.readUTF();
+	}
+
+	private static String[] leerTextos(DataInputStream entrada) throws IOException {
+		String[] textos = new String[entrada.readInt()];
+
+		for (int i = 0; i < textos.length; i++)
+			textos[i] = leerTexto(entrada);
+
+		return textos;
+	}
+
+	private static double[] leerDecimales(DataInputStream entrada) throws IOException {
+		double[] decimales = new double[entrada.readInt()];
+
+		for (int i = 0; i < decimales.length; i++)
+			decimales[i] = entrada.readDouble();
+
+		return decimales;
+	}
+}
@@ -0,0 +1,267 @@
+package entidades;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * Exporta proyectos con sus tareas y costos a CSV o NDJSON.
+ *
+ * CSV: una fila por tarea, repitiendo los datos del proyecto (un proyecto sin
+ * tareas ocupa una fila con las columnas de tarea vacías):
+ *
+ * <pre>
+ * proyecto,domicilio,cliente,estado,inicio,fin_estimado,fin_real,costo_proyecto,tarea,legajo,dias_reales,costo_tarea
+ * </pre>
+ *
+ * NDJSON: un objeto por proyecto, con sus tareas en un arreglo.
+ *
+ * Recorre una sola vez los proyectos del estado pedido y escribe cada uno
+ * directamente sobre el canal a través de un buffer de tamaño fijo, sin armar
+ * en memoria el texto de un proyecto ni la lista de proyectos. El recorrido lo
+ * hace el IHomeSolution con sus propios candados (ver recorrerProyectos), así
+ * que mientras dura la exportación sus modificaciones pueden esperar.
+ */
+public class Exportador {
+	private static final String encabezadoCsv = "proyecto,domicilio,cliente,estado,inicio,fin_estimado,fin_real,"
+			+ "costo_proyecto,tarea,legajo,dias_reales,costo_tarea\n";
+
+	private final IHomeSolution homeSolution;
+
+	public Exportador(IHomeSolution homeSolution) {
+		this.homeSolution = homeSolution;
+	}
+
+	/**
+	 * Escribe el archivo, reemplazándolo si existe.
+	 *
+	 * @return La cantidad de proyectos exportados.
+	 */
+	public int exportar(Path archivo, FormatoDeArchivo formato, Estado estado, LocalDate desde, LocalDate hasta)
+			throws IOException {
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			return exportar(canal, formato, estado, desde, hasta);
+		}
+	}
+
+	/**
+	 * Exporta los proyectos en el estado indicado (todos si es null) cuya fecha de
+	 * finalización real está entre desde y hasta, inclusive. Un límite null no
+	 * restringe. No cierra el canal.
+	 *
+	 * @return La cantidad de proyectos exportados.
+	 */
+	public int exportar(WritableByteChannel canal, FormatoDeArchivo formato, Estado estado, LocalDate desde,
+			LocalDate hasta) throws IOException {
+		Writer salida = new BufferedWriter(Channels.newWriter(canal, StandardCharsets.UTF_8.newEncoder(), 1 << 16),
+				1 << 14);
+		int[] exportados = new int[1];
+
+		try {
+			if (formato == FormatoDeArchivo.CSV)
+				salida.write(encabezadoCsv);
+
+			homeSolution.recorrerProyectos(estado, proyecto -> {
+				LocalDate fin = proyecto.obtenerFechaFinReal();
+
+				if ((desde != null && fin.isBefore(desde)) || (hasta != null && fin.isAfter(hasta)))
+					return;
+
+				escribir(() -> {
+					if (formato == FormatoDeArchivo.CSV)
+						escribirCsv(salida, proyecto);
+					else
+						escribirNdjson(salida, proyecto);
+				});
+				exportados[0]++;
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		salida.flush();
+
+		return exportados[0];
+	}
+
+	private static void escribirCsv(Writer salida, Proyecto proyecto) throws IOException {
+		if (proyecto.cantidadDeTareas() == 0) {
+			escribirProyectoCsv(salida, proyecto);
+			salida.write(",,,\n");
+			return;
+		}
+
+		proyecto.recorrerTareas(tarea -> escribir(() -> {
+			Empleado empleado = tarea.obtenerEmpleado();
+
+			escribirProyectoCsv(salida, proyecto);
+			salida.write(',');
+			escribirCampo(salida, tarea.obtenerTitulo());
+			salida.write(',');
+			if (empleado != null)
+				salida.write(Integer.toString(empleado.obtenerLegajo()));
+			salida.write(',');
+			salida.write(dias(tarea.obtenerDiasDeTrabajoReales()));
+			salida.write(',');
+			salida.write(importe(tarea.obtenerCosto()));
+			salida.write('\n');
+		}));
+	}
+
+	private static void escribirProyectoCsv(Writer salida, Proyecto proyecto) throws IOException {
+		salida.write(Integer.toString(proyecto.obtenerId()));
+		salida.write(',');
+		escribirCampo(salida, proyecto.obtenerDomicilio());
+		salida.write(',');
+		escribirCampo(salida, proyecto.obtenerCliente().nombre);
+		salida.write(',');
+		salida.write(proyecto.obtenerEstado().name());
+		salida.write(',');
+		salida.write(proyecto.obtenerFechaInicio().toString());
+		salida.write(',');
+		salida.write(proyecto.obtenerFechaFinEstimada().toString());
+		salida.write(',');
+		salida.write(proyecto.obtenerFechaFinReal().toString());
+		salida.write(',');
+		salida.write(importe(proyecto.costoProyecto()));
+	}
+
+	private static void escribirCampo(Writer salida, String campo) throws IOException {
+		if (campo == null)
+			return;
+
+		boolean requiereComillas = false;
+		for (int i = 0; i < campo.length() && !requiereComillas; i++) {
+			char caracter = campo.charAt(i);
+			requiereComillas = (caracter == ',' || caracter == '"' || caracter == '\n' || caracter == '\r');
+		}
+
+		if (!requiereComillas) {
+			salida.write(campo);
+			return;
+		}
+
+		salida.write('"');
+		for (int i = 0; i < campo.length(); i++) {
+			char caracter = campo.charAt(i);
+
+			if (caracter == '"')
+				salida.write('"');
+			salida.write(caracter);
+		}
+		salida.write('"');
+	}
+
+	private static void escribirNdjson(Writer salida, Proyecto proyecto) throws IOException {
+		salida.write("{\"numero\":");
+		salida.write(Integer.toString(proyecto.obtenerId()));
+		salida.write(",\"domicilio\":");
+		escribirTextoJson(salida, proyecto.obtenerDomicilio());
+		salida.write(",\"cliente\":");
+		escribirTextoJson(salida, proyecto.obtenerCliente().nombre);
+		salida.write(",\"estado\":\"");
+		salida.write(proyecto.obtenerEstado().name());
+		salida.write("\",\"inicio\":\"");
+		salida.write(proyecto.obtenerFechaInicio().toString());
+		salida.write("\",\"finEstimado\":\"");
+		salida.write(proyecto.obtenerFechaFinEstimada().toString());
+		salida.write("\",\"finReal\":\"");
+		salida.write(proyecto.obtenerFechaFinReal().toString());
+		salida.write("\",\"costo\":");
+		salida.write(importe(proyecto.costoProyecto()));
+		salida.write(",\"tareas\":[");
+
+		boolean[] primera = { true };
+		proyecto.recorrerTareas(tarea -> escribir(() -> {
+			Empleado empleado = tarea.obtenerEmpleado();
+
+			if (!primera[0])
+				salida.write(',');
+			primera[0] = false;
+
+			salida.write("{\"titulo\":");
+			escribirTextoJson(salida, tarea.obtenerTitulo());
+			salida.write(",\"legajo\":");
+			salida.write(empleado == null ? "null" : Integer.toString(empleado.obtenerLegajo()));
+			salida.write(",\"diasReales\":");
+			salida.write(dias(tarea.obtenerDiasDeTrabajoReales()));
+			salida.write(",\"costo\":");
+			salida.write(importe(tarea.obtenerCosto()));
+			salida.write('}');
+		}));
+
+		salida.write("]}\n");
+	}
+
+	/**
+	 * Los importes van con dos decimales y sin notación científica, que
+	 * Double.toString usa desde 10^7 y que una planilla no siempre entiende.
+	 */
+	private static String importe(double valor) {
+		return BigDecimal.valueOf(valor).setScale(2, RoundingMode.HALF_UP).toPlainString();
+	}
+
+	private static String dias(double valor) {
+		return BigDecimal.valueOf(valor).toPlainString();
+	}
+
+	private static void escribirTextoJson(Writer salida, String texto) throws IOException {
+		if (texto == null) {
+			salida.write("null");
+			return;
+		}
+
+		salida.write('"');
+		for (int i = 0; i < texto.length(); i++) {
+			char caracter = texto.charAt(i);
+
+			switch (caracter) {
+			case '"':
+				salida.write("\\\"");
+				break;
+			case '\\':
+				salida.write("\\\\");
+				break;
+			case '\n':
+				salida.write("\\n");
+				break;
+			case '\r':
+				salida.write("\\r");
+				break;
+			case '\t':
+				salida.write("\\t");
+				break;
+			default:
+				if (caracter < 0x20)
+					salida.write(String.format("\\u%04x", (int) caracter));
+				else
+					salida.write(caracter);
+			}
+		}
+		salida.write('"');
+	}
+
+	private static void escribir(Escritura escritura) {
+		try {
+			escritura.escribir();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Escritura {
+		void escribir() throws IOException;
+	}
+}
@@ -0,0 +1,9 @@
+package entidades;
+
+/**
+ * Formatos de texto que usan Importador y Exportador. En ambos, cada línea
+ * del archivo es un registro.
+ */
+public enum FormatoDeArchivo {
+	CSV, NDJSON
+}
@@ -0,0 +1,158 @@
+package entidades;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Genera números de proyecto o legajos para una instancia de HomeSolution.
+ *
+ * Los ids salen de un único contador atómico, así que son consecutivos aunque
+ * los pidan varios hilos. Si se indica un archivo, se guarda en él la marca de
+ * agua (el mayor id que se puede entregar) reservando de a varios ids por vez:
+ * cuando el contador pasa la marca, se escribe una nueva y se fuerza a disco
+ * antes de entregar el id, de modo que al reiniciar nunca se repite un id
+ * aunque se haya caído el sistema. Al cerrar el generador la marca baja al
+ * mayor id realmente entregado, así que tras un cierre ordenado los ids siguen
+ * siendo consecutivos. Cada instancia (o cliente) usa su propio archivo.
+ */
+public class GeneradorDeIds {
+	private static final int tamanioDeReservaPorDefecto = 64;
+	private static final int cerrado = -1; // Valor del contador una vez cerrado.
+
+	private final int tamanioDeReserva;
+	private final Path archivo; // null si la marca de agua no se guarda.
+	private final AtomicInteger ultimoEntregado;
+
+	private volatile int marcaGuardada; // Integer.MAX_VALUE si no hay archivo.
+
+	public GeneradorDeIds() {
+		this(null, tamanioDeReservaPorDefecto);
+	}
+
+	public GeneradorDeIds(Path archivo) {
+		this(archivo, tamanioDeReservaPorDefecto);
+	}
+
+	/**
+	 * @param tamanioDeReserva Cantidad de ids que cubre cada marca de agua
+	 *                         guardada. No cambia los ids entregados, sólo cada
+	 *                         cuántos se escribe el archivo.
+	 */
+	public GeneradorDeIds(Path archivo, int tamanioDeReserva) {
+		if (tamanioDeReserva <= 0)
+			throw new IllegalArgumentException("El tamaño de reserva debe ser mayor a 0.");
+
+		this.tamanioDeReserva = tamanioDeReserva;
+		this.archivo = archivo;
+
+		int marca = leerMarca();
+		marcaGuardada = (archivo == null ? Integer.MAX_VALUE : marca);
+		ultimoEntregado = new AtomicInteger(marca);
+	}
+
+	public int siguiente() {
+		int id;
+		int ultimo;
+		do {
+			ultimo = ultimoEntregado.get();
+
+			if (ultimo == cerrado)
+				throw new IllegalStateException("El generador de ids está cerrado.");
+			if (ultimo == Integer.MAX_VALUE)
+				throw new IllegalStateException("No quedan ids disponibles.");
+
+			id = ultimo + 1;
+		} while (!ultimoEntregado.compareAndSet(ultimo, id));
+
+		if (id > marcaGuardada)
+			guardarMarca(id);
+
+		return id;
+	}
+
+	/**
+	 * Crea una entidad con el siguiente id. Si la creación falla, el id se devuelve
+	 * para que un alta rechazada no deje huecos.
+	 */
+	protected <T> T crear(IntFunction<T> fabrica) {
+		int id = siguiente();
+
+		try {
+			return fabrica.apply(id);
+		} catch (RuntimeException e) {
+			ultimoEntregado.compareAndSet(id, id - 1); // Sólo si nadie pidió otro id en el medio.
+			throw e;
+		}
+	}
+
+	/**
+	 * Evita que se entreguen ids menores o iguales al indicado, por ejemplo al
+	 * restaurar entidades que ya tenían id.
+	 */
+	protected void reservarHasta(int id) {
+		int ultimo;
+		do {
+			ultimo = ultimoEntregado.get();
+
+			if (ultimo == cerrado)
+				throw new IllegalStateException("El generador de ids está cerrado.");
+			if (ultimo >= id)
+				return;
+		} while (!ultimoEntregado.compareAndSet(ultimo, id));
+
+		if (id > marcaGuardada)
+			guardarMarca(id);
+	}
+
+	/**
+	 * Guarda como marca de agua el mayor id entregado. Después de cerrar no se
+	 * pueden pedir más ids; un hilo que ya obtuvo su id antes del cierre lo
+	 * entrega igual, porque la marca guardada lo cubre.
+	 */
+	public synchronized void cerrar() {
+		int ultimo = ultimoEntregado.getAndSet(cerrado);
+
+		if (ultimo == cerrado)
+			return;
+
+		if (archivo != null && ultimo < marcaGuardada)
+			escribirMarca(ultimo);
+	}
+
+	private synchronized void guardarMarca(int id) {
+		if (id <= marcaGuardada) // Otro hilo ya guardó una marca que lo cubre.
+			return;
+
+		escribirMarca((int) Math.min((long) id + tamanioDeReserva - 1, Integer.MAX_VALUE));
+	}
+
+	private void escribirMarca(int marca) {
+		try {
+			Archivos.reemplazar(archivo, Integer.toString(marca).getBytes(StandardCharsets.US_ASCII));
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo guardar la marca de agua en " + archivo, e);
+		}
+
+		marcaGuardada = marca;
+	}
+
+	private int leerMarca() {
+		if (archivo == null || !Files.exists(archivo))
+			return 0;
+
+		try {
+			String contenido = new String(Files.readAllBytes(archivo), StandardCharsets.US_ASCII).trim();
+
+			return Integer.parseInt(contenido);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo leer la marca de agua de " + archivo, e);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("El archivo " + archivo + " no contiene una marca de agua válida.");
+		}
+	}
+}
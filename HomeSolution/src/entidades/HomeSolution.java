@@ -1,56 +1,233 @@
 package entidades;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
-public class HomeSolution implements IHomeSolution {
+public class HomeSolution implements IHomeSolutionConsultas {
 
-	private HashMap<Integer, Proyecto> proyectos;
-	private HashMap<Integer, Empleado> empleados;
-	private PriorityQueue<Empleado> empleadosNoAsignados;
+	private Repositorio repositorio;
+	private ProyectosPorEstado proyectosPorEstado;
+	private RegistroDeEmpleados empleados;
+
+	private GeneradorDeIds numerosDeProyecto;
+	private GeneradorDeIds legajos;
+
+	private AlmacenDeFinalizados finalizados; // null si los proyectos finalizados quedan en memoria.
+	private int operacionesEnCurso; // Una operación puede llamar a otra; sólo la primera abre la unidad de trabajo.
+	private LinkedHashSet<Proyecto> porArchivar; // Finalizados en la unidad de trabajo en curso.
+	private Respaldo respaldo; // El de la unidad de trabajo en curso, o null si no hay una.
 
 	public HomeSolution() {
-		proyectos = new HashMap<>();
-		empleados = new HashMap<>();
-		empleadosNoAsignados = new PriorityQueue<>(
-				Comparator.comparingInt(empleado -> empleado.obtenerCantidadDeRetrasos()));
+		this(new GeneradorDeIds(), new GeneradorDeIds());
+	}
+
+	/**
+	 * @param numerosDeProyecto Generador de números de proyecto de esta instancia.
+	 * @param legajos           Generador de legajos de esta instancia.
+	 */
+	public HomeSolution(GeneradorDeIds numerosDeProyecto, GeneradorDeIds legajos) {
+		this(new RepositorioEnMemoria(), numerosDeProyecto, legajos);
+	}
+
+	/**
+	 * Usa los empleados y proyectos que ya están en el repositorio y guarda ahí
+	 * cada cambio. El repositorio lo cierra quien lo creó. Los proyectos que se
+	 * archivan con archivarFinalizadosEn salen del repositorio.
+	 */
+	public HomeSolution(Repositorio repositorio) {
+		this(repositorio, new GeneradorDeIds(), new GeneradorDeIds());
+	}
+
+	public HomeSolution(Repositorio repositorio, GeneradorDeIds numerosDeProyecto, GeneradorDeIds legajos) {
+		this.repositorio = repositorio;
+		proyectosPorEstado = new ProyectosPorEstado();
+		empleados = new RegistroDeEmpleados(repositorio);
+		porArchivar = new LinkedHashSet<>();
+
+		this.numerosDeProyecto = numerosDeProyecto;
+		this.legajos = legajos;
+
+		numerosDeProyecto.reservarHasta(Math.max(repositorio.mayorNumeroDeProyecto(), 0));
+		legajos.reservarHasta(Math.max(repositorio.mayorLegajo(), 0));
+		repositorio.recorrerProyectos(proyectosPorEstado::agregar);
 	}
 
 	@Override
 	public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
-		Empleado empleado = new EmpleadoContratado(nombre, valor);
-
-		int legajoEmpleado = empleado.obtenerLegajo();
-		empleados.put(legajoEmpleado, empleado);
+		Empleado empleado = legajos.crear(legajo -> new EmpleadoContratado(legajo, nombre, valor));
 
-		empleadosNoAsignados.add(empleado);
+		registrarEmpleado(empleado);
 	}
 
 	@Override
 	public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
-		Empleado empleado = new EmpleadoDePlanta(nombre, valor, categoria);
+		Empleado empleado = legajos.crear(legajo -> new EmpleadoDePlanta(legajo, nombre, valor, categoria));
+
+		registrarEmpleado(empleado);
+	}
 
-		int legajoEmpleado = empleado.obtenerLegajo();
-		empleados.put(legajoEmpleado, empleado);
+	/**
+	 * Registra un empleado que ya tiene legajo asignado. Los legajos que se
+	 * generen después serán mayores.
+	 */
+	protected void registrarEmpleado(Empleado empleado) {
+		legajos.reservarHasta(empleado.obtenerLegajo());
 
-		empleadosNoAsignados.add(empleado);
+		empleados.registrar(empleado);
+		if (respaldo != null)
+			respaldo.agregado(empleado);
 	}
 
 	@Override
 	public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
 			String[] cliente, String inicio, String fin) throws IllegalArgumentException {
-		Proyecto proyecto = new Proyecto(titulos, descripcion, dias, domicilio, cliente, inicio, fin);
+		Proyecto proyecto = numerosDeProyecto
+				.crear(numero -> new Proyecto(numero, titulos, descripcion, dias, domicilio, cliente, inicio, fin));
+
+		registrarProyecto(proyecto);
+
+//		asignarTareas(idProyecto); // Tendría sentido pensar que al crearse el proyecto, ya se intente asignar empleados libres a las tareas. Esto parece no ser correcto debido a que este comportamiento provoca que fallen varios tests de la test suite provista por la materia. Al no ser esto posible, el requisito de que se pueda consultar el costo total de un proyecto en cualquier momento se ve afectado, pues no puedo saber cuánto costará cada tarea si todavía no conozco el sueldo del empleado asignado. Entonces, el costo del proyecto tendrá sentido a partir del momento en que todas las tareas estén asignadas.
+
+	}
 
+	/**
+	 * Registra un proyecto que ya tiene número asignado. Los números que se
+	 * generen después serán mayores.
+	 */
+	protected void registrarProyecto(Proyecto proyecto) {
 		int idProyecto = proyecto.obtenerId();
+		numerosDeProyecto.reservarHasta(idProyecto);
+
+		guardarJuntosSinExcepciones(() -> {
+			proyectosPorEstado.agregar(proyecto);
+			respaldo.agregado(proyecto);
+			guardar(proyecto);
+		});
+	}
+
+	/**
+	 * A partir de ahora, cada proyecto que se finaliza se guarda en el archivo
+	 * indicado y en memoria queda sólo su resumen. Los proyectos que ya estaban
+	 * finalizados se archivan en este momento. consultarProyecto,
+	 * tareasDeUnProyecto y el resto de las consultas que necesitan el proyecto
+	 * completo lo leen del archivo, y los últimos proyectosEnCache leídos se
+	 * conservan en memoria.
+	 *
+	 * Si el archivo ya existe, los proyectos que tiene vuelven a estar
+	 * disponibles: con un repositorio persistente hay que volver a llamarlo con
+	 * el mismo archivo al abrir, porque los proyectos archivados ya no están en
+	 * el repositorio.
+	 */
+	public void archivarFinalizadosEn(Path archivo, int proyectosEnCache) throws IOException {
+		if (finalizados != null)
+			throw new IllegalStateException("Los proyectos finalizados ya se están archivando.");
+
+		finalizados = new AlmacenDeFinalizados(archivo, proyectosEnCache, this);
+		numerosDeProyecto.reservarHasta(Math.max(finalizados.mayorNumero(), 0));
+
+		for (Proyecto proyecto : new ArrayList<>(proyectosPorEstado.obtener(Estado.FINALIZADO)))
+			archivar(proyecto);
+	}
+
+	/**
+	 * Cierra el archivo de proyectos finalizados. Después de cerrarlo no se puede
+	 * seguir usando esta instancia.
+	 */
+	public void cerrarArchivoDeFinalizados() throws IOException {
+		if (finalizados != null)
+			finalizados.cerrar();
+	}
+
+	/**
+	 * guardar() vuelve con el proyecto ya en disco, así que el repositorio nunca
+	 * pierde un proyecto que todavía no está archivado.
+	 */
+	private void archivar(Proyecto proyecto) {
+		finalizados.guardar(proyecto);
+		proyectosPorEstado.quitar(proyecto);
+		if (respaldo != null)
+			respaldo.quitado(proyecto);
+
+		if (repositorio.obtenerProyecto(proyecto.obtenerId()) != null) // Si no, ya estaba archivado o nunca se guardó.
+			repositorio.quitarProyecto(proyecto.obtenerId());
+	}
+
+	private ResumenDeProyecto obtenerResumen(Integer numero) {
+		if (finalizados == null || numero == null)
+			return null;
+
+		return finalizados.obtenerResumen(numero);
+	}
+
+	/**
+	 * Agranda de una vez los mapas para que registrar la cantidad indicada de
+	 * empleados y proyectos no los redimensione varias veces.
+	 */
+	protected void reservarCapacidad(int empleadosNuevos, int proyectosNuevos) {
+		empleados.asegurarCapacidad(Math.max(empleados.mayorLegajo(), 0) + empleadosNuevos);
+		repositorio.reservarCapacidad(0, Math.max(repositorio.mayorNumeroDeProyecto(), 0) + proyectosNuevos);
+	}
+
+	protected Proyecto obtenerProyecto(Integer numero) {
+		if (numero == null)
+			return null;
+
+		Proyecto proyecto = repositorio.obtenerProyecto(numero);
+
+		if (proyecto == null && finalizados != null)
+			proyecto = finalizados.obtener(numero);
 
-		proyectos.put(idProyecto, proyecto);
+		return proyecto;
+	}
+
+	protected Empleado obtenerEmpleado(int legajo) {
+		return empleados.obtener(legajo);
+	}
+
+	protected void recorrerTodosLosEmpleados(Consumer<Empleado> accion) {
+		empleados.recorrerEmpleados(accion);
+	}
 
-//		asignarTareas(idProyecto); // Tendra sentido pensar que al crearse el proyecto, ya se intente asignar empleados libres a las tareas. Esto parece no ser correcto debido a que este comportamiento provoca que fallen varios tests de la test suite provista por la materia. Al no ser esto posible, el requisito de que se pueda consultar el costo total de un proyecto en cualquier momento se ve afectado, pues no puedo saber cunto costar cada tarea si todava no conozco el sueldo del empleado asignado. Entonces, el costo del proyecto tendr sentido a partir del momento en que todas las tareas estn asignadas.
+	protected void recorrerTodosLosProyectos(Consumer<Proyecto> accion) {
+		repositorio.recorrerProyectos(accion);
 
+		if (finalizados != null)
+			finalizados.recorrer(accion);
+	}
+
+	/**
+	 * Los proyectos archivados se recorren al final.
+	 */
+	@Override
+	public void recorrerProyectos(Estado estado, Consumer<Proyecto> accion) {
+		if (estado == null)
+			repositorio.recorrerProyectos(accion);
+		else
+			proyectosPorEstado.obtener(estado).forEach(accion);
+
+		if (finalizados != null && (estado == null || estado == Estado.FINALIZADO))
+			finalizados.recorrer(accion);
+	}
+
+	protected int cantidadDeEmpleados() {
+		return empleados.tamanio();
+	}
+
+	protected int cantidadDeProyectos() {
+		return repositorio.cantidadDeProyectos() + (finalizados == null ? 0 : finalizados.cantidad());
+	}
+
+	protected int mayorLegajo() {
+		return empleados.mayorLegajo();
+	}
+
+	protected int mayorNumeroDeProyecto() {
+		return Math.max(repositorio.mayorNumeroDeProyecto(), finalizados == null ? -1 : finalizados.mayorNumero());
 	}
 
 //	private void asignarTareas(int idProyecto) {
@@ -71,143 +248,277 @@ public class HomeSolution implements IHomeSolution {
 
 	@Override
 	public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
-		Proyecto proyecto = proyectos.get(numero);
-		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
+		guardarJuntos(() -> {
+			Proyecto proyecto = obtenerProyectoParaCambiar(numero);
+			if (proyecto == null)
+				throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
 
-		Empleado empleadoNoAsignado = obtenerEmpleadoNoAsignado();
+			Empleado empleadoNoAsignado = obtenerEmpleadoNoAsignado();
 
-		if (empleadoNoAsignado == null)
-			throw new RuntimeException("No hay empleados disponibles.");
+			if (empleadoNoAsignado == null)
+				throw new RuntimeException("No hay empleados disponibles.");
 
-		proyecto.asignarResponsableEnTarea(titulo, empleadoNoAsignado);
+			proyecto.asignarResponsableEnTarea(titulo, empleadoNoAsignado);
 
-		int legajoEmpleado = empleadoNoAsignado.obtenerLegajo();
+			int legajoEmpleado = empleadoNoAsignado.obtenerLegajo();
 
-		removerEmpleadoDeRegistroDeNoAsignados(legajoEmpleado);
+			removerEmpleadoDeRegistroDeNoAsignados(legajoEmpleado);
+			guardar(proyecto);
+		});
 	}
 
-	private Empleado obtenerEmpleadoNoAsignado() {
-		List<Empleado> empleados = new ArrayList<>(this.empleados.values());
+	/**
+	 * Asigna a la tarea un empleado determinado, que tiene que estar libre.
+	 */
+	protected void asignarEmpleadoEnTarea(Integer numero, String titulo, Integer legajo) {
+		guardarJuntosSinExcepciones(() -> {
+			Proyecto proyecto = obtenerProyectoParaCambiar(numero);
+			if (proyecto == null)
+				throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
 
-		for (Empleado empleado : empleados) {
-			if (!empleado.estaAsignado())
-				return empleado;
-		}
+			Empleado empleado = empleados.obtener(legajo);
+
+			if (empleado == null)
+				throw new IllegalArgumentException("No existe ningún empleado con legajo " + legajo);
+			if (empleado.estaAsignado())
+				throw new IllegalArgumentException(
+						"El empleado que se desea asignar ya se encontraba asignado a una tarea.");
+
+			proyecto.asignarResponsableEnTarea(titulo, empleado);
 
-		return null;
+			removerEmpleadoDeRegistroDeNoAsignados(legajo);
+			guardar(proyecto);
+		});
 	}
 
-	private void removerEmpleadoDeRegistroDeNoAsignados(int legajoEmpleado) {
-		Empleado empleado = empleados.get(legajoEmpleado);
+	private Empleado obtenerEmpleadoNoAsignado() {
+		return empleados.obtenerNoAsignado();
+	}
 
-		empleadosNoAsignados.remove(empleado);
+	private void removerEmpleadoDeRegistroDeNoAsignados(int legajoEmpleado) {
+		empleados.marcarComoAsignado(legajoEmpleado);
 	}
 
 	@Override
 	public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
-		Proyecto proyecto = proyectos.get(numero);
+		guardarJuntos(() -> {
+			Proyecto proyecto = obtenerProyectoParaCambiar(numero);
+			if (proyecto == null)
+				throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
 
-		Empleado empleadoNoAsignado = obtenerEmpleadoConMenosRetrasos();
+			Empleado empleadoNoAsignado = obtenerEmpleadoConMenosRetrasos();
 
-		if (empleadoNoAsignado == null)
-			throw new RuntimeException("No hay empleados disponibles.");
+			if (empleadoNoAsignado == null)
+				throw new RuntimeException("No hay empleados disponibles.");
 
-		proyecto.asignarResponsableEnTarea(titulo, empleadoNoAsignado);
+			proyecto.asignarResponsableEnTarea(titulo, empleadoNoAsignado);
+
+			int legajoEmpleado = empleadoNoAsignado.obtenerLegajo();
+
+			removerEmpleadoDeRegistroDeNoAsignados(legajoEmpleado);
+			guardar(proyecto);
+		});
 	}
 
 	private Empleado obtenerEmpleadoConMenosRetrasos() {
-		return empleadosNoAsignados.poll();
+		return empleados.obtenerConMenosRetrasos(); // Se lo saca del registro recién cuando la asignación tuvo éxito.
 	}
 
 	@Override
 	public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias)
 			throws IllegalArgumentException {
-		if (cantidadDias <= 0)
-			throw new IllegalArgumentException("La cantidad de das no puede ser menor o igual a 0.");
+		guardarJuntosSinExcepciones(() -> {
+			if (cantidadDias <= 0)
+				throw new IllegalArgumentException("La cantidad de días no puede ser menor o igual a 0.");
 
-		Proyecto proyecto = proyectos.get(numero);
-		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
+			Proyecto proyecto = obtenerProyectoParaCambiar(numero);
+			if (proyecto == null)
+				throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+
+			proyecto.registrarRetraso(titulo, cantidadDias);
+
+			Empleado empleado = proyecto.obtenerTarea(titulo).obtenerEmpleado();
+
+			empleados.actualizarPrioridad(empleado);
+
+			guardar(proyecto);
+		});
+	}
 
-		proyecto.registrarRetraso(titulo, cantidadDias);
+	/**
+	 * Vuelve a guardar un proyecto que cambió: en el repositorio o, si está
+	 * finalizado y se archivan los finalizados, en el archivo de finalizados. Lo
+	 * escrito en ese archivo no se puede descartar, así que dentro de una unidad
+	 * de trabajo se archiva recién cuando la operación terminó bien.
+	 */
+	private void guardar(Proyecto proyecto) {
+		if (finalizados == null || !proyecto.estaFinalizado())
+			repositorio.guardarProyecto(proyecto);
+		else if (operacionesEnCurso > 0)
+			porArchivar.add(proyecto);
+		else
+			archivar(proyecto);
+	}
+
+	/**
+	 * Corre una operación que guarda más de un empleado o proyecto dentro de una
+	 * unidad de trabajo del repositorio, así que se escribe todo junto. Si la
+	 * operación o la escritura fallan, no se escribe nada de lo que guardó y la
+	 * memoria vuelve al estado anterior con el respaldo de la unidad.
+	 */
+	private void guardarJuntos(Operacion operacion) throws Exception {
+		boolean abreLaUnidad = (operacionesEnCurso++ == 0);
+		boolean terminada = false;
+
+		try {
+			if (abreLaUnidad) {
+				respaldo = new Respaldo(empleados, proyectosPorEstado);
+				empleados.anotarCambiosEn(respaldo);
+				repositorio.iniciarCambios();
+			}
+
+			operacion.ejecutar();
+
+			if (abreLaUnidad) {
+				for (Proyecto proyecto : porArchivar)
+					archivar(proyecto);
+
+				repositorio.terminarCambios();
+				terminada = true;
+			}
+		} finally {
+			operacionesEnCurso--;
+
+			if (abreLaUnidad) {
+				porArchivar.clear();
+				empleados.anotarCambiosEn(null);
+
+				if (!terminada) {
+					repositorio.descartarCambios();
+					respaldo.restaurar();
+				}
+
+				respaldo = null;
+			}
+		}
+	}
+
+	/**
+	 * Busca un proyecto que la operación en curso va a cambiar y lo copia en el
+	 * respaldo de la unidad de trabajo. Las operaciones validan antes de cambiar
+	 * algo, así que la copia sólo hace falta si lo que falla es guardar: si el
+	 * repositorio no puede fallar y no se archivan los finalizados, no se copia.
+	 */
+	private Proyecto obtenerProyectoParaCambiar(Integer numero) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		if (proyecto != null && (finalizados != null || repositorio.puedeFallar()))
+			respaldo.copiar(proyecto);
+
+		return proyecto;
+	}
+
+	private void guardarJuntosSinExcepciones(Operacion operacion) {
+		try {
+			guardarJuntos(operacion);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			// Las operaciones que usan este método no lanzan excepciones verificadas.
+			throw new IllegalStateException(e);
+		}
 	}
 
 	@Override
 	public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
 			throws IllegalArgumentException {
-		Proyecto proyecto = proyectos.get(numero);
+		guardarJuntosSinExcepciones(() -> {
+			Proyecto proyecto = obtenerProyectoParaCambiar(numero);
 
-		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
-		if (estaFinalizado(proyecto))
-			throw new IllegalArgumentException("El proyecto ya est finalizado.");
+			if (proyecto == null)
+				throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+			if (estaFinalizado(proyecto))
+				throw new IllegalArgumentException("El proyecto ya está finalizado.");
 
-		proyecto.agregarTarea(titulo, descripcion, dias);
+			proyecto.agregarTarea(titulo, descripcion, dias);
+			guardar(proyecto);
+		});
 	}
 
 	@Override
 	public void finalizarTarea(Integer numero, String titulo) throws Exception {
-		Proyecto proyecto = proyectos.get(numero);
+		guardarJuntos(() -> {
+			Proyecto proyecto = obtenerProyectoParaCambiar(numero);
 
-		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
-		if (estaFinalizado(proyecto))
-			throw new IllegalArgumentException("El proyecto ya est finalizado.");
+			if (proyecto == null)
+				throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+			if (estaFinalizado(proyecto))
+				throw new IllegalArgumentException("El proyecto ya está finalizado.");
 
-		proyecto.finalizarTarea(titulo);
+			proyecto.finalizarTarea(titulo);
 
-		Empleado empleado = proyecto.obtenerTarea(titulo).obtenerEmpleado();
+			Empleado empleado = proyecto.obtenerTarea(titulo).obtenerEmpleado();
 
-		liberarEmpleado(empleado);
+			liberarEmpleado(empleado);
+			guardar(proyecto);
+		});
 	}
 
 	private void liberarEmpleado(Empleado empleado) {
-		empleadosNoAsignados.add(empleado);
-		empleado.liberar();
+		empleados.liberar(empleado);
 	}
 
 	@Override
 	public void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException {
-		Proyecto proyecto = proyectos.get(numero);
+		guardarJuntosSinExcepciones(() -> {
+			Proyecto proyecto = obtenerProyectoParaCambiar(numero);
 
-		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
-		if (estaFinalizado(proyecto))
-			throw new IllegalArgumentException("El proyecto ya est finalizado.");
+			if (proyecto == null)
+				throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+			if (estaFinalizado(proyecto))
+				throw new IllegalArgumentException("El proyecto ya está finalizado.");
+
+			List<Empleado> empleadosLiberados = proyecto.finalizarProyecto(fin);
 
-		List<Empleado> empleadosLiberados = proyecto.finalizarProyecto(fin);
+			for (Empleado empleado : empleadosLiberados)
+				empleados.marcarComoNoAsignado(empleado);
 
-		empleadosNoAsignados.addAll(empleadosLiberados);
+			guardar(proyecto);
+		});
 	}
 
 	@Override
 	public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
-		if (!hayEmpleadosDisponibles())
-			throw new IllegalArgumentException("No hay empleados disponibles.");
+		guardarJuntos(() -> {
+			if (!hayEmpleadosDisponibles())
+				throw new IllegalArgumentException("No hay empleados disponibles.");
 
-		Proyecto proyecto = proyectos.get(numero);
+			Proyecto proyecto = obtenerProyectoParaCambiar(numero);
 
-		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
-		if (estaFinalizado(proyecto))
-			throw new IllegalArgumentException("El proyecto ya est finalizado.");
+			if (proyecto == null)
+				throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+			if (estaFinalizado(proyecto))
+				throw new IllegalArgumentException("El proyecto ya está finalizado.");
 
-		Empleado empleado = empleados.get(legajo);
+			Empleado empleado = empleados.obtener(legajo);
 
-		if (empleado == null)
-			throw new IllegalArgumentException("No existe ningn empleado con legajo " + legajo);
-		if (empleado.estaAsignado())
-			throw new IllegalArgumentException(
-					"El empleado que se desea asignar ya se encontraba asignado a una tarea.");
+			if (empleado == null)
+				throw new IllegalArgumentException("No existe ningún empleado con legajo " + legajo);
+			if (empleado.estaAsignado())
+				throw new IllegalArgumentException(
+						"El empleado que se desea asignar ya se encontraba asignado a una tarea.");
 
-		Empleado empleadoAnterior = proyecto.reasignarEmpleado(titulo, empleado);
+			Empleado empleadoAnterior = proyecto.reasignarEmpleado(titulo, empleado);
 
-		liberarEmpleado(empleadoAnterior);
+			removerEmpleadoDeRegistroDeNoAsignados(legajo);
+
+			liberarEmpleado(empleadoAnterior);
+			guardar(proyecto);
+		});
 	}
 
 	private boolean hayEmpleadosDisponibles() {
-		return !empleadosNoAsignados.isEmpty();
+		return empleados.hayNoAsignados();
 	}
 
 	@Override
@@ -221,12 +532,94 @@ public class HomeSolution implements IHomeSolution {
 		reasignarEmpleadoEnProyecto(numero, legajo, titulo);
 	}
 
+	@Override
+	public void aplicarLote(List<Comando> comandos) throws IllegalArgumentException {
+		aplicarLote(comandos, null);
+	}
+
+	/**
+	 * @param aplicado Si no es null, se llama después de aplicar cada comando, con
+	 *                 el proyecto sobre el que operó.
+	 */
+	protected void aplicarLote(List<Comando> comandos, BiConsumer<Comando, Proyecto> aplicado)
+			throws IllegalArgumentException {
+		guardarJuntosSinExcepciones(
+				() -> new Lote(empleados, respaldo).aplicar(comandos, this::obtenerProyecto, aplicado, this::guardar));
+	}
+
+	/**
+	 * Registra todas las altas en una sola unidad de trabajo, así que el
+	 * repositorio las escribe juntas. Si la unidad falla no queda ninguna, y se
+	 * vuelven a registrar de a una para saber cuáles no se pueden guardar.
+	 */
+	@Override
+	public String[] registrarAltas(List<Alta> altas) {
+		if (altas == null)
+			throw new IllegalArgumentException("La lista de altas no puede ser nula.");
+
+		String[] rechazos = new String[altas.size()];
+		reservarCapacidad(altas);
+
+		try {
+			guardarJuntosSinExcepciones(() -> {
+				for (Alta alta : altas)
+					registrarAlta(alta, numerosDeProyecto, legajos);
+			});
+		} catch (RuntimeException e) {
+			for (int i = 0; i < altas.size(); i++) {
+				try {
+					registrarAlta(altas.get(i), numerosDeProyecto, legajos);
+				} catch (RuntimeException rechazo) {
+					rechazos[i] = Alta.motivo(rechazo);
+				}
+			}
+		}
+
+		return rechazos;
+	}
+
+	/**
+	 * Registra el alta con el siguiente número o legajo de los generadores
+	 * indicados, que pueden ser los de quien envuelve a este HomeSolution.
+	 *
+	 * @return El legajo o número que recibió.
+	 */
+	protected int registrarAlta(Alta alta, GeneradorDeIds numerosDeProyecto, GeneradorDeIds legajos) {
+		if (alta.esEmpleado()) {
+			Empleado empleado = legajos.crear(alta::crearEmpleado);
+			registrarEmpleado(empleado);
+
+			return empleado.obtenerLegajo();
+		}
+
+		Proyecto proyecto = numerosDeProyecto.crear(alta::crearProyecto);
+		registrarProyecto(proyecto);
+
+		return proyecto.obtenerId();
+	}
+
+	private void reservarCapacidad(List<Alta> altas) {
+		int empleadosNuevos = 0;
+
+		for (Alta alta : altas) {
+			if (alta != null && alta.esEmpleado())
+				empleadosNuevos++;
+		}
+
+		reservarCapacidad(empleadosNuevos, altas.size() - empleadosNuevos);
+	}
+
 	@Override
 	public double costoProyecto(Integer numero) {
-		Proyecto proyecto = proyectos.get(numero);
+		ResumenDeProyecto resumen = obtenerResumen(numero);
+
+		if (resumen != null)
+			return resumen.obtenerCosto();
+
+		Proyecto proyecto = obtenerProyecto(numero);
 
 		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
 
 		return proyecto.costoProyecto();
 	}
@@ -252,81 +645,77 @@ public class HomeSolution implements IHomeSolution {
 //	}
 	@Override
 	public List<Tupla<Integer, String>> proyectosFinalizados() {
-		Iterator<Proyecto> it = this.proyectos.values().iterator();
-
 		List<Tupla<Integer, String>> proyectosFinalizados = new ArrayList<>();
 
-		while (it.hasNext()) {
-			Proyecto proyecto = it.next();
-
-			if (estaFinalizado(proyecto)) {
-				int idProyecto = proyecto.obtenerId();
-				String domicilio = proyecto.obtenerDomicilio();
-
-				Tupla<Integer, String> proyectoFinalizado = new Tupla<Integer, String>(idProyecto, domicilio);
-
-				proyectosFinalizados.add(proyectoFinalizado);
-			}
-		}
+		recorrerProyectosFinalizados(
+				(idProyecto, domicilio) -> proyectosFinalizados.add(new Tupla<Integer, String>(idProyecto, domicilio)));
 
 		return proyectosFinalizados;
 	}
 
 	@Override
-	public List<Tupla<Integer, String>> proyectosPendientes() {
-		Iterator<Proyecto> it = this.proyectos.values().iterator();
+	public void recorrerProyectosFinalizados(VisitanteDeProyectos visitante) {
+		recorrerProyectos(Estado.FINALIZADO, visitante);
+	}
 
+	@Override
+	public List<Tupla<Integer, String>> proyectosPendientes() {
 		List<Tupla<Integer, String>> proyectosPendientes = new ArrayList<>();
 
-		while (it.hasNext()) {
-			Proyecto proyecto = it.next();
-
-			if (proyecto.estaPendiente()) {
-				int idProyecto = proyecto.obtenerId();
-				String domicilio = proyecto.obtenerDomicilio();
-
-				Tupla<Integer, String> proyectoPendiente = new Tupla<Integer, String>(idProyecto, domicilio);
-
-				proyectosPendientes.add(proyectoPendiente);
-			}
-		}
+		recorrerProyectosPendientes(
+				(idProyecto, domicilio) -> proyectosPendientes.add(new Tupla<Integer, String>(idProyecto, domicilio)));
 
 		return proyectosPendientes;
 	}
 
 	@Override
-	public List<Tupla<Integer, String>> proyectosActivos() {
-		Iterator<Proyecto> it = this.proyectos.values().iterator();
+	public void recorrerProyectosPendientes(VisitanteDeProyectos visitante) {
+		recorrerProyectos(Estado.PENDIENTE, visitante);
+	}
 
+	@Override
+	public List<Tupla<Integer, String>> proyectosActivos() {
 		List<Tupla<Integer, String>> proyectosActivos = new ArrayList<>();
 
-		while (it.hasNext()) {
-			Proyecto proyecto = it.next();
+		recorrerProyectosActivos(
+				(idProyecto, domicilio) -> proyectosActivos.add(new Tupla<Integer, String>(idProyecto, domicilio)));
 
-			if (proyecto.estaActivo()) {
-				int idProyecto = proyecto.obtenerId();
-				String domicilio = proyecto.obtenerDomicilio();
+		return proyectosActivos;
+	}
 
-				Tupla<Integer, String> proyectoActivo = new Tupla<Integer, String>(idProyecto, domicilio);
+	@Override
+	public void recorrerProyectosActivos(VisitanteDeProyectos visitante) {
+		recorrerProyectos(Estado.ACTIVO, visitante);
+	}
 
-				proyectosActivos.add(proyectoActivo);
-			}
-		}
+	private void recorrerProyectos(Estado estado, VisitanteDeProyectos visitante) {
+		for (Proyecto proyecto : proyectosPorEstado.obtener(estado))
+			visitante.visitar(proyecto.obtenerId(), proyecto.obtenerDomicilio());
 
-		return proyectosActivos;
+		if (finalizados != null && estado == Estado.FINALIZADO)
+			finalizados.recorrerResumenes(
+					resumen -> visitante.visitar(resumen.obtenerNumero(), resumen.obtenerDomicilio()));
 	}
 
 	@Override
 	public Object[] empleadosNoAsignados() {
-		return empleadosNoAsignados.toArray();
+		return empleados.noAsignados();
+	}
+
+	@Override
+	public void recorrerEmpleadosNoAsignados(VisitanteDeEmpleados visitante) {
+		empleados.recorrerNoAsignados(visitante);
 	}
 
 	@Override
 	public boolean estaFinalizado(Integer numero) {
-		Proyecto proyecto = proyectos.get(numero);
+		if (obtenerResumen(numero) != null)
+			return true;
+
+		Proyecto proyecto = obtenerProyecto(numero);
 
 		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
 
 		return proyecto.estaFinalizado();
 	}
@@ -340,56 +729,97 @@ public class HomeSolution implements IHomeSolution {
 
 	@Override
 	public int consultarCantidadRetrasosEmpleado(Integer legajo) {
-		Empleado empleado = empleados.get(legajo);
+		Empleado empleado = empleados.obtener(legajo);
 
 		if (empleado == null)
-			throw new IllegalArgumentException("No existe ningn empleado con legajo " + legajo);
+			throw new IllegalArgumentException("No existe ningún empleado con legajo " + legajo);
 
 		return empleado.obtenerCantidadDeRetrasos();
 	}
 
 	@Override
 	public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
-		Proyecto proyecto = proyectos.get(numero);
+		Proyecto proyecto = obtenerProyecto(numero);
 
 		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+
+		List<Tupla<Integer, String>> empleadosAsignados = new ArrayList<>();
 
-		List<Tupla<Integer, String>> empleadosAsignados = proyecto.empleadosAsignados();
+		proyecto.recorrerEmpleadosAsignados(
+				(legajo, nombre) -> empleadosAsignados.add(new Tupla<Integer, String>(legajo, nombre)));
 
 		return empleadosAsignados;
 	}
 
+	@Override
+	public void recorrerEmpleadosAsignadosAProyecto(Integer numero, VisitanteDeEmpleados visitante)
+			throws IllegalArgumentException {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		if (proyecto == null)
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+
+		proyecto.recorrerEmpleadosAsignados(visitante);
+	}
+
 	@Override
 	public Object[] tareasProyectoNoAsignadas(Integer numero) {
-		Proyecto proyecto = proyectos.get(numero);
+		Proyecto proyecto = obtenerProyecto(numero);
 
 		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
 
 		Object[] tareasProyectoNoAsignadas = proyecto.tareasProyectoNoAsignadas();
 
 		return tareasProyectoNoAsignadas;
 	}
 
+	@Override
+	public void recorrerTareasProyectoNoAsignadas(Integer numero, VisitanteDeTareas visitante)
+			throws IllegalArgumentException {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		if (proyecto == null)
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+
+		proyecto.recorrerTareasNoAsignadas(visitante);
+	}
+
 	@Override
 	public Object[] tareasDeUnProyecto(Integer numero) {
-		Proyecto proyecto = proyectos.get(numero);
+		Proyecto proyecto = obtenerProyecto(numero);
 
 		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
 
 		Object[] tareasDeUnProyecto = proyecto.tareasDeUnProyecto();
 
 		return tareasDeUnProyecto;
 	}
 
+	@Override
+	public void recorrerTareasDeUnProyecto(Integer numero, VisitanteDeTareas visitante)
+			throws IllegalArgumentException {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		if (proyecto == null)
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+
+		proyecto.recorrerTareas(visitante);
+	}
+
 	@Override
 	public String consultarDomicilioProyecto(Integer numero) {
-		Proyecto proyecto = proyectos.get(numero);
+		ResumenDeProyecto resumen = obtenerResumen(numero);
+
+		if (resumen != null)
+			return resumen.obtenerDomicilio();
+
+		Proyecto proyecto = obtenerProyecto(numero);
 
 		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
 
 		return proyecto.obtenerDomicilio();
 	}
@@ -403,32 +833,190 @@ public class HomeSolution implements IHomeSolution {
 
 	@Override
 	public List<Tupla<Integer, String>> empleados() {
-		List<Empleado> empleados = new ArrayList<>(this.empleados.values());
-
-		List<Tupla<Integer, String>> datosEmpleados = new ArrayList<>();
-
-		for (Empleado empleado : empleados) {
-			int legajo = empleado.obtenerLegajo();
-			String nombre = empleado.obtenerNombre();
+		List<Tupla<Integer, String>> datosEmpleados = new ArrayList<>(empleados.tamanio());
 
-			Tupla<Integer, String> datosEmpleado = new Tupla<>(legajo, nombre);
-
-			datosEmpleados.add(datosEmpleado);
-		}
+		recorrerEmpleados((legajo, nombre) -> datosEmpleados.add(new Tupla<>(legajo, nombre)));
 
 		return datosEmpleados;
 	}
 
+	@Override
+	public void recorrerEmpleados(VisitanteDeEmpleados visitante) {
+		empleados.recorrer(visitante);
+	}
+
 	@Override
 	public String consultarProyecto(Integer numero) {
-		Proyecto proyecto = proyectos.get(numero);
+		Proyecto proyecto = obtenerProyecto(numero);
 
 		if (proyecto == null)
-			throw new IllegalArgumentException("No existe ningn proyecto con cdigo " + numero);
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
 
 		return proyecto.toString();
 	}
 
+	@Override
+	public Pagina<Tupla<Integer, String>> proyectosPendientes(int desplazamiento, int limite) {
+		return paginarProyectos(Estado.PENDIENTE,
+				ArmadorDePagina.porDesplazamiento(desplazamiento, limite, HomeSolution::datosDeProyecto));
+	}
+
+	@Override
+	public Pagina<Tupla<Integer, String>> proyectosPendientes(String cursor, int limite) {
+		return paginarProyectos(Estado.PENDIENTE,
+				ArmadorDePagina.porCursor(cursor, limite, HomeSolution::datosDeProyecto));
+	}
+
+	@Override
+	public Pagina<Tupla<Integer, String>> proyectosActivos(int desplazamiento, int limite) {
+		return paginarProyectos(Estado.ACTIVO,
+				ArmadorDePagina.porDesplazamiento(desplazamiento, limite, HomeSolution::datosDeProyecto));
+	}
+
+	@Override
+	public Pagina<Tupla<Integer, String>> proyectosActivos(String cursor, int limite) {
+		return paginarProyectos(Estado.ACTIVO,
+				ArmadorDePagina.porCursor(cursor, limite, HomeSolution::datosDeProyecto));
+	}
+
+	@Override
+	public Pagina<Tupla<Integer, String>> proyectosFinalizados(int desplazamiento, int limite) {
+		if (finalizados != null)
+			return paginarArchivados(
+					ArmadorDePagina.porDesplazamiento(desplazamiento, limite, HomeSolution::datosDeResumen));
+
+		return paginarProyectos(Estado.FINALIZADO,
+				ArmadorDePagina.porDesplazamiento(desplazamiento, limite, HomeSolution::datosDeProyecto));
+	}
+
+	@Override
+	public Pagina<Tupla<Integer, String>> proyectosFinalizados(String cursor, int limite) {
+		if (finalizados != null)
+			return paginarArchivados(ArmadorDePagina.porCursor(cursor, limite, HomeSolution::datosDeResumen));
+
+		return paginarProyectos(Estado.FINALIZADO,
+				ArmadorDePagina.porCursor(cursor, limite, HomeSolution::datosDeProyecto));
+	}
+
+	private Pagina<Tupla<Integer, String>> paginarProyectos(Estado estado,
+			ArmadorDePagina<Proyecto, Tupla<Integer, String>> armador) {
+		proyectosPorEstado.paginar(estado, armador);
+
+		return armador.armar();
+	}
+
+	private static Tupla<Integer, String> datosDeProyecto(Proyecto proyecto) {
+		return new Tupla<Integer, String>(proyecto.obtenerId(), proyecto.obtenerDomicilio());
+	}
+
+	private Pagina<Tupla<Integer, String>> paginarArchivados(
+			ArmadorDePagina<ResumenDeProyecto, Tupla<Integer, String>> armador) {
+		finalizados.paginar(armador);
+
+		return armador.armar();
+	}
+
+	private static Tupla<Integer, String> datosDeResumen(ResumenDeProyecto resumen) {
+		return new Tupla<Integer, String>(resumen.obtenerNumero(), resumen.obtenerDomicilio());
+	}
+
+	@Override
+	public Pagina<Tupla<Integer, String>> empleados(int desplazamiento, int limite) {
+		return paginarEmpleados(
+				ArmadorDePagina.porDesplazamiento(desplazamiento, limite, HomeSolution::datosDeEmpleado));
+	}
+
+	@Override
+	public Pagina<Tupla<Integer, String>> empleados(String cursor, int limite) {
+		return paginarEmpleados(ArmadorDePagina.porCursor(cursor, limite, HomeSolution::datosDeEmpleado));
+	}
+
+	private Pagina<Tupla<Integer, String>> paginarEmpleados(ArmadorDePagina<Empleado, Tupla<Integer, String>> armador) {
+		empleados.paginar(armador);
+
+		return armador.armar();
+	}
+
+	private static Tupla<Integer, String> datosDeEmpleado(Empleado empleado) {
+		return new Tupla<Integer, String>(empleado.obtenerLegajo(), empleado.obtenerNombre());
+	}
+
+	@Override
+	public Pagina<Object> empleadosNoAsignados(int desplazamiento, int limite) {
+		return paginarEmpleadosNoAsignados(
+				ArmadorDePagina.porDesplazamiento(desplazamiento, limite, empleado -> empleado));
+	}
+
+	@Override
+	public Pagina<Object> empleadosNoAsignados(String cursor, int limite) {
+		return paginarEmpleadosNoAsignados(ArmadorDePagina.porCursor(cursor, limite, empleado -> empleado));
+	}
+
+	private Pagina<Object> paginarEmpleadosNoAsignados(ArmadorDePagina<Empleado, Object> armador) {
+		empleados.paginarNoAsignados(armador);
+
+		return armador.armar();
+	}
+
+	@Override
+	public Pagina<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero, int desplazamiento, int limite) {
+		return paginarEmpleadosAsignados(numero,
+				ArmadorDePagina.porDesplazamiento(desplazamiento, limite, HomeSolution::datosDeEmpleado));
+	}
+
+	@Override
+	public Pagina<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero, String cursor, int limite) {
+		return paginarEmpleadosAsignados(numero,
+				ArmadorDePagina.porCursor(cursor, limite, HomeSolution::datosDeEmpleado));
+	}
+
+	private Pagina<Tupla<Integer, String>> paginarEmpleadosAsignados(Integer numero,
+			ArmadorDePagina<Empleado, Tupla<Integer, String>> armador) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		if (proyecto == null)
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+
+		proyecto.paginarEmpleadosAsignados(armador);
+
+		return armador.armar();
+	}
+
+	@Override
+	public Pagina<Object> tareasProyectoNoAsignadas(Integer numero, int desplazamiento, int limite) {
+		return paginarTareas(numero, true, ArmadorDePagina.porDesplazamiento(desplazamiento, limite, tarea -> tarea));
+	}
+
+	@Override
+	public Pagina<Object> tareasProyectoNoAsignadas(Integer numero, String cursor, int limite) {
+		return paginarTareas(numero, true, ArmadorDePagina.porCursor(cursor, limite, tarea -> tarea));
+	}
+
+	@Override
+	public Pagina<Object> tareasDeUnProyecto(Integer numero, int desplazamiento, int limite) {
+		return paginarTareas(numero, false, ArmadorDePagina.porDesplazamiento(desplazamiento, limite, tarea -> tarea));
+	}
+
+	@Override
+	public Pagina<Object> tareasDeUnProyecto(Integer numero, String cursor, int limite) {
+		return paginarTareas(numero, false, ArmadorDePagina.porCursor(cursor, limite, tarea -> tarea));
+	}
+
+	private Pagina<Object> paginarTareas(Integer numero, boolean soloNoAsignadas,
+			ArmadorDePagina<Tarea, Object> armador) {
+		Proyecto proyecto = obtenerProyecto(numero);
+
+		if (proyecto == null)
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+
+		if (soloNoAsignadas)
+			proyecto.paginarTareasNoAsignadas(armador);
+		else
+			proyecto.paginarTareas(armador);
+
+		return armador.armar();
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder infoEmpresa = new StringBuilder();
@@ -436,7 +1024,7 @@ public class HomeSolution implements IHomeSolution {
 		infoEmpresa.append("Empresa de servicios de mantenimiento 'HomeSolution'.\n");
 		infoEmpresa.append("Proyectos: \n");
 		infoEmpresa.append(armarLineasDeProyectos());
-//		infoEmpresa.append("Nuestros especialistas son: \n"); // Decidimos no imprimir estos, pues en los tests se espera que el toString de Empleado devuelva slo su legajo y no tiene sentido mostrar ac legajos sin nombres.
+//		infoEmpresa.append("Nuestros especialistas son: \n"); // Decidimos no imprimir estos, pues en los tests se espera que el toString de Empleado devuelva sólo su legajo y no tiene sentido mostrar acá legajos sin nombres.
 //		infoEmpresa.append(armarLineasDeEmpleados());
 
 		String homeSolution = infoEmpresa.toString();
@@ -446,9 +1034,16 @@ public class HomeSolution implements IHomeSolution {
 
 	private String armarLineasDeProyectos() {
 		StringBuilder infoProyectos = new StringBuilder();
-		ArrayList<Proyecto> proyectos = new ArrayList<>(this.proyectos.values());
+		int mayorNumero = mayorNumeroDeProyecto();
+
+		for (int numero = 0; numero <= mayorNumero; numero++) {
+			Proyecto proyecto = repositorio.obtenerProyecto(numero);
+
+			if (proyecto == null && finalizados != null)
+				proyecto = finalizados.leer(numero); // Sin pasar por el caché.
+			if (proyecto == null)
+				continue;
 
-		for (Proyecto proyecto : proyectos) {
 			infoProyectos.append("	");
 			infoProyectos.append(proyecto);
 			infoProyectos.append("\n");
@@ -459,6 +1054,11 @@ public class HomeSolution implements IHomeSolution {
 		return lineasDeProyectos;
 	}
 
+	@FunctionalInterface
+	private interface Operacion {
+		void ejecutar() throws Exception;
+	}
+
 //	private String armarLineasDeEmpleados() {
 //		StringBuilder infoEmpleados = new StringBuilder();
 //		ArrayList<Empleado> empleados = new ArrayList<>(this.empleados.values());
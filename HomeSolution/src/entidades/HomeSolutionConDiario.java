@@ -0,0 +1,593 @@
+package entidades;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * HomeSolution que registra cada operación que modifica el estado en un Diario,
+ * y que al crearse reconstruye el estado a partir de ese diario.
+ *
+ * Las operaciones se aplican sobre el modelo en memoria y, si tuvieron éxito, se
+ * agregan al diario dentro del mismo bloqueo; así el orden del diario es el
+ * orden en que se aplicaron. Una operación que falla no cambia el modelo
+ * (Proyecto valida todo antes de modificarse), así que no se registra. La
+ * espera a que el registro llegue a disco se hace fuera del bloqueo, de modo
+ * que las operaciones de varios hilos comparten un mismo force(). Una operación
+ * sólo vuelve cuando su registro está en disco.
+ *
+ * Si la escritura del diario falla, el diario se trunca en lo último que llegó a
+ * disco y el modelo se reconstruye a partir de él: se descartan la operación
+ * cuyo registro falló y todas las aplicadas después, y sus hilos reciben el
+ * error. Hasta ese momento otros hilos pueden haber consultado esos cambios.
+ *
+ * Las altas guardan el número o legajo asignado. El resto de las operaciones
+ * se vuelven a ejecutar tal cual: aplicadas en el mismo orden sobre el mismo
+ * estado, eligen a los mismos empleados.
+ */
+public class HomeSolutionConDiario implements IHomeSolution {
+	private static final byte empleadoContratado = 1;
+	private static final byte empleadoDePlanta = 2;
+	private static final byte proyecto = 3;
+	private static final byte asignacion = 4;
+	private static final byte asignacionMenosRetraso = 5;
+	private static final byte retraso = 6;
+	private static final byte tareaAgregada = 7;
+	private static final byte tareaFinalizada = 8;
+	private static final byte proyectoFinalizado = 9;
+	private static final byte reasignacion = 10;
+	private static final byte reasignacionMenosRetraso = 11;
+	private static final byte lote = 12;
+	private static final byte altasRegistradas = 13;
+
+	private final Object candado = new Object();
+	private final Path archivo;
+
+	private HomeSolution homeSolution;
+	private GeneradorDeIds numerosDeProyecto;
+	private GeneradorDeIds legajos;
+	private Diario diario;
+	private boolean averiado; // Falló el diario y no se pudo volver a lo que está en disco.
+
+	public HomeSolutionConDiario(Path archivo) throws IOException {
+		this.archivo = archivo;
+
+		abrir();
+	}
+
+	/**
+	 * Reconstruye el modelo a partir del diario.
+	 */
+	private void abrir() throws IOException {
+		numerosDeProyecto = new GeneradorDeIds();
+		legajos = new GeneradorDeIds();
+		homeSolution = new HomeSolution(numerosDeProyecto, legajos);
+
+		diario = new Diario(archivo);
+		diario.recorrer(this::aplicar);
+	}
+
+	private void aplicar(DataInputStream registro) throws IOException {
+		byte tipo = registro.readByte();
+
+		try {
+			switch (tipo) {
+			case empleadoContratado:
+				homeSolution.registrarEmpleado(
+						new EmpleadoContratado(registro.readInt(), leerTexto(registro), registro.readDouble()));
+				break;
+			case empleadoDePlanta:
+				homeSolution.registrarEmpleado(new EmpleadoDePlanta(registro.readInt(), leerTexto(registro),
+						registro.readDouble(), leerTexto(registro)));
+				break;
+			case proyecto:
+				homeSolution.registrarProyecto(new Proyecto(registro.readInt(), leerTextos(registro),
+						leerTextos(registro), leerDecimales(registro), leerTexto(registro), leerTextos(registro),
+						leerTexto(registro), leerTexto(registro)));
+				break;
+			case asignacion:
+				homeSolution.asignarResponsableEnTarea(registro.readInt(), leerTexto(registro));
+				break;
+			case asignacionMenosRetraso:
+				homeSolution.asignarResponsableMenosRetraso(registro.readInt(), leerTexto(registro));
+				break;
+			case retraso:
+				homeSolution.registrarRetrasoEnTarea(registro.readInt(), leerTexto(registro), registro.readDouble());
+				break;
+			case tareaAgregada:
+				homeSolution.agregarTareaEnProyecto(registro.readInt(), leerTexto(registro), leerTexto(registro),
+						registro.readDouble());
+				break;
+			case tareaFinalizada:
+				homeSolution.finalizarTarea(registro.readInt(), leerTexto(registro));
+				break;
+			case proyectoFinalizado:
+				homeSolution.finalizarProyecto(registro.readInt(), leerTexto(registro));
+				break;
+			case reasignacion:
+				homeSolution.reasignarEmpleadoEnProyecto(registro.readInt(), registro.readInt(), leerTexto(registro));
+				break;
+			case reasignacionMenosRetraso:
+				homeSolution.reasignarEmpleadoConMenosRetraso(registro.readInt(), leerTexto(registro));
+				break;
+			case lote:
+				Comando[] comandos = new Comando[registro.readInt()];
+				for (int i = 0; i < comandos.length; i++)
+					comandos[i] = Comando.decodificar(registro);
+				homeSolution.aplicarLote(Arrays.asList(comandos));
+				break;
+			case altasRegistradas:
+				int cantidad = registro.readInt();
+				for (int i = 0; i < cantidad; i++)
+					Evento.decodificar(registro).aplicarEn(homeSolution);
+				break;
+			default:
+				throw new IOException("Tipo de registro desconocido en el diario: " + tipo);
+			}
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IOException("El diario no coincide con el estado reconstruido.", e);
+		}
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			Empleado empleado = legajos.crear(legajo -> new EmpleadoContratado(legajo, nombre, valor));
+			homeSolution.registrarEmpleado(empleado);
+
+			return new Registro(empleadoContratado).conEntero(empleado.obtenerLegajo()).conTexto(nombre)
+					.conDecimal(valor);
+		});
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			Empleado empleado = legajos.crear(legajo -> new EmpleadoDePlanta(legajo, nombre, valor, categoria));
+			homeSolution.registrarEmpleado(empleado);
+
+			return new Registro(empleadoDePlanta).conEntero(empleado.obtenerLegajo()).conTexto(nombre)
+					.conDecimal(valor).conTexto(categoria);
+		});
+	}
+
+	@Override
+	public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
+			String[] cliente, String inicio, String fin) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			Proyecto nuevo = numerosDeProyecto.crear(
+					numero -> new Proyecto(numero, titulos, descripcion, dias, domicilio, cliente, inicio, fin));
+			homeSolution.registrarProyecto(nuevo);
+
+			return new Registro(proyecto).conEntero(nuevo.obtenerId()).conTextos(titulos).conTextos(descripcion)
+					.conDecimales(dias).conTexto(domicilio).conTextos(cliente).conTexto(inicio).conTexto(fin);
+		});
+	}
+
+	@Override
+	public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.asignarResponsableEnTarea(numero, titulo);
+
+			return new Registro(asignacion).conEntero(numero).conTexto(titulo);
+		});
+	}
+
+	@Override
+	public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.asignarResponsableMenosRetraso(numero, titulo);
+
+			return new Registro(asignacionMenosRetraso).conEntero(numero).conTexto(titulo);
+		});
+	}
+
+	@Override
+	public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias)
+			throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			homeSolution.registrarRetrasoEnTarea(numero, titulo, cantidadDias);
+
+			return new Registro(retraso).conEntero(numero).conTexto(titulo).conDecimal(cantidadDias);
+		});
+	}
+
+	@Override
+	public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
+			throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			homeSolution.agregarTareaEnProyecto(numero, titulo, descripcion, dias);
+
+			return new Registro(tareaAgregada).conEntero(numero).conTexto(titulo).conTexto(descripcion)
+					.conDecimal(dias);
+		});
+	}
+
+	@Override
+	public void finalizarTarea(Integer numero, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.finalizarTarea(numero, titulo);
+
+			return new Registro(tareaFinalizada).conEntero(numero).conTexto(titulo);
+		});
+	}
+
+	@Override
+	public void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			homeSolution.finalizarProyecto(numero, fin);
+
+			return new Registro(proyectoFinalizado).conEntero(numero).conTexto(fin);
+		});
+	}
+
+	@Override
+	public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.reasignarEmpleadoEnProyecto(numero, legajo, titulo);
+
+			return new Registro(reasignacion).conEntero(numero).conEntero(legajo).conTexto(titulo);
+		});
+	}
+
+	@Override
+	public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.reasignarEmpleadoConMenosRetraso(numero, titulo);
+
+			return new Registro(reasignacionMenosRetraso).conEntero(numero).conTexto(titulo);
+		});
+	}
+
+	/**
+	 * Guarda el lote en un único registro, con sus comandos tal cual: se aplica
+	 * completo o no se aplica.
+	 */
+	@Override
+	public void aplicarLote(List<Comando> comandos) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			homeSolution.aplicarLote(comandos);
+
+			Registro registro = new Registro(lote).conEntero(comandos.size());
+			for (Comando comando : comandos)
+				registro.conBytes(comando.codificar());
+
+			return registro;
+		});
+	}
+
+	/**
+	 * Guarda en un único registro las altas que se pudieron registrar, cada una
+	 * como el evento que la registra, así que todas esperan el mismo force(). Si
+	 * falla el diario no queda ninguna.
+	 */
+	@Override
+	public String[] registrarAltas(List<Alta> altas) {
+		if (altas == null)
+			throw new IllegalArgumentException("La lista de altas no puede ser nula.");
+
+		String[] rechazos = new String[altas.size()];
+
+		try {
+			ejecutarSinExcepciones(() -> {
+				long instante = System.currentTimeMillis();
+				List<byte[]> registradas = new ArrayList<>(altas.size());
+
+				for (int i = 0; i < altas.size(); i++) {
+					try {
+						int id = homeSolution.registrarAlta(altas.get(i), numerosDeProyecto, legajos);
+						registradas.add(altas.get(i).comoEvento(instante, id).codificar());
+					} catch (RuntimeException e) {
+						rechazos[i] = Alta.motivo(e);
+					}
+				}
+
+				Registro registro = new Registro(altasRegistradas).conEntero(registradas.size());
+				for (byte[] evento : registradas)
+					registro.conBytes(evento);
+
+				return registro;
+			});
+		} catch (RuntimeException e) {
+			for (int i = 0; i < rechazos.length; i++) {
+				if (rechazos[i] == null)
+					rechazos[i] = Alta.motivo(e);
+			}
+		}
+
+		return rechazos;
+	}
+
+	private void ejecutar(Operacion operacion) throws Exception {
+		Diario destino;
+		long posicion;
+
+		synchronized (candado) {
+			if (averiado)
+				throw new IllegalStateException("El diario falló y no se pudo reconstruir el estado guardado.");
+
+			Registro registro = operacion.ejecutar();
+
+			destino = diario;
+			try {
+				posicion = diario.agregar(registro.obtenerBytes());
+			} catch (RuntimeException e) {
+				volverALoGuardado(e);
+				throw e;
+			}
+		}
+
+		try {
+			destino.sincronizar(posicion);
+		} catch (IOException e) {
+			synchronized (candado) {
+				if (destino == diario) // Si no, otro hilo ya volvió a lo guardado.
+					volverALoGuardado(e);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Descarta del diario lo que no llegó a disco y reconstruye el modelo a partir
+	 * de lo que quedó. Se llama con el bloqueo tomado. Si no lo logra, la
+	 * instancia queda averiada y todas las operaciones fallan.
+	 */
+	private void volverALoGuardado(Exception causa) {
+		averiado = true;
+
+		try {
+			diario.cerrarDescartandoLoNoSincronizado();
+			abrir();
+			averiado = false;
+		} catch (IOException | RuntimeException e) {
+			causa.addSuppressed(e);
+		}
+	}
+
+	private void ejecutarSinExcepciones(Operacion operacion) {
+		try {
+			ejecutar(operacion);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (Exception e) {
+			// Las operaciones que usan este método no lanzan excepciones verificadas.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Escribe en el diario todo lo pendiente y lo cierra.
+	 */
+	public void cerrar() throws IOException {
+		synchronized (candado) {
+			diario.cerrar();
+		}
+	}
+
+	@Override
+	public double costoProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.costoProyecto(numero);
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosFinalizados() {
+		synchronized (candado) {
+			return homeSolution.proyectosFinalizados();
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosPendientes() {
+		synchronized (candado) {
+			return homeSolution.proyectosPendientes();
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosActivos() {
+		synchronized (candado) {
+			return homeSolution.proyectosActivos();
+		}
+	}
+
+	@Override
+	public Object[] empleadosNoAsignados() {
+		synchronized (candado) {
+			return homeSolution.empleadosNoAsignados();
+		}
+	}
+
+	@Override
+	public boolean estaFinalizado(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.estaFinalizado(numero);
+		}
+	}
+
+	@Override
+	public int consultarCantidadRetrasosEmpleado(Integer legajo) {
+		synchronized (candado) {
+			return homeSolution.consultarCantidadRetrasosEmpleado(legajo);
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.empleadosAsignadosAProyecto(numero);
+		}
+	}
+
+	@Override
+	public Object[] tareasProyectoNoAsignadas(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.tareasProyectoNoAsignadas(numero);
+		}
+	}
+
+	@Override
+	public Object[] tareasDeUnProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.tareasDeUnProyecto(numero);
+		}
+	}
+
+	@Override
+	public String consultarDomicilioProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.consultarDomicilioProyecto(numero);
+		}
+	}
+
+	@Override
+	public boolean tieneRestrasos(Integer legajo) {
+		synchronized (candado) {
+			return homeSolution.tieneRestrasos(legajo);
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleados() {
+		synchronized (candado) {
+			return homeSolution.empleados();
+		}
+	}
+
+	@Override
+	public String consultarProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.consultarProyecto(numero);
+		}
+	}
+
+	@Override
+	public void recorrerProyectos(Estado estado, Consumer<Proyecto> accion) {
+		synchronized (candado) {
+			homeSolution.recorrerProyectos(estado, accion);
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (candado) {
+			return homeSolution.toString();
+		}
+	}
+
+	private static String leerTexto(DataInputStream registro) throws IOException {
+		boolean esNulo = registro.readBoolean();
+
+		return esNulo ? null : registro.readUTF();
+	}
+
+	private static String[] leerTextos(DataInputStream registro) throws IOException {
+		String[] textos = new String[registro.readInt()];
+
+		for (int i = 0; i < textos.length; i++)
+			textos[i] = leerTexto(registro);
+
+		return textos;
+	}
+
+	private static double[] leerDecimales(DataInputStream registro) throws IOException {
+		double[] decimales = new double[registro.readInt()];
+
+		for (int i = 0; i < decimales.length; i++)
+			decimales[i] = registro.readDouble();
+
+		return decimales;
+	}
+
+	@FunctionalInterface
+	private interface Operacion {
+		/**
+		 * Aplica la operación sobre el modelo y devuelve el registro a guardar.
+		 */
+		Registro ejecutar() throws Exception;
+	}
+
+	/**
+	 * Contenido binario de un registro del diario. Escribe sobre un arreglo en
+	 * memoria, así que nunca lanza IOException.
+	 */
+	private static class Registro {
+		private ByteArrayOutputStream bytes;
+		private DataOutputStream salida;
+
+		private Registro(byte tipo) {
+			bytes = new ByteArrayOutputStream(64);
+			salida = new DataOutputStream(bytes);
+
+			escribir(() -> salida.writeByte(tipo));
+		}
+
+		private Registro conEntero(int entero) {
+			escribir(() -> salida.writeInt(entero));
+			return this;
+		}
+
+		private Registro conDecimal(double decimal) {
+			escribir(() -> salida.writeDouble(decimal));
+			return this;
+		}
+
+		private Registro conTexto(String texto) {
+			escribir(() -> {
+				salida.writeBoolean(texto == null);
+				if (texto != null)
+					salida.writeUTF(texto);
+			});
+			return this;
+		}
+
+		private Registro conTextos(String[] textos) {
+			conEntero(textos.length);
+			for (String texto : textos)
+				conTexto(texto);
+			return this;
+		}
+
+		private Registro conBytes(byte[] datos) {
+			escribir(() -> salida.write(datos));
+			return this;
+		}
+
+		private Registro conDecimales(double[] decimales) {
+			conEntero(decimales.length);
+			for (double decimal : decimales)
+				conDecimal(decimal);
+			return this;
+		}
+
+		private byte[] obtenerBytes() {
+			return bytes.toByteArray();
+		}
+
+		private void escribir(Escritura escritura) {
+			try {
+				escritura.escribir();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@FunctionalInterface
+		private interface Escritura {
+			void escribir() throws IOException;
+		}
+	}
+}
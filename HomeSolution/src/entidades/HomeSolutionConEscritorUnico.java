@@ -0,0 +1,411 @@
+package entidades;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Implementación de IHomeSolution que puede usarse desde varios hilos a la vez
+ * sin candados: un único hilo escritor es dueño de un HomeSolution común y es el
+ * único que lo toca.
+ *
+ * Cada operación, incluidas las consultas, se encola en un anillo de ranuras
+ * creadas de antemano y el que la pidió recibe un CompletableFuture. Los
+ * productores reservan una ranura incrementando un contador atómico y la
+ * publican escribiendo su número de secuencia; si el anillo está lleno esperan
+ * a que el escritor libere lugar. El escritor aplica en orden todas las ranuras
+ * publicadas cada vez que despierta y, cuando no hay nada, se duerme hasta que
+ * un productor lo despierte. Las operaciones de un mismo hilo se aplican en el
+ * orden en que las pidió.
+ *
+ * Los métodos de IHomeSolution esperan su resultado; enviar devuelve el futuro
+ * sin esperar, para que un hilo pueda tener varias operaciones en curso.
+ */
+public class HomeSolutionConEscritorUnico implements IHomeSolution {
+	private static final int capacidadPorDefecto = 1024;
+	private static final int vueltasAntesDeDormir = 100;
+
+	private final HomeSolution homeSolution;
+
+	private final Ranura[] ranuras;
+	private final int mascara;
+	private final AtomicLong reservadas; // Siguiente secuencia a reservar.
+	private volatile long aplicadas; // Las secuencias menores ya se aplicaron y sus ranuras están libres.
+
+	private final Thread escritor;
+	private volatile boolean escritorDormido;
+	private volatile boolean cerrado;
+	private boolean detenido; // Sólo lo usa el escritor.
+
+	public HomeSolutionConEscritorUnico() {
+		this(capacidadPorDefecto);
+	}
+
+	/**
+	 * @param capacidad Cantidad de operaciones que pueden esperar en el anillo.
+	 *                  Tiene que ser potencia de 2.
+	 */
+	public HomeSolutionConEscritorUnico(int capacidad) {
+		if (capacidad <= 0 || Integer.bitCount(capacidad) != 1)
+			throw new IllegalArgumentException("La capacidad debe ser una potencia de 2.");
+
+		homeSolution = new HomeSolution();
+
+		ranuras = new Ranura[capacidad];
+		for (int i = 0; i < capacidad; i++)
+			ranuras[i] = new Ranura(i - capacidad);
+		mascara = capacidad - 1;
+		reservadas = new AtomicLong();
+
+		escritor = new Thread(this::escribir, "escritor-homesolution");
+		escritor.setDaemon(true);
+		escritor.start();
+	}
+
+	/**
+	 * Encola un comando sin esperar a que se aplique. El comando se aplica solo,
+	 * todo o nada, como un lote de uno.
+	 */
+	public CompletableFuture<Void> enviar(Comando comando) {
+		return encolar(homeSolution -> {
+			homeSolution.aplicarLote(Collections.singletonList(comando));
+			return null;
+		});
+	}
+
+	private <T> CompletableFuture<T> encolar(Operacion<T> operacion) {
+		if (cerrado)
+			throw new IllegalStateException("El HomeSolution ya se cerró.");
+
+		CompletableFuture<T> resultado = new CompletableFuture<>();
+		long secuencia = reservadas.getAndIncrement();
+
+		while (secuencia - ranuras.length >= aplicadas) // El anillo está lleno.
+			LockSupport.parkNanos(1000);
+
+		Ranura ranura = ranuras[(int) (secuencia & mascara)];
+		ranura.operacion = operacion;
+		ranura.resultado = resultado;
+		ranura.secuencia = secuencia; // Publica la ranura.
+
+		if (escritorDormido)
+			LockSupport.unpark(escritor);
+
+		return resultado;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void escribir() {
+		long siguiente = 0;
+		int vueltasSinTrabajo = 0;
+
+		while (!detenido) {
+			Ranura ranura = ranuras[(int) (siguiente & mascara)];
+
+			if (ranura.secuencia != siguiente) {
+				esperarPublicacion(siguiente, ++vueltasSinTrabajo);
+				continue;
+			}
+			vueltasSinTrabajo = 0;
+
+			do { // Aplica todo lo publicado desde la última vez.
+				aplicar(ranura.operacion, (CompletableFuture<Object>) ranura.resultado);
+				ranura.operacion = null;
+				ranura.resultado = null;
+
+				siguiente++;
+				aplicadas = siguiente;
+				ranura = ranuras[(int) (siguiente & mascara)];
+			} while (!detenido && ranura.secuencia == siguiente);
+		}
+	}
+
+	private void aplicar(Operacion<?> operacion, CompletableFuture<Object> resultado) {
+		try {
+			resultado.complete(operacion.aplicar(homeSolution));
+		} catch (Throwable e) {
+			resultado.completeExceptionally(e);
+		}
+	}
+
+	private void esperarPublicacion(long siguiente, int vueltasSinTrabajo) {
+		if (vueltasSinTrabajo < vueltasAntesDeDormir) {
+			Thread.yield();
+			return;
+		}
+
+		// Un productor publica y después mira escritorDormido; el escritor lo marca y
+		// después vuelve a mirar la ranura. Alguno de los dos ve al otro.
+		escritorDormido = true;
+		if (ranuras[(int) (siguiente & mascara)].secuencia != siguiente)
+			LockSupport.park(this);
+		escritorDormido = false;
+	}
+
+	/**
+	 * Aplica lo que ya estaba encolado y detiene al escritor. Hay que llamarlo
+	 * cuando ningún otro hilo siga usando esta instancia.
+	 */
+	public void cerrar() throws InterruptedException {
+		if (cerrado)
+			return;
+
+		CompletableFuture<Object> detencion = encolar(homeSolution -> {
+			detenido = true;
+			return null;
+		});
+		cerrado = true;
+
+		detencion.join();
+		escritor.join();
+	}
+
+	private static <T> T esperar(CompletableFuture<T> resultado) throws Exception {
+		try {
+			return resultado.get();
+		} catch (ExecutionException e) {
+			Throwable causa = e.getCause();
+
+			if (causa instanceof Exception)
+				throw (Exception) causa;
+			if (causa instanceof Error)
+				throw (Error) causa;
+			throw e;
+		}
+	}
+
+	private <T> T ejecutar(Operacion<T> operacion) throws Exception {
+		return esperar(encolar(operacion));
+	}
+
+	private <T> T ejecutarSinExcepciones(Operacion<T> operacion) {
+		try {
+			return ejecutar(operacion);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Se interrumpió la espera de la operación.", e);
+		} catch (Exception e) {
+			// Las operaciones que usan este método no lanzan excepciones verificadas.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
+		ejecutarSinExcepciones(homeSolution -> {
+			homeSolution.registrarEmpleado(nombre, valor);
+			return null;
+		});
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
+		ejecutarSinExcepciones(homeSolution -> {
+			homeSolution.registrarEmpleado(nombre, valor, categoria);
+			return null;
+		});
+	}
+
+	@Override
+	public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
+			String[] cliente, String inicio, String fin) throws IllegalArgumentException {
+		ejecutarSinExcepciones(homeSolution -> {
+			homeSolution.registrarProyecto(titulos, descripcion, dias, domicilio, cliente, inicio, fin);
+			return null;
+		});
+	}
+
+	@Override
+	public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+		ejecutar(homeSolution -> {
+			homeSolution.asignarResponsableEnTarea(numero, titulo);
+			return null;
+		});
+	}
+
+	@Override
+	public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+		ejecutar(homeSolution -> {
+			homeSolution.asignarResponsableMenosRetraso(numero, titulo);
+			return null;
+		});
+	}
+
+	@Override
+	public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias)
+			throws IllegalArgumentException {
+		ejecutarSinExcepciones(homeSolution -> {
+			homeSolution.registrarRetrasoEnTarea(numero, titulo, cantidadDias);
+			return null;
+		});
+	}
+
+	@Override
+	public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
+			throws IllegalArgumentException {
+		ejecutarSinExcepciones(homeSolution -> {
+			homeSolution.agregarTareaEnProyecto(numero, titulo, descripcion, dias);
+			return null;
+		});
+	}
+
+	@Override
+	public void finalizarTarea(Integer numero, String titulo) throws Exception {
+		ejecutar(homeSolution -> {
+			homeSolution.finalizarTarea(numero, titulo);
+			return null;
+		});
+	}
+
+	@Override
+	public void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException {
+		ejecutarSinExcepciones(homeSolution -> {
+			homeSolution.finalizarProyecto(numero, fin);
+			return null;
+		});
+	}
+
+	@Override
+	public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
+		ejecutar(homeSolution -> {
+			homeSolution.reasignarEmpleadoEnProyecto(numero, legajo, titulo);
+			return null;
+		});
+	}
+
+	@Override
+	public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+		ejecutar(homeSolution -> {
+			homeSolution.reasignarEmpleadoConMenosRetraso(numero, titulo);
+			return null;
+		});
+	}
+
+	@Override
+	public void aplicarLote(List<Comando> comandos) throws IllegalArgumentException {
+		ejecutarSinExcepciones(homeSolution -> {
+			homeSolution.aplicarLote(comandos);
+			return null;
+		});
+	}
+
+	@Override
+	public String[] registrarAltas(List<Alta> altas) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.registrarAltas(altas));
+	}
+
+	@Override
+	public double costoProyecto(Integer numero) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.costoProyecto(numero));
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosFinalizados() {
+		return ejecutarSinExcepciones(HomeSolution::proyectosFinalizados);
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosPendientes() {
+		return ejecutarSinExcepciones(HomeSolution::proyectosPendientes);
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosActivos() {
+		return ejecutarSinExcepciones(HomeSolution::proyectosActivos);
+	}
+
+	@Override
+	public Object[] empleadosNoAsignados() {
+		return ejecutarSinExcepciones(HomeSolution::empleadosNoAsignados);
+	}
+
+	@Override
+	public boolean estaFinalizado(Integer numero) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.estaFinalizado(numero));
+	}
+
+	@Override
+	public int consultarCantidadRetrasosEmpleado(Integer legajo) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.consultarCantidadRetrasosEmpleado(legajo));
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.empleadosAsignadosAProyecto(numero));
+	}
+
+	@Override
+	public Object[] tareasProyectoNoAsignadas(Integer numero) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.tareasProyectoNoAsignadas(numero));
+	}
+
+	@Override
+	public Object[] tareasDeUnProyecto(Integer numero) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.tareasDeUnProyecto(numero));
+	}
+
+	@Override
+	public String consultarDomicilioProyecto(Integer numero) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.consultarDomicilioProyecto(numero));
+	}
+
+	@Override
+	public boolean tieneRestrasos(Integer legajo) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.tieneRestrasos(legajo));
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleados() {
+		return ejecutarSinExcepciones(HomeSolution::empleados);
+	}
+
+	@Override
+	public String consultarProyecto(Integer numero) {
+		return ejecutarSinExcepciones(homeSolution -> homeSolution.consultarProyecto(numero));
+	}
+
+	/**
+	 * La acción corre en el hilo que aplica las operaciones, así que las demás
+	 * esperan a que termine el recorrido.
+	 */
+	@Override
+	public void recorrerProyectos(Estado estado, Consumer<Proyecto> accion) {
+		ejecutarSinExcepciones(homeSolution -> {
+			homeSolution.recorrerProyectos(estado, accion);
+			return null;
+		});
+	}
+
+	@Override
+	public String toString() {
+		return ejecutarSinExcepciones(HomeSolution::toString);
+	}
+
+	@FunctionalInterface
+	private interface Operacion<T> {
+		/**
+		 * Se ejecuta en el hilo escritor, que es el único que toca el modelo.
+		 */
+		T aplicar(HomeSolution homeSolution) throws Exception;
+	}
+
+	/**
+	 * Lugar del anillo. Las ranuras se reutilizan: la de la secuencia s es la misma
+	 * que la de s + capacidad.
+	 */
+	private static final class Ranura {
+		private volatile long secuencia; // Secuencia de la operación publicada en la ranura.
+		private Operacion<?> operacion;
+		private CompletableFuture<?> resultado;
+
+		private Ranura(long secuencia) {
+			this.secuencia = secuencia;
+		}
+	}
+}
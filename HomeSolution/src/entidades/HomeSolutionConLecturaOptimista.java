@@ -0,0 +1,267 @@
+package entidades;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * HomeSolution que puede usarse desde varios hilos a la vez, pensado para
+ * tráfico dominado por consultas puntuales.
+ *
+ * estaFinalizado, consultarCantidadRetrasosEmpleado, tieneRestrasos,
+ * consultarDomicilioProyecto y costoProyecto se responden con lecturas
+ * optimistas de un StampedLock: leen sin bloquear y después validan que
+ * ninguna modificación haya empezado mientras tanto. Si alguna empezó, el
+ * resultado (o la excepción, que puede venir de estructuras a medio modificar)
+ * se descarta y se reintenta; después de unos intentos se toma la lectura
+ * pesimista. Así estas consultas no escriben en memoria compartida ni se
+ * encolan detrás de otras lecturas.
+ *
+ * Las modificaciones toman la escritura y el resto de las consultas, que
+ * recorren colecciones enteras, la lectura.
+ */
+public class HomeSolutionConLecturaOptimista implements IHomeSolution {
+	private static final int intentosOptimistas = 3;
+
+	private HomeSolution homeSolution;
+	private StampedLock candado;
+	private LongAdder lecturasConCandado;
+
+	public HomeSolutionConLecturaOptimista() {
+		homeSolution = new HomeSolution();
+		candado = new StampedLock();
+		lecturasConCandado = new LongAdder();
+	}
+
+	/**
+	 * @return Cuántas consultas puntuales no pudieron validarse y terminaron
+	 *         tomando la lectura pesimista.
+	 */
+	public long cantidadDeLecturasConCandado() {
+		return lecturasConCandado.sum();
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
+		escribirSinExcepciones(() -> homeSolution.registrarEmpleado(nombre, valor));
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
+		escribirSinExcepciones(() -> homeSolution.registrarEmpleado(nombre, valor, categoria));
+	}
+
+	@Override
+	public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
+			String[] cliente, String inicio, String fin) throws IllegalArgumentException {
+		escribirSinExcepciones(
+				() -> homeSolution.registrarProyecto(titulos, descripcion, dias, domicilio, cliente, inicio, fin));
+	}
+
+	@Override
+	public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+		escribir(() -> homeSolution.asignarResponsableEnTarea(numero, titulo));
+	}
+
+	@Override
+	public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+		escribir(() -> homeSolution.asignarResponsableMenosRetraso(numero, titulo));
+	}
+
+	@Override
+	public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias)
+			throws IllegalArgumentException {
+		escribirSinExcepciones(() -> homeSolution.registrarRetrasoEnTarea(numero, titulo, cantidadDias));
+	}
+
+	@Override
+	public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
+			throws IllegalArgumentException {
+		escribirSinExcepciones(() -> homeSolution.agregarTareaEnProyecto(numero, titulo, descripcion, dias));
+	}
+
+	@Override
+	public void finalizarTarea(Integer numero, String titulo) throws Exception {
+		escribir(() -> homeSolution.finalizarTarea(numero, titulo));
+	}
+
+	@Override
+	public void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException {
+		escribirSinExcepciones(() -> homeSolution.finalizarProyecto(numero, fin));
+	}
+
+	@Override
+	public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
+		escribir(() -> homeSolution.reasignarEmpleadoEnProyecto(numero, legajo, titulo));
+	}
+
+	@Override
+	public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+		escribir(() -> homeSolution.reasignarEmpleadoConMenosRetraso(numero, titulo));
+	}
+
+	@Override
+	public void aplicarLote(List<Comando> comandos) throws IllegalArgumentException {
+		escribirSinExcepciones(() -> homeSolution.aplicarLote(comandos));
+	}
+
+	@Override
+	public String[] registrarAltas(List<Alta> altas) {
+		long sello = candado.writeLock();
+		try {
+			return homeSolution.registrarAltas(altas);
+		} finally {
+			candado.unlockWrite(sello);
+		}
+	}
+
+	private void escribir(Operacion operacion) throws Exception {
+		long sello = candado.writeLock();
+		try {
+			operacion.ejecutar();
+		} finally {
+			candado.unlockWrite(sello);
+		}
+	}
+
+	private void escribirSinExcepciones(Operacion operacion) {
+		try {
+			escribir(operacion);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			// Las operaciones que usan este método no lanzan excepciones verificadas.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Ejecuta la consulta sin bloquear y la repite si una modificación la pudo
+	 * haber cruzado. La consulta no debe modificar nada ni tener efectos fuera de
+	 * su resultado: puede ejecutarse varias veces y sobre un estado inconsistente.
+	 */
+	private <T> T leerOptimista(Supplier<T> consulta) {
+		for (int intento = 0; intento < intentosOptimistas; intento++) {
+			long sello = candado.tryOptimisticRead();
+
+			if (sello == 0) { // Hay una escritura en curso.
+				Thread.yield();
+				continue;
+			}
+
+			T resultado;
+			try {
+				resultado = consulta.get();
+			} catch (RuntimeException e) {
+				if (candado.validate(sello))
+					throw e; // La excepción es la respuesta real, por ejemplo un proyecto inexistente.
+				continue;
+			}
+
+			if (candado.validate(sello))
+				return resultado;
+		}
+
+		lecturasConCandado.increment();
+		return leer(consulta);
+	}
+
+	private <T> T leer(Supplier<T> consulta) {
+		long sello = candado.readLock();
+		try {
+			return consulta.get();
+		} finally {
+			candado.unlockRead(sello);
+		}
+	}
+
+	@Override
+	public double costoProyecto(Integer numero) {
+		return leerOptimista(() -> homeSolution.costoProyecto(numero));
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosFinalizados() {
+		return leer(homeSolution::proyectosFinalizados);
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosPendientes() {
+		return leer(homeSolution::proyectosPendientes);
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosActivos() {
+		return leer(homeSolution::proyectosActivos);
+	}
+
+	@Override
+	public Object[] empleadosNoAsignados() {
+		return leer(homeSolution::empleadosNoAsignados);
+	}
+
+	@Override
+	public boolean estaFinalizado(Integer numero) {
+		return leerOptimista(() -> homeSolution.estaFinalizado(numero));
+	}
+
+	@Override
+	public int consultarCantidadRetrasosEmpleado(Integer legajo) {
+		return leerOptimista(() -> homeSolution.consultarCantidadRetrasosEmpleado(legajo));
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
+		return leer(() -> homeSolution.empleadosAsignadosAProyecto(numero));
+	}
+
+	@Override
+	public Object[] tareasProyectoNoAsignadas(Integer numero) {
+		return leer(() -> homeSolution.tareasProyectoNoAsignadas(numero));
+	}
+
+	@Override
+	public Object[] tareasDeUnProyecto(Integer numero) {
+		return leer(() -> homeSolution.tareasDeUnProyecto(numero));
+	}
+
+	@Override
+	public String consultarDomicilioProyecto(Integer numero) {
+		return leerOptimista(() -> homeSolution.consultarDomicilioProyecto(numero));
+	}
+
+	@Override
+	public boolean tieneRestrasos(Integer legajo) {
+		return leerOptimista(() -> homeSolution.tieneRestrasos(legajo));
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleados() {
+		return leer(homeSolution::empleados);
+	}
+
+	@Override
+	public String consultarProyecto(Integer numero) {
+		return leer(() -> homeSolution.consultarProyecto(numero));
+	}
+
+	@Override
+	public void recorrerProyectos(Estado estado, Consumer<Proyecto> accion) {
+		leer(() -> {
+			homeSolution.recorrerProyectos(estado, accion);
+			return null;
+		});
+	}
+
+	@Override
+	public String toString() {
+		return leer(homeSolution::toString);
+	}
+
+	@FunctionalInterface
+	private interface Operacion {
+		void ejecutar() throws Exception;
+	}
+}
@@ -0,0 +1,373 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * HomeSolution para muchas consultas y pocas modificaciones. Las consultas no
+ * toman ningún candado: leen la Version publicada en ese momento, una foto
+ * inmutable de todo el estado, y nunca ven una modificación a medias.
+ *
+ * Las modificaciones se aplican de a una sobre un HomeSolution en memoria y,
+ * dentro del mismo bloqueo, arman vistas nuevas sólo del proyecto tocado y de
+ * los empleados que tenía asignados antes o después. Con ellas publican una
+ * Version nueva que comparte todo lo demás con la anterior.
+ *
+ * Quien necesite varias consultas coherentes entre sí (un tablero, un informe)
+ * puede tomar una sola Version con obtenerVersion() y leer todo de ahí.
+ */
+public class HomeSolutionConVersiones implements IHomeSolution {
+	private HomeSolution homeSolution;
+	private volatile Version version;
+
+	private GeneradorDeIds numerosDeProyecto;
+	private GeneradorDeIds legajos;
+
+	public HomeSolutionConVersiones() {
+		numerosDeProyecto = new GeneradorDeIds();
+		legajos = new GeneradorDeIds();
+		homeSolution = new HomeSolution(numerosDeProyecto, legajos);
+		version = Version.vacia();
+	}
+
+	/**
+	 * @return La última versión publicada. No cambia aunque después se publiquen
+	 *         otras.
+	 */
+	public Version obtenerVersion() {
+		return version;
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
+		synchronized (homeSolution) {
+			Empleado empleado = legajos.crear(legajo -> new EmpleadoContratado(legajo, nombre, valor));
+			homeSolution.registrarEmpleado(empleado);
+
+			publicar(Collections.emptySet(), Collections.singleton(empleado.obtenerLegajo()));
+		}
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
+		synchronized (homeSolution) {
+			Empleado empleado = legajos.crear(legajo -> new EmpleadoDePlanta(legajo, nombre, valor, categoria));
+			homeSolution.registrarEmpleado(empleado);
+
+			publicar(Collections.emptySet(), Collections.singleton(empleado.obtenerLegajo()));
+		}
+	}
+
+	@Override
+	public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
+			String[] cliente, String inicio, String fin) throws IllegalArgumentException {
+		synchronized (homeSolution) {
+			Proyecto proyecto = numerosDeProyecto.crear(
+					numero -> new Proyecto(numero, titulos, descripcion, dias, domicilio, cliente, inicio, fin));
+			homeSolution.registrarProyecto(proyecto);
+
+			publicar(Collections.singleton(proyecto.obtenerId()), Collections.emptySet());
+		}
+	}
+
+	@Override
+	public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+		ejecutar(Collections.singleton(numero), () -> homeSolution.asignarResponsableEnTarea(numero, titulo));
+	}
+
+	@Override
+	public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+		ejecutar(Collections.singleton(numero), () -> homeSolution.asignarResponsableMenosRetraso(numero, titulo));
+	}
+
+	@Override
+	public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias)
+			throws IllegalArgumentException {
+		ejecutarSinExcepciones(Collections.singleton(numero),
+				() -> homeSolution.registrarRetrasoEnTarea(numero, titulo, cantidadDias));
+	}
+
+	@Override
+	public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
+			throws IllegalArgumentException {
+		ejecutarSinExcepciones(Collections.singleton(numero),
+				() -> homeSolution.agregarTareaEnProyecto(numero, titulo, descripcion, dias));
+	}
+
+	@Override
+	public void finalizarTarea(Integer numero, String titulo) throws Exception {
+		ejecutar(Collections.singleton(numero), () -> homeSolution.finalizarTarea(numero, titulo));
+	}
+
+	@Override
+	public void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException {
+		ejecutarSinExcepciones(Collections.singleton(numero), () -> homeSolution.finalizarProyecto(numero, fin));
+	}
+
+	@Override
+	public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
+		ejecutar(Collections.singleton(numero), () -> homeSolution.reasignarEmpleadoEnProyecto(numero, legajo, titulo));
+	}
+
+	@Override
+	public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+		ejecutar(Collections.singleton(numero), () -> homeSolution.reasignarEmpleadoConMenosRetraso(numero, titulo));
+	}
+
+	/**
+	 * Publica una sola versión con todos los proyectos del lote.
+	 */
+	@Override
+	public void aplicarLote(List<Comando> comandos) throws IllegalArgumentException {
+		Set<Integer> numeros = new LinkedHashSet<>();
+
+		if (comandos != null) {
+			for (Comando comando : comandos) {
+				if (comando != null)
+					numeros.add(comando.obtenerNumero());
+			}
+		}
+
+		ejecutarSinExcepciones(numeros, () -> homeSolution.aplicarLote(comandos));
+	}
+
+	/**
+	 * Publica una sola versión con todo lo registrado.
+	 */
+	@Override
+	public String[] registrarAltas(List<Alta> altas) {
+		if (altas == null)
+			throw new IllegalArgumentException("La lista de altas no puede ser nula.");
+
+		String[] rechazos = new String[altas.size()];
+		Set<Integer> numeros = new LinkedHashSet<>();
+		Set<Integer> legajosNuevos = new LinkedHashSet<>();
+
+		synchronized (homeSolution) {
+			for (int i = 0; i < altas.size(); i++) {
+				try {
+					Alta alta = altas.get(i);
+					int id = homeSolution.registrarAlta(alta, numerosDeProyecto, legajos);
+
+					(alta.esEmpleado() ? legajosNuevos : numeros).add(id);
+				} catch (RuntimeException e) {
+					rechazos[i] = Alta.motivo(e);
+				}
+			}
+
+			publicar(numeros, legajosNuevos);
+		}
+
+		return rechazos;
+	}
+
+	/**
+	 * Aplica la operación y publica los proyectos indicados y los empleados que
+	 * tenían asignados antes o tienen después. Si la operación falla no publica
+	 * nada: las operaciones de HomeSolution validan todo antes de cambiar algo, y
+	 * aplicarLote deshace lo aplicado si falla un comando, así que el modelo
+	 * sigue coincidiendo con la versión publicada.
+	 */
+	private void ejecutar(Collection<Integer> numeros, Operacion operacion) throws Exception {
+		synchronized (homeSolution) {
+			Set<Integer> legajos = new LinkedHashSet<>();
+			agregarLegajosAsignados(numeros, legajos);
+
+			operacion.ejecutar();
+
+			agregarLegajosAsignados(numeros, legajos);
+			publicar(numeros, legajos);
+		}
+	}
+
+	private void ejecutarSinExcepciones(Collection<Integer> numeros, Operacion operacion) {
+		try {
+			ejecutar(numeros, operacion);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			// Las operaciones que usan este método no lanzan excepciones verificadas.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void agregarLegajosAsignados(Collection<Integer> numeros, Set<Integer> legajos) {
+		for (Integer numero : numeros) {
+			Proyecto proyecto = homeSolution.obtenerProyecto(numero);
+
+			if (proyecto != null)
+				proyecto.recorrerEmpleadosAsignados((legajo, nombre) -> legajos.add(legajo));
+		}
+	}
+
+	private void publicar(Collection<Integer> numeros, Collection<Integer> legajos) {
+		List<VistaDeProyecto> proyectos = new ArrayList<>(numeros.size());
+		for (Integer numero : numeros) {
+			Proyecto proyecto = homeSolution.obtenerProyecto(numero);
+
+			if (proyecto != null)
+				proyectos.add(new VistaDeProyecto(proyecto));
+		}
+
+		List<VistaDeEmpleado> empleados = new ArrayList<>(legajos.size());
+		for (Integer legajo : legajos) {
+			Empleado empleado = homeSolution.obtenerEmpleado(legajo);
+
+			if (empleado != null)
+				empleados.add(new VistaDeEmpleado(empleado));
+		}
+
+		version = version.siguiente(proyectos, empleados);
+	}
+
+	private static VistaDeProyecto obtenerProyecto(Version version, Integer numero) {
+		VistaDeProyecto proyecto = (numero == null ? null : version.obtenerProyecto(numero));
+
+		if (proyecto == null)
+			throw new IllegalArgumentException("No existe ningún proyecto con código " + numero);
+
+		return proyecto;
+	}
+
+	private static VistaDeEmpleado obtenerEmpleado(Version version, Integer legajo) {
+		VistaDeEmpleado empleado = (legajo == null ? null : version.obtenerEmpleado(legajo));
+
+		if (empleado == null)
+			throw new IllegalArgumentException("No existe ningún empleado con legajo " + legajo);
+
+		return empleado;
+	}
+
+	@Override
+	public double costoProyecto(Integer numero) {
+		return obtenerProyecto(version, numero).obtenerCosto();
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosFinalizados() {
+		return proyectos(Estado.FINALIZADO);
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosPendientes() {
+		return proyectos(Estado.PENDIENTE);
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosActivos() {
+		return proyectos(Estado.ACTIVO);
+	}
+
+	private List<Tupla<Integer, String>> proyectos(Estado estado) {
+		Version version = this.version;
+		List<Tupla<Integer, String>> proyectos = new ArrayList<>(version.cantidadDeProyectos(estado));
+
+		version.recorrerProyectos(estado,
+				proyecto -> proyectos.add(new Tupla<>(proyecto.obtenerNumero(), proyecto.obtenerDomicilio())));
+
+		return proyectos;
+	}
+
+	@Override
+	public Object[] empleadosNoAsignados() {
+		Version version = this.version;
+		List<VistaDeEmpleado> noAsignados = new ArrayList<>(version.cantidadDeEmpleadosNoAsignados());
+
+		version.recorrerEmpleadosNoAsignados(noAsignados::add);
+
+		return noAsignados.toArray();
+	}
+
+	@Override
+	public boolean estaFinalizado(Integer numero) {
+		return obtenerProyecto(version, numero).estaFinalizado();
+	}
+
+	@Override
+	public int consultarCantidadRetrasosEmpleado(Integer legajo) {
+		return obtenerEmpleado(version, legajo).obtenerCantidadDeRetrasos();
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
+		Version version = this.version;
+		List<Tupla<Integer, String>> empleadosAsignados = new ArrayList<>();
+
+		for (VistaDeProyecto.VistaDeTarea tarea : obtenerProyecto(version, numero).obtenerTareas()) {
+			Integer legajo = tarea.obtenerLegajo();
+
+			if (legajo != null)
+				empleadosAsignados.add(new Tupla<>(legajo, version.obtenerEmpleado(legajo).obtenerNombre()));
+		}
+
+		return empleadosAsignados;
+	}
+
+	@Override
+	public Object[] tareasProyectoNoAsignadas(Integer numero) {
+		return obtenerProyecto(version, numero).obtenerTareasNoAsignadas().toArray();
+	}
+
+	@Override
+	public Object[] tareasDeUnProyecto(Integer numero) {
+		return obtenerProyecto(version, numero).obtenerTareas().toArray();
+	}
+
+	@Override
+	public String consultarDomicilioProyecto(Integer numero) {
+		return obtenerProyecto(version, numero).obtenerDomicilio();
+	}
+
+	@Override
+	public boolean tieneRestrasos(Integer legajo) {
+		return consultarCantidadRetrasosEmpleado(legajo) > 0;
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleados() {
+		Version version = this.version;
+		List<Tupla<Integer, String>> empleados = new ArrayList<>(version.cantidadDeEmpleados());
+
+		version.recorrerEmpleados(
+				empleado -> empleados.add(new Tupla<>(empleado.obtenerLegajo(), empleado.obtenerNombre())));
+
+		return empleados;
+	}
+
+	@Override
+	public String consultarProyecto(Integer numero) {
+		return obtenerProyecto(version, numero).toString();
+	}
+
+	/**
+	 * Las versiones guardan vistas y no proyectos, así que recorre el modelo con
+	 * el bloqueo de las modificaciones tomado. Las consultas no esperan.
+	 */
+	@Override
+	public void recorrerProyectos(Estado estado, Consumer<Proyecto> accion) {
+		synchronized (homeSolution) {
+			homeSolution.recorrerProyectos(estado, accion);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder infoEmpresa = new StringBuilder();
+
+		infoEmpresa.append("Empresa de servicios de mantenimiento 'HomeSolution'.\n");
+		infoEmpresa.append("Proyectos: \n");
+		version.recorrerProyectos(null, proyecto -> infoEmpresa.append("	").append(proyecto).append("\n"));
+
+		return infoEmpresa.toString();
+	}
+
+	@FunctionalInterface
+	private interface Operacion {
+		void ejecutar() throws Exception;
+	}
+}
@@ -0,0 +1,772 @@
+package entidades;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * HomeSolution cuyo estado es la consecuencia de una secuencia de eventos
+ * guardada en un directorio.
+ *
+ * Cada operación se aplica sobre el modelo en memoria y, si tuvo éxito, se
+ * guarda como Evento en el segmento actual (eventos-n.log, un Diario). Los
+ * eventos registran el resultado de la operación y no la operación misma: al
+ * reproducirlos no se vuelve a elegir qué empleado asignar. Una operación que
+ * falla no cambia el modelo, así que no deja evento. Si la escritura del
+ * segmento falla, se trunca en lo último que llegó a disco y el modelo se
+ * vuelve a recuperar del directorio, lo que descarta ese evento y los
+ * aplicados después; sus hilos reciben el error.
+ *
+ * Cuando un segmento llega a eventosPorSegmento eventos o a bytesPorSegmento
+ * bytes se cierra y se abre el siguiente. Un hilo en segundo plano compacta
+ * los segmentos cerrados: parte de la última instantánea, les aplica los
+ * eventos, guarda instantanea-n.snap con el estado que dejan los segmentos
+ * hasta n, y borra los segmentos y las instantáneas que esa instantánea
+ * reemplaza. Al abrir el directorio se carga la última instantánea y sólo se
+ * reproducen los segmentos posteriores.
+ *
+ * Cada registro de un segmento lleva su crc (ver Diario). Al recuperar, varios
+ * hilos leen, verifican y decodifican los segmentos por adelantado, y arman los
+ * proyectos registrados, que no dependen de nada más. Sólo eso es paralelo: los
+ * eventos los aplica un único hilo, en el orden del archivo. No se reparten por
+ * número de proyecto porque eventos de proyectos distintos cambian a los mismos
+ * empleados (los asignan, los liberan, les suman retrasos) y los mismos índices
+ * del HomeSolution, que no admite modificaciones desde varios hilos. Un
+ * registro incompleto o corrupto al final del último segmento (una escritura
+ * cortada) se trunca; en un segmento anterior, que se cerró completo, no se
+ * puede descartar sin perder los eventos que le siguen, así que la
+ * recuperación falla.
+ */
+public class HomeSolutionPorEventos implements IHomeSolution {
+	private static final int eventosPorSegmentoPorDefecto = 10000;
+	private static final long bytesPorSegmentoPorDefecto = 4 << 20;
+
+	private static final String prefijoDeSegmento = "eventos-";
+	private static final String sufijoDeSegmento = ".log";
+	private static final String prefijoDeInstantanea = "instantanea-";
+	private static final String sufijoDeInstantanea = ".snap";
+
+	private final Path directorio;
+	private final int eventosPorSegmento;
+	private final long bytesPorSegmento;
+
+	private HomeSolution homeSolution;
+	private GeneradorDeIds numerosDeProyecto;
+	private GeneradorDeIds legajos;
+
+	private Diario diario;
+	private int segmentoActual;
+	private int eventosEnSegmento;
+
+	private final Object candado = new Object();
+	private boolean averiado; // Falló un segmento y no se pudo volver a lo que está en disco.
+
+	private final Object candadoDeCompactacion = new Object();
+	private final ExecutorService compactador;
+	private volatile IOException errorDeCompactacion;
+
+	private InformeDeRecuperacion informeDeRecuperacion;
+
+	public HomeSolutionPorEventos(Path directorio) throws IOException {
+		this(directorio, eventosPorSegmentoPorDefecto);
+	}
+
+	public HomeSolutionPorEventos(Path directorio, int eventosPorSegmento) throws IOException {
+		this(directorio, eventosPorSegmento, bytesPorSegmentoPorDefecto);
+	}
+
+	public HomeSolutionPorEventos(Path directorio, int eventosPorSegmento, long bytesPorSegmento)
+			throws IOException {
+		if (eventosPorSegmento <= 0)
+			throw new IllegalArgumentException("La cantidad de eventos por segmento debe ser mayor a 0.");
+		if (bytesPorSegmento <= 0)
+			throw new IllegalArgumentException("El tamaño de los segmentos debe ser mayor a 0.");
+
+		this.directorio = directorio;
+		this.eventosPorSegmento = eventosPorSegmento;
+		this.bytesPorSegmento = bytesPorSegmento;
+
+		long inicio = System.nanoTime();
+
+		Files.createDirectories(directorio);
+		informeDeRecuperacion = new InformeDeRecuperacion();
+		recuperar(Runtime.getRuntime().availableProcessors(), informeDeRecuperacion);
+
+		informeDeRecuperacion.registrarDuracion(Duration.ofNanos(System.nanoTime() - inicio));
+
+		compactador = Executors.newSingleThreadExecutor(tarea -> {
+			Thread hilo = new Thread(tarea, "compactador-" + directorio.getFileName());
+			hilo.setDaemon(true);
+			return hilo;
+		});
+	}
+
+	private void recuperar(int hilos, InformeDeRecuperacion informe) throws IOException {
+		int instantanea = ultimaInstantanea();
+
+		homeSolution = (instantanea > 0 ? Instantanea.cargar(instantanea(instantanea)) : new HomeSolution());
+
+		List<Integer> segmentos = new ArrayList<>();
+		for (int numero : numeros(prefijoDeSegmento, sufijoDeSegmento)) {
+			if (numero > instantanea)
+				segmentos.add(numero);
+			else // Quedó de una compactación interrumpida después de guardar la instantánea.
+				Files.delete(segmento(numero));
+		}
+
+		ExecutorService lectores = Executors.newFixedThreadPool(hilos, tarea -> {
+			Thread hilo = new Thread(tarea, "recuperacion-" + directorio.getFileName());
+			hilo.setDaemon(true);
+			return hilo;
+		});
+
+		try {
+			ArrayDeque<Future<SegmentoLeido>> enCurso = new ArrayDeque<>();
+			int siguiente = 0;
+
+			for (int i = 0; i < segmentos.size(); i++) {
+				while (siguiente < segmentos.size() && enCurso.size() < 2 * hilos) {
+					int numero = segmentos.get(siguiente);
+					boolean esElUltimo = (++siguiente == segmentos.size());
+
+					enCurso.add(lectores.submit(() -> leerSegmento(segmento(numero), esElUltimo)));
+				}
+
+				SegmentoLeido leido = esperar(enCurso.poll());
+
+				for (int j = 0; j < leido.eventos.size(); j++) {
+					Proyecto proyecto = leido.proyectos.get(j);
+
+					if (proyecto != null)
+						homeSolution.registrarProyecto(proyecto);
+					else
+						aplicar(leido.eventos.get(j), homeSolution);
+				}
+
+				informe.contarSegmento(leido.eventos.size(), leido.registrosDescartados, leido.bytesDescartados);
+			}
+		} finally {
+			lectores.shutdownNow();
+		}
+
+		segmentoActual = (segmentos.isEmpty() ? instantanea : segmentos.get(segmentos.size() - 1));
+
+		numerosDeProyecto = new GeneradorDeIds();
+		legajos = new GeneradorDeIds();
+		numerosDeProyecto.reservarHasta(homeSolution.mayorNumeroDeProyecto());
+		legajos.reservarHasta(homeSolution.mayorLegajo());
+
+		segmentoActual++;
+		diario = new Diario(segmento(segmentoActual));
+	}
+
+	/**
+	 * Lee, verifica y decodifica un segmento, y arma los proyectos que registra.
+	 * Sólo trunca el último segmento.
+	 */
+	private static SegmentoLeido leerSegmento(Path segmento, boolean esElUltimo) throws IOException {
+		SegmentoLeido leido = new SegmentoLeido();
+		Diario.LectorDeRegistros lector = registro -> leido.eventos.add(Evento.decodificar(registro));
+
+		if (esElUltimo) {
+			Diario diario = new Diario(segmento);
+			try {
+				leido.bytesDescartados = diario.recorrer(lector);
+				leido.registrosDescartados = diario.obtenerRegistrosDescartados();
+			} finally {
+				diario.cerrar();
+			}
+		} else {
+			long fin = Diario.leer(segmento, lector);
+
+			if (fin < Files.size(segmento))
+				throw new IOException("El segmento " + segmento + " está dañado a partir del byte " + fin
+						+ " y le siguen otros segmentos.");
+		}
+
+		for (Evento evento : leido.eventos) {
+			Proyecto proyecto = null;
+
+			if (evento instanceof Evento.ProyectoRegistrado) {
+				try {
+					proyecto = ((Evento.ProyectoRegistrado) evento).crearProyecto();
+				} catch (RuntimeException e) {
+					// Se vuelve a intentar al aplicarlo, que informa el error con el evento.
+				}
+			}
+
+			leido.proyectos.add(proyecto);
+		}
+
+		return leido;
+	}
+
+	private static SegmentoLeido esperar(Future<SegmentoLeido> lectura) throws IOException {
+		try {
+			return lectura.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Se interrumpió la recuperación.", e);
+		} catch (ExecutionException e) {
+			Throwable causa = e.getCause();
+
+			if (causa instanceof IOException)
+				throw (IOException) causa;
+			if (causa instanceof RuntimeException)
+				throw (RuntimeException) causa;
+			throw new IOException(causa);
+		}
+	}
+
+	private static int reproducir(Path segmento, HomeSolution homeSolution) throws IOException {
+		int[] reproducidos = new int[1];
+
+		Diario diario = new Diario(segmento);
+		try {
+			diario.recorrer(registro -> {
+				aplicar(Evento.decodificar(registro), homeSolution);
+				reproducidos[0]++;
+			});
+		} finally {
+			diario.cerrar();
+		}
+
+		return reproducidos[0];
+	}
+
+	private static void aplicar(Evento evento, HomeSolution homeSolution) throws IOException {
+		try {
+			evento.aplicarEn(homeSolution);
+		} catch (Exception e) {
+			throw new IOException("El evento no se puede aplicar sobre el estado reconstruido: " + evento, e);
+		}
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			Empleado empleado = legajos.crear(legajo -> new EmpleadoContratado(legajo, nombre, valor));
+			homeSolution.registrarEmpleado(empleado);
+
+			return new Evento.EmpleadoRegistrado(ahora(), empleado.obtenerLegajo(), nombre, valor, null);
+		});
+	}
+
+	@Override
+	public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			Empleado empleado = legajos.crear(legajo -> new EmpleadoDePlanta(legajo, nombre, valor, categoria));
+			homeSolution.registrarEmpleado(empleado);
+
+			return new Evento.EmpleadoRegistrado(ahora(), empleado.obtenerLegajo(), nombre, valor, categoria);
+		});
+	}
+
+	@Override
+	public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
+			String[] cliente, String inicio, String fin) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			Proyecto proyecto = numerosDeProyecto.crear(
+					numero -> new Proyecto(numero, titulos, descripcion, dias, domicilio, cliente, inicio, fin));
+			homeSolution.registrarProyecto(proyecto);
+
+			return new Evento.ProyectoRegistrado(ahora(), proyecto.obtenerId(), titulos, descripcion, dias, domicilio,
+					cliente, inicio, fin);
+		});
+	}
+
+	@Override
+	public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.asignarResponsableEnTarea(numero, titulo);
+
+			return new Evento.TareaAsignada(ahora(), numero, titulo, legajoAsignado(numero, titulo));
+		});
+	}
+
+	@Override
+	public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.asignarResponsableMenosRetraso(numero, titulo);
+
+			return new Evento.TareaAsignada(ahora(), numero, titulo, legajoAsignado(numero, titulo));
+		});
+	}
+
+	@Override
+	public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias)
+			throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			homeSolution.registrarRetrasoEnTarea(numero, titulo, cantidadDias);
+
+			return new Evento.RetrasoRegistrado(ahora(), numero, titulo, cantidadDias);
+		});
+	}
+
+	@Override
+	public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
+			throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			homeSolution.agregarTareaEnProyecto(numero, titulo, descripcion, dias);
+
+			return new Evento.TareaAgregada(ahora(), numero, titulo, descripcion, dias);
+		});
+	}
+
+	@Override
+	public void finalizarTarea(Integer numero, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.finalizarTarea(numero, titulo);
+
+			return new Evento.TareaFinalizada(ahora(), numero, titulo);
+		});
+	}
+
+	@Override
+	public void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			homeSolution.finalizarProyecto(numero, fin);
+
+			return new Evento.ProyectoFinalizado(ahora(), numero, fin);
+		});
+	}
+
+	@Override
+	public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.reasignarEmpleadoEnProyecto(numero, legajo, titulo);
+
+			return new Evento.EmpleadoReasignado(ahora(), numero, titulo, legajo);
+		});
+	}
+
+	@Override
+	public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+		ejecutar(() -> {
+			homeSolution.reasignarEmpleadoConMenosRetraso(numero, titulo);
+
+			return new Evento.EmpleadoReasignado(ahora(), numero, titulo, legajoAsignado(numero, titulo));
+		});
+	}
+
+	@Override
+	public void aplicarLote(List<Comando> comandos) throws IllegalArgumentException {
+		ejecutarSinExcepciones(() -> {
+			long instante = ahora();
+			List<Evento> eventos = new ArrayList<>(comandos == null ? 0 : comandos.size());
+
+			homeSolution.aplicarLote(comandos,
+					(comando, proyecto) -> eventos.add(comando.comoEvento(instante, proyecto)));
+
+			return new Evento.LoteAplicado(instante, eventos);
+		});
+	}
+
+	/**
+	 * Guarda las altas que se pudieron registrar en un solo evento, así que
+	 * todas esperan el mismo force(). Si falla el segmento no queda ninguna.
+	 */
+	@Override
+	public String[] registrarAltas(List<Alta> altas) {
+		if (altas == null)
+			throw new IllegalArgumentException("La lista de altas no puede ser nula.");
+
+		String[] rechazos = new String[altas.size()];
+
+		try {
+			ejecutarSinExcepciones(() -> {
+				long instante = ahora();
+				List<Evento> eventos = new ArrayList<>(altas.size());
+
+				for (int i = 0; i < altas.size(); i++) {
+					try {
+						int id = homeSolution.registrarAlta(altas.get(i), numerosDeProyecto, legajos);
+						eventos.add(altas.get(i).comoEvento(instante, id));
+					} catch (RuntimeException e) {
+						rechazos[i] = Alta.motivo(e);
+					}
+				}
+
+				return new Evento.LoteAplicado(instante, eventos);
+			});
+		} catch (RuntimeException e) {
+			for (int i = 0; i < rechazos.length; i++) {
+				if (rechazos[i] == null)
+					rechazos[i] = Alta.motivo(e);
+			}
+		}
+
+		return rechazos;
+	}
+
+	private int legajoAsignado(Integer numero, String titulo) {
+		return homeSolution.obtenerProyecto(numero).obtenerTarea(titulo).obtenerEmpleado().obtenerLegajo();
+	}
+
+	private static long ahora() {
+		return System.currentTimeMillis();
+	}
+
+	private void ejecutar(Operacion operacion) throws Exception {
+		Diario destino;
+		long posicion;
+
+		synchronized (candado) {
+			if (averiado)
+				throw new IllegalStateException("Falló un segmento y no se pudo reconstruir el estado guardado.");
+
+			Evento evento = operacion.ejecutar();
+
+			destino = diario;
+			try {
+				posicion = diario.agregar(evento.codificar());
+
+				if (++eventosEnSegmento >= eventosPorSegmento || posicion >= bytesPorSegmento) {
+					int cerrado = rotar();
+					compactador.execute(() -> compactarEnSegundoPlano(cerrado));
+				}
+			} catch (IOException | RuntimeException e) {
+				volverALoGuardado(e);
+				throw e;
+			}
+		}
+
+		try {
+			destino.sincronizar(posicion); // Si el segmento ya se cerró, lo agregado ya está en disco.
+		} catch (IOException e) {
+			synchronized (candado) {
+				if (destino == diario) // Si no, otro hilo ya volvió a lo guardado.
+					volverALoGuardado(e);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Descarta del segmento actual lo que no llegó a disco y vuelve a recuperar el
+	 * modelo del directorio. Se llama con el bloqueo tomado. Si no lo logra, la
+	 * instancia queda averiada y todas las operaciones fallan.
+	 */
+	private void volverALoGuardado(Exception causa) {
+		averiado = true;
+
+		try {
+			diario.cerrarDescartandoLoNoSincronizado();
+
+			synchronized (candadoDeCompactacion) {
+				recuperar(1, new InformeDeRecuperacion());
+			}
+
+			eventosEnSegmento = 0;
+			averiado = false;
+		} catch (IOException | RuntimeException e) {
+			causa.addSuppressed(e);
+		}
+	}
+
+	private void ejecutarSinExcepciones(Operacion operacion) {
+		try {
+			ejecutar(operacion);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (Exception e) {
+			// Las operaciones que usan este método no lanzan excepciones verificadas.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Cierra el segmento actual y abre el siguiente. Se llama con el bloqueo
+	 * tomado.
+	 *
+	 * @return El número del segmento cerrado.
+	 */
+	private int rotar() throws IOException {
+		int cerrado = segmentoActual;
+
+		diario.cerrar();
+		diario = new Diario(segmento(cerrado + 1));
+		segmentoActual = cerrado + 1;
+		eventosEnSegmento = 0;
+
+		return cerrado;
+	}
+
+	private void compactarEnSegundoPlano(int hasta) {
+		try {
+			compactar(hasta);
+		} catch (IOException e) {
+			errorDeCompactacion = e;
+		}
+	}
+
+	/**
+	 * Cierra el segmento actual, si tiene eventos, y compacta en este hilo todos
+	 * los segmentos cerrados.
+	 */
+	public void compactarAhora() throws IOException {
+		int hasta;
+
+		synchronized (candado) {
+			hasta = (eventosEnSegmento > 0 ? rotar() : segmentoActual - 1);
+		}
+
+		compactar(hasta);
+	}
+
+	private void compactar(int hasta) throws IOException {
+		synchronized (candadoDeCompactacion) {
+			int instantanea = ultimaInstantanea();
+
+			if (instantanea >= hasta)
+				return;
+
+			HomeSolution copia = (instantanea > 0 ? Instantanea.cargar(instantanea(instantanea)) : new HomeSolution());
+
+			for (int numero = instantanea + 1; numero <= hasta; numero++)
+				if (Files.exists(segmento(numero)))
+					reproducir(segmento(numero), copia);
+
+			// guardar() vuelve con la instantánea y su nombre ya en disco; recién ahí se
+			// puede borrar lo que la instantánea reemplaza.
+			Instantanea.guardar(copia, instantanea(hasta));
+
+			for (int numero : numeros(prefijoDeSegmento, sufijoDeSegmento))
+				if (numero <= hasta)
+					Files.deleteIfExists(segmento(numero));
+
+			for (int numero : numeros(prefijoDeInstantanea, sufijoDeInstantanea))
+				if (numero < hasta)
+					Files.deleteIfExists(instantanea(numero));
+		}
+	}
+
+	/**
+	 * Recorre, en orden, los eventos posteriores a la última instantánea. Los
+	 * eventos que una instantánea ya incluye se borran al compactar.
+	 */
+	public void recorrerEventos(Consumer<Evento> accion) throws IOException {
+		synchronized (candadoDeCompactacion) {
+			int instantanea = ultimaInstantanea();
+
+			for (int numero : numeros(prefijoDeSegmento, sufijoDeSegmento))
+				if (numero > instantanea)
+					Diario.leer(segmento(numero), registro -> accion.accept(Evento.decodificar(registro)));
+		}
+	}
+
+	/**
+	 * Tiempo que llevó cargar la instantánea y reproducir los segmentos al abrir
+	 * el directorio.
+	 */
+	public Duration obtenerDuracionDeRecuperacion() {
+		return informeDeRecuperacion.obtenerDuracion();
+	}
+
+	/**
+	 * Cantidad de eventos reproducidos al abrir el directorio, sin contar los que
+	 * ya incluía la instantánea.
+	 */
+	public int obtenerEventosReproducidos() {
+		return informeDeRecuperacion.obtenerEventosReproducidos();
+	}
+
+	public InformeDeRecuperacion obtenerInformeDeRecuperacion() {
+		return informeDeRecuperacion;
+	}
+
+	/**
+	 * Escribe en disco los eventos pendientes, espera a que termine la compactación
+	 * en curso y cierra el segmento actual.
+	 */
+	public void cerrar() throws IOException {
+		synchronized (candado) {
+			diario.cerrar();
+		}
+
+		compactador.shutdown();
+		try {
+			compactador.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (errorDeCompactacion != null)
+			throw new IOException("Falló una compactación en segundo plano.", errorDeCompactacion);
+	}
+
+	private Path segmento(int numero) {
+		return directorio.resolve(String.format("%s%010d%s", prefijoDeSegmento, numero, sufijoDeSegmento));
+	}
+
+	private Path instantanea(int numero) {
+		return directorio.resolve(String.format("%s%010d%s", prefijoDeInstantanea, numero, sufijoDeInstantanea));
+	}
+
+	private int ultimaInstantanea() throws IOException {
+		TreeSet<Integer> instantaneas = numeros(prefijoDeInstantanea, sufijoDeInstantanea);
+
+		return instantaneas.isEmpty() ? 0 : instantaneas.last();
+	}
+
+	private TreeSet<Integer> numeros(String prefijo, String sufijo) throws IOException {
+		TreeSet<Integer> numeros = new TreeSet<>();
+
+		try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio, prefijo + "*" + sufijo)) {
+			for (Path archivo : archivos) {
+				String nombre = archivo.getFileName().toString();
+				String numero = nombre.substring(prefijo.length(), nombre.length() - sufijo.length());
+
+				try {
+					numeros.add(Integer.parseInt(numero));
+				} catch (NumberFormatException e) {
+					// No es un archivo de este HomeSolution.
+				}
+			}
+		}
+
+		return numeros;
+	}
+
+	@Override
+	public double costoProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.costoProyecto(numero);
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosFinalizados() {
+		synchronized (candado) {
+			return homeSolution.proyectosFinalizados();
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosPendientes() {
+		synchronized (candado) {
+			return homeSolution.proyectosPendientes();
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> proyectosActivos() {
+		synchronized (candado) {
+			return homeSolution.proyectosActivos();
+		}
+	}
+
+	@Override
+	public Object[] empleadosNoAsignados() {
+		synchronized (candado) {
+			return homeSolution.empleadosNoAsignados();
+		}
+	}
+
+	@Override
+	public boolean estaFinalizado(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.estaFinalizado(numero);
+		}
+	}
+
+	@Override
+	public int consultarCantidadRetrasosEmpleado(Integer legajo) {
+		synchronized (candado) {
+			return homeSolution.consultarCantidadRetrasosEmpleado(legajo);
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.empleadosAsignadosAProyecto(numero);
+		}
+	}
+
+	@Override
+	public Object[] tareasProyectoNoAsignadas(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.tareasProyectoNoAsignadas(numero);
+		}
+	}
+
+	@Override
+	public Object[] tareasDeUnProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.tareasDeUnProyecto(numero);
+		}
+	}
+
+	@Override
+	public String consultarDomicilioProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.consultarDomicilioProyecto(numero);
+		}
+	}
+
+	@Override
+	public boolean tieneRestrasos(Integer legajo) {
+		synchronized (candado) {
+			return homeSolution.tieneRestrasos(legajo);
+		}
+	}
+
+	@Override
+	public List<Tupla<Integer, String>> empleados() {
+		synchronized (candado) {
+			return homeSolution.empleados();
+		}
+	}
+
+	@Override
+	public String consultarProyecto(Integer numero) {
+		synchronized (candado) {
+			return homeSolution.consultarProyecto(numero);
+		}
+	}
+
+	@Override
+	public void recorrerProyectos(Estado estado, Consumer<Proyecto> accion) {
+		synchronized (candado) {
+			homeSolution.recorrerProyectos(estado, accion);
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (candado) {
+			return homeSolution.toString();
+		}
+	}
+
+	private static class SegmentoLeido {
+		private final List<Evento> eventos = new ArrayList<>();
+		private final List<Proyecto> proyectos = new ArrayList<>(); // Armados de antemano, o null.
+		private int registrosDescartados;
+		private long bytesDescartados;
+	}
+
+	@FunctionalInterface
+	private interface Operacion {
+		/**
+		 * Aplica la operación sobre el modelo y devuelve el evento a guardar.
+		 */
+		Evento ejecutar() throws Exception;
+	}
+}
@@ -1,15 +1,16 @@
 package entidades;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interfaz que define las operaciones principales del sistema HomeSolution.
- * Permite gestionar empleados, proyectos y tareas, as como realizar consultas,
+ * Permite gestionar empleados, proyectos y tareas, así como realizar consultas,
  * asignaciones y operaciones administrativas.
  */
 
 /**
- * Modificacin 20-10
+ * Modificación 20-10
  *
  * Metodos modificados
  * finalizarProyecto, se agrega un parametro y Excepcion
@@ -22,7 +23,7 @@ import java.util.List;
  */
 
 /**
- * Modificacin 25-10 Se agregaron o cambiaron parametros costoProyecto
+ * Modificación 25-10 Se agregaron o cambiaron parametros costoProyecto
  * tieneRetrasos
  */
 public interface IHomeSolution {
@@ -36,50 +37,50 @@ public interface IHomeSolution {
 	 * 
 	 * @param nombre Nombre del empleado.
 	 * @param valor  Valor de trabajo del empleado.
-	 * @throws IllegalArgumentException Si el nombre es nulo o vaco, o el valor es
+	 * @throws IllegalArgumentException Si el nombre es nulo o vacío, o el valor es
 	 *                                  negativo.
 	 */
 	public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException;
 
 	/**
-	 * Registra un empleado con nombre, valor y categora. *
+	 * Registra un empleado con nombre, valor y categoría. *
 	 * 
 	 * @param nombre    Nombre del empleado.
 	 * @param valor     Valor de trabajo del empleado.
-	 * @param categoria Categora del empleado (por ejemplo, "Junior", "Senior").
-	 * @throws IllegalArgumentException Si alguno de los parmetros es invlido.
+	 * @param categoria Categoría del empleado (por ejemplo, "Junior", "Senior").
+	 * @throws IllegalArgumentException Si alguno de los parámetros es inválido.
 	 */
 	public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException;
 
 	// ============================================================
-	// REGISTRO Y GESTIN DE PROYECTOS
+	// REGISTRO Y GESTIÓN DE PROYECTOS
 	// ============================================================
 
 	/**
 	 * Registra un nuevo proyecto en el sistema.
 	 *
-	 * @param titulos     Ttulos de las tareas del proyecto.
+	 * @param titulos     Títulos de las tareas del proyecto.
 	 * @param descripcion Descripciones de cada tarea.
-	 * @param dias        Das estimados de duracin de cada tarea.
-	 * @param domicilio   Domicilio donde se desarrollar el proyecto.
-	 * @param cliente     Datos del cliente (nombre, mail, telfono).
+	 * @param dias        Días estimados de duración de cada tarea.
+	 * @param domicilio   Domicilio donde se desarrollará el proyecto.
+	 * @param cliente     Datos del cliente (nombre, mail, teléfono).
 	 * @param inicio      Fecha de inicio del proyecto (formato YYYY-MM-DD).
-	 * @param fin         Fecha de finalizacin estimada (formato YYYY-MM-DD).
+	 * @param fin         Fecha de finalización estimada (formato YYYY-MM-DD).
 	 * @throws IllegalArgumentException Si los datos son inconsistentes o faltan.
 	 */
 	public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
 			String[] cliente, String inicio, String fin) throws IllegalArgumentException;
 
 	// ============================================================
-	// ASIGNACIN Y GESTIN DE TAREAS
+	// ASIGNACIÓN Y GESTIÓN DE TAREAS
 	// ============================================================
 
 	/**
-	 * Asigna un empleado responsable a una tarea especfica dentro de un proyecto.
+	 * Asigna un empleado responsable a una tarea específica dentro de un proyecto.
 	 * *
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
-	 * @param titulo Ttulo de la tarea a asignar.
+	 * @param numero Número o código del proyecto.
+	 * @param titulo Título de la tarea a asignar.
 	 * @throws Exception si intenta asignar a una tarea ya asignada o el proyecto
 	 *                   esta finalizado
 	 */
@@ -88,8 +89,8 @@ public interface IHomeSolution {
 	/**
 	 * Asigna a la tarea el empleado con menos retrasos acumulados.
 	 *
-	 * @param numero Nmero o cdigo del proyecto.
-	 * @param titulo Ttulo de la tarea.
+	 * @param numero Número o código del proyecto.
+	 * @param titulo Título de la tarea.
 	 * @throws Exception si no hay empleados disponibles o la tarea ya fue asignada
 	 *                   o el proyecto esta finalizado
 	 */
@@ -97,11 +98,11 @@ public interface IHomeSolution {
 
 	/**
 	 * Registra un retraso en una tarea de un proyecto. Un retraso modifica la fecha
-	 * real de finalizacin. *
+	 * real de finalización. *
 	 * 
-	 * @param numero       Nmero o cdigo del proyecto.
-	 * @param titulo       Ttulo de la tarea.
-	 * @param cantidadDias Das de retraso acumulados.
+	 * @param numero       Número o código del proyecto.
+	 * @param titulo       Título de la tarea.
+	 * @param cantidadDias Días de retraso acumulados.
 	 * @throws IllegalArgumentException Si los valores son incorrectos.
 	 */
 	public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias)
@@ -109,12 +110,12 @@ public interface IHomeSolution {
 
 	/**
 	 * Agrega una nueva tarea a un proyecto existente, tener en cuenta que se
-	 * modifica la fecha de finalizacin tanto la real como la prevista.
+	 * modifica la fecha de finalización tanto la real como la prevista.
 	 * 
-	 * @param numero      Nmero o cdigo del proyecto.
-	 * @param titulo      Ttulo de la nueva tarea.
-	 * @param descripcion Descripcin de la tarea.
-	 * @param dias        Das estimados de duracin.
+	 * @param numero      Número o código del proyecto.
+	 * @param titulo      Título de la nueva tarea.
+	 * @param descripcion Descripción de la tarea.
+	 * @param dias        Días estimados de duración.
 	 * @throws IllegalArgumentException Si los valores son incorrectos o el proyecto
 	 *                                  ya esta finalizado.
 	 */
@@ -124,8 +125,8 @@ public interface IHomeSolution {
 	/**
 	 * Marca una tarea como finalizada. *
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
-	 * @param titulo Ttulo de la tarea a finalizar.
+	 * @param numero Número o código del proyecto.
+	 * @param titulo Título de la tarea a finalizar.
 	 * @throws Exception Si la tarea ya estaba finalizada.
 	 */
 	public void finalizarTarea(Integer numero, String titulo) throws Exception;
@@ -133,24 +134,24 @@ public interface IHomeSolution {
 	/**
 	 * Marca un proyecto completo como finalizado.
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
-	 * @param fin    Fecha de inicio de finalizacin (formato YYYY-MM-DD).
+	 * @param numero Número o código del proyecto.
+	 * @param fin    Fecha de inicio de finalización (formato YYYY-MM-DD).
 	 * @throws IllegalArgumentException si la fecha es incorrecta( anterior a la
 	 *                                  fecha de inicio)
 	 */
 	public void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException;
 
 	// ============================================================
-	// REASIGNACIN DE EMPLEADOS
+	// REASIGNACIÓN DE EMPLEADOS
 	// ============================================================
 
 	/**
 	 * Reasigna un empleado a una tarea determinada dentro de un proyecto. Libera al
 	 * empleado anterior.
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
+	 * @param numero Número o código del proyecto.
 	 * @param legajo Legajo del empleado a reasignar.
-	 * @param titulo Ttulo de la tarea.
+	 * @param titulo Título de la tarea.
 	 * @throw Exception si no hay empleados disponibles o si no tiene asignado un
 	 *        empleado previamente
 	 */
@@ -160,13 +161,42 @@ public interface IHomeSolution {
 	 * Reasigna al empleado con menos retrasos acumulados a una tarea. Libera al
 	 * empleado anterior.
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
-	 * @param titulo Ttulo de la tarea.
+	 * @param numero Número o código del proyecto.
+	 * @param titulo Título de la tarea.
 	 * @throw Exception si no hay empleados disponibles o si no tiene asignado un
 	 *        empleado previamente
 	 */
 	public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception;
 
+	// ============================================================
+	// OPERACIONES EN LOTE
+	// ============================================================
+
+	/**
+	 * Aplica varios comandos todo o nada: si alguno falla, el estado queda como
+	 * antes del lote. Los comandos se agrupan por proyecto: los proyectos se
+	 * toman en el orden de su primer comando y los comandos de cada uno en el
+	 * orden de la lista, con las mismas reglas que la operación equivalente de a
+	 * una. El resultado es el mismo que llamarlas en ese orden.
+	 * 
+	 * @param comandos Comandos a aplicar.
+	 * @throws IllegalArgumentException Si algún comando falla, con el comando que
+	 *                                  falló y el motivo.
+	 */
+	public void aplicarLote(List<Comando> comandos) throws IllegalArgumentException;
+
+	/**
+	 * Registra empleados y proyectos ya validados, en el orden de la lista y
+	 * cada uno con el siguiente legajo o número, como si se registraran de a uno
+	 * pero guardándolos juntos. A diferencia de aplicarLote, un alta que no se
+	 * puede registrar no impide las demás.
+	 * 
+	 * @param altas Empleados y proyectos a registrar.
+	 * @return Por cada alta, en el mismo orden, null si se registró o el motivo
+	 *         por el que no.
+	 */
+	public String[] registrarAltas(List<Alta> altas);
+
 	// ============================================================
 	// CONSULTAS Y REPORTES
 	// ============================================================
@@ -174,34 +204,34 @@ public interface IHomeSolution {
 	/**
 	 * Calcula el costo total del proyecto (activo, pendiente o finalizado).
 	 * 
-	 * @param numero Numero o cdigo del proyecto
+	 * @param numero Numero o código del proyecto
 	 * @return Costo total acumulado.
 	 */
 	public double costoProyecto(Integer numero);
 
 	/**
-	 * Devuelve una lista de proyectos finalizados (nmero y domicilio).
+	 * Devuelve una lista de proyectos finalizados (número y domicilio).
 	 * 
-	 * @return Lista de tuplas (nmero, domicilio).
+	 * @return Lista de tuplas (número, domicilio).
 	 */
 	public List<Tupla<Integer, String>> proyectosFinalizados();
 
 	/**
-	 * Devuelve una lista de proyectos pendientes (an no iniciados o incompletos).
+	 * Devuelve una lista de proyectos pendientes (aún no iniciados o incompletos).
 	 * 
-	 * @return Lista de tuplas (nmero, domicilio).
+	 * @return Lista de tuplas (número, domicilio).
 	 */
 	public List<Tupla<Integer, String>> proyectosPendientes();
 
 	/**
 	 * Devuelve una lista de proyectos actualmente activos.
 	 * 
-	 * @return Lista de tuplas (nmero, domicilio).
+	 * @return Lista de tuplas (número, domicilio).
 	 */
 	public List<Tupla<Integer, String>> proyectosActivos();
 
 	/**
-	 * Devuelve los empleados que no estn asignados a ningn proyecto.
+	 * Devuelve los empleados que no están asignados a ningún proyecto.
 	 * 
 	 * @return Arreglo de empleados no asignados (solo numero de legajo)
 	 */
@@ -210,8 +240,8 @@ public interface IHomeSolution {
 	/**
 	 * Indica si un proyecto ya fue finalizado.
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
-	 * @return true si est finalizado, false en caso contrario.
+	 * @param numero Número o código del proyecto.
+	 * @return true si está finalizado, false en caso contrario.
 	 */
 	public boolean estaFinalizado(Integer numero);
 
@@ -226,7 +256,7 @@ public interface IHomeSolution {
 	/**
 	 * Devuelve los empleados asignados a un proyecto determinado.
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
+	 * @param numero Número o código del proyecto.
 	 * @return Lista de tuplas (legajo, nombre del empleado).
 	 */
 	public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero);
@@ -238,7 +268,7 @@ public interface IHomeSolution {
 	/**
 	 * Devuelve las tareas no asignadas de un proyecto.
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
+	 * @param numero Número o código del proyecto.
 	 * @return Arreglo de tareas sin asignar.
 	 */
 	public Object[] tareasProyectoNoAsignadas(Integer numero);
@@ -246,7 +276,7 @@ public interface IHomeSolution {
 	/**
 	 * Devuelve las tareas no asignadas de un proyecto.
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
+	 * @param numero Número o código del proyecto.
 	 * @return Arreglo de tareas de un proyecto.
 	 */
 	public Object[] tareasDeUnProyecto(Integer numero);
@@ -254,8 +284,8 @@ public interface IHomeSolution {
 	/**
 	 * Consulta el domicilio del proyecto.
 	 * 
-	 * @param numero Nmero o cdigo del proyecto.
-	 * @return Direccin donde se realiza el proyecto.
+	 * @param numero Número o código del proyecto.
+	 * @return Dirección donde se realiza el proyecto.
 	 */
 	public String consultarDomicilioProyecto(Integer numero);
 
@@ -280,4 +310,15 @@ public interface IHomeSolution {
 	 * @numero numero de proyecto.
 	 */
 	public String consultarProyecto(Integer numero);
+
+	/**
+	 * Recorre, en orden de número, los proyectos en el estado indicado con sus
+	 * tareas, por ejemplo para exportarlos. Los proyectos archivados pueden
+	 * recorrerse al final. La acción sólo debe leer los proyectos, y puede correr
+	 * con los candados del HomeSolution tomados.
+	 * 
+	 * @param estado Estado de los proyectos, o null para recorrerlos todos.
+	 * @param accion Recibe cada proyecto.
+	 */
+	public void recorrerProyectos(Estado estado, Consumer<Proyecto> accion);
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+package entidades;
+
+/**
+ * Consultas de HomeSolution que recorren directamente las estructuras internas
+ * e invocan a un visitante por cada elemento, sin armar listas ni encajonar
+ * números. Las consultas de IHomeSolution que devuelven listas se construyen
+ * sobre estas.
+ */
+public interface IHomeSolutionConsultas extends IHomeSolution {
+
+	// ============================================================
+	// PROYECTOS
+	// ============================================================
+
+	/**
+	 * Recorre los proyectos pendientes.
+	 * 
+	 * @param visitante Recibe el número y el domicilio de cada proyecto.
+	 */
+	public void recorrerProyectosPendientes(VisitanteDeProyectos visitante);
+
+	/**
+	 * Recorre los proyectos activos.
+	 * 
+	 * @param visitante Recibe el número y el domicilio de cada proyecto.
+	 */
+	public void recorrerProyectosActivos(VisitanteDeProyectos visitante);
+
+	/**
+	 * Recorre los proyectos finalizados.
+	 * 
+	 * @param visitante Recibe el número y el domicilio de cada proyecto.
+	 */
+	public void recorrerProyectosFinalizados(VisitanteDeProyectos visitante);
+
+	// ============================================================
+	// EMPLEADOS
+	// ============================================================
+
+	/**
+	 * Recorre todos los empleados registrados, en orden de legajo.
+	 * 
+	 * @param visitante Recibe el legajo y el nombre de cada empleado.
+	 */
+	public void recorrerEmpleados(VisitanteDeEmpleados visitante);
+
+	/**
+	 * Recorre los empleados que no están asignados a ninguna tarea, en orden de
+	 * legajo.
+	 * 
+	 * @param visitante Recibe el legajo y el nombre de cada empleado.
+	 */
+	public void recorrerEmpleadosNoAsignados(VisitanteDeEmpleados visitante);
+
+	/**
+	 * Recorre los empleados asignados a las tareas de un proyecto.
+	 * 
+	 * @param numero    Número o código del proyecto.
+	 * @param visitante Recibe el legajo y el nombre de cada empleado.
+	 * @throws IllegalArgumentException Si el proyecto no existe.
+	 */
+	public void recorrerEmpleadosAsignadosAProyecto(Integer numero, VisitanteDeEmpleados visitante)
+			throws IllegalArgumentException;
+
+	// ============================================================
+	// TAREAS
+	// ============================================================
+
+	/**
+	 * Recorre todas las tareas de un proyecto.
+	 * 
+	 * @param numero    Número o código del proyecto.
+	 * @param visitante Recibe cada tarea.
+	 * @throws IllegalArgumentException Si el proyecto no existe.
+	 */
+	public void recorrerTareasDeUnProyecto(Integer numero, VisitanteDeTareas visitante)
+			throws IllegalArgumentException;
+
+	/**
+	 * Recorre las tareas de un proyecto que todavía no tienen responsable.
+	 * 
+	 * @param numero    Número o código del proyecto.
+	 * @param visitante Recibe cada tarea.
+	 * @throws IllegalArgumentException Si el proyecto no existe.
+	 */
+	public void recorrerTareasProyectoNoAsignadas(Integer numero, VisitanteDeTareas visitante)
+			throws IllegalArgumentException;
+
+	// ============================================================
+	// PAGINACIÓN
+	// ============================================================
+	// Cada listado se puede pedir por desplazamiento (desde, cuántos) o a partir
+	// del cursor devuelto por la página anterior (null para la primera página).
+	// Los cursores siguen siendo válidos aunque se agreguen elementos entre una
+	// página y la siguiente.
+
+	/**
+	 * @param desplazamiento Cantidad de proyectos a saltear.
+	 * @param limite         Cantidad máxima de proyectos de la página.
+	 * @return Página de tuplas (número, domicilio), por número de proyecto.
+	 */
+	public Pagina<Tupla<Integer, String>> proyectosPendientes(int desplazamiento, int limite);
+
+	/**
+	 * @param cursor Cursor de la página anterior, o null para la primera.
+	 * @param limite Cantidad máxima de proyectos de la página.
+	 * @return Página de tuplas (número, domicilio), por número de proyecto.
+	 * @throws IllegalArgumentException Si el cursor no es válido.
+	 */
+	public Pagina<Tupla<Integer, String>> proyectosPendientes(String cursor, int limite)
+			throws IllegalArgumentException;
+
+	/**
+	 * @param desplazamiento Cantidad de proyectos a saltear.
+	 * @param limite         Cantidad máxima de proyectos de la página.
+	 * @return Página de tuplas (número, domicilio), por número de proyecto.
+	 */
+	public Pagina<Tupla<Integer, String>> proyectosActivos(int desplazamiento, int limite);
+
+	/**
+	 * @param cursor Cursor de la página anterior, o null para la primera.
+	 * @param limite Cantidad máxima de proyectos de la página.
+	 * @return Página de tuplas (número, domicilio), por número de proyecto.
+	 * @throws IllegalArgumentException Si el cursor no es válido.
+	 */
+	public Pagina<Tupla<Integer, String>> proyectosActivos(String cursor, int limite) throws IllegalArgumentException;
+
+	/**
+	 * @param desplazamiento Cantidad de proyectos a saltear.
+	 * @param limite         Cantidad máxima de proyectos de la página.
+	 * @return Página de tuplas (número, domicilio), por número de proyecto.
+	 */
+	public Pagina<Tupla<Integer, String>> proyectosFinalizados(int desplazamiento, int limite);
+
+	/**
+	 * @param cursor Cursor de la página anterior, o null para la primera.
+	 * @param limite Cantidad máxima de proyectos de la página.
+	 * @return Página de tuplas (número, domicilio), por número de proyecto.
+	 * @throws IllegalArgumentException Si el cursor no es válido.
+	 */
+	public Pagina<Tupla<Integer, String>> proyectosFinalizados(String cursor, int limite)
+			throws IllegalArgumentException;
+
+	/**
+	 * @param desplazamiento Cantidad de empleados a saltear.
+	 * @param limite         Cantidad máxima de empleados de la página.
+	 * @return Página de tuplas (legajo, nombre), por legajo.
+	 */
+	public Pagina<Tupla<Integer, String>> empleados(int desplazamiento, int limite);
+
+	/**
+	 * @param cursor Cursor de la página anterior, o null para la primera.
+	 * @param limite Cantidad máxima de empleados de la página.
+	 * @return Página de tuplas (legajo, nombre), por legajo.
+	 * @throws IllegalArgumentException Si el cursor no es válido.
+	 */
+	public Pagina<Tupla<Integer, String>> empleados(String cursor, int limite) throws IllegalArgumentException;
+
+	/**
+	 * @param desplazamiento Cantidad de empleados a saltear.
+	 * @param limite         Cantidad máxima de empleados de la página.
+	 * @return Página de empleados no asignados, por legajo.
+	 */
+	public Pagina<Object> empleadosNoAsignados(int desplazamiento, int limite);
+
+	/**
+	 * @param cursor Cursor de la página anterior, o null para la primera.
+	 * @param limite Cantidad máxima de empleados de la página.
+	 * @return Página de empleados no asignados, por legajo.
+	 * @throws IllegalArgumentException Si el cursor no es válido.
+	 */
+	public Pagina<Object> empleadosNoAsignados(String cursor, int limite) throws IllegalArgumentException;
+
+	/**
+	 * @param numero         Número o código del proyecto.
+	 * @param desplazamiento Cantidad de empleados a saltear.
+	 * @param limite         Cantidad máxima de empleados de la página.
+	 * @return Página de tuplas (legajo, nombre), en el orden de las tareas.
+	 * @throws IllegalArgumentException Si el proyecto no existe.
+	 */
+	public Pagina<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero, int desplazamiento, int limite)
+			throws IllegalArgumentException;
+
+	/**
+	 * @param numero Número o código del proyecto.
+	 * @param cursor Cursor de la página anterior, o null para la primera.
+	 * @param limite Cantidad máxima de empleados de la página.
+	 * @return Página de tuplas (legajo, nombre), en el orden de las tareas.
+	 * @throws IllegalArgumentException Si el proyecto no existe o el cursor no es
+	 *                                  válido.
+	 */
+	public Pagina<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero, String cursor, int limite)
+			throws IllegalArgumentException;
+
+	/**
+	 * @param numero         Número o código del proyecto.
+	 * @param desplazamiento Cantidad de tareas a saltear.
+	 * @param limite         Cantidad máxima de tareas de la página.
+	 * @return Página de tareas sin asignar, en el orden en que se agregaron.
+	 * @throws IllegalArgumentException Si el proyecto no existe.
+	 */
+	public Pagina<Object> tareasProyectoNoAsignadas(Integer numero, int desplazamiento, int limite)
+			throws IllegalArgumentException;
+
+	/**
+	 * @param numero Número o código del proyecto.
+	 * @param cursor Cursor de la página anterior, o null para la primera.
+	 * @param limite Cantidad máxima de tareas de la página.
+	 * @return Página de tareas sin asignar, en el orden en que se agregaron.
+	 * @throws IllegalArgumentException Si el proyecto no existe o el cursor no es
+	 *                                  válido.
+	 */
+	public Pagina<Object> tareasProyectoNoAsignadas(Integer numero, String cursor, int limite)
+			throws IllegalArgumentException;
+
+	/**
+	 * @param numero         Número o código del proyecto.
+	 * @param desplazamiento Cantidad de tareas a saltear.
+	 * @param limite         Cantidad máxima de tareas de la página.
+	 * @return Página de tareas, en el orden en que se agregaron.
+	 * @throws IllegalArgumentException Si el proyecto no existe.
+	 */
+	public Pagina<Object> tareasDeUnProyecto(Integer numero, int desplazamiento, int limite)
+			throws IllegalArgumentException;
+
+	/**
+	 * @param numero Número o código del proyecto.
+	 * @param cursor Cursor de la página anterior, o null para la primera.
+	 * @param limite Cantidad máxima de tareas de la página.
+	 * @return Página de tareas, en el orden en que se agregaron.
+	 * @throws IllegalArgumentException Si el proyecto no existe o el cursor no es
+	 *                                  válido.
+	 */
+	public Pagina<Object> tareasDeUnProyecto(Integer numero, String cursor, int limite)
+			throws IllegalArgumentException;
+}
@@ -0,0 +1,417 @@
+package entidades;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Importa empleados y proyectos desde un archivo CSV o NDJSON a un
+ * IHomeSolution, leyéndolo de a una línea.
+ *
+ * CSV (UTF-8, sin saltos de línea dentro de los campos; se ignoran las líneas
+ * vacías y las que empiezan con #):
+ *
+ * <pre>
+ * empleado,nombre,valor[,categoría]
+ * proyecto,domicilio,cliente,mail,teléfono,inicio,fin
+ * tarea,título,descripción,días        (tareas del proyecto anterior)
+ * </pre>
+ *
+ * NDJSON (un objeto por línea):
+ *
+ * <pre>
+ * {"tipo":"empleado","nombre":"...","valor":1500,"categoria":"EXPERTO"}
+ * {"tipo":"proyecto","domicilio":"...","cliente":{"nombre":"...","mail":"...","telefono":"..."},
+ *  "inicio":"2025-12-01","fin":"2025-12-05","tareas":[{"titulo":"...","descripcion":"...","dias":2}]}
+ * </pre>
+ *
+ * Las filas se agrupan en lotes. Cada lote se valida en un hilo aparte, que
+ * arma con cada fila un Alta: el empleado o el proyecto ya creado. Después el
+ * hilo que importa registra las altas del lote con una sola llamada a
+ * IHomeSolution.registrarAltas, en el orden del archivo, y cada implementación
+ * las guarda juntas a su manera (una unidad de trabajo del repositorio, un
+ * registro del diario, una versión publicada). Como mucho hay dos lotes por
+ * hilo en vuelo, así que la memoria usada no depende del tamaño del archivo.
+ *
+ * Las filas inválidas no se registran ni consumen legajos o números de
+ * proyecto. Quedan en el resultado con su número de línea, igual que las filas
+ * válidas que no se pudieron registrar; las demás filas del lote se registran
+ * igual.
+ */
+public class Importador {
+	private static final int tamanioDeLotePorDefecto = 1024;
+
+	private final IHomeSolution homeSolution;
+	private final int hilos;
+	private final int tamanioDeLote;
+
+	public Importador(IHomeSolution homeSolution) {
+		this(homeSolution, Runtime.getRuntime().availableProcessors(), tamanioDeLotePorDefecto);
+	}
+
+	public Importador(IHomeSolution homeSolution, int hilos, int tamanioDeLote) {
+		if (hilos <= 0)
+			throw new IllegalArgumentException("La cantidad de hilos debe ser mayor a 0.");
+		if (tamanioDeLote <= 0)
+			throw new IllegalArgumentException("El tamaño de lote debe ser mayor a 0.");
+
+		this.homeSolution = homeSolution;
+		this.hilos = hilos;
+		this.tamanioDeLote = tamanioDeLote;
+	}
+
+	/**
+	 * Importa un archivo .csv, .ndjson o .jsonl.
+	 */
+	public ResultadoDeImportacion importar(Path archivo) throws IOException {
+		String nombre = archivo.getFileName().toString().toLowerCase();
+		FormatoDeArchivo formato;
+
+		if (nombre.endsWith(".csv"))
+			formato = FormatoDeArchivo.CSV;
+		else if (nombre.endsWith(".ndjson") || nombre.endsWith(".jsonl"))
+			formato = FormatoDeArchivo.NDJSON;
+		else
+			throw new IllegalArgumentException("No se reconoce el formato del archivo " + archivo + ".");
+
+		try (BufferedReader lector = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+			return importar(lector, formato);
+		}
+	}
+
+	public ResultadoDeImportacion importar(Reader entrada, FormatoDeArchivo formato) throws IOException {
+		BufferedReader lector = new BufferedReader(entrada, 1 << 16);
+		ResultadoDeImportacion resultado = new ResultadoDeImportacion();
+
+		ExecutorService validadores = Executors.newFixedThreadPool(hilos, tarea -> {
+			Thread hilo = new Thread(tarea, "validador-de-importacion");
+			hilo.setDaemon(true);
+			return hilo;
+		});
+		ArrayDeque<Future<List<Fila>>> enVuelo = new ArrayDeque<>();
+
+		try {
+			List<Fila> lote = new ArrayList<>(tamanioDeLote);
+			Fila actual = null;
+			String linea;
+			int numero = 0;
+
+			while ((linea = lector.readLine()) != null) {
+				numero++;
+
+				if (linea.trim().isEmpty() || (formato == FormatoDeArchivo.CSV && linea.startsWith("#")))
+					continue;
+
+				if (formato == FormatoDeArchivo.CSV && actual != null && esTarea(linea)) {
+					actual.agregarLinea(numero, linea);
+					continue;
+				}
+
+				// La fila anterior ya está completa, así que el lote se puede validar.
+				if (lote.size() == tamanioDeLote) {
+					enviar(lote, formato, validadores, enVuelo, resultado);
+					lote = new ArrayList<>(tamanioDeLote);
+				}
+
+				actual = new Fila(numero, linea);
+				lote.add(actual);
+			}
+
+			if (!lote.isEmpty())
+				enviar(lote, formato, validadores, enVuelo, resultado);
+
+			while (!enVuelo.isEmpty())
+				registrar(esperar(enVuelo.poll()), resultado);
+		} finally {
+			validadores.shutdownNow();
+		}
+
+		return resultado;
+	}
+
+	private void enviar(List<Fila> lote, FormatoDeArchivo formato, ExecutorService validadores,
+			ArrayDeque<Future<List<Fila>>> enVuelo, ResultadoDeImportacion resultado) throws IOException {
+		enVuelo.add(validadores.submit(() -> {
+			for (Fila fila : lote)
+				fila.validar(formato);
+
+			return lote;
+		}));
+
+		while (enVuelo.size() > 2 * hilos)
+			registrar(esperar(enVuelo.poll()), resultado);
+	}
+
+	private static List<Fila> esperar(Future<List<Fila>> lote) throws IOException {
+		try {
+			return lote.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Se interrumpió la importación.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Falló la validación de un lote.", e.getCause());
+		}
+	}
+
+	private void registrar(List<Fila> lote, ResultadoDeImportacion resultado) {
+		List<Alta> altas = new ArrayList<>(lote.size());
+
+		for (Fila fila : lote) {
+			if (fila.alta != null)
+				altas.add(fila.alta);
+		}
+
+		String[] rechazos = (altas.isEmpty() ? new String[0] : homeSolution.registrarAltas(altas));
+		int siguiente = 0;
+
+		for (Fila fila : lote) {
+			if (fila.alta == null) {
+				resultado.rechazar(fila.lineaDelError, fila.error);
+				continue;
+			}
+
+			String rechazo = rechazos[siguiente++];
+
+			if (rechazo != null)
+				resultado.rechazar(fila.linea, rechazo);
+			else if (fila.alta.esEmpleado())
+				resultado.contarEmpleado();
+			else
+				resultado.contarProyecto();
+		}
+	}
+
+	private static boolean esTarea(String linea) {
+		return linea.startsWith("tarea,") || linea.startsWith("\"tarea\",");
+	}
+
+	/**
+	 * Una fila del archivo; en CSV, un proyecto junto con las líneas de sus
+	 * tareas. Al validarla queda el alta del empleado o del proyecto, o el
+	 * motivo y la línea del rechazo.
+	 */
+	private static class Fila {
+		private final int linea;
+		private List<Integer> lineas;
+		private List<String> textos;
+
+		private Alta alta;
+
+		private int lineaDelError;
+		private String error;
+
+		private int lineaActual;
+
+		private Fila(int linea, String texto) {
+			this.linea = linea;
+			lineas = new ArrayList<>(1);
+			textos = new ArrayList<>(1);
+
+			agregarLinea(linea, texto);
+		}
+
+		private void agregarLinea(int linea, String texto) {
+			lineas.add(linea);
+			textos.add(texto);
+		}
+
+		private void validar(FormatoDeArchivo formato) {
+			lineaActual = lineas.get(0);
+
+			try {
+				if (formato == FormatoDeArchivo.CSV)
+					validarCsv();
+				else
+					validarNdjson();
+			} catch (DateTimeParseException e) {
+				rechazar("Fecha inválida: " + e.getParsedString());
+			} catch (RuntimeException e) {
+				rechazar(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+			}
+
+			lineas = null; // Ya no hacen falta; el lote puede quedar esperando a registrarse.
+			textos = null;
+		}
+
+		private void rechazar(String motivo) {
+			alta = null;
+			lineaDelError = lineaActual;
+			error = motivo;
+		}
+
+		private void validarCsv() {
+			List<String> campos = campos(textos.get(0));
+			String tipo = campos.get(0).trim();
+
+			if (tipo.equals("empleado")) {
+				cantidadDeCampos(campos, 3, 4);
+				if (textos.size() > 1) {
+					lineaActual = lineas.get(1);
+					throw new IllegalArgumentException("Una tarea sólo puede seguir a un proyecto.");
+				}
+
+				alta = Alta.deEmpleado(campos.get(1), numero(campos.get(2)), campos.size() == 4 ? campos.get(3) : null);
+			} else if (tipo.equals("proyecto")) {
+				cantidadDeCampos(campos, 7, 7);
+
+				int cantidadDeTareas = textos.size() - 1;
+				String[] titulos = new String[cantidadDeTareas];
+				String[] descripciones = new String[cantidadDeTareas];
+				double[] dias = new double[cantidadDeTareas];
+
+				for (int i = 0; i < cantidadDeTareas; i++) {
+					lineaActual = lineas.get(i + 1);
+
+					List<String> tarea = campos(textos.get(i + 1));
+					cantidadDeCampos(tarea, 4, 4);
+
+					titulos[i] = tarea.get(1);
+					descripciones[i] = tarea.get(2);
+					dias[i] = numero(tarea.get(3));
+
+					new Tarea(titulos[i], descripciones[i], dias[i], i); // Para rechazar la línea de la tarea.
+				}
+
+				lineaActual = lineas.get(0);
+				String[] cliente = { campos.get(2), campos.get(3), campos.get(4) };
+				alta = Alta.deProyecto(titulos, descripciones, dias, campos.get(1), cliente, campos.get(5),
+						campos.get(6));
+			} else if (tipo.equals("tarea")) {
+				throw new IllegalArgumentException("Una tarea sólo puede seguir a un proyecto.");
+			} else {
+				throw new IllegalArgumentException("Tipo de fila desconocido: " + tipo);
+			}
+		}
+
+		private void validarNdjson() {
+			Map<?, ?> objeto = objeto(LectorJson.leer(textos.get(0)), "La línea");
+			String tipo = texto(objeto, "tipo", true);
+
+			if (tipo.equals("empleado")) {
+				alta = Alta.deEmpleado(texto(objeto, "nombre", true), numero(objeto, "valor"),
+						texto(objeto, "categoria", false));
+			} else if (tipo.equals("proyecto")) {
+				Map<?, ?> datosCliente = objeto(objeto.get("cliente"), "El campo 'cliente'");
+				String[] cliente = { texto(datosCliente, "nombre", true), texto(datosCliente, "mail", false),
+						texto(datosCliente, "telefono", false) };
+
+				Object tareas = objeto.get("tareas");
+				if (!(tareas instanceof List))
+					throw new IllegalArgumentException("El campo 'tareas' debe ser un arreglo.");
+
+				List<?> lista = (List<?>) tareas;
+				String[] titulos = new String[lista.size()];
+				String[] descripciones = new String[lista.size()];
+				double[] dias = new double[lista.size()];
+
+				for (int i = 0; i < lista.size(); i++) {
+					Map<?, ?> tarea = objeto(lista.get(i), "La tarea " + (i + 1));
+
+					titulos[i] = texto(tarea, "titulo", true);
+					descripciones[i] = texto(tarea, "descripcion", false);
+					dias[i] = numero(tarea, "dias");
+
+					try {
+						new Tarea(titulos[i], descripciones[i] == null ? "" : descripciones[i], dias[i], i);
+					} catch (IllegalArgumentException e) {
+						throw new IllegalArgumentException("Tarea " + (i + 1) + ": " + e.getMessage());
+					}
+
+					if (descripciones[i] == null)
+						descripciones[i] = "";
+				}
+
+				alta = Alta.deProyecto(titulos, descripciones, dias, texto(objeto, "domicilio", true), cliente,
+						texto(objeto, "inicio", true), texto(objeto, "fin", true));
+			} else {
+				throw new IllegalArgumentException("Tipo de fila desconocido: " + tipo);
+			}
+		}
+
+		private static List<String> campos(String linea) {
+			List<String> campos = new ArrayList<>();
+			StringBuilder campo = new StringBuilder();
+			boolean entreComillas = false;
+
+			for (int i = 0; i < linea.length(); i++) {
+				char caracter = linea.charAt(i);
+
+				if (entreComillas) {
+					if (caracter != '"')
+						campo.append(caracter);
+					else if (i + 1 < linea.length() && linea.charAt(i + 1) == '"')
+						campo.append(linea.charAt(++i)); // Comilla escapada como "".
+					else
+						entreComillas = false;
+				} else if (caracter == '"') {
+					entreComillas = true;
+				} else if (caracter == ',') {
+					campos.add(campo.toString());
+					campo.setLength(0);
+				} else {
+					campo.append(caracter);
+				}
+			}
+
+			if (entreComillas)
+				throw new IllegalArgumentException("Hay comillas sin cerrar.");
+
+			campos.add(campo.toString());
+
+			return campos;
+		}
+
+		private static void cantidadDeCampos(List<String> campos, int minimo, int maximo) {
+			if (campos.size() < minimo || campos.size() > maximo)
+				throw new IllegalArgumentException("Cantidad de campos incorrecta para " + campos.get(0).trim() + ": "
+						+ campos.size() + ".");
+		}
+
+		private static double numero(String texto) {
+			try {
+				return Double.parseDouble(texto.trim());
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("No es un número: " + texto);
+			}
+		}
+
+		private static Map<?, ?> objeto(Object valor, String descripcion) {
+			if (!(valor instanceof Map))
+				throw new IllegalArgumentException(descripcion + " debe ser un objeto JSON.");
+
+			return (Map<?, ?>) valor;
+		}
+
+		private static String texto(Map<?, ?> objeto, String campo, boolean obligatorio) {
+			Object valor = objeto.get(campo);
+
+			if (valor == null && obligatorio)
+				throw new IllegalArgumentException("Falta el campo '" + campo + "'.");
+			if (valor != null && !(valor instanceof String))
+				throw new IllegalArgumentException("El campo '" + campo + "' debe ser un texto.");
+
+			return (String) valor;
+		}
+
+		private static double numero(Map<?, ?> objeto, String campo) {
+			Object valor = objeto.get(campo);
+
+			if (!(valor instanceof Double))
+				throw new IllegalArgumentException("El campo '" + campo + "' debe ser un número.");
+
+			return (Double) valor;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package entidades;
+
+import java.time.Duration;
+
+/**
+ * Resumen de lo que hizo HomeSolutionPorEventos al abrir su directorio: cuántos
+ * segmentos leyó, cuántos eventos reprodujo, qué descartó por estar incompleto
+ * o corrupto y cuánto tardó en total, contando la carga de la instantánea.
+ */
+public class InformeDeRecuperacion {
+	private int segmentosLeidos;
+	private int eventosReproducidos;
+	private int registrosDescartados;
+	private long bytesDescartados;
+	private Duration duracion;
+
+	protected InformeDeRecuperacion() {
+		duracion = Duration.ZERO;
+	}
+
+	protected void contarSegmento(int eventos, int registros, long bytes) {
+		segmentosLeidos++;
+		eventosReproducidos += eventos;
+		registrosDescartados += registros;
+		bytesDescartados += bytes;
+	}
+
+	protected void registrarDuracion(Duration duracion) {
+		this.duracion = duracion;
+	}
+
+	public int obtenerSegmentosLeidos() {
+		return segmentosLeidos;
+	}
+
+	public int obtenerEventosReproducidos() {
+		return eventosReproducidos;
+	}
+
+	/**
+	 * @return La cantidad de registros que se truncaron al final de un segmento:
+	 *         el primero incompleto o corrupto y todos los que le siguen.
+	 */
+	public int obtenerRegistrosDescartados() {
+		return registrosDescartados;
+	}
+
+	/**
+	 * @return Los bytes truncados, desde el primer registro inválido hasta el
+	 *         final del segmento.
+	 */
+	public long obtenerBytesDescartados() {
+		return bytesDescartados;
+	}
+
+	public Duration obtenerDuracion() {
+		return duracion;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder informe = new StringBuilder();
+
+		informe.append("Segmentos leídos: ").append(segmentosLeidos).append("\n");
+		informe.append("Eventos reproducidos: ").append(eventosReproducidos).append("\n");
+		informe.append("Registros descartados: ").append(registrosDescartados).append(" (").append(bytesDescartados)
+				.append(" bytes)\n");
+		informe.append("Duración: ").append(duracion.toMillis()).append(" ms\n");
+
+		return informe.toString();
+	}
+}
@@ -0,0 +1,291 @@
+package entidades;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.function.IntFunction;
+
+/**
+ * Instantánea binaria de todo el estado de un HomeSolution: empleados (con sus
+ * retrasos y si están asignados), proyectos con su cliente, fechas y estado,
+ * tareas, y los mayores números de proyecto y legajo entregados.
+ *
+ * Formato (versión 1), big-endian:
+ *
+ * <pre>
+ * encabezado: int firma, int versión, int mayor número de proyecto, int mayor legajo
+ * int cantidad de empleados, y por cada uno:
+ *     byte tipo, int legajo, texto nombre, double valor, [texto categoría],
+ *     int retrasos, byte asignado
+ * int cantidad de proyectos, y por cada uno:
+ *     int número, texto domicilio, texto nombre, texto mail, texto teléfono,
+ *     long inicio, long fin estimado, long fin real (días desde 1970-01-01),
+ *     byte estado, byte hubo retrasos, int siguiente orden de tarea,
+ *     int cantidad de tareas, y por cada una:
+ *         texto título, texto descripción, int orden, double días estimados,
+ *         double días de retraso, byte finalizada, int legajo (0 si no tiene)
+ * texto: int longitud en bytes (-1 si es null) seguido de los bytes en UTF-8
+ * </pre>
+ *
+ * La carga lee el archivo mapeado en memoria de principio a fin, sin pasar por
+ * LocalDate.parse ni por las validaciones de los constructores.
+ */
+public class Instantanea {
+	private static final int firma = 0x48534E50; // "HSNP"
+	private static final int version = 1;
+
+	private static final byte empleadoContratado = 1;
+	private static final byte empleadoDePlanta = 2;
+
+	private static final Estado[] estados = Estado.values();
+
+	private Instantanea() {
+	}
+
+	/**
+	 * Escribe la instantánea en un archivo temporal, lo fuerza a disco y lo mueve
+	 * sobre el destino, así que una instantánea a medio escribir nunca reemplaza a
+	 * la anterior. Cuando vuelve, la instantánea y su nombre ya están en disco.
+	 */
+	public static void guardar(HomeSolution homeSolution, Path archivo) throws IOException {
+		Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+
+		try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+				DataOutputStream salida = new DataOutputStream(
+						new BufferedOutputStream(Channels.newOutputStream(canal), 1 << 16))) {
+			salida.writeInt(firma);
+			salida.writeInt(version);
+			salida.writeInt(Math.max(homeSolution.mayorNumeroDeProyecto(), 0));
+			salida.writeInt(Math.max(homeSolution.mayorLegajo(), 0));
+
+			salida.writeInt(homeSolution.cantidadDeEmpleados());
+			homeSolution.recorrerTodosLosEmpleados(empleado -> escribir(() -> escribirEmpleado(salida, empleado)));
+
+			salida.writeInt(homeSolution.cantidadDeProyectos());
+			homeSolution.recorrerTodosLosProyectos(proyecto -> escribir(() -> escribirProyecto(salida, proyecto)));
+
+			salida.flush();
+			canal.force(true);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		Archivos.renombrar(temporal, archivo);
+	}
+
+	protected static void escribirEmpleado(DataOutputStream salida, Empleado empleado) throws IOException {
+		if (empleado instanceof EmpleadoDePlanta) {
+			EmpleadoDePlanta dePlanta = (EmpleadoDePlanta) empleado;
+
+			salida.writeByte(empleadoDePlanta);
+			salida.writeInt(empleado.obtenerLegajo());
+			escribirTexto(salida, empleado.obtenerNombre());
+			salida.writeDouble(dePlanta.obtenerValorDia());
+			escribirTexto(salida, dePlanta.obtenerCategoria());
+		} else {
+			salida.writeByte(empleadoContratado);
+			salida.writeInt(empleado.obtenerLegajo());
+			escribirTexto(salida, empleado.obtenerNombre());
+			salida.writeDouble(((EmpleadoContratado) empleado).obtenerValorHora());
+		}
+
+		salida.writeInt(empleado.obtenerCantidadDeRetrasos());
+		salida.writeBoolean(empleado.estaAsignado());
+	}
+
+	protected static void escribirProyecto(DataOutputStream salida, Proyecto proyecto) throws IOException {
+		Cliente cliente = proyecto.obtenerCliente();
+
+		salida.writeInt(proyecto.obtenerId());
+		escribirTexto(salida, proyecto.obtenerDomicilio());
+		escribirTexto(salida, cliente.nombre);
+		escribirTexto(salida, cliente.mail);
+		escribirTexto(salida, cliente.telefono);
+		salida.writeLong(proyecto.obtenerFechaInicio().toEpochDay());
+		salida.writeLong(proyecto.obtenerFechaFinEstimada().toEpochDay());
+		salida.writeLong(proyecto.obtenerFechaFinReal().toEpochDay());
+		salida.writeByte(proyecto.obtenerEstado().ordinal());
+		salida.writeBoolean(proyecto.huboRetrasos());
+		salida.writeInt(proyecto.obtenerSiguienteOrdenDeTarea());
+
+		salida.writeInt(proyecto.cantidadDeTareas());
+		proyecto.recorrerTareas(tarea -> escribir(() -> escribirTarea(salida, tarea)));
+	}
+
+	private static void escribirTarea(DataOutputStream salida, Tarea tarea) throws IOException {
+		Empleado empleado = tarea.obtenerEmpleado();
+
+		escribirTexto(salida, tarea.obtenerTitulo());
+		escribirTexto(salida, tarea.obtenerDescripcion());
+		salida.writeInt(tarea.obtenerOrden());
+		salida.writeDouble(tarea.obtenerDiasEstimados());
+		salida.writeDouble(tarea.obtenerDiasDeRetraso());
+		salida.writeBoolean(tarea.estaFinalizada());
+		salida.writeInt(empleado == null ? 0 : empleado.obtenerLegajo());
+	}
+
+	private static void escribirTexto(DataOutputStream salida, String texto) throws IOException {
+		if (texto == null) {
+			salida.writeInt(-1);
+			return;
+		}
+
+		byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+		salida.writeInt(bytes.length);
+		salida.write(bytes);
+	}
+
+	/**
+	 * Crea un HomeSolution con el estado guardado en la instantánea. Los
+	 * generadores de ids de la nueva instancia continúan después de los mayores
+	 * números guardados.
+	 */
+	public static HomeSolution cargar(Path archivo) throws IOException {
+		RepositorioEnMemoria repositorio = new RepositorioEnMemoria();
+		Tupla<Integer, Integer> mayores = cargarEn(archivo, repositorio);
+
+		GeneradorDeIds numerosDeProyecto = new GeneradorDeIds();
+		GeneradorDeIds legajos = new GeneradorDeIds();
+		numerosDeProyecto.reservarHasta(mayores.getValor1());
+		legajos.reservarHasta(mayores.getValor2());
+
+		return new HomeSolution(repositorio, numerosDeProyecto, legajos);
+	}
+
+	/**
+	 * Guarda en el repositorio los empleados y proyectos de la instantánea.
+	 *
+	 * @return El mayor número de proyecto y el mayor legajo que se habían
+	 *         entregado.
+	 */
+	protected static Tupla<Integer, Integer> cargarEn(Path archivo, Repositorio repositorio) throws IOException {
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+			if (canal.size() > Integer.MAX_VALUE)
+				throw new IOException("La instantánea supera los 2 GB que se pueden mapear de una vez.");
+
+			MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+
+			if (datos.remaining() < 16 || datos.getInt() != firma)
+				throw new IOException("El archivo " + archivo + " no es una instantánea de HomeSolution.");
+
+			int versionLeida = datos.getInt();
+			if (versionLeida != version)
+				throw new IOException("Versión de instantánea no soportada: " + versionLeida);
+
+			Tupla<Integer, Integer> mayores = new Tupla<>(datos.getInt(), datos.getInt());
+			repositorio.reservarCapacidad(mayores.getValor2(), mayores.getValor1());
+
+			int cantidadDeEmpleados = datos.getInt();
+			for (int i = 0; i < cantidadDeEmpleados; i++)
+				repositorio.guardarEmpleado(leerEmpleado(datos));
+
+			int cantidadDeProyectos = datos.getInt();
+			for (int i = 0; i < cantidadDeProyectos; i++)
+				repositorio.guardarProyecto(leerProyecto(datos, repositorio::obtenerEmpleado));
+
+			return mayores;
+		} catch (BufferUnderflowException e) {
+			throw new IOException("La instantánea " + archivo + " está incompleta.", e);
+		}
+	}
+
+	protected static Empleado leerEmpleado(ByteBuffer datos) throws IOException {
+		byte tipo = datos.get();
+		if (tipo != empleadoContratado && tipo != empleadoDePlanta)
+			throw new IOException("Tipo de empleado desconocido: " + tipo);
+
+		int legajo = datos.getInt();
+		String nombre = leerTexto(datos);
+		double valor = datos.getDouble();
+
+		Empleado empleado;
+		if (tipo == empleadoDePlanta)
+			empleado = new EmpleadoDePlanta(legajo, nombre, valor, leerTexto(datos));
+		else
+			empleado = new EmpleadoContratado(legajo, nombre, valor);
+
+		empleado.restaurar(datos.getInt(), datos.get() != 0);
+
+		return empleado;
+	}
+
+	protected static Proyecto leerProyecto(ByteBuffer datos, IntFunction<Empleado> empleados) throws IOException {
+		int numero = datos.getInt();
+		String domicilio = leerTexto(datos);
+		Cliente cliente = new Cliente(leerTexto(datos), leerTexto(datos), leerTexto(datos));
+		LocalDate inicio = LocalDate.ofEpochDay(datos.getLong());
+		LocalDate finEstimado = LocalDate.ofEpochDay(datos.getLong());
+		LocalDate finReal = LocalDate.ofEpochDay(datos.getLong());
+		byte ordinal = datos.get();
+		if (ordinal < 0 || ordinal >= estados.length)
+			throw new IOException("Estado desconocido en el proyecto " + numero + ": " + ordinal);
+
+		Estado estado = estados[ordinal];
+		boolean huboRetrasos = datos.get() != 0;
+		int siguienteOrden = datos.getInt();
+		int cantidadDeTareas = datos.getInt();
+		if (cantidadDeTareas < 0 || cantidadDeTareas > datos.remaining())
+			throw new IOException("Cantidad de tareas inválida en el proyecto " + numero + ": " + cantidadDeTareas);
+
+		Proyecto proyecto = new Proyecto(numero, domicilio, cliente, inicio, finEstimado, finReal, estado,
+				huboRetrasos, cantidadDeTareas, siguienteOrden);
+
+		for (int i = 0; i < cantidadDeTareas; i++) {
+			String titulo = leerTexto(datos);
+			String descripcion = leerTexto(datos);
+			int orden = datos.getInt();
+			double diasEstimados = datos.getDouble();
+			double diasDeRetraso = datos.getDouble();
+			boolean finalizada = datos.get() != 0;
+			int legajo = datos.getInt();
+
+			Empleado empleado = (legajo == 0 ? null : empleados.apply(legajo));
+			if (legajo != 0 && empleado == null)
+				throw new IOException("Legajo inexistente en el proyecto " + numero + ": " + legajo);
+
+			proyecto.restaurarTarea(
+					new Tarea(titulo, descripcion, orden, diasEstimados, diasDeRetraso, finalizada, empleado));
+		}
+
+		return proyecto;
+	}
+
+	private static String leerTexto(ByteBuffer datos) throws IOException {
+		int longitud = datos.getInt();
+
+		if (longitud == -1)
+			return null;
+
+		if (longitud < -1 || longitud > datos.remaining())
+			throw new IOException("Longitud de texto inválida: " + longitud);
+
+		byte[] bytes = new byte[longitud];
+		datos.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void escribir(Escritura escritura) {
+		try {
+			escritura.escribir();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Escritura {
+		void escribir() throws IOException;
+	}
+}
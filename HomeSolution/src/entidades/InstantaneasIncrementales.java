@@ -0,0 +1,365 @@
+package entidades;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instantáneas de un HomeSolution guardadas como una base completa más deltas
+ * con lo que cambió desde el delta anterior.
+ *
+ * El directorio tiene una base-n.snap, con el formato de Instantanea, y deltas
+ * delta-m.snap con m mayor que n. Para saber qué cambió, el HomeSolution que
+ * devuelve cargar() usa un RepositorioConCambios; guardar() escribe sólo esos
+ * empleados y proyectos, así que lo que escribe depende de cuántos cambios hubo
+ * y no de cuántos proyectos hay. Cada deltasPorBase deltas, un hilo en segundo
+ * plano arma una base nueva a partir de la base y los deltas guardados
+ * (leyendo los archivos, sin tocar el HomeSolution en uso) y borra los archivos
+ * que reemplaza.
+ *
+ * Formato de un delta (versión 1), big-endian:
+ *
+ * <pre>
+ * encabezado: int firma, int versión, int mayor número de proyecto, int mayor legajo
+ * int cantidad de empleados, y cada empleado como en Instantanea
+ * int cantidad de proyectos, y cada proyecto como en Instantanea
+ * int cantidad de proyectos quitados, y el número de cada uno
+ * </pre>
+ *
+ * Los proyectos archivados con archivarFinalizadosEn salen del repositorio, así
+ * que un delta los registra como quitados; siguen en el archivo de finalizados,
+ * que hay que volver a abrir con archivarFinalizadosEn después de cargar.
+ */
+public class InstantaneasIncrementales {
+	private static final int firma = 0x48534454; // "HSDT"
+	private static final int version = 1;
+
+	private static final String prefijoDeBase = "base-";
+	private static final String prefijoDeDelta = "delta-";
+	private static final String sufijo = ".snap";
+
+	private final Path directorio;
+	private final int deltasPorBase;
+
+	private HomeSolution homeSolution;
+	private RepositorioConCambios repositorio;
+	private int ultimoGuardado; // Número de la última base o delta, 0 si no hay ninguno.
+	private int deltasSinFusionar;
+
+	private final Object candadoDeFusion = new Object();
+	private final ExecutorService fusionador;
+	private volatile IOException errorDeFusion;
+
+	public InstantaneasIncrementales(Path directorio, int deltasPorBase) throws IOException {
+		if (deltasPorBase <= 0)
+			throw new IllegalArgumentException("La cantidad de deltas por base debe ser mayor a 0.");
+
+		this.directorio = directorio;
+		this.deltasPorBase = deltasPorBase;
+
+		Files.createDirectories(directorio);
+
+		fusionador = Executors.newSingleThreadExecutor(tarea -> {
+			Thread hilo = new Thread(tarea, "fusion-" + directorio.getFileName());
+			hilo.setDaemon(true);
+			return hilo;
+		});
+	}
+
+	/**
+	 * Carga la última base y le aplica sus deltas, o crea un HomeSolution vacío si
+	 * el directorio no tiene instantáneas. guardar() guarda los cambios que se
+	 * hagan sobre el HomeSolution devuelto.
+	 */
+	public HomeSolution cargar() throws IOException {
+		RepositorioConCambios cargado = new RepositorioConCambios();
+		int[] mayores = new int[2];
+
+		synchronized (candadoDeFusion) {
+			int base = ultimo(prefijoDeBase);
+
+			ultimoGuardado = base;
+			deltasSinFusionar = 0;
+
+			if (base > 0)
+				acumular(mayores, Instantanea.cargarEn(archivo(prefijoDeBase, base), cargado));
+
+			for (int numero : numeros(prefijoDeDelta)) {
+				if (numero <= base) { // Quedó de una fusión interrumpida después de guardar la base.
+					Files.delete(archivo(prefijoDeDelta, numero));
+					continue;
+				}
+
+				acumular(mayores, aplicarDelta(archivo(prefijoDeDelta, numero), cargado));
+				ultimoGuardado = numero;
+				deltasSinFusionar++;
+			}
+		}
+
+		cargado.tomarEmpleadosModificados();
+		cargado.tomarProyectosModificados();
+
+		GeneradorDeIds numerosDeProyecto = new GeneradorDeIds();
+		GeneradorDeIds legajos = new GeneradorDeIds();
+		numerosDeProyecto.reservarHasta(mayores[0]);
+		legajos.reservarHasta(mayores[1]);
+
+		repositorio = cargado;
+		homeSolution = new HomeSolution(cargado, numerosDeProyecto, legajos);
+
+		return homeSolution;
+	}
+
+	private static void acumular(int[] mayores, Tupla<Integer, Integer> leidos) {
+		mayores[0] = Math.max(mayores[0], leidos.getValor1());
+		mayores[1] = Math.max(mayores[1], leidos.getValor2());
+	}
+
+	/**
+	 * Guarda un delta con los empleados y proyectos que cambiaron desde la carga o
+	 * desde el guardado anterior, o una base completa si el directorio todavía no
+	 * tiene ninguna.
+	 *
+	 * @return La cantidad de empleados y proyectos escritos.
+	 */
+	public int guardar() throws IOException {
+		if (homeSolution == null)
+			throw new IllegalStateException("Primero hay que cargar el HomeSolution.");
+		if (errorDeFusion != null)
+			throw new IOException("Falló una fusión en segundo plano.", errorDeFusion);
+
+		BitSet empleados = repositorio.tomarEmpleadosModificados();
+		BitSet proyectos = repositorio.tomarProyectosModificados();
+
+		try {
+			if (ultimoGuardado == 0) {
+				Instantanea.guardar(homeSolution, archivo(prefijoDeBase, 1));
+				ultimoGuardado = 1;
+
+				return homeSolution.cantidadDeEmpleados() + homeSolution.cantidadDeProyectos();
+			}
+
+			if (empleados.isEmpty() && proyectos.isEmpty())
+				return 0;
+
+			escribirDelta(archivo(prefijoDeDelta, ultimoGuardado + 1), empleados, proyectos);
+		} catch (IOException | RuntimeException e) {
+			repositorio.devolverCambios(empleados, proyectos);
+			throw e;
+		}
+
+		ultimoGuardado++;
+
+		if (++deltasSinFusionar >= deltasPorBase) {
+			int hasta = ultimoGuardado;
+			deltasSinFusionar = 0;
+			fusionador.execute(() -> fusionarEnSegundoPlano(hasta));
+		}
+
+		return empleados.cardinality() + proyectos.cardinality();
+	}
+
+	private void escribirDelta(Path archivo, BitSet empleados, BitSet proyectos) throws IOException {
+		List<Proyecto> guardados = new ArrayList<>(proyectos.cardinality());
+		List<Integer> quitados = new ArrayList<>();
+
+		for (int numero = proyectos.nextSetBit(0); numero >= 0; numero = proyectos.nextSetBit(numero + 1)) {
+			Proyecto proyecto = repositorio.obtenerProyecto(numero);
+
+			if (proyecto != null)
+				guardados.add(proyecto);
+			else
+				quitados.add(numero);
+		}
+
+		Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+
+		try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+				DataOutputStream salida = new DataOutputStream(
+						new BufferedOutputStream(Channels.newOutputStream(canal), 1 << 16))) {
+			salida.writeInt(firma);
+			salida.writeInt(version);
+			salida.writeInt(Math.max(homeSolution.mayorNumeroDeProyecto(), 0));
+			salida.writeInt(Math.max(homeSolution.mayorLegajo(), 0));
+
+			salida.writeInt(empleados.cardinality());
+			for (int legajo = empleados.nextSetBit(0); legajo >= 0; legajo = empleados.nextSetBit(legajo + 1))
+				Instantanea.escribirEmpleado(salida, repositorio.obtenerEmpleado(legajo));
+
+			salida.writeInt(guardados.size());
+			for (Proyecto proyecto : guardados)
+				Instantanea.escribirProyecto(salida, proyecto);
+
+			salida.writeInt(quitados.size());
+			for (int numero : quitados)
+				salida.writeInt(numero);
+
+			salida.flush();
+			canal.force(true);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		Archivos.renombrar(temporal, archivo);
+	}
+
+	/**
+	 * Aplica un delta sobre el repositorio. Un empleado que ya está se actualiza en
+	 * el lugar, porque las tareas de otros proyectos lo referencian.
+	 *
+	 * @return El mayor número de proyecto y el mayor legajo que se habían
+	 *         entregado.
+	 */
+	private static Tupla<Integer, Integer> aplicarDelta(Path archivo, Repositorio repositorio) throws IOException {
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+			MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+
+			if (datos.remaining() < 16 || datos.getInt() != firma)
+				throw new IOException("El archivo " + archivo + " no es un delta de HomeSolution.");
+
+			int versionLeida = datos.getInt();
+			if (versionLeida != version)
+				throw new IOException("Versión de delta no soportada: " + versionLeida);
+
+			Tupla<Integer, Integer> mayores = new Tupla<>(datos.getInt(), datos.getInt());
+			repositorio.reservarCapacidad(mayores.getValor2(), mayores.getValor1());
+
+			int cantidadDeEmpleados = datos.getInt();
+			for (int i = 0; i < cantidadDeEmpleados; i++) {
+				Empleado leido = Instantanea.leerEmpleado(datos);
+				Empleado actual = repositorio.obtenerEmpleado(leido.obtenerLegajo());
+
+				if (actual == null)
+					repositorio.guardarEmpleado(leido);
+				else
+					actual.restaurar(leido.obtenerCantidadDeRetrasos(), leido.estaAsignado());
+			}
+
+			int cantidadDeProyectos = datos.getInt();
+			for (int i = 0; i < cantidadDeProyectos; i++)
+				repositorio.guardarProyecto(Instantanea.leerProyecto(datos, repositorio::obtenerEmpleado));
+
+			int cantidadDeQuitados = datos.getInt();
+			for (int i = 0; i < cantidadDeQuitados; i++)
+				repositorio.quitarProyecto(datos.getInt());
+
+			return mayores;
+		} catch (BufferUnderflowException e) {
+			throw new IOException("El delta " + archivo + " está incompleto.", e);
+		}
+	}
+
+	private void fusionarEnSegundoPlano(int hasta) {
+		try {
+			fusionar(hasta);
+		} catch (IOException e) {
+			errorDeFusion = e;
+		}
+	}
+
+	/**
+	 * Arma en este hilo una base con todo lo guardado hasta ahora.
+	 */
+	public void fusionarAhora() throws IOException {
+		fusionar(ultimoGuardado);
+		deltasSinFusionar = 0;
+	}
+
+	private void fusionar(int hasta) throws IOException {
+		synchronized (candadoDeFusion) {
+			int base = ultimo(prefijoDeBase);
+
+			if (base >= hasta)
+				return;
+
+			RepositorioEnMemoria copia = new RepositorioEnMemoria();
+			int[] mayores = new int[2];
+
+			if (base > 0)
+				acumular(mayores, Instantanea.cargarEn(archivo(prefijoDeBase, base), copia));
+			for (int numero : numeros(prefijoDeDelta))
+				if (numero > base && numero <= hasta)
+					acumular(mayores, aplicarDelta(archivo(prefijoDeDelta, numero), copia));
+
+			GeneradorDeIds numerosDeProyecto = new GeneradorDeIds();
+			GeneradorDeIds legajos = new GeneradorDeIds();
+			numerosDeProyecto.reservarHasta(mayores[0]);
+			legajos.reservarHasta(mayores[1]);
+
+			// guardar() fuerza la base y el directorio, así que la base está en disco
+			// antes de borrar los deltas que reemplaza.
+			Instantanea.guardar(new HomeSolution(copia, numerosDeProyecto, legajos), archivo(prefijoDeBase, hasta));
+
+			for (int numero : numeros(prefijoDeDelta))
+				if (numero <= hasta)
+					Files.deleteIfExists(archivo(prefijoDeDelta, numero));
+
+			for (int numero : numeros(prefijoDeBase))
+				if (numero < hasta)
+					Files.deleteIfExists(archivo(prefijoDeBase, numero));
+
+			Archivos.sincronizarDirectorio(directorio);
+		}
+	}
+
+	/**
+	 * Espera a que termine la fusión en curso. No guarda los cambios pendientes.
+	 */
+	public void cerrar() throws IOException {
+		fusionador.shutdown();
+		try {
+			fusionador.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (errorDeFusion != null)
+			throw new IOException("Falló una fusión en segundo plano.", errorDeFusion);
+	}
+
+	private Path archivo(String prefijo, int numero) {
+		return directorio.resolve(String.format("%s%010d%s", prefijo, numero, sufijo));
+	}
+
+	private int ultimo(String prefijo) throws IOException {
+		TreeSet<Integer> numeros = numeros(prefijo);
+
+		return numeros.isEmpty() ? 0 : numeros.last();
+	}
+
+	private TreeSet<Integer> numeros(String prefijo) throws IOException {
+		TreeSet<Integer> numeros = new TreeSet<>();
+
+		try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio, prefijo + "*" + sufijo)) {
+			for (Path archivo : archivos) {
+				String nombre = archivo.getFileName().toString();
+				String numero = nombre.substring(prefijo.length(), nombre.length() - sufijo.length());
+
+				try {
+					numeros.add(Integer.parseInt(numero));
+				} catch (NumberFormatException e) {
+					// No es un archivo de estas instantáneas.
+				}
+			}
+		}
+
+		return numeros;
+	}
+}
@@ -0,0 +1,208 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lector mínimo de JSON para una sola línea de un archivo NDJSON. Devuelve
+ * Map (objetos, con las claves en orden), List (arreglos), String, Double,
+ * Boolean o null.
+ */
+public class LectorJson {
+	private final String texto;
+	private int posicion;
+
+	private LectorJson(String texto) {
+		this.texto = texto;
+	}
+
+	public static Object leer(String texto) {
+		LectorJson lector = new LectorJson(texto);
+
+		Object valor = lector.leerValor();
+
+		lector.saltearEspacios();
+		if (lector.posicion < texto.length())
+			throw lector.error("Sobra contenido después del valor JSON");
+
+		return valor;
+	}
+
+	private Object leerValor() {
+		saltearEspacios();
+
+		if (posicion >= texto.length())
+			throw error("Falta un valor JSON");
+
+		char caracter = texto.charAt(posicion);
+
+		switch (caracter) {
+		case '{':
+			return leerObjeto();
+		case '[':
+			return leerArreglo();
+		case '"':
+			return leerTexto();
+		case 't':
+			return leerLiteral("true", Boolean.TRUE);
+		case 'f':
+			return leerLiteral("false", Boolean.FALSE);
+		case 'n':
+			return leerLiteral("null", null);
+		default:
+			if (caracter == '-' || (caracter >= '0' && caracter <= '9'))
+				return leerNumero();
+
+			throw error("Carácter inesperado '" + caracter + "'");
+		}
+	}
+
+	private Map<String, Object> leerObjeto() {
+		Map<String, Object> objeto = new LinkedHashMap<>();
+		posicion++;
+
+		saltearEspacios();
+		if (consumir('}'))
+			return objeto;
+
+		do {
+			saltearEspacios();
+			if (posicion >= texto.length() || texto.charAt(posicion) != '"')
+				throw error("Se esperaba el nombre de un campo");
+
+			String clave = leerTexto();
+
+			saltearEspacios();
+			if (!consumir(':'))
+				throw error("Se esperaba ':'");
+
+			objeto.put(clave, leerValor());
+
+			saltearEspacios();
+		} while (consumir(','));
+
+		if (!consumir('}'))
+			throw error("Se esperaba ',' o '}'");
+
+		return objeto;
+	}
+
+	private List<Object> leerArreglo() {
+		List<Object> arreglo = new ArrayList<>();
+		posicion++;
+
+		saltearEspacios();
+		if (consumir(']'))
+			return arreglo;
+
+		do {
+			arreglo.add(leerValor());
+			saltearEspacios();
+		} while (consumir(','));
+
+		if (!consumir(']'))
+			throw error("Se esperaba ',' o ']'");
+
+		return arreglo;
+	}
+
+	private String leerTexto() {
+		StringBuilder resultado = new StringBuilder();
+		posicion++;
+
+		while (posicion < texto.length()) {
+			char caracter = texto.charAt(posicion++);
+
+			if (caracter == '"')
+				return resultado.toString();
+
+			if (caracter != '\\') {
+				resultado.append(caracter);
+				continue;
+			}
+
+			if (posicion >= texto.length())
+				break;
+
+			char escapado = texto.charAt(posicion++);
+			switch (escapado) {
+			case '"':
+			case '\\':
+			case '/':
+				resultado.append(escapado);
+				break;
+			case 'b':
+				resultado.append('\b');
+				break;
+			case 'f':
+				resultado.append('\f');
+				break;
+			case 'n':
+				resultado.append('\n');
+				break;
+			case 'r':
+				resultado.append('\r');
+				break;
+			case 't':
+				resultado.append('\t');
+				break;
+			case 'u':
+				if (posicion + 4 > texto.length())
+					throw error("Secuencia \\u incompleta");
+				try {
+					resultado.append((char) Integer.parseInt(texto.substring(posicion, posicion + 4), 16));
+				} catch (NumberFormatException e) {
+					throw error("Secuencia \\u inválida");
+				}
+				posicion += 4;
+				break;
+			default:
+				throw error("Secuencia de escape inválida '\\" + escapado + "'");
+			}
+		}
+
+		throw error("Texto sin cerrar");
+	}
+
+	private Double leerNumero() {
+		int inicio = posicion;
+
+		while (posicion < texto.length() && "+-0123456789.eE".indexOf(texto.charAt(posicion)) >= 0)
+			posicion++;
+
+		try {
+			return Double.valueOf(texto.substring(inicio, posicion));
+		} catch (NumberFormatException e) {
+			throw error("Número inválido");
+		}
+	}
+
+	private Object leerLiteral(String literal, Object valor) {
+		if (!texto.startsWith(literal, posicion))
+			throw error("Valor inválido");
+
+		posicion += literal.length();
+
+		return valor;
+	}
+
+	private void saltearEspacios() {
+		while (posicion < texto.length() && Character.isWhitespace(texto.charAt(posicion)))
+			posicion++;
+	}
+
+	private boolean consumir(char caracter) {
+		if (posicion < texto.length() && texto.charAt(posicion) == caracter) {
+			posicion++;
+			return true;
+		}
+
+		return false;
+	}
+
+	private IllegalArgumentException error(String mensaje) {
+		return new IllegalArgumentException(mensaje + " en la columna " + (posicion + 1) + ".");
+	}
+}
@@ -0,0 +1,130 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Aplica una lista de comandos todo o nada.
+ *
+ * Los comandos se agrupan por proyecto: cada proyecto se busca una sola vez y
+ * se le aplican todos sus comandos seguidos, en el orden de la lista, antes de
+ * pasar al siguiente. Los proyectos se toman en el orden de su primer comando.
+ * Como los comandos de proyectos distintos no se intercalan, los que eligen un
+ * empleado pueden elegir otro que si se llamaran las operaciones de a una en el
+ * orden de la lista. El costo del proyecto se actualiza con cada comando, así
+ * que no hay que recalcularlo, y quien guarda lo hace una vez por proyecto.
+ *
+ * Lo necesario para deshacerlos se lleva en un Respaldo: antes de aplicar los
+ * comandos de un proyecto se copian él y el estado de los empleados de sus
+ * tareas, y el registro de empleados anota cada empleado antes de asignarlo o
+ * liberarlo.
+ *
+ * Un lote con su propio respaldo lo restaura si un comando falla. Uno que usa
+ * el respaldo de una unidad de trabajo de HomeSolution deja que lo restaure la
+ * unidad, que también descarta lo guardado en el repositorio.
+ */
+public class Lote {
+	private RegistroDeEmpleados empleados;
+	private Respaldo respaldo;
+	private boolean respaldoPropio;
+
+	protected Lote(RegistroDeEmpleados empleados) {
+		this(empleados, new Respaldo(empleados, null), true);
+	}
+
+	protected Lote(RegistroDeEmpleados empleados, Respaldo respaldo) {
+		this(empleados, respaldo, false);
+	}
+
+	private Lote(RegistroDeEmpleados empleados, Respaldo respaldo, boolean respaldoPropio) {
+		this.empleados = empleados;
+		this.respaldo = respaldo;
+		this.respaldoPropio = respaldoPropio;
+	}
+
+	/**
+	 * @param buscar   Devuelve el proyecto con el número indicado, o null si no
+	 *                 existe.
+	 * @param aplicado Si no es null, se llama después de aplicar cada comando, con
+	 *                 el proyecto sobre el que operó.
+	 * @param guardar  Si no es null, se llama una vez por proyecto, después de
+	 *                 aplicar todos sus comandos.
+	 * @throws IllegalArgumentException Si algún comando falla. En ese caso no
+	 *                                  queda aplicado ninguno.
+	 */
+	protected void aplicar(List<Comando> comandos, IntFunction<Proyecto> buscar,
+			BiConsumer<Comando, Proyecto> aplicado, Consumer<Proyecto> guardar) throws IllegalArgumentException {
+		if (comandos == null)
+			throw new IllegalArgumentException("La lista de comandos no puede ser nula.");
+
+		LinkedHashMap<Integer, List<Integer>> posicionesPorProyecto = new LinkedHashMap<>();
+
+		for (int posicion = 0; posicion < comandos.size(); posicion++) {
+			Comando comando = comandos.get(posicion);
+
+			if (comando == null)
+				throw new IllegalArgumentException("El comando " + posicion + " del lote es nulo.");
+
+			posicionesPorProyecto.computeIfAbsent(comando.obtenerNumero(), numero -> new ArrayList<>()).add(posicion);
+		}
+
+		if (respaldoPropio)
+			empleados.anotarCambiosEn(respaldo);
+		try {
+			for (Map.Entry<Integer, List<Integer>> grupo : posicionesPorProyecto.entrySet()) {
+				List<Integer> posiciones = grupo.getValue();
+				Proyecto proyecto = tomar(grupo.getKey(), buscar, comandos, posiciones.get(0));
+
+				for (int posicion : posiciones) {
+					Comando comando = comandos.get(posicion);
+
+					try {
+						comando.aplicarEn(proyecto, empleados);
+					} catch (RuntimeException e) {
+						throw fallo(comandos, posicion, e);
+					}
+
+					if (aplicado != null)
+						aplicado.accept(comando, proyecto);
+				}
+
+				if (guardar != null)
+					guardar.accept(proyecto);
+			}
+		} catch (RuntimeException e) {
+			if (respaldoPropio)
+				respaldo.restaurar();
+
+			throw e;
+		} finally {
+			if (respaldoPropio)
+				empleados.anotarCambiosEn(null);
+		}
+	}
+
+	/**
+	 * Busca el proyecto y lo copia en el respaldo. Si no existe, falla el primero
+	 * de sus comandos.
+	 */
+	private Proyecto tomar(int numero, IntFunction<Proyecto> buscar, List<Comando> comandos, int posicion) {
+		Proyecto proyecto = buscar.apply(numero);
+
+		if (proyecto == null)
+			throw fallo(comandos, posicion,
+					new IllegalArgumentException("No existe ningún proyecto con código " + numero));
+
+		respaldo.copiar(proyecto);
+
+		return proyecto;
+	}
+
+	private static IllegalArgumentException fallo(List<Comando> comandos, int posicion, RuntimeException e) {
+		return new IllegalArgumentException("No se aplicó el lote: falló el comando " + posicion + " ("
+				+ comandos.get(posicion) + "). " + e.getMessage(), e);
+	}
+}
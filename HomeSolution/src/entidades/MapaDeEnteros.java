@@ -0,0 +1,119 @@
+package entidades;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Mapa de claves int a valores, direccionado directamente por la clave. Está
+ * pensado para los números de proyecto y los legajos, que se generan de forma
+ * secuencial: no encajona claves ni crea un nodo por entrada.
+ */
+public class MapaDeEnteros<V> {
+	private static final int capacidadInicial = 16;
+
+	private Object[] valores;
+	private int cantidad;
+
+	public MapaDeEnteros() {
+		this(capacidadInicial);
+	}
+
+	public MapaDeEnteros(int capacidad) {
+		valores = new Object[Math.max(capacidad, 1)];
+		cantidad = 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected V obtener(int clave) {
+		if (clave < 0 || clave >= valores.length)
+			return null;
+
+		return (V) valores[clave];
+	}
+
+	protected V obtener(Integer clave) {
+		if (clave == null)
+			return null;
+
+		return obtener(clave.intValue());
+	}
+
+	protected V guardar(int clave, V valor) {
+		if (clave < 0)
+			throw new IllegalArgumentException("La clave no puede ser negativa: " + clave);
+		if (valor == null)
+			throw new IllegalArgumentException("El valor no puede ser nulo.");
+
+		asegurarCapacidad(clave + 1);
+
+		V anterior = obtener(clave);
+		valores[clave] = valor;
+
+		if (anterior == null)
+			cantidad++;
+
+		return anterior;
+	}
+
+	protected V remover(int clave) {
+		V anterior = obtener(clave);
+
+		if (anterior != null) {
+			valores[clave] = null;
+			cantidad--;
+		}
+
+		return anterior;
+	}
+
+	protected boolean contiene(int clave) {
+		return obtener(clave) != null;
+	}
+
+	protected int tamanio() {
+		return cantidad;
+	}
+
+	protected boolean estaVacio() {
+		return cantidad == 0;
+	}
+
+	/**
+	 * Devuelve la menor clave con valor que sea mayor o igual a desde, o -1 si no
+	 * hay ninguna. Permite recorrer el mapa sin crear iteradores:
+	 * {@code for (int k = mapa.siguienteClave(0); k >= 0; k = mapa.siguienteClave(k + 1))}
+	 */
+	protected int siguienteClave(int desde) {
+		for (int clave = Math.max(desde, 0); clave < valores.length; clave++) {
+			if (valores[clave] != null)
+				return clave;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * @return La mayor clave con valor, o -1 si el mapa está vacío.
+	 */
+	protected int mayorClave() {
+		for (int clave = valores.length - 1; clave >= 0; clave--) {
+			if (valores[clave] != null)
+				return clave;
+		}
+
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void recorrer(Consumer<? super V> accion) {
+		for (Object valor : valores) {
+			if (valor != null)
+				accion.accept((V) valor);
+		}
+	}
+
+	protected void asegurarCapacidad(int capacidad) {
+		if (capacidad > valores.length)
+			valores = Arrays.copyOf(valores, Math.max(capacidad, valores.length * 2));
+	}
+}
@@ -0,0 +1,146 @@
+package entidades;
+
+import java.util.function.Consumer;
+
+/**
+ * Mapa inmutable de claves enteras no negativas a valores. Cada modificación
+ * devuelve un mapa nuevo que comparte con el anterior todo menos el camino
+ * hasta la clave modificada: es un árbol de 32 ramas por nivel indexado por los
+ * bits de la clave, así que copia a lo sumo log32(clave) nodos de 32
+ * referencias. Pensado para claves densas como los legajos y los números de
+ * proyecto.
+ */
+public final class MapaPersistente<V> {
+	private static final int bitsPorNivel = 5;
+	private static final int ramas = 1 << bitsPorNivel;
+	private static final int mascara = ramas - 1;
+
+	private static final MapaPersistente<Object> vacio = new MapaPersistente<>(null, 0, 0);
+
+	private final Object[] raiz; // Nodos internos: Object[] de hijos. Hojas: Object[] de valores.
+	private final int desplazamiento; // Bits de la clave que quedan por debajo de la raíz.
+	private final int tamanio;
+
+	private MapaPersistente(Object[] raiz, int desplazamiento, int tamanio) {
+		this.raiz = raiz;
+		this.desplazamiento = desplazamiento;
+		this.tamanio = tamanio;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <V> MapaPersistente<V> vacio() {
+		return (MapaPersistente<V>) vacio;
+	}
+
+	public int tamanio() {
+		return tamanio;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V obtener(int clave) {
+		if (clave < 0 || raiz == null || !entra(clave, desplazamiento))
+			return null;
+
+		Object[] nodo = raiz;
+		for (int nivel = desplazamiento; nivel > 0; nivel -= bitsPorNivel) {
+			nodo = (Object[]) nodo[(clave >>> nivel) & mascara];
+
+			if (nodo == null)
+				return null;
+		}
+
+		return (V) nodo[clave & mascara];
+	}
+
+	/**
+	 * @return Un mapa igual a este pero con el valor indicado en la clave. Si el
+	 *         valor es null, equivale a sin(clave).
+	 */
+	public MapaPersistente<V> con(int clave, V valor) {
+		if (clave < 0)
+			throw new IllegalArgumentException("La clave no puede ser negativa: " + clave);
+		if (valor == null)
+			return sin(clave);
+
+		Object[] nuevaRaiz = raiz;
+		int nuevoDesplazamiento = desplazamiento;
+
+		while (!entra(clave, nuevoDesplazamiento)) { // Agrega niveles arriba hasta que la clave entre.
+			if (nuevaRaiz != null) {
+				Object[] arriba = new Object[ramas];
+				arriba[0] = nuevaRaiz;
+				nuevaRaiz = arriba;
+			}
+			nuevoDesplazamiento += bitsPorNivel;
+		}
+
+		int nuevoTamanio = tamanio + (obtener(clave) == null ? 1 : 0);
+
+		return new MapaPersistente<>(copiarCon(nuevaRaiz, nuevoDesplazamiento, clave, valor), nuevoDesplazamiento,
+				nuevoTamanio);
+	}
+
+	public MapaPersistente<V> sin(int clave) {
+		if (obtener(clave) == null)
+			return this;
+
+		return new MapaPersistente<>(copiarSin(raiz, desplazamiento, clave), desplazamiento, tamanio - 1);
+	}
+
+	/**
+	 * Recorre los valores en orden de clave.
+	 */
+	public void recorrer(Consumer<? super V> accion) {
+		if (raiz != null)
+			recorrer(raiz, desplazamiento, accion);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <V> void recorrer(Object[] nodo, int nivel, Consumer<? super V> accion) {
+		for (Object hijo : nodo) {
+			if (hijo == null)
+				continue;
+
+			if (nivel == 0)
+				accion.accept((V) hijo);
+			else
+				recorrer((Object[]) hijo, nivel - bitsPorNivel, accion);
+		}
+	}
+
+	private static boolean entra(int clave, int desplazamiento) {
+		return desplazamiento + bitsPorNivel >= 31 || (clave >>> (desplazamiento + bitsPorNivel)) == 0;
+	}
+
+	private static Object[] copiarCon(Object[] nodo, int nivel, int clave, Object valor) {
+		Object[] copia = (nodo == null ? new Object[ramas] : nodo.clone());
+		int rama = (clave >>> nivel) & mascara;
+
+		if (nivel == 0)
+			copia[rama] = valor;
+		else
+			copia[rama] = copiarCon((Object[]) copia[rama], nivel - bitsPorNivel, clave, valor);
+
+		return copia;
+	}
+
+	/**
+	 * @return La copia del nodo sin la clave, o null si quedó vacío.
+	 */
+	private static Object[] copiarSin(Object[] nodo, int nivel, int clave) {
+		Object[] copia = nodo.clone();
+		int rama = (clave >>> nivel) & mascara;
+
+		if (nivel == 0)
+			copia[rama] = null;
+		else
+			copia[rama] = copiarSin((Object[]) copia[rama], nivel - bitsPorNivel, clave);
+
+		for (Object hijo : copia) {
+			if (hijo != null)
+				return copia;
+		}
+
+		return null;
+	}
+}
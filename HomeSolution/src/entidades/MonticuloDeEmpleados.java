@@ -0,0 +1,160 @@
+package entidades;
+
+import java.util.Arrays;
+
+/**
+ * Montículo de mínimos de empleados indexado por legajo. Ordena por cantidad de
+ * retrasos (y por legajo ante empates) y permite remover o reubicar a un
+ * empleado en O(log n) cuando cambia su cantidad de retrasos.
+ */
+public class MonticuloDeEmpleados {
+	private static final int capacidadInicial = 16;
+
+	private Empleado[] empleados;
+	private int[] posiciones; // posiciones[legajo] es la posición en el montículo + 1, o 0 si no está.
+	private int cantidad;
+
+	public MonticuloDeEmpleados() {
+		empleados = new Empleado[capacidadInicial];
+		posiciones = new int[capacidadInicial];
+		cantidad = 0;
+	}
+
+	protected void agregar(Empleado empleado) {
+		int legajo = empleado.obtenerLegajo();
+
+		if (contiene(legajo))
+			return;
+
+		asegurarCapacidad(legajo);
+
+		empleados[cantidad] = empleado;
+		posiciones[legajo] = cantidad + 1;
+		cantidad++;
+
+		subir(cantidad - 1);
+	}
+
+	protected boolean remover(int legajo) {
+		if (!contiene(legajo))
+			return false;
+
+		int posicion = posiciones[legajo] - 1;
+		int ultima = cantidad - 1;
+
+		intercambiar(posicion, ultima);
+
+		empleados[ultima] = null;
+		posiciones[legajo] = 0;
+		cantidad--;
+
+		if (posicion < cantidad) {
+			subir(posicion);
+			bajar(posicion);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Reubica al empleado luego de que cambió su cantidad de retrasos. Si el
+	 * empleado no está en el montículo no hace nada.
+	 */
+	protected void actualizar(int legajo) {
+		if (!contiene(legajo))
+			return;
+
+		int posicion = posiciones[legajo] - 1;
+
+		subir(posicion);
+		bajar(posiciones[legajo] - 1);
+	}
+
+	protected boolean contiene(int legajo) {
+		return legajo >= 0 && legajo < posiciones.length && posiciones[legajo] != 0;
+	}
+
+	protected Empleado obtenerMinimo() {
+		if (estaVacio())
+			return null;
+
+		return empleados[0];
+	}
+
+	protected Empleado extraerMinimo() {
+		Empleado minimo = obtenerMinimo();
+
+		if (minimo != null)
+			remover(minimo.obtenerLegajo());
+
+		return minimo;
+	}
+
+	protected boolean estaVacio() {
+		return cantidad == 0;
+	}
+
+	protected int tamanio() {
+		return cantidad;
+	}
+
+	private void subir(int posicion) {
+		while (posicion > 0) {
+			int padre = (posicion - 1) / 2;
+
+			if (!esMenor(empleados[posicion], empleados[padre]))
+				return;
+
+			intercambiar(posicion, padre);
+			posicion = padre;
+		}
+	}
+
+	private void bajar(int posicion) {
+		while (true) {
+			int izquierdo = 2 * posicion + 1;
+			int derecho = izquierdo + 1;
+			int menor = posicion;
+
+			if (izquierdo < cantidad && esMenor(empleados[izquierdo], empleados[menor]))
+				menor = izquierdo;
+			if (derecho < cantidad && esMenor(empleados[derecho], empleados[menor]))
+				menor = derecho;
+
+			if (menor == posicion)
+				return;
+
+			intercambiar(posicion, menor);
+			posicion = menor;
+		}
+	}
+
+	private boolean esMenor(Empleado empleado, Empleado otro) {
+		int retrasos = empleado.obtenerCantidadDeRetrasos();
+		int retrasosOtro = otro.obtenerCantidadDeRetrasos();
+
+		if (retrasos != retrasosOtro)
+			return retrasos < retrasosOtro;
+
+		return empleado.obtenerLegajo() < otro.obtenerLegajo();
+	}
+
+	private void intercambiar(int i, int j) {
+		Empleado empleadoI = empleados[i];
+		Empleado empleadoJ = empleados[j];
+
+		empleados[i] = empleadoJ;
+		empleados[j] = empleadoI;
+
+		posiciones[empleadoJ.obtenerLegajo()] = i + 1;
+		posiciones[empleadoI.obtenerLegajo()] = j + 1;
+	}
+
+	private void asegurarCapacidad(int legajo) {
+		if (cantidad == empleados.length)
+			empleados = Arrays.copyOf(empleados, empleados.length * 2);
+
+		if (legajo >= posiciones.length)
+			posiciones = Arrays.copyOf(posiciones, Math.max(legajo + 1, posiciones.length * 2));
+	}
+}
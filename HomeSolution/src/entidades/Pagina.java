@@ -0,0 +1,58 @@
+package entidades;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Porción acotada de un listado. El cursor siguiente es opaco: sólo sirve para
+ * pedir la página que continúa a esta en el mismo listado, y sigue siendo
+ * válido aunque mientras tanto se registren proyectos, empleados o tareas.
+ */
+public class Pagina<T> {
+	private static final String prefijoCursor = "hs";
+
+	private List<T> elementos;
+	private String siguienteCursor;
+
+	protected Pagina(List<T> elementos, String siguienteCursor) {
+		this.elementos = Collections.unmodifiableList(elementos);
+		this.siguienteCursor = siguienteCursor;
+	}
+
+	public List<T> obtenerElementos() {
+		return elementos;
+	}
+
+	/**
+	 * @return El cursor de la página siguiente, o null si esta es la última.
+	 */
+	public String obtenerSiguienteCursor() {
+		return siguienteCursor;
+	}
+
+	public boolean haySiguiente() {
+		return siguienteCursor != null;
+	}
+
+	protected static String codificarCursor(int clave) {
+		return prefijoCursor + Integer.toString(clave, Character.MAX_RADIX);
+	}
+
+	protected static int decodificarCursor(String cursor) {
+		if (cursor == null)
+			return -1;
+		if (!cursor.startsWith(prefijoCursor))
+			throw new IllegalArgumentException("El cursor " + cursor + " no es válido.");
+
+		try {
+			int clave = Integer.parseInt(cursor.substring(prefijoCursor.length()), Character.MAX_RADIX);
+
+			if (clave < 0)
+				throw new IllegalArgumentException("El cursor " + cursor + " no es válido.");
+
+			return clave;
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("El cursor " + cursor + " no es válido.");
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package entidades;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índice de proyectos por estado. Lo actualizan las transiciones de estado de
+ * cada Proyecto, de modo que listar los proyectos de un estado no requiere
+ * recorrer todos los proyectos. Cada estado se ordena por número de proyecto,
+ * lo que permite retomar un listado desde un cursor aunque se sigan agregando
+ * proyectos.
+ */
+public class ProyectosPorEstado {
+	private EnumMap<Estado, ConcurrentSkipListMap<Integer, Proyecto>> proyectos;
+
+	public ProyectosPorEstado() {
+		proyectos = new EnumMap<>(Estado.class);
+
+		for (Estado estado : Estado.values())
+			proyectos.put(estado, new ConcurrentSkipListMap<>());
+	}
+
+	protected void agregar(Proyecto proyecto) {
+		proyectos.get(proyecto.obtenerEstado()).put(proyecto.obtenerId(), proyecto);
+
+		proyecto.indexarEn(this);
+	}
+
+	protected void mover(Proyecto proyecto, Estado anterior, Estado nuevo) {
+		int idProyecto = proyecto.obtenerId();
+
+		proyectos.get(anterior).remove(idProyecto);
+		proyectos.get(nuevo).put(idProyecto, proyecto);
+	}
+
+	protected void quitar(Proyecto proyecto) {
+		proyectos.get(proyecto.obtenerEstado()).remove(proyecto.obtenerId());
+	}
+
+	protected Collection<Proyecto> obtener(Estado estado) {
+		return proyectos.get(estado).values();
+	}
+
+	protected void paginar(Estado estado, ArmadorDePagina<Proyecto, ?> armador) {
+		Collection<Proyecto> siguientes = proyectos.get(estado).tailMap(armador.despuesDe(), false).values();
+
+		for (Proyecto proyecto : siguientes) {
+			if (!armador.agregar(proyecto.obtenerId(), proyecto))
+				return;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package entidades;
+
+import java.util.BitSet;
+import java.util.function.Consumer;
+
+/**
+ * Empleados registrados junto con el registro de los que no están asignados a
+ * ninguna tarea. Los no asignados se llevan en un montículo ordenado por
+ * retrasos y en un BitSet de legajos, que se actualizan siempre juntos. Los
+ * empleados se guardan en el repositorio, y se vuelven a guardar cada vez que
+ * cambia si están asignados o su cantidad de retrasos.
+ */
+public class RegistroDeEmpleados {
+	private Repositorio empleados;
+	private MonticuloDeEmpleados empleadosNoAsignados;
+	private BitSet legajosNoAsignados;
+	private Respaldo respaldo; // Si no es null, se le avisa antes de cambiar a un empleado, para que pueda deshacerlo.
+
+	public RegistroDeEmpleados() {
+		this(new RepositorioEnMemoria());
+	}
+
+	/**
+	 * Registra como no asignados a los empleados libres que ya están en el
+	 * repositorio.
+	 */
+	public RegistroDeEmpleados(Repositorio empleados) {
+		this.empleados = empleados;
+		empleadosNoAsignados = new MonticuloDeEmpleados();
+		legajosNoAsignados = new BitSet();
+
+		empleados.recorrerEmpleados(this::agregarSiEstaLibre);
+	}
+
+	protected void registrar(Empleado empleado) {
+		empleados.guardarEmpleado(empleado);
+
+		agregarSiEstaLibre(empleado);
+	}
+
+	private void agregarSiEstaLibre(Empleado empleado) {
+		if (empleado.estaAsignado()) // Un empleado restaurado puede venir asignado.
+			return;
+
+		empleadosNoAsignados.agregar(empleado);
+		legajosNoAsignados.set(empleado.obtenerLegajo());
+	}
+
+	/**
+	 * Prepara el registro para guardar, sin redimensionarse, legajos hasta el
+	 * indicado.
+	 */
+	protected void asegurarCapacidad(int legajo) {
+		empleados.reservarCapacidad(legajo, 0);
+	}
+
+	protected Empleado obtener(Integer legajo) {
+		if (legajo == null)
+			return null;
+
+		return empleados.obtenerEmpleado(legajo);
+	}
+
+	protected int tamanio() {
+		return empleados.cantidadDeEmpleados();
+	}
+
+	protected int mayorLegajo() {
+		return empleados.mayorLegajo();
+	}
+
+	protected void recorrerEmpleados(Consumer<Empleado> accion) {
+		empleados.recorrerEmpleados(accion);
+	}
+
+	/**
+	 * @return El empleado no asignado de menor legajo, o null si no hay ninguno.
+	 */
+	protected Empleado obtenerNoAsignado() {
+		int legajoEmpleado = legajosNoAsignados.nextSetBit(0);
+
+		if (legajoEmpleado < 0)
+			return null;
+
+		return empleados.obtenerEmpleado(legajoEmpleado);
+	}
+
+	/**
+	 * @return El empleado no asignado con menos retrasos, sin sacarlo del
+	 *         registro, o null si no hay ninguno.
+	 */
+	protected Empleado obtenerConMenosRetrasos() {
+		return empleadosNoAsignados.obtenerMinimo();
+	}
+
+	protected boolean hayNoAsignados() {
+		return !empleadosNoAsignados.estaVacio();
+	}
+
+	protected boolean estaNoAsignado(int legajoEmpleado) {
+		return legajosNoAsignados.get(legajoEmpleado);
+	}
+
+	/**
+	 * Mientras el respaldo indicado no sea null, cada empleado que se marca como
+	 * asignado o no asignado se le anota antes de cambiarlo. Se anota si estaba
+	 * asignado según este registro y no según el empleado, porque la tarea lo
+	 * marca antes de avisarle al registro.
+	 */
+	protected void anotarCambiosEn(Respaldo respaldo) {
+		this.respaldo = respaldo;
+	}
+
+	private void anotar(Empleado empleado) {
+		if (respaldo != null)
+			respaldo.copiar(empleado, !legajosNoAsignados.get(empleado.obtenerLegajo()));
+	}
+
+	protected void marcarComoAsignado(int legajoEmpleado) {
+		anotar(empleados.obtenerEmpleado(legajoEmpleado));
+
+		empleadosNoAsignados.remover(legajoEmpleado);
+		legajosNoAsignados.clear(legajoEmpleado);
+
+		empleados.guardarEmpleado(empleados.obtenerEmpleado(legajoEmpleado));
+	}
+
+	protected void marcarComoNoAsignado(Empleado empleado) {
+		anotar(empleado);
+
+		int legajoEmpleado = empleado.obtenerLegajo();
+
+		empleadosNoAsignados.agregar(empleado);
+		legajosNoAsignados.set(legajoEmpleado);
+
+		empleados.guardarEmpleado(empleado);
+	}
+
+	protected void liberar(Empleado empleado) {
+		anotar(empleado);
+
+		empleado.liberar();
+		marcarComoNoAsignado(empleado);
+	}
+
+	/**
+	 * Reubica al empleado entre los no asignados luego de que cambió su cantidad
+	 * de retrasos.
+	 */
+	protected void actualizarPrioridad(Empleado empleado) {
+		int legajoEmpleado = empleado.obtenerLegajo();
+
+		empleadosNoAsignados.actualizar(legajoEmpleado);
+
+		empleados.guardarEmpleado(empleado);
+	}
+
+	/**
+	 * Devuelve al empleado a un estado anterior y lo ubica donde corresponde
+	 * entre los no asignados. No lo guarda: se usa para deshacer una unidad de
+	 * trabajo cuyo guardado el repositorio ya descartó.
+	 */
+	protected void restaurar(Empleado empleado, int cantidadDeRetrasos, boolean estaAsignado) {
+		int legajoEmpleado = empleado.obtenerLegajo();
+		boolean estabaNoAsignado = legajosNoAsignados.get(legajoEmpleado);
+
+		empleado.restaurar(cantidadDeRetrasos, estaAsignado);
+
+		if (estaAsignado && estabaNoAsignado) {
+			empleadosNoAsignados.remover(legajoEmpleado);
+			legajosNoAsignados.clear(legajoEmpleado);
+		} else if (!estaAsignado && !estabaNoAsignado) {
+			empleadosNoAsignados.agregar(empleado);
+			legajosNoAsignados.set(legajoEmpleado);
+		} else {
+			empleadosNoAsignados.actualizar(legajoEmpleado);
+		}
+	}
+
+	/**
+	 * Saca de los no asignados a un empleado cuyo registro se deshizo. El
+	 * repositorio ya descartó haberlo guardado.
+	 */
+	protected void olvidar(Empleado empleado) {
+		int legajoEmpleado = empleado.obtenerLegajo();
+
+		if (legajosNoAsignados.get(legajoEmpleado)) {
+			empleadosNoAsignados.remover(legajoEmpleado);
+			legajosNoAsignados.clear(legajoEmpleado);
+		}
+	}
+
+	protected Object[] noAsignados() {
+		Object[] noAsignados = new Object[empleadosNoAsignados.tamanio()];
+
+		int i = 0;
+		for (int legajo = legajosNoAsignados.nextSetBit(0); legajo >= 0; legajo = legajosNoAsignados
+				.nextSetBit(legajo + 1)) {
+			noAsignados[i++] = empleados.obtenerEmpleado(legajo);
+		}
+
+		return noAsignados;
+	}
+
+	protected void recorrer(VisitanteDeEmpleados visitante) {
+		for (int legajo = empleados.siguienteLegajo(0); legajo >= 0; legajo = empleados.siguienteLegajo(legajo + 1)) {
+			Empleado empleado = empleados.obtenerEmpleado(legajo);
+
+			visitante.visitar(legajo, empleado.obtenerNombre());
+		}
+	}
+
+	protected void recorrerNoAsignados(VisitanteDeEmpleados visitante) {
+		for (int legajo = legajosNoAsignados.nextSetBit(0); legajo >= 0; legajo = legajosNoAsignados
+				.nextSetBit(legajo + 1)) {
+			Empleado empleado = empleados.obtenerEmpleado(legajo);
+
+			visitante.visitar(legajo, empleado.obtenerNombre());
+		}
+	}
+
+	protected void paginar(ArmadorDePagina<Empleado, ?> armador) {
+		for (int legajo = empleados.siguienteLegajo(armador.despuesDe() + 1); legajo >= 0; legajo = empleados
+				.siguienteLegajo(legajo + 1)) {
+			if (!armador.agregar(legajo, empleados.obtenerEmpleado(legajo)))
+				return;
+		}
+	}
+
+	protected void paginarNoAsignados(ArmadorDePagina<Empleado, ?> armador) {
+		int primerLegajo = legajosNoAsignados.nextSetBit(armador.despuesDe() + 1);
+
+		for (int legajo = primerLegajo; legajo >= 0; legajo = legajosNoAsignados.nextSetBit(legajo + 1)) {
+			if (!armador.agregar(legajo, empleados.obtenerEmpleado(legajo)))
+				return;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package entidades;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Dónde guarda un HomeSolution sus empleados y sus proyectos (cada proyecto con
+ * sus tareas).
+ *
+ * Los empleados y proyectos que devuelve un repositorio son los mismos objetos
+ * que usa el HomeSolution: cambiarlos no los guarda, así que después de cada
+ * cambio el HomeSolution vuelve a llamar a guardarEmpleado o guardarProyecto.
+ * Un proyecto se guarda siempre entero, con todas sus tareas.
+ *
+ * Cada operación del HomeSolution guarda dentro de una unidad de trabajo
+ * (iniciarCambios ... terminarCambios): por ejemplo, asignar un responsable
+ * guarda al empleado y al proyecto, y una caída no puede dejar guardado uno
+ * sin el otro.
+ */
+public interface Repositorio {
+	/**
+	 * @return El empleado con ese legajo, o null si no hay ninguno.
+	 */
+	Empleado obtenerEmpleado(int legajo);
+
+	/**
+	 * @return El proyecto con ese número, o null si no hay ninguno.
+	 */
+	Proyecto obtenerProyecto(int numero);
+
+	/**
+	 * Agrega el empleado o reemplaza el que tenía su legajo.
+	 */
+	void guardarEmpleado(Empleado empleado);
+
+	/**
+	 * Agrega el proyecto, con sus tareas, o reemplaza el que tenía su número.
+	 */
+	void guardarProyecto(Proyecto proyecto);
+
+	void quitarProyecto(int numero);
+
+	/**
+	 * Empieza una unidad de trabajo: lo que se guarde o quite hasta
+	 * terminarCambios se escribe junto, todo o nada. Las unidades no se anidan.
+	 */
+	void iniciarCambios();
+
+	/**
+	 * Escribe lo guardado desde iniciarCambios.
+	 */
+	void terminarCambios();
+
+	/**
+	 * Termina la unidad de trabajo sin escribir lo que todavía no se escribió.
+	 * No hace nada si no hay una unidad abierta.
+	 */
+	void descartarCambios();
+
+	/**
+	 * @return Si guardar, quitar o terminar una unidad de trabajo pueden fallar.
+	 *         Si no, HomeSolution no copia los proyectos antes de cambiarlos.
+	 */
+	boolean puedeFallar();
+
+	/**
+	 * @return El menor legajo guardado que sea mayor o igual a desde, o -1 si no
+	 *         hay ninguno.
+	 */
+	int siguienteLegajo(int desde);
+
+	/**
+	 * Recorre los empleados en orden de legajo.
+	 */
+	void recorrerEmpleados(Consumer<? super Empleado> accion);
+
+	/**
+	 * Recorre los proyectos en orden de número.
+	 */
+	void recorrerProyectos(Consumer<? super Proyecto> accion);
+
+	int cantidadDeEmpleados();
+
+	int cantidadDeProyectos();
+
+	/**
+	 * @return El mayor legajo guardado, o -1 si no hay empleados.
+	 */
+	int mayorLegajo();
+
+	/**
+	 * @return El mayor número de proyecto guardado, o -1 si no hay proyectos.
+	 */
+	int mayorNumeroDeProyecto();
+
+	/**
+	 * Prepara el repositorio para guardar legajos y números de proyecto hasta los
+	 * indicados sin tener que agrandarse de a poco.
+	 */
+	void reservarCapacidad(int legajo, int numero);
+
+	void cerrar() throws IOException;
+}
@@ -0,0 +1,77 @@
+package entidades;
+
+import java.util.BitSet;
+
+/**
+ * Repositorio en memoria que además anota qué empleados y proyectos se
+ * guardaron, es decir, cuáles cambiaron: un HomeSolution vuelve a guardar un
+ * proyecto cuando se asigna, se retrasa o se finaliza una de sus tareas, y un
+ * empleado cuando cambia si está asignado o su cantidad de retrasos.
+ *
+ * Las anotaciones son un BitSet por legajo y otro por número, así que tomarlas
+ * cuesta lo mismo sin importar cuántos empleados y proyectos haya guardados.
+ */
+public class RepositorioConCambios extends RepositorioEnMemoria {
+	private BitSet empleadosModificados;
+	private BitSet proyectosModificados; // Incluye los quitados.
+
+	public RepositorioConCambios() {
+		empleadosModificados = new BitSet();
+		proyectosModificados = new BitSet();
+	}
+
+	@Override
+	public void guardarEmpleado(Empleado empleado) {
+		super.guardarEmpleado(empleado);
+
+		empleadosModificados.set(empleado.obtenerLegajo());
+	}
+
+	@Override
+	public void guardarProyecto(Proyecto proyecto) {
+		super.guardarProyecto(proyecto);
+
+		proyectosModificados.set(proyecto.obtenerId());
+	}
+
+	@Override
+	public void quitarProyecto(int numero) {
+		super.quitarProyecto(numero);
+
+		proyectosModificados.set(numero);
+	}
+
+	/**
+	 * @return Los legajos de los empleados modificados desde la llamada anterior.
+	 */
+	protected BitSet tomarEmpleadosModificados() {
+		BitSet modificados = empleadosModificados;
+		empleadosModificados = new BitSet();
+
+		return modificados;
+	}
+
+	/**
+	 * @return Los números de los proyectos modificados o quitados desde la llamada
+	 *         anterior.
+	 */
+	protected BitSet tomarProyectosModificados() {
+		BitSet modificados = proyectosModificados;
+		proyectosModificados = new BitSet();
+
+		return modificados;
+	}
+
+	/**
+	 * Vuelve a anotar como modificados los empleados y proyectos indicados, por
+	 * ejemplo porque no se pudieron escribir.
+	 */
+	protected void devolverCambios(BitSet empleados, BitSet proyectos) {
+		empleadosModificados.or(empleados);
+		proyectosModificados.or(proyectos);
+	}
+
+	protected boolean hayCambios() {
+		return !empleadosModificados.isEmpty() || !proyectosModificados.isEmpty();
+	}
+}
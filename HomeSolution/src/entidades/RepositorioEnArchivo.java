@@ -0,0 +1,351 @@
+package entidades;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Repositorio que agrega cada empleado o proyecto guardado al final de un
+ * Diario, con el mismo formato que Instantanea, y que tiene en memoria la
+ * última versión de cada uno.
+ *
+ * Registros: byte tipo (empleado, proyecto o proyecto quitado) seguido del
+ * empleado, del proyecto o del número de proyecto. Lo guardado en una unidad
+ * de trabajo va en un único registro de tipo cambios (int cantidad y, por cada
+ * uno, int longitud y el registro), con la última versión de cada empleado y
+ * proyecto, así que se recupera entero o no se recupera.
+ *
+ * La memoria sólo tiene lo que se escribió: fuera de una unidad de trabajo se
+ * escribe antes de actualizarla, y si una unidad se descarta (o falla al
+ * escribirse) la memoria vuelve a lo que tenía antes de la unidad.
+ *
+ * Al abrirlo se lee el archivo entero y, para cada legajo y número, vale el
+ * último registro. Cada guardado agrega un registro nuevo, así que el archivo
+ * crece con cada cambio; compactar() lo reescribe con un registro por empleado
+ * y proyecto, y se compacta solo al abrirlo si más de la mitad de los
+ * registros son versiones viejas.
+ */
+public class RepositorioEnArchivo extends RepositorioEnMemoria {
+	private static final byte tipoEmpleado = 1;
+	private static final byte tipoProyecto = 2;
+	private static final byte tipoProyectoQuitado = 3;
+	private static final byte tipoCambios = 4;
+
+	private final Path archivo;
+	private final int registrosPorSincronizacion;
+
+	private Diario diario;
+	private int registrosSinSincronizar;
+	// Lo guardado en la unidad de trabajo abierta, por legajo o número, o null si
+	// no hay una. Se escribe al terminarla, así que cada uno se escribe una vez.
+	private LinkedHashMap<Long, Object> cambios;
+	// Lo que había en memoria para cada clave antes de la unidad (null si no
+	// había nada), para volver a eso si se descarta.
+	private HashMap<Long, Object> anteriores;
+
+	public RepositorioEnArchivo(Path archivo) throws IOException {
+		this(archivo, 1);
+	}
+
+	/**
+	 * @param registrosPorSincronizacion Cada cuántos registros se espera a que el
+	 *                                   diario esté en disco. Con 1, todo guardado
+	 *                                   es durable al volver; con más, una caída
+	 *                                   puede perder hasta esa cantidad menos uno.
+	 */
+	public RepositorioEnArchivo(Path archivo, int registrosPorSincronizacion) throws IOException {
+		if (registrosPorSincronizacion < 1)
+			throw new IllegalArgumentException("La cantidad de registros por sincronización debe ser positiva.");
+
+		this.archivo = archivo;
+		this.registrosPorSincronizacion = registrosPorSincronizacion;
+
+		diario = new Diario(archivo);
+
+		if (cargar() > 2 * (cantidadDeEmpleados() + cantidadDeProyectos()))
+			compactar();
+	}
+
+	/**
+	 * Lee el diario quedándose con el último registro de cada legajo y número, y
+	 * recién después arma los objetos: primero los empleados, para que las tareas
+	 * los encuentren.
+	 *
+	 * @return La cantidad de registros leídos.
+	 */
+	private int cargar() throws IOException {
+		TreeMap<Integer, byte[]> empleados = new TreeMap<>();
+		TreeMap<Integer, byte[]> proyectos = new TreeMap<>();
+		int[] registros = new int[1];
+
+		diario.recorrer(registro -> {
+			byte[] contenido = new byte[registro.available()];
+			registro.readFully(contenido);
+
+			registros[0] += leerRegistro(contenido, empleados, proyectos);
+		});
+
+		if (!empleados.isEmpty() || !proyectos.isEmpty())
+			super.reservarCapacidad(empleados.isEmpty() ? 0 : empleados.lastKey(),
+					proyectos.isEmpty() ? 0 : proyectos.lastKey());
+
+		for (byte[] contenido : empleados.values())
+			super.guardarEmpleado(Instantanea.leerEmpleado(ByteBuffer.wrap(contenido, 1, contenido.length - 1)));
+
+		for (byte[] contenido : proyectos.values()) {
+			ByteBuffer datos = ByteBuffer.wrap(contenido, 1, contenido.length - 1);
+			super.guardarProyecto(Instantanea.leerProyecto(datos, this::obtenerEmpleado));
+		}
+
+		return registros[0];
+	}
+
+	/**
+	 * @return La cantidad de registros de empleado y proyecto leídos.
+	 */
+	private int leerRegistro(byte[] contenido, TreeMap<Integer, byte[]> empleados,
+			TreeMap<Integer, byte[]> proyectos) throws IOException {
+		ByteBuffer datos = ByteBuffer.wrap(contenido);
+
+		switch (datos.get()) {
+		case tipoEmpleado:
+			empleados.put(datos.getInt(2), contenido); // Después del tipo de empleado.
+			return 1;
+		case tipoProyecto:
+			proyectos.put(datos.getInt(1), contenido);
+			return 1;
+		case tipoProyectoQuitado:
+			proyectos.remove(datos.getInt(1));
+			return 1;
+		case tipoCambios:
+			int cantidad = datos.getInt();
+			int leidos = 0;
+
+			for (int i = 0; i < cantidad; i++) {
+				byte[] cambio = new byte[datos.getInt()];
+				datos.get(cambio);
+
+				leidos += leerRegistro(cambio, empleados, proyectos);
+			}
+
+			return leidos;
+		default:
+			throw new IOException("Registro desconocido en " + archivo);
+		}
+	}
+
+	@Override
+	public void guardarEmpleado(Empleado empleado) {
+		int legajo = empleado.obtenerLegajo();
+
+		if (cambios != null) {
+			anotarAnterior(clave(tipoEmpleado, legajo), obtenerEmpleado(legajo));
+			cambios.put(clave(tipoEmpleado, legajo), empleado);
+		} else {
+			escribir(registroDe(empleado));
+		}
+
+		super.guardarEmpleado(empleado);
+	}
+
+	@Override
+	public void guardarProyecto(Proyecto proyecto) {
+		int numero = proyecto.obtenerId();
+
+		if (cambios != null) {
+			anotarAnterior(clave(tipoProyecto, numero), obtenerProyecto(numero));
+			cambios.put(clave(tipoProyecto, numero), proyecto);
+		} else {
+			escribir(registroDe(proyecto));
+		}
+
+		super.guardarProyecto(proyecto);
+	}
+
+	@Override
+	public void quitarProyecto(int numero) {
+		if (cambios != null) {
+			anotarAnterior(clave(tipoProyecto, numero), obtenerProyecto(numero));
+			cambios.put(clave(tipoProyecto, numero), numero); // Reemplaza al proyecto si se guardó antes.
+		} else {
+			escribir(registroDeQuitado(numero));
+		}
+
+		super.quitarProyecto(numero);
+	}
+
+	private void anotarAnterior(long clave, Object anterior) {
+		if (!anteriores.containsKey(clave))
+			anteriores.put(clave, anterior);
+	}
+
+	private static long clave(byte tipo, int numero) {
+		return ((long) tipo << 32) | (numero & 0xFFFFFFFFL);
+	}
+
+	@Override
+	public void iniciarCambios() {
+		cambios = new LinkedHashMap<>();
+		anteriores = new HashMap<>();
+	}
+
+	/**
+	 * Escribe la última versión de cada empleado y proyecto guardado en la unidad
+	 * de trabajo, o el número de los quitados.
+	 */
+	@Override
+	public void terminarCambios() {
+		List<byte[]> registros = new ArrayList<>(cambios.size());
+
+		for (Object cambio : cambios.values()) {
+			if (cambio instanceof Empleado)
+				registros.add(registroDe((Empleado) cambio));
+			else if (cambio instanceof Proyecto)
+				registros.add(registroDe((Proyecto) cambio));
+			else
+				registros.add(registroDeQuitado((Integer) cambio));
+		}
+
+		if (registros.size() == 1)
+			escribir(registros.get(0));
+		else if (registros.size() > 1)
+			escribir(registroDe(registros));
+
+		cambios = null; // Si la escritura falló, la unidad sigue abierta para descartarla.
+		anteriores = null;
+	}
+
+	@Override
+	public void descartarCambios() {
+		if (cambios == null)
+			return;
+
+		for (Map.Entry<Long, Object> anterior : anteriores.entrySet()) {
+			long clave = anterior.getKey();
+			int numero = (int) clave;
+			Object valor = anterior.getValue();
+
+			if ((byte) (clave >>> 32) == tipoEmpleado) {
+				if (valor == null)
+					super.quitarEmpleado(numero);
+				else
+					super.guardarEmpleado((Empleado) valor);
+			} else if (valor == null) {
+				super.quitarProyecto(numero);
+			} else {
+				super.guardarProyecto((Proyecto) valor);
+			}
+		}
+
+		cambios = null;
+		anteriores = null;
+	}
+
+	@Override
+	public boolean puedeFallar() {
+		return true;
+	}
+
+	private void escribir(byte[] registro) {
+		long posicion = diario.agregar(registro);
+
+		if (++registrosSinSincronizar < registrosPorSincronizacion)
+			return;
+
+		registrosSinSincronizar = 0;
+
+		try {
+			diario.sincronizar(posicion);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Reescribe el archivo con un registro por empleado y por proyecto. Escribe
+	 * primero un archivo temporal y lo mueve sobre el original, así que una caída
+	 * a mitad de camino deja el archivo anterior.
+	 */
+	public void compactar() throws IOException {
+		Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+		Files.deleteIfExists(temporal);
+
+		Diario compactado = new Diario(temporal);
+		recorrerEmpleados(empleado -> compactado.agregar(registroDe(empleado)));
+		recorrerProyectos(proyecto -> compactado.agregar(registroDe(proyecto)));
+		compactado.cerrar();
+
+		diario.cerrar();
+		Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		diario = new Diario(archivo);
+		registrosSinSincronizar = 0;
+	}
+
+	/**
+	 * @return El tamaño del archivo en bytes, sin contar lo que todavía no se
+	 *         sincronizó.
+	 */
+	public long tamanio() throws IOException {
+		return Files.size(archivo);
+	}
+
+	@Override
+	public void cerrar() throws IOException {
+		diario.cerrar();
+	}
+
+	private static byte[] registroDe(Empleado empleado) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+
+		try {
+			DataOutputStream salida = new DataOutputStream(bytes);
+			salida.writeByte(tipoEmpleado);
+			Instantanea.escribirEmpleado(salida, empleado);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // Un ByteArrayOutputStream no falla.
+		}
+
+		return bytes.toByteArray();
+	}
+
+	private static byte[] registroDeQuitado(int numero) {
+		return ByteBuffer.allocate(5).put(tipoProyectoQuitado).putInt(numero).array();
+	}
+
+	private static byte[] registroDe(List<byte[]> registros) {
+		int longitud = 5;
+		for (byte[] registro : registros)
+			longitud += 4 + registro.length;
+
+		ByteBuffer datos = ByteBuffer.allocate(longitud).put(tipoCambios).putInt(registros.size());
+		for (byte[] registro : registros)
+			datos.putInt(registro.length).put(registro);
+
+		return datos.array();
+	}
+
+	private static byte[] registroDe(Proyecto proyecto) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+		try {
+			DataOutputStream salida = new DataOutputStream(bytes);
+			salida.writeByte(tipoProyecto);
+			Instantanea.escribirProyecto(salida, proyecto);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,115 @@
+package entidades;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Repositorio que sólo guarda en memoria, en un MapaDeEnteros por legajo y otro
+ * por número de proyecto. Es el que usa un HomeSolution si no se le indica
+ * otro, y el que usan los repositorios persistentes para tener en memoria los
+ * objetos que ya leyeron.
+ */
+public class RepositorioEnMemoria implements Repositorio {
+	private MapaDeEnteros<Empleado> empleados;
+	private MapaDeEnteros<Proyecto> proyectos;
+
+	public RepositorioEnMemoria() {
+		empleados = new MapaDeEnteros<>();
+		proyectos = new MapaDeEnteros<>();
+	}
+
+	@Override
+	public Empleado obtenerEmpleado(int legajo) {
+		return empleados.obtener(legajo);
+	}
+
+	@Override
+	public Proyecto obtenerProyecto(int numero) {
+		return proyectos.obtener(numero);
+	}
+
+	@Override
+	public void guardarEmpleado(Empleado empleado) {
+		empleados.guardar(empleado.obtenerLegajo(), empleado);
+	}
+
+	@Override
+	public void guardarProyecto(Proyecto proyecto) {
+		proyectos.guardar(proyecto.obtenerId(), proyecto);
+	}
+
+	@Override
+	public void quitarProyecto(int numero) {
+		proyectos.remover(numero);
+	}
+
+	/**
+	 * Los empleados no se quitan; sólo lo usan los repositorios persistentes
+	 * para deshacer en memoria el alta de uno que no se llegó a escribir.
+	 */
+	protected void quitarEmpleado(int legajo) {
+		empleados.remover(legajo);
+	}
+
+	@Override
+	public void iniciarCambios() {
+	}
+
+	@Override
+	public void terminarCambios() {
+	}
+
+	@Override
+	public void descartarCambios() {
+	}
+
+	@Override
+	public boolean puedeFallar() {
+		return false;
+	}
+
+	@Override
+	public int siguienteLegajo(int desde) {
+		return empleados.siguienteClave(desde);
+	}
+
+	@Override
+	public void recorrerEmpleados(Consumer<? super Empleado> accion) {
+		empleados.recorrer(accion);
+	}
+
+	@Override
+	public void recorrerProyectos(Consumer<? super Proyecto> accion) {
+		proyectos.recorrer(accion);
+	}
+
+	@Override
+	public int cantidadDeEmpleados() {
+		return empleados.tamanio();
+	}
+
+	@Override
+	public int cantidadDeProyectos() {
+		return proyectos.tamanio();
+	}
+
+	@Override
+	public int mayorLegajo() {
+		return empleados.mayorClave();
+	}
+
+	@Override
+	public int mayorNumeroDeProyecto() {
+		return proyectos.mayorClave();
+	}
+
+	@Override
+	public void reservarCapacidad(int legajo, int numero) {
+		empleados.asegurarCapacidad(legajo + 1);
+		proyectos.asegurarCapacidad(numero + 1);
+	}
+
+	@Override
+	public void cerrar() throws IOException {
+	}
+}
@@ -0,0 +1,363 @@
+package entidades;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repositorio sobre una base de datos SQL embebida en un archivo, a través de
+ * JDBC. No trae ningún driver: la URL indica la base (por ejemplo
+ * jdbc:h2:file:/ruta/homesolution, jdbc:sqlite:/ruta/homesolution.db o
+ * jdbc:hsqldb:file:/ruta/homesolution) y el driver tiene que estar en el
+ * classpath al ejecutar.
+ *
+ * Crea las tablas empleados, proyectos y tareas si no existen. Al abrirlo lee
+ * todo a memoria y después se lee siempre de memoria. Cada guardado escribe la
+ * fila del empleado, o la del proyecto junto con las de sus tareas, y cada
+ * unidad de trabajo es una transacción. Los empleados y proyectos nuevos se
+ * agregan a la memoria, y los quitados se sacan, recién cuando la transacción
+ * se confirmó. Los objetos en sí no se copian: son los del HomeSolution, que
+ * los cambia antes de guardarlos, así que si la transacción falla el
+ * repositorio no deshace esos cambios: los deshace HomeSolution con el
+ * respaldo de la unidad de trabajo.
+ */
+public class RepositorioSql extends RepositorioEnMemoria {
+	private static final Estado[] estados = Estado.values();
+
+	private static final String[] tablas = {
+			"CREATE TABLE IF NOT EXISTS empleados (legajo INTEGER PRIMARY KEY, nombre VARCHAR(1000), "
+					+ "valor DOUBLE PRECISION, categoria VARCHAR(20), retrasos INTEGER, asignado BOOLEAN)",
+			"CREATE TABLE IF NOT EXISTS proyectos (numero INTEGER PRIMARY KEY, domicilio VARCHAR(1000), "
+					+ "cliente_nombre VARCHAR(1000), cliente_mail VARCHAR(1000), cliente_telefono VARCHAR(1000), "
+					+ "inicio BIGINT, fin_estimado BIGINT, fin_real BIGINT, estado SMALLINT, "
+					+ "hubo_retrasos BOOLEAN, siguiente_orden INTEGER)",
+			"CREATE TABLE IF NOT EXISTS tareas (numero INTEGER, titulo VARCHAR(1000), descripcion VARCHAR(1000), "
+					+ "orden INTEGER, dias_estimados DOUBLE PRECISION, dias_retraso DOUBLE PRECISION, "
+					+ "finalizada BOOLEAN, legajo INTEGER, PRIMARY KEY (numero, titulo))" };
+
+	private final Connection conexion;
+
+	private final PreparedStatement actualizarEmpleado;
+	private final PreparedStatement insertarEmpleado;
+	private final PreparedStatement actualizarProyecto;
+	private final PreparedStatement insertarProyecto;
+	private final PreparedStatement borrarTareas;
+	private final PreparedStatement actualizarTarea;
+	private final PreparedStatement insertarTarea;
+	private final PreparedStatement existeTarea;
+	private final PreparedStatement borrarProyecto;
+
+	private boolean enCambios; // Hay una unidad de trabajo abierta.
+	private List<Runnable> pendientes; // Altas y bajas en memoria que esperan a que se confirme la transacción.
+
+	public RepositorioSql(String url) throws IOException {
+		try {
+			conexion = DriverManager.getConnection(url);
+
+			try (Statement sentencia = conexion.createStatement()) {
+				for (String tabla : tablas)
+					sentencia.execute(tabla);
+			}
+
+			actualizarEmpleado = conexion.prepareStatement("UPDATE empleados SET nombre = ?, valor = ?, "
+					+ "categoria = ?, retrasos = ?, asignado = ? WHERE legajo = ?");
+			insertarEmpleado = conexion.prepareStatement("INSERT INTO empleados (nombre, valor, categoria, "
+					+ "retrasos, asignado, legajo) VALUES (?, ?, ?, ?, ?, ?)");
+			actualizarProyecto = conexion.prepareStatement("UPDATE proyectos SET domicilio = ?, cliente_nombre = ?, "
+					+ "cliente_mail = ?, cliente_telefono = ?, inicio = ?, fin_estimado = ?, fin_real = ?, "
+					+ "estado = ?, hubo_retrasos = ?, siguiente_orden = ? WHERE numero = ?");
+			insertarProyecto = conexion.prepareStatement("INSERT INTO proyectos (domicilio, cliente_nombre, "
+					+ "cliente_mail, cliente_telefono, inicio, fin_estimado, fin_real, estado, hubo_retrasos, "
+					+ "siguiente_orden, numero) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+			borrarTareas = conexion.prepareStatement("DELETE FROM tareas WHERE numero = ?");
+			actualizarTarea = conexion.prepareStatement("UPDATE tareas SET descripcion = ?, orden = ?, "
+					+ "dias_estimados = ?, dias_retraso = ?, finalizada = ?, legajo = ? "
+					+ "WHERE numero = ? AND titulo = ?");
+			insertarTarea = conexion.prepareStatement("INSERT INTO tareas (descripcion, orden, dias_estimados, "
+					+ "dias_retraso, finalizada, legajo, numero, titulo) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+			existeTarea = conexion.prepareStatement("SELECT 1 FROM tareas WHERE numero = ? AND titulo = ?");
+			borrarProyecto = conexion.prepareStatement("DELETE FROM proyectos WHERE numero = ?");
+			pendientes = new ArrayList<>();
+
+			cargar();
+
+			conexion.setAutoCommit(false);
+		} catch (SQLException e) {
+			throw new IOException("No se pudo abrir la base " + url, e);
+		}
+	}
+
+	private void cargar() throws SQLException {
+		try (Statement sentencia = conexion.createStatement()) {
+			try (ResultSet filas = sentencia.executeQuery(
+					"SELECT legajo, nombre, valor, categoria, retrasos, asignado FROM empleados ORDER BY legajo")) {
+				while (filas.next()) {
+					int legajo = filas.getInt(1);
+					String categoria = filas.getString(4);
+
+					Empleado empleado;
+					if (categoria == null)
+						empleado = new EmpleadoContratado(legajo, filas.getString(2), filas.getDouble(3));
+					else
+						empleado = new EmpleadoDePlanta(legajo, filas.getString(2), filas.getDouble(3), categoria);
+
+					empleado.restaurar(filas.getInt(5), filas.getBoolean(6));
+					super.guardarEmpleado(empleado);
+				}
+			}
+
+			try (ResultSet filas = sentencia.executeQuery("SELECT p.numero, p.domicilio, p.cliente_nombre, "
+					+ "p.cliente_mail, p.cliente_telefono, p.inicio, p.fin_estimado, p.fin_real, p.estado, "
+					+ "p.hubo_retrasos, p.siguiente_orden, "
+					+ "(SELECT COUNT(*) FROM tareas t WHERE t.numero = p.numero) FROM proyectos p ORDER BY p.numero")) {
+				while (filas.next()) {
+					Cliente cliente = new Cliente(filas.getString(3), filas.getString(4), filas.getString(5));
+					int estado = filas.getInt(9);
+					if (estado < 0 || estado >= estados.length)
+						throw new SQLException("Estado desconocido en el proyecto " + filas.getInt(1) + ": " + estado);
+
+					super.guardarProyecto(new Proyecto(filas.getInt(1), filas.getString(2), cliente,
+							LocalDate.ofEpochDay(filas.getLong(6)), LocalDate.ofEpochDay(filas.getLong(7)),
+							LocalDate.ofEpochDay(filas.getLong(8)), estados[estado], filas.getBoolean(10),
+							filas.getInt(12), filas.getInt(11)));
+				}
+			}
+
+			try (ResultSet filas = sentencia.executeQuery("SELECT numero, titulo, descripcion, orden, "
+					+ "dias_estimados, dias_retraso, finalizada, legajo FROM tareas ORDER BY numero, orden")) {
+				while (filas.next()) {
+					int legajo = filas.getInt(8);
+					Empleado empleado = filas.wasNull() ? null : obtenerEmpleado(legajo);
+
+					obtenerProyecto(filas.getInt(1)).restaurarTarea(new Tarea(filas.getString(2), filas.getString(3),
+							filas.getInt(4), filas.getDouble(5), filas.getDouble(6), filas.getBoolean(7), empleado));
+				}
+			}
+		}
+	}
+
+	@Override
+	public void guardarEmpleado(Empleado empleado) {
+		try {
+			if (escribirEmpleado(actualizarEmpleado, empleado) == 0)
+				escribirEmpleado(insertarEmpleado, empleado);
+
+			confirmar(() -> super.guardarEmpleado(empleado));
+		} catch (SQLException e) {
+			deshacer();
+			throw new IllegalStateException("No se pudo guardar el empleado " + empleado.obtenerLegajo(), e);
+		}
+	}
+
+	private static int escribirEmpleado(PreparedStatement sentencia, Empleado empleado) throws SQLException {
+		sentencia.setString(1, empleado.obtenerNombre());
+
+		if (empleado instanceof EmpleadoDePlanta) {
+			EmpleadoDePlanta dePlanta = (EmpleadoDePlanta) empleado;
+			sentencia.setDouble(2, dePlanta.obtenerValorDia());
+			sentencia.setString(3, dePlanta.obtenerCategoria());
+		} else {
+			sentencia.setDouble(2, ((EmpleadoContratado) empleado).obtenerValorHora());
+			sentencia.setNull(3, Types.VARCHAR);
+		}
+
+		sentencia.setInt(4, empleado.obtenerCantidadDeRetrasos());
+		sentencia.setBoolean(5, empleado.estaAsignado());
+		sentencia.setInt(6, empleado.obtenerLegajo());
+
+		return sentencia.executeUpdate();
+	}
+
+	@Override
+	public void guardarProyecto(Proyecto proyecto) {
+		int numero = proyecto.obtenerId();
+
+		try {
+			if (escribirProyecto(actualizarProyecto, proyecto) == 0)
+				escribirProyecto(insertarProyecto, proyecto);
+
+			escribirTareas(proyecto);
+
+			confirmar(() -> super.guardarProyecto(proyecto));
+		} catch (SQLException e) {
+			deshacer();
+			throw new IllegalStateException("No se pudo guardar el proyecto " + numero, e);
+		}
+	}
+
+	private static int escribirProyecto(PreparedStatement sentencia, Proyecto proyecto) throws SQLException {
+		Cliente cliente = proyecto.obtenerCliente();
+
+		sentencia.setString(1, proyecto.obtenerDomicilio());
+		sentencia.setString(2, cliente.nombre);
+		sentencia.setString(3, cliente.mail);
+		sentencia.setString(4, cliente.telefono);
+		sentencia.setLong(5, proyecto.obtenerFechaInicio().toEpochDay());
+		sentencia.setLong(6, proyecto.obtenerFechaFinEstimada().toEpochDay());
+		sentencia.setLong(7, proyecto.obtenerFechaFinReal().toEpochDay());
+		sentencia.setInt(8, proyecto.obtenerEstado().ordinal());
+		sentencia.setBoolean(9, proyecto.huboRetrasos());
+		sentencia.setInt(10, proyecto.obtenerSiguienteOrdenDeTarea());
+		sentencia.setInt(11, proyecto.obtenerId());
+
+		return sentencia.executeUpdate();
+	}
+
+	/**
+	 * Actualiza las filas de las tareas que ya están en la base e inserta sólo
+	 * las nuevas. Un proyecto nunca pierde tareas, así que no hay que borrar
+	 * ninguna. Si el driver no informa cuántas filas actualizó cada sentencia del
+	 * lote (SUCCESS_NO_INFO), se pregunta por cada una si la fila existe.
+	 */
+	private void escribirTareas(Proyecto proyecto) throws SQLException {
+		List<Tarea> tareas = new ArrayList<>(proyecto.cantidadDeTareas());
+		proyecto.recorrerTareas(tareas::add);
+
+		if (tareas.isEmpty())
+			return;
+
+		for (Tarea tarea : tareas)
+			agregarTarea(actualizarTarea, proyecto.obtenerId(), tarea);
+		int[] actualizadas = actualizarTarea.executeBatch();
+
+		boolean hayNuevas = false;
+		for (int i = 0; i < tareas.size(); i++) {
+			boolean nueva = actualizadas[i] == Statement.SUCCESS_NO_INFO
+					? !existeTarea(proyecto.obtenerId(), tareas.get(i).obtenerTitulo())
+					: actualizadas[i] == 0;
+
+			if (nueva) {
+				agregarTarea(insertarTarea, proyecto.obtenerId(), tareas.get(i));
+				hayNuevas = true;
+			}
+		}
+
+		if (hayNuevas)
+			insertarTarea.executeBatch();
+	}
+
+	private boolean existeTarea(int numero, String titulo) throws SQLException {
+		existeTarea.setInt(1, numero);
+		existeTarea.setString(2, titulo);
+
+		try (ResultSet fila = existeTarea.executeQuery()) {
+			return fila.next();
+		}
+	}
+
+	private static void agregarTarea(PreparedStatement sentencia, int numero, Tarea tarea) throws SQLException {
+		Empleado empleado = tarea.obtenerEmpleado();
+
+		sentencia.setString(1, tarea.obtenerDescripcion());
+		sentencia.setInt(2, tarea.obtenerOrden());
+		sentencia.setDouble(3, tarea.obtenerDiasEstimados());
+		sentencia.setDouble(4, tarea.obtenerDiasDeRetraso());
+		sentencia.setBoolean(5, tarea.estaFinalizada());
+		if (empleado == null)
+			sentencia.setNull(6, Types.INTEGER);
+		else
+			sentencia.setInt(6, empleado.obtenerLegajo());
+		sentencia.setInt(7, numero);
+		sentencia.setString(8, tarea.obtenerTitulo());
+
+		sentencia.addBatch();
+	}
+
+	@Override
+	public void quitarProyecto(int numero) {
+		try {
+			borrarTareas.setInt(1, numero);
+			borrarTareas.executeUpdate();
+			borrarProyecto.setInt(1, numero);
+			borrarProyecto.executeUpdate();
+
+			confirmar(() -> super.quitarProyecto(numero));
+		} catch (SQLException e) {
+			deshacer();
+			throw new IllegalStateException("No se pudo quitar el proyecto " + numero, e);
+		}
+	}
+
+	@Override
+	public void iniciarCambios() {
+		enCambios = true;
+	}
+
+	@Override
+	public void terminarCambios() {
+		try {
+			conexion.commit();
+		} catch (SQLException e) {
+			deshacer();
+			throw new IllegalStateException("No se pudieron guardar los cambios.", e);
+		}
+
+		enCambios = false;
+		aplicarPendientes();
+	}
+
+	@Override
+	public void descartarCambios() {
+		if (enCambios)
+			deshacer();
+	}
+
+	@Override
+	public boolean puedeFallar() {
+		return true;
+	}
+
+	/**
+	 * Fuera de una unidad de trabajo confirma la transacción y actualiza la
+	 * memoria; dentro de una, deja el cambio en memoria para cuando se confirme.
+	 */
+	private void confirmar(Runnable enMemoria) throws SQLException {
+		pendientes.add(enMemoria);
+
+		if (enCambios)
+			return;
+
+		conexion.commit();
+		aplicarPendientes();
+	}
+
+	private void aplicarPendientes() {
+		for (Runnable cambio : pendientes)
+			cambio.run();
+
+		pendientes.clear();
+	}
+
+	/**
+	 * Deshace la transacción y, con ella, la unidad de trabajo abierta.
+	 */
+	private void deshacer() {
+		enCambios = false;
+		pendientes.clear();
+
+		try {
+			actualizarTarea.clearBatch();
+			insertarTarea.clearBatch();
+			conexion.rollback();
+		} catch (SQLException e) {
+			// La transacción ya falló; se informa el error original.
+		}
+	}
+
+	@Override
+	public void cerrar() throws IOException {
+		try {
+			conexion.close();
+		} catch (SQLException e) {
+			throw new IOException("No se pudo cerrar la base.", e);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Copias del estado en memoria de lo que cambia una unidad de trabajo, para
+ * volver a él si la unidad falla. Antes del primer cambio sobre un proyecto se
+ * copian el proyecto y el estado de los empleados de sus tareas, y el registro
+ * de empleados avisa antes de asignar o liberar a un empleado. También se
+ * anotan los proyectos que la unidad agregó o quitó del índice por estado y
+ * los empleados que registró.
+ *
+ * restaurar() devuelve cada proyecto y empleado copiado a su estado anterior
+ * en el lugar, así que quienes tenían referencias a ellos ven ese estado. Sólo
+ * cambia la memoria: lo guardado en el repositorio lo descarta el repositorio.
+ */
+class Respaldo {
+	private RegistroDeEmpleados empleados;
+	private ProyectosPorEstado proyectosPorEstado; // null si la unidad no agrega ni quita proyectos.
+
+	// Casi todas las unidades cambian un proyecto y uno o dos empleados, así que
+	// las colecciones se crean recién cuando hacen falta.
+	private HashMap<Integer, Tupla<Proyecto, Proyecto>> proyectos; // (proyecto, copia)
+	private HashMap<Empleado, Tupla<Integer, Boolean>> copiasDeEmpleados; // (retrasos, asignado)
+	private ArrayList<Proyecto> agregados;
+	private ArrayList<Proyecto> quitados;
+	private ArrayList<Empleado> empleadosAgregados;
+
+	protected Respaldo(RegistroDeEmpleados empleados, ProyectosPorEstado proyectosPorEstado) {
+		this.empleados = empleados;
+		this.proyectosPorEstado = proyectosPorEstado;
+	}
+
+	/**
+	 * Copia el proyecto y el estado de los empleados de sus tareas, salvo que ya
+	 * se haya copiado: vale el de antes de la unidad.
+	 */
+	protected void copiar(Proyecto proyecto) {
+		if (proyectos == null)
+			proyectos = new HashMap<>();
+		else if (proyectos.containsKey(proyecto.obtenerId()))
+			return;
+
+		proyectos.put(proyecto.obtenerId(), new Tupla<>(proyecto, proyecto.copiar()));
+
+		proyecto.recorrerTareas(tarea -> {
+			Empleado empleado = tarea.obtenerEmpleado();
+
+			if (empleado != null)
+				copiar(empleado, empleado.estaAsignado());
+		});
+	}
+
+	/**
+	 * Anota el estado de un empleado, salvo que ya se haya anotado.
+	 */
+	protected void copiar(Empleado empleado, boolean estaAsignado) {
+		if (copiasDeEmpleados == null)
+			copiasDeEmpleados = new HashMap<>();
+
+		copiasDeEmpleados.putIfAbsent(empleado, new Tupla<>(empleado.obtenerCantidadDeRetrasos(), estaAsignado));
+	}
+
+	/**
+	 * El proyecto se agregó al índice por estado en esta unidad.
+	 */
+	protected void agregado(Proyecto proyecto) {
+		if (agregados == null)
+			agregados = new ArrayList<>();
+
+		agregados.add(proyecto);
+	}
+
+	/**
+	 * El empleado se registró en esta unidad.
+	 */
+	protected void agregado(Empleado empleado) {
+		if (empleadosAgregados == null)
+			empleadosAgregados = new ArrayList<>();
+
+		empleadosAgregados.add(empleado);
+	}
+
+	/**
+	 * El proyecto se quitó del índice por estado en esta unidad.
+	 */
+	protected void quitado(Proyecto proyecto) {
+		if (quitados == null)
+			quitados = new ArrayList<>();
+
+		quitados.add(proyecto);
+	}
+
+	protected void restaurar() {
+		if (proyectos != null) {
+			for (Tupla<Proyecto, Proyecto> copia : proyectos.values())
+				copia.getValor1().restaurar(copia.getValor2());
+		}
+
+		if (copiasDeEmpleados != null) {
+			for (Map.Entry<Empleado, Tupla<Integer, Boolean>> copia : copiasDeEmpleados.entrySet())
+				empleados.restaurar(copia.getKey(), copia.getValue().getValor1(), copia.getValue().getValor2());
+		}
+
+		if (quitados != null) {
+			for (Proyecto proyecto : quitados)
+				proyectosPorEstado.agregar(proyecto);
+		}
+
+		if (agregados != null) {
+			for (Proyecto proyecto : agregados)
+				proyectosPorEstado.quitar(proyecto);
+		}
+
+		if (empleadosAgregados != null) {
+			for (Empleado empleado : empleadosAgregados)
+				empleados.olvidar(empleado);
+		}
+	}
+}
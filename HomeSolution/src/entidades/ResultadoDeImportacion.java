@@ -0,0 +1,75 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resumen de una importación: cuántos empleados y proyectos se registraron y
+ * qué filas se rechazaron. Guarda el detalle de a lo sumo maximoDeErrores
+ * filas rechazadas, pero las cuenta todas.
+ */
+public class ResultadoDeImportacion {
+	private static final int maximoDeErrores = 1000;
+
+	private int empleadosImportados;
+	private int proyectosImportados;
+	private int filasRechazadas;
+	private List<Tupla<Integer, String>> errores; // (número de línea, motivo)
+
+	protected ResultadoDeImportacion() {
+		errores = new ArrayList<>();
+	}
+
+	protected void contarEmpleado() {
+		empleadosImportados++;
+	}
+
+	protected void contarProyecto() {
+		proyectosImportados++;
+	}
+
+	protected void rechazar(int linea, String motivo) {
+		filasRechazadas++;
+
+		if (errores.size() < maximoDeErrores)
+			errores.add(new Tupla<>(linea, motivo));
+	}
+
+	public int obtenerEmpleadosImportados() {
+		return empleadosImportados;
+	}
+
+	public int obtenerProyectosImportados() {
+		return proyectosImportados;
+	}
+
+	public int obtenerFilasRechazadas() {
+		return filasRechazadas;
+	}
+
+	/**
+	 * @return Lista de tuplas (número de línea, motivo del rechazo), en el orden
+	 *         del archivo.
+	 */
+	public List<Tupla<Integer, String>> obtenerErrores() {
+		return Collections.unmodifiableList(errores);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder reporte = new StringBuilder();
+
+		reporte.append("Empleados importados: ").append(empleadosImportados).append("\n");
+		reporte.append("Proyectos importados: ").append(proyectosImportados).append("\n");
+		reporte.append("Filas rechazadas: ").append(filasRechazadas).append("\n");
+
+		for (Tupla<Integer, String> error : errores)
+			reporte.append("Línea ").append(error.getValor1()).append(": ").append(error.getValor2()).append("\n");
+
+		if (filasRechazadas > errores.size())
+			reporte.append("(").append(filasRechazadas - errores.size()).append(" rechazos más sin detallar)\n");
+
+		return reporte.toString();
+	}
+}
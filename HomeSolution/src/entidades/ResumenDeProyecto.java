@@ -0,0 +1,83 @@
+package entidades;
+
+import java.time.LocalDate;
+
+/**
+ * Lo que queda en memoria de un proyecto finalizado que se guardó en un
+ * AlmacenDeFinalizados: alcanza para listarlo y para consultar su costo sin
+ * leerlo del archivo.
+ */
+public class ResumenDeProyecto {
+	private int numero;
+	private String domicilio;
+	private double costo;
+	private LocalDate fechaInicio;
+	private LocalDate fechaFinEstimada;
+	private LocalDate fechaFinReal;
+
+	private long posicion; // Dónde empieza el registro completo en el archivo.
+	private int longitud;
+
+	protected ResumenDeProyecto(Proyecto proyecto, long posicion, int longitud) {
+		numero = proyecto.obtenerId();
+		domicilio = proyecto.obtenerDomicilio();
+		costo = proyecto.costoProyecto();
+		fechaInicio = proyecto.obtenerFechaInicio();
+		fechaFinEstimada = proyecto.obtenerFechaFinEstimada();
+		fechaFinReal = proyecto.obtenerFechaFinReal();
+
+		this.posicion = posicion;
+		this.longitud = longitud;
+	}
+
+	private ResumenDeProyecto(ResumenDeProyecto original, long posicion) {
+		numero = original.numero;
+		domicilio = original.domicilio;
+		costo = original.costo;
+		fechaInicio = original.fechaInicio;
+		fechaFinEstimada = original.fechaFinEstimada;
+		fechaFinReal = original.fechaFinReal;
+
+		this.posicion = posicion;
+		longitud = original.longitud;
+	}
+
+	/**
+	 * El mismo resumen para el registro copiado a otra posición del archivo.
+	 */
+	protected ResumenDeProyecto enPosicion(long posicion) {
+		return new ResumenDeProyecto(this, posicion);
+	}
+
+	public int obtenerNumero() {
+		return numero;
+	}
+
+	public String obtenerDomicilio() {
+		return domicilio;
+	}
+
+	public double obtenerCosto() {
+		return costo;
+	}
+
+	public LocalDate obtenerFechaInicio() {
+		return fechaInicio;
+	}
+
+	public LocalDate obtenerFechaFinEstimada() {
+		return fechaFinEstimada;
+	}
+
+	public LocalDate obtenerFechaFinReal() {
+		return fechaFinReal;
+	}
+
+	protected long obtenerPosicion() {
+		return posicion;
+	}
+
+	protected int obtenerLongitud() {
+		return longitud;
+	}
+}
@@ -5,6 +5,7 @@ import java.util.Objects;
 public class Tarea {
 	private String titulo;
 	private String descripcion;
+	private int orden; // Posición de la tarea dentro de su proyecto, según el orden en que se agregó.
 
 	private Empleado empleado;
 	private boolean estaFinalizada;
@@ -13,28 +14,69 @@ public class Tarea {
 	private double diasDeRetraso;
 	private double diasDeTrabajoReales;
 
-	protected Tarea(String titulo, String descripcion, double diasEstimados) {
-		if (titulo == null || titulo == "")
-			throw new IllegalArgumentException("El ttulo no puede estar vaco.");
+	protected Tarea(String titulo, String descripcion, double diasEstimados, int orden) {
+		if (titulo == null || titulo.isEmpty())
+			throw new IllegalArgumentException("El título no puede estar vacío.");
 //		if (descripcion == null || descripcion == "")
 		if (descripcion == null)
-			throw new IllegalArgumentException("La descripcin no puede estar vaca.");
+			throw new IllegalArgumentException("La descripción no puede estar vacía.");
 		if (diasEstimados <= 0)
-			throw new IllegalArgumentException("La cantidad de das debe ser mayor a 0.");
+			throw new IllegalArgumentException("La cantidad de días debe ser mayor a 0.");
 		if (diasEstimados % 0.5 != 0)
-			throw new IllegalArgumentException("La cantidad de das debe ser mltiplo de 0.5");
+			throw new IllegalArgumentException("La cantidad de días debe ser múltiplo de 0.5");
 
 		this.titulo = titulo;
 		this.descripcion = descripcion;
-		this.diasEstimados = Math.ceil(diasEstimados); // Si trabaj medio da, se lo cuenta como da completo.
+		this.orden = orden;
+		this.diasEstimados = Math.ceil(diasEstimados); // Si trabajó medio día, se lo cuenta como día completo.
 
 		this.diasDeTrabajoReales = this.diasEstimados;
 	}
 
+	/**
+	 * Reconstruye una tarea guardada en una instantánea, sin validar los datos ni
+	 * modificar al empleado, que se restaura por separado.
+	 */
+	protected Tarea(String titulo, String descripcion, int orden, double diasEstimados, double diasDeRetraso,
+			boolean estaFinalizada, Empleado empleado) {
+		this.titulo = titulo;
+		this.descripcion = descripcion;
+		this.orden = orden;
+		this.diasEstimados = diasEstimados;
+		this.diasDeRetraso = diasDeRetraso;
+		this.diasDeTrabajoReales = diasEstimados + diasDeRetraso;
+		this.estaFinalizada = estaFinalizada;
+		this.empleado = empleado;
+	}
+
+	protected Tarea copiar() {
+		return new Tarea(titulo, descripcion, orden, diasEstimados, diasDeRetraso, estaFinalizada, empleado);
+	}
+
 	public String obtenerTitulo() {
 		return titulo;
 	}
 
+	protected int obtenerOrden() {
+		return orden;
+	}
+
+	protected String obtenerDescripcion() {
+		return descripcion;
+	}
+
+	protected double obtenerDiasEstimados() {
+		return diasEstimados;
+	}
+
+	protected double obtenerDiasDeRetraso() {
+		return diasDeRetraso;
+	}
+
+	protected double obtenerDiasDeTrabajoReales() {
+		return diasDeTrabajoReales;
+	}
+
 	protected void asignarEmpleado(Empleado empleado) {
 		empleado.asignar();
 
@@ -55,9 +97,9 @@ public class Tarea {
 
 	protected Empleado finalizar() {
 		if (estaFinalizada())
-			throw new RuntimeException("La tarea ya est finalizada.");
+			throw new RuntimeException("La tarea ya está finalizada.");
 		if (empleado == null)
-			throw new RuntimeException("La tarea no tiene ningn empleado asignado. No es posible finalizarla.");
+			throw new RuntimeException("La tarea no tiene ningún empleado asignado. No es posible finalizarla.");
 
 		estaFinalizada = true;
 
@@ -78,7 +120,7 @@ public class Tarea {
 
 	protected Empleado reasignarEmpleado(Empleado nuevoEmpleado) {
 		if (this.empleado == null)
-			throw new RuntimeException("La tarea indicada no tena un empleado asignado.");
+			throw new RuntimeException("La tarea indicada no tenía un empleado asignado.");
 
 		Empleado empleadoAnterior = this.empleado;
 		this.empleado.liberar();
@@ -0,0 +1,142 @@
+package entidades;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.function.Consumer;
+
+/**
+ * Foto inmutable de todo el estado de un HomeSolutionConVersiones en un
+ * momento dado. Quien tiene una Version puede hacer tantas consultas como
+ * quiera sobre ella y todas ven el mismo estado, aunque mientras tanto se
+ * publiquen versiones nuevas.
+ *
+ * Cada versión nueva comparte con la anterior todos los proyectos y empleados
+ * que no cambiaron: sólo se copian los caminos de los mapas hasta los que sí.
+ */
+public final class Version {
+	private static final Version vacia = new Version(0, MapaPersistente.vacio(), porEstadoVacio(),
+			MapaPersistente.vacio(), MapaPersistente.vacio());
+
+	private final long numero;
+	private final MapaPersistente<VistaDeProyecto> proyectos;
+	private final EnumMap<Estado, MapaPersistente<VistaDeProyecto>> proyectosPorEstado; // No cambia una vez armado.
+	private final MapaPersistente<VistaDeEmpleado> empleados;
+	private final MapaPersistente<VistaDeEmpleado> noAsignados;
+
+	private Version(long numero, MapaPersistente<VistaDeProyecto> proyectos,
+			EnumMap<Estado, MapaPersistente<VistaDeProyecto>> proyectosPorEstado,
+			MapaPersistente<VistaDeEmpleado> empleados, MapaPersistente<VistaDeEmpleado> noAsignados) {
+		this.numero = numero;
+		this.proyectos = proyectos;
+		this.proyectosPorEstado = proyectosPorEstado;
+		this.empleados = empleados;
+		this.noAsignados = noAsignados;
+	}
+
+	protected static Version vacia() {
+		return vacia;
+	}
+
+	private static EnumMap<Estado, MapaPersistente<VistaDeProyecto>> porEstadoVacio() {
+		EnumMap<Estado, MapaPersistente<VistaDeProyecto>> porEstado = new EnumMap<>(Estado.class);
+
+		for (Estado estado : Estado.values())
+			porEstado.put(estado, MapaPersistente.vacio());
+
+		return porEstado;
+	}
+
+	/**
+	 * @return La versión siguiente a esta, con las vistas indicadas reemplazando a
+	 *         las que tengan el mismo número o legajo.
+	 */
+	protected Version siguiente(Collection<VistaDeProyecto> proyectosCambiados,
+			Collection<VistaDeEmpleado> empleadosCambiados) {
+		MapaPersistente<VistaDeProyecto> proyectos = this.proyectos;
+		EnumMap<Estado, MapaPersistente<VistaDeProyecto>> porEstado = new EnumMap<>(proyectosPorEstado);
+		MapaPersistente<VistaDeEmpleado> empleados = this.empleados;
+		MapaPersistente<VistaDeEmpleado> noAsignados = this.noAsignados;
+
+		for (VistaDeProyecto proyecto : proyectosCambiados) {
+			int numero = proyecto.obtenerNumero();
+			VistaDeProyecto anterior = proyectos.obtener(numero);
+
+			if (anterior != null && anterior.obtenerEstado() != proyecto.obtenerEstado())
+				porEstado.put(anterior.obtenerEstado(), porEstado.get(anterior.obtenerEstado()).sin(numero));
+
+			proyectos = proyectos.con(numero, proyecto);
+			porEstado.put(proyecto.obtenerEstado(), porEstado.get(proyecto.obtenerEstado()).con(numero, proyecto));
+		}
+
+		for (VistaDeEmpleado empleado : empleadosCambiados) {
+			int legajo = empleado.obtenerLegajo();
+
+			empleados = empleados.con(legajo, empleado);
+			noAsignados = (empleado.estaAsignado() ? noAsignados.sin(legajo) : noAsignados.con(legajo, empleado));
+		}
+
+		return new Version(numero + 1, proyectos, porEstado, empleados, noAsignados);
+	}
+
+	/**
+	 * @return Cuántas versiones se publicaron antes de esta.
+	 */
+	public long obtenerNumero() {
+		return numero;
+	}
+
+	/**
+	 * @return El proyecto con ese número, o null si no existe en esta versión.
+	 */
+	public VistaDeProyecto obtenerProyecto(int numero) {
+		return proyectos.obtener(numero);
+	}
+
+	/**
+	 * @return El empleado con ese legajo, o null si no existe en esta versión.
+	 */
+	public VistaDeEmpleado obtenerEmpleado(int legajo) {
+		return empleados.obtener(legajo);
+	}
+
+	public int cantidadDeProyectos() {
+		return proyectos.tamanio();
+	}
+
+	public int cantidadDeProyectos(Estado estado) {
+		return proyectosPorEstado.get(estado).tamanio();
+	}
+
+	public int cantidadDeEmpleados() {
+		return empleados.tamanio();
+	}
+
+	/**
+	 * Recorre, en orden de número, los proyectos en el estado indicado, o todos si
+	 * el estado es null.
+	 */
+	public void recorrerProyectos(Estado estado, Consumer<VistaDeProyecto> accion) {
+		if (estado == null)
+			proyectos.recorrer(accion);
+		else
+			proyectosPorEstado.get(estado).recorrer(accion);
+	}
+
+	/**
+	 * Recorre los empleados en orden de legajo.
+	 */
+	public void recorrerEmpleados(Consumer<VistaDeEmpleado> accion) {
+		empleados.recorrer(accion);
+	}
+
+	/**
+	 * Recorre los empleados no asignados en orden de legajo.
+	 */
+	public void recorrerEmpleadosNoAsignados(Consumer<VistaDeEmpleado> accion) {
+		noAsignados.recorrer(accion);
+	}
+
+	public int cantidadDeEmpleadosNoAsignados() {
+		return noAsignados.tamanio();
+	}
+}
@@ -0,0 +1,6 @@
+package entidades;
+
+@FunctionalInterface
+public interface VisitanteDeEmpleados {
+	public void visitar(int legajo, String nombre);
+}
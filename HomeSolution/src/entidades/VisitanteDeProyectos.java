@@ -0,0 +1,6 @@
+package entidades;
+
+@FunctionalInterface
+public interface VisitanteDeProyectos {
+	public void visitar(int numero, String domicilio);
+}
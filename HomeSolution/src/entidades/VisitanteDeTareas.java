@@ -0,0 +1,6 @@
+package entidades;
+
+@FunctionalInterface
+public interface VisitanteDeTareas {
+	public void visitar(Tarea tarea);
+}
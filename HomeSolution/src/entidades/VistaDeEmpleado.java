@@ -0,0 +1,39 @@
+package entidades;
+
+/**
+ * Copia inmutable del estado de un empleado en una Version.
+ */
+public final class VistaDeEmpleado {
+	private final int legajo;
+	private final String nombre;
+	private final int cantidadDeRetrasos;
+	private final boolean asignado;
+
+	protected VistaDeEmpleado(Empleado empleado) {
+		legajo = empleado.obtenerLegajo();
+		nombre = empleado.obtenerNombre();
+		cantidadDeRetrasos = empleado.obtenerCantidadDeRetrasos();
+		asignado = empleado.estaAsignado();
+	}
+
+	public int obtenerLegajo() {
+		return legajo;
+	}
+
+	public String obtenerNombre() {
+		return nombre;
+	}
+
+	public int obtenerCantidadDeRetrasos() {
+		return cantidadDeRetrasos;
+	}
+
+	public boolean estaAsignado() {
+		return asignado;
+	}
+
+	@Override
+	public String toString() {
+		return Integer.toString(legajo); // Igual que Empleado.
+	}
+}
@@ -0,0 +1,167 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copia inmutable del estado de un proyecto y sus tareas en una Version. Guarda
+ * ya calculados el costo y el texto de consultarProyecto, así leerlos no vuelve
+ * a recorrer las tareas.
+ */
+public final class VistaDeProyecto {
+	private final int numero;
+	private final String domicilio;
+	private final Estado estado;
+	private final double costo;
+	private final LocalDate fechaInicio;
+	private final LocalDate fechaFinEstimada;
+	private final LocalDate fechaFinReal;
+	private final boolean huboRetrasos;
+	private final String descripcion;
+
+	private final List<VistaDeTarea> tareas;
+	private final List<VistaDeTarea> tareasNoAsignadas;
+
+	protected VistaDeProyecto(Proyecto proyecto) {
+		numero = proyecto.obtenerId();
+		domicilio = proyecto.obtenerDomicilio();
+		estado = proyecto.obtenerEstado();
+		costo = proyecto.costoProyecto();
+		fechaInicio = proyecto.obtenerFechaInicio();
+		fechaFinEstimada = proyecto.obtenerFechaFinEstimada();
+		fechaFinReal = proyecto.obtenerFechaFinReal();
+		huboRetrasos = proyecto.huboRetrasos();
+		descripcion = proyecto.toString();
+
+		Map<String, VistaDeTarea> porTitulo = new HashMap<>();
+		List<VistaDeTarea> tareas = new ArrayList<>(proyecto.cantidadDeTareas());
+		proyecto.recorrerTareas(tarea -> {
+			VistaDeTarea vista = new VistaDeTarea(tarea);
+
+			porTitulo.put(vista.obtenerTitulo(), vista);
+			tareas.add(vista);
+		});
+
+		List<VistaDeTarea> tareasNoAsignadas = new ArrayList<>();
+		proyecto.recorrerTareasNoAsignadas(tarea -> tareasNoAsignadas.add(porTitulo.get(tarea.obtenerTitulo())));
+
+		this.tareas = Collections.unmodifiableList(tareas);
+		this.tareasNoAsignadas = Collections.unmodifiableList(tareasNoAsignadas);
+	}
+
+	public int obtenerNumero() {
+		return numero;
+	}
+
+	public String obtenerDomicilio() {
+		return domicilio;
+	}
+
+	public Estado obtenerEstado() {
+		return estado;
+	}
+
+	public boolean estaFinalizado() {
+		return estado == Estado.FINALIZADO;
+	}
+
+	public double obtenerCosto() {
+		return costo;
+	}
+
+	public LocalDate obtenerFechaInicio() {
+		return fechaInicio;
+	}
+
+	public LocalDate obtenerFechaFinEstimada() {
+		return fechaFinEstimada;
+	}
+
+	public LocalDate obtenerFechaFinReal() {
+		return fechaFinReal;
+	}
+
+	public boolean huboRetrasos() {
+		return huboRetrasos;
+	}
+
+	/**
+	 * @return Las tareas en el mismo orden que tareasDeUnProyecto. No se puede
+	 *         modificar.
+	 */
+	public List<VistaDeTarea> obtenerTareas() {
+		return tareas;
+	}
+
+	/**
+	 * @return Las tareas sin empleado, en el mismo orden que
+	 *         tareasProyectoNoAsignadas. No se puede modificar.
+	 */
+	public List<VistaDeTarea> obtenerTareasNoAsignadas() {
+		return tareasNoAsignadas;
+	}
+
+	@Override
+	public String toString() {
+		return descripcion;
+	}
+
+	/**
+	 * Copia inmutable de una tarea.
+	 */
+	public static final class VistaDeTarea {
+		private final String titulo;
+		private final String descripcion;
+		private final Integer legajo;
+		private final double diasDeTrabajoReales;
+		private final double costo;
+		private final boolean finalizada;
+
+		private VistaDeTarea(Tarea tarea) {
+			Empleado empleado = tarea.obtenerEmpleado();
+
+			titulo = tarea.obtenerTitulo();
+			descripcion = tarea.obtenerDescripcion();
+			legajo = (empleado == null ? null : empleado.obtenerLegajo());
+			diasDeTrabajoReales = tarea.obtenerDiasDeTrabajoReales();
+			costo = tarea.obtenerCosto();
+			finalizada = tarea.estaFinalizada();
+		}
+
+		public String obtenerTitulo() {
+			return titulo;
+		}
+
+		public String obtenerDescripcion() {
+			return descripcion;
+		}
+
+		/**
+		 * @return El legajo del empleado asignado, o null si no tiene.
+		 */
+		public Integer obtenerLegajo() {
+			return legajo;
+		}
+
+		public double obtenerDiasDeTrabajoReales() {
+			return diasDeTrabajoReales;
+		}
+
+		public double obtenerCosto() {
+			return costo;
+		}
+
+		public boolean estaFinalizada() {
+			return finalizada;
+		}
+
+		@Override
+		public String toString() {
+			return titulo; // Igual que Tarea.
+		}
+	}
+}
@@ -101,7 +101,7 @@ public class FormularioProyecto extends JPanel {
 		GridBagConstraints gbc = new GridBagConstraints();
 
 		modelTabla.addColumn("Titulo");
-		modelTabla.addColumn("Descripcin");
+		modelTabla.addColumn("Descripción");
 		modelTabla.addColumn("Dias");
 		MaskFormatter formatter = null;
 		try {
@@ -114,7 +114,7 @@ public class FormularioProyecto extends JPanel {
 		tareas = new JLabel("Tareas");
 		tareas.setFont(new Font("Arial", Font.BOLD, 16));
 		labelTituloTarea = new JLabel("Titulo");
-		labelDescTarea = new JLabel("Descripcin");
+		labelDescTarea = new JLabel("Descripción");
 		labelDiasTarea = new JLabel("Dias");
 		textTituloTarea = new JTextField(30);
 		textDescTarea = new JTextField(50);
@@ -125,7 +125,7 @@ public class FormularioProyecto extends JPanel {
 		clienteTelefono = new JLabel("Telefono cliente");
 		domicilio = new JLabel("Domicilio");
 		fechaInicio = new JLabel("Fecha de inicio");
-		fechaFin = new JLabel("Fecha finalizacin");
+		fechaFin = new JLabel("Fecha finalización");
 
 		textClienteNombre = new JTextField(30);
 		textClienteMail = new JTextField(50);
@@ -30,12 +30,12 @@ public class FormularioProyectoFinalizado extends JDialog {
 		GridBagConstraints gbc = new GridBagConstraints();
 		gbc.fill = GridBagConstraints.HORIZONTAL;
 
-		JLabel labelFecha = new JLabel("Fecha de finalizacin");
+		JLabel labelFecha = new JLabel("Fecha de finalización");
 		fechaFinalizacion = new JFormattedTextField(formatter);
 		fechaFinalizacion.setColumns(5);
 		btnAceptar = new JButton("Aceptar");
 
-		// --- Diseo ---
+		// --- Diseño ---
 		gbc.gridx = 0;
 		gbc.gridy = 0;
 		panel.add(labelFecha, gbc);
@@ -26,18 +26,18 @@ public class FormularioTarea extends JDialog {
 		gbc.insets = new Insets(2, 2, 2, 2);
 		gbc.fill = GridBagConstraints.HORIZONTAL;
 
-		JLabel labelTitulo = new JLabel("Ttulo:");
+		JLabel labelTitulo = new JLabel("Título:");
 		textTitulo = new JTextField(30);
 
-		JLabel labelDescripcion = new JLabel("Descripcin:");
+		JLabel labelDescripcion = new JLabel("Descripción:");
 		textDescripcion = new JTextField(30);
 
-		JLabel labelDias = new JLabel("Cantidad de das:");
+		JLabel labelDias = new JLabel("Cantidad de días:");
 		textDias = new JTextField();
 		textDias.setColumns(5);
 		btnAceptar = new JButton("Aceptar");
 
-		// --- Diseo ---
+		// --- Diseño ---
 		gbc.gridx = 0;
 		gbc.gridy = 0;
 		panel.add(labelTitulo, gbc);
@@ -249,7 +249,7 @@ public class GestionProyectos extends JPanel {
 		tareas = new JComboBox<>();
 		labelMensajeTarea = new JLabel("Seleccionar una tarea");
 		labelMensajeTarea.setFont(new Font("Arial", Font.BOLD, 16));
-		itemProyecto = new JLabel("Gestin Proyecto");
+		itemProyecto = new JLabel("Gestión Proyecto");
 		itemProyecto.setFont(new Font("Arial", Font.BOLD, 20));
 
 		asignarEmpleado = new JButton("Asignar empleado");
@@ -262,11 +262,11 @@ public class GestionProyectos extends JPanel {
 		proyectoFinalizado = new JButton("Establecer como finalizado");
 		costoActualProyecto = new JButton("Consultar costo actual proyecto");
 		empleadosAsignados = new JButton("Empleados asignados");
-		datosProyecto = new JButton("Ver imformacin del proyecto");
+		datosProyecto = new JButton("Ver imformación del proyecto");
 		volverPrincipal = new JButton("Volver al menu");
 		gestionProyecto = new JPanel();
 		gestionProyecto.setLayout(new GridBagLayout());
-//--------------------Diseo------------------------------------------
+//--------------------Diseño------------------------------------------
 		gbc.fill = GridBagConstraints.HORIZONTAL;
 		gbc.insets = new Insets(10, 4, 10, 4);
 		gbc.gridx = 0;
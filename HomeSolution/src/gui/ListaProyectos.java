@@ -39,11 +39,11 @@ public class ListaProyectos extends JPanel {
 			public void actionPerformed(ActionEvent e) {
 
 				if (pendiente.isSelected())
-					cargarTabla(Estado.pendiente, modelTabla);
+					cargarTabla(Estado.PENDIENTE, modelTabla);
 				if (activo.isSelected())
-					cargarTabla(Estado.activo, modelTabla);
+					cargarTabla(Estado.ACTIVO, modelTabla);
 				if (finalizado.isSelected())
-					cargarTabla(Estado.finalizado, modelTabla);
+					cargarTabla(Estado.FINALIZADO, modelTabla);
 				if (modelTabla.getRowCount() == 0)
 					JOptionPane.showMessageDialog(null, "No hay proyectos");
 			}
@@ -71,9 +71,9 @@ public class ListaProyectos extends JPanel {
 		modelTabla.addColumn("Datos");
 
 		estado = new JLabel("Seleccionar estado del proyecto");
-		pendiente = new JRadioButton(Estado.pendiente);
-		activo = new JRadioButton(Estado.activo);
-		finalizado = new JRadioButton(Estado.finalizado);
+		pendiente = new JRadioButton(Estado.PENDIENTE.toString());
+		activo = new JRadioButton(Estado.ACTIVO.toString());
+		finalizado = new JRadioButton(Estado.FINALIZADO.toString());
 		grupoOpciones = new ButtonGroup();
 		grupoOpciones.add(pendiente);
 		grupoOpciones.add(activo);
@@ -121,17 +121,17 @@ public class ListaProyectos extends JPanel {
 
 	}
 
-	private void cargarTabla(String opcion, DefaultTableModel tableModel) {
+	private void cargarTabla(Estado opcion, DefaultTableModel tableModel) {
 		List<Tupla<Integer, String>> proyectos = new ArrayList<>();
 
 		switch (opcion) {
-		case Estado.pendiente:
+		case PENDIENTE:
 			proyectos = panelManager.sistema().proyectosPendientes();
 			break;
-		case Estado.activo:
+		case ACTIVO:
 			proyectos = panelManager.sistema().proyectosActivos();
 			break;
-		case Estado.finalizado:
+		case FINALIZADO:
 			proyectos = panelManager.sistema().proyectosFinalizados();
 			break;
 		}
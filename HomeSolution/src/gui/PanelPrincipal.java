@@ -24,7 +24,7 @@ public class PanelPrincipal extends JPanel {
 		panelPrincipal = new JPanel();
 		panelPrincipal.setLayout(new FlowLayout(FlowLayout.CENTER, 20, 20));
 		jButtonNuevoEmpleado = new JButton("Nuevo Empleado");
-		jButtonGestionEmpleados = new JButton("Gestin Empleados");
+		jButtonGestionEmpleados = new JButton("Gestión Empleados");
 		jButtonNuevoProyecto = new JButton("Nuevo Proyecto");
 		jButtonListaProyectos = new JButton("Lista Proyectos");
 		panelPrincipal.add(jButtonNuevoEmpleado);
@@ -0,0 +1,111 @@
+package main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+import entidades.ArchivoColumnar;
+import entidades.HomeSolution;
+import entidades.Instantanea;
+
+/**
+ * Compara, para un historial de proyectos finalizados, el tamaño del archivo
+ * columnar con el de una instantánea, la memoria que ocupan los proyectos como
+ * objetos con la que ocupa el archivo abierto, y el tiempo de calcular el costo
+ * por mes recorriendo los objetos o las columnas.
+ *
+ * Uso: BenchmarkArchivoColumnar [proyectos] [tareas por proyecto]
+ */
+public class BenchmarkArchivoColumnar {
+	public static void main(String[] args) throws Exception {
+		int cantidadDeProyectos = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+		int tareasPorProyecto = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		String titulos[] = new String[tareasPorProyecto];
+		String descripciones[] = new String[tareasPorProyecto];
+		double duracion[] = new double[tareasPorProyecto];
+		for (int i = 0; i < tareasPorProyecto; i++) {
+			titulos[i] = (i % 2 == 0 ? "Pintar " : "Instalacion electrica ") + i;
+			descripciones[i] = "";
+			duracion[i] = 1 + i % 4;
+		}
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		long memoriaInicial = memoriaUsada();
+
+		HomeSolution homeSolution = new HomeSolution();
+		for (int i = 0; i < tareasPorProyecto; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+
+		LocalDate base = LocalDate.parse("2020-01-01");
+		for (int numero = 1; numero <= cantidadDeProyectos; numero++) {
+			LocalDate inicio = base.plusDays(numero / 50);
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + (numero % 500), cliente,
+					inicio.toString(), inicio.plusDays(10).toString());
+
+			for (int i = 0; i < tareasPorProyecto; i++)
+				homeSolution.asignarResponsableEnTarea(numero, titulos[i]);
+			homeSolution.registrarRetrasoEnTarea(numero, titulos[0], 1);
+			homeSolution.finalizarProyecto(numero, inicio.plusDays(12).toString());
+		}
+
+		long memoriaDeObjetos = memoriaUsada() - memoriaInicial;
+
+		Path directorio = Files.createTempDirectory("benchmark-columnar");
+		Path instantanea = directorio.resolve("homesolution.snap");
+		Path columnar = directorio.resolve("finalizados.col");
+
+		Instantanea.guardar(homeSolution, instantanea);
+
+		long inicio = System.nanoTime();
+		ArchivoColumnar.escribir(homeSolution, columnar, 4096);
+		long escritura = System.nanoTime() - inicio;
+
+		HomeSolution[] referencia = { homeSolution };
+		double[] costoTotal = new double[1];
+		inicio = System.nanoTime();
+		for (int numero = 1; numero <= cantidadDeProyectos; numero++)
+			costoTotal[0] += referencia[0].costoProyecto(numero);
+		long recorridoDeObjetos = System.nanoTime() - inicio;
+
+		homeSolution = null;
+		referencia[0] = null;
+		memoriaInicial = memoriaUsada();
+
+		ArchivoColumnar archivo = ArchivoColumnar.abrir(columnar);
+		long memoriaDelArchivo = memoriaUsada() - memoriaInicial;
+
+		inicio = System.nanoTime();
+		Map<YearMonth, Double> costoPorMes = archivo.costoPorMes();
+		long recorridoDeColumnas = System.nanoTime() - inicio;
+
+		double costoPorColumnas = 0;
+		for (double costo : costoPorMes.values())
+			costoPorColumnas += costo;
+
+		System.out.printf("%d proyectos, %d tareas%n", archivo.cantidadDeProyectos(), archivo.cantidadDeTareas());
+		System.out.printf("Instantánea: %d KB; archivo columnar: %d KB (escrito en %.0f ms)%n",
+				Files.size(instantanea) >> 10, Files.size(columnar) >> 10, escritura / 1e6);
+		System.out.printf("Memoria: %d KB como objetos, %d KB con el archivo abierto%n", memoriaDeObjetos >> 10,
+				memoriaDelArchivo >> 10);
+		System.out.printf("Costo total recorriendo objetos: %.0f en %.1f ms%n", costoTotal[0],
+				recorridoDeObjetos / 1e6);
+		System.out.printf("Costo por mes recorriendo columnas: %.0f en %.1f ms (%d meses)%n", costoPorColumnas,
+				recorridoDeColumnas / 1e6, costoPorMes.size());
+
+		Files.delete(instantanea);
+		Files.delete(columnar);
+		Files.delete(directorio);
+	}
+
+	private static long memoriaUsada() {
+		Runtime runtime = Runtime.getRuntime();
+
+		for (int i = 0; i < 3; i++)
+			System.gc();
+
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,96 @@
+package main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import entidades.HomeSolutionConDiario;
+import entidades.Tupla;
+
+/**
+ * Mide cuántas operaciones por segundo soporta HomeSolutionConDiario con varios
+ * hilos escribiendo a la vez, y cuánto tarda en reconstruir el estado desde el
+ * diario.
+ *
+ * Uso: BenchmarkDiario [hilos] [operaciones por hilo]
+ */
+public class BenchmarkDiario {
+	public static void main(String[] args) throws Exception {
+		int cantidadDeHilos = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+		int operacionesPorHilo = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+		Path directorio = Files.createTempDirectory("benchmark-diario");
+		Path archivo = directorio.resolve("homesolution.diario");
+
+		HomeSolutionConDiario homeSolution = new HomeSolutionConDiario(archivo);
+
+		List<Thread> hilos = new ArrayList<>();
+		for (int i = 0; i < cantidadDeHilos; i++) {
+			int hilo = i;
+			hilos.add(new Thread(() -> escribir(homeSolution, hilo, operacionesPorHilo)));
+		}
+
+		long inicio = System.nanoTime();
+		for (Thread hilo : hilos)
+			hilo.start();
+		for (Thread hilo : hilos)
+			hilo.join();
+		long duracion = System.nanoTime() - inicio;
+
+		homeSolution.cerrar();
+
+		int operaciones = cantidadDeHilos * operacionesPorHilo;
+		System.out.printf("Escritura: %d operaciones con %d hilos en %.1f ms (%.0f op/s)%n", operaciones,
+				cantidadDeHilos, duracion / 1e6, operaciones / (duracion / 1e9));
+		System.out.printf("Tamaño del diario: %d bytes%n", Files.size(archivo));
+
+		inicio = System.nanoTime();
+		HomeSolutionConDiario recuperado = new HomeSolutionConDiario(archivo);
+		duracion = System.nanoTime() - inicio;
+
+		System.out.printf("Recuperación: %d proyectos y %d empleados en %.1f ms%n",
+				recuperado.proyectosFinalizados().size(), recuperado.empleados().size(), duracion / 1e6);
+
+		recuperado.cerrar();
+		Files.delete(archivo);
+		Files.delete(directorio);
+	}
+
+	/**
+	 * Cada iteración registra un empleado y un proyecto de una tarea, le asigna el
+	 * empleado, registra un retraso y finaliza el proyecto.
+	 */
+	private static void escribir(HomeSolutionConDiario homeSolution, int hilo, int operaciones) {
+		String titulos[] = { "Pintar" };
+		String descripciones[] = { "" };
+		double duracion[] = { 1 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		try {
+			for (int i = 0; i < operaciones / 5; i++) {
+				String domicilio = "Calle " + hilo + "-" + i;
+
+				homeSolution.registrarEmpleado("Empleado " + hilo + "-" + i, 15000);
+				homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+						"2025-12-05");
+
+				Integer numero = buscarProyecto(homeSolution, domicilio);
+				homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+				homeSolution.registrarRetrasoEnTarea(numero, "Pintar", 1);
+				homeSolution.finalizarProyecto(numero, "2025-12-06");
+			}
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static Integer buscarProyecto(HomeSolutionConDiario homeSolution, String domicilio) {
+		for (Tupla<Integer, String> proyecto : homeSolution.proyectosPendientes()) {
+			if (proyecto.getValor2().equals(domicilio))
+				return proyecto.getValor1();
+		}
+
+		throw new IllegalStateException("No se encontró el proyecto en " + domicilio);
+	}
+}
@@ -0,0 +1,216 @@
+package main;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import entidades.Comando;
+import entidades.ConcurrentHomeSolution;
+import entidades.HomeSolution;
+import entidades.HomeSolutionConEscritorUnico;
+import entidades.IHomeSolution;
+
+/**
+ * Compara, con varios hilos operando a la vez sobre proyectos propios, el
+ * rendimiento sostenido y la latencia de cada operación de:
+ *
+ * - un HomeSolution protegido por un único candado,
+ * - ConcurrentHomeSolution (una franja de candados por proyecto),
+ * - HomeSolutionConEscritorUnico esperando cada operación, y
+ * - HomeSolutionConEscritorUnico con hasta 32 operaciones en curso por hilo.
+ *
+ * Cada hilo repite sobre su proyecto: agregar una tarea, asignarla, registrarle
+ * un retraso y finalizarla. En el modo con operaciones en curso la latencia se
+ * mide hasta que el hilo recoge el resultado, así que es una cota superior.
+ *
+ * Uso: BenchmarkEscritorUnico [hilos] [operaciones por hilo]
+ */
+public class BenchmarkEscritorUnico {
+	private static final int operacionesEnCurso = 32;
+	private static final int pasos = 4;
+
+	private interface Destino {
+		void operar(int numero, int paso, long[] latencias, int indice) throws Exception;
+
+		default void terminar(long[] latencias) throws Exception {
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		int cantidadDeHilos = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+		int operacionesPorHilo = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+
+		System.out.printf("%d hilos, %d operaciones por hilo, %d procesadores%n", cantidadDeHilos,
+				operacionesPorHilo, Runtime.getRuntime().availableProcessors());
+
+		for (int ronda = 0; ronda < 2; ronda++) { // La primera ronda calienta el JIT.
+			boolean informar = ronda == 1;
+			int operaciones = informar ? operacionesPorHilo : operacionesPorHilo / 10;
+
+			HomeSolution conCandado = new HomeSolution();
+			preparar(conCandado, cantidadDeHilos);
+			medir("Candado único", cantidadDeHilos, operaciones, informar,
+					(numero, paso, latencias, indice) -> {
+						long inicio = System.nanoTime();
+						synchronized (conCandado) {
+							operar(conCandado, numero, paso);
+						}
+						latencias[indice] = System.nanoTime() - inicio;
+					});
+
+			ConcurrentHomeSolution concurrente = new ConcurrentHomeSolution();
+			preparar(concurrente, cantidadDeHilos);
+			medir("Franjas de candados", cantidadDeHilos, operaciones, informar,
+					(numero, paso, latencias, indice) -> {
+						long inicio = System.nanoTime();
+						operar(concurrente, numero, paso);
+						latencias[indice] = System.nanoTime() - inicio;
+					});
+
+			HomeSolutionConEscritorUnico escritor = new HomeSolutionConEscritorUnico();
+			preparar(escritor, cantidadDeHilos);
+			medir("Escritor único, de a una", cantidadDeHilos, operaciones, informar,
+					(numero, paso, latencias, indice) -> {
+						long inicio = System.nanoTime();
+						operar(escritor, numero, paso);
+						latencias[indice] = System.nanoTime() - inicio;
+					});
+			escritor.cerrar();
+
+			HomeSolutionConEscritorUnico enCurso = new HomeSolutionConEscritorUnico();
+			preparar(enCurso, cantidadDeHilos);
+			medir("Escritor único, " + operacionesEnCurso + " en curso", cantidadDeHilos, operaciones, informar,
+					new Destino() {
+						private final ThreadLocal<ArrayDeque<Pendiente>> pendientes = ThreadLocal
+								.withInitial(ArrayDeque::new);
+
+						@Override
+						public void operar(int numero, int paso, long[] latencias, int indice) throws Exception {
+							ArrayDeque<Pendiente> cola = pendientes.get();
+
+							if (cola.size() == operacionesEnCurso)
+								recoger(cola.poll(), latencias);
+
+							cola.add(new Pendiente(enCurso.enviar(comando(numero, paso)), System.nanoTime(), indice));
+						}
+
+						@Override
+						public void terminar(long[] latencias) throws Exception {
+							ArrayDeque<Pendiente> cola = pendientes.get();
+
+							while (!cola.isEmpty())
+								recoger(cola.poll(), latencias);
+						}
+
+						private void recoger(Pendiente pendiente, long[] latencias) throws Exception {
+							pendiente.resultado.get();
+							latencias[pendiente.indice] = System.nanoTime() - pendiente.inicio;
+						}
+					});
+			enCurso.cerrar();
+		}
+	}
+
+	private static void preparar(IHomeSolution homeSolution, int cantidadDeHilos) {
+		String titulos[] = { "Pintar" };
+		String descripciones[] = { "" };
+		double duracion[] = { 1 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		for (int i = 0; i < cantidadDeHilos; i++) {
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + i, cliente, "2025-12-01",
+					"2025-12-05");
+		}
+	}
+
+	private static void medir(String nombre, int cantidadDeHilos, int operacionesPorHilo, boolean informar,
+			Destino destino) throws Exception {
+		long[][] latencias = new long[cantidadDeHilos][operacionesPorHilo];
+		Exception[] errores = new Exception[cantidadDeHilos];
+
+		List<Thread> hilos = new ArrayList<>();
+		for (int i = 0; i < cantidadDeHilos; i++) {
+			int hilo = i;
+			hilos.add(new Thread(() -> {
+				try {
+					for (int indice = 0; indice < operacionesPorHilo; indice++)
+						destino.operar(hilo + 1, indice % pasos, latencias[hilo], indice);
+					destino.terminar(latencias[hilo]);
+				} catch (Exception e) {
+					errores[hilo] = e;
+				}
+			}));
+		}
+
+		long inicio = System.nanoTime();
+		for (Thread hilo : hilos)
+			hilo.start();
+		for (Thread hilo : hilos)
+			hilo.join();
+		long duracion = System.nanoTime() - inicio;
+
+		for (Exception error : errores) {
+			if (error != null)
+				throw error;
+		}
+		if (!informar)
+			return;
+
+		long[] todas = new long[cantidadDeHilos * operacionesPorHilo];
+		for (int i = 0; i < cantidadDeHilos; i++)
+			System.arraycopy(latencias[i], 0, todas, i * operacionesPorHilo, operacionesPorHilo);
+		Arrays.sort(todas);
+
+		System.out.printf("%s: %.0f op/s; latencia p50 %.1f µs, p99 %.1f µs, p99.9 %.1f µs%n", nombre,
+				todas.length / (duracion / 1e9), percentil(todas, 0.50) / 1e3, percentil(todas, 0.99) / 1e3,
+				percentil(todas, 0.999) / 1e3);
+	}
+
+	private static long percentil(long[] ordenadas, double fraccion) {
+		return ordenadas[Math.min(ordenadas.length - 1, (int) (ordenadas.length * fraccion))];
+	}
+
+	private static void operar(IHomeSolution homeSolution, int numero, int paso) throws Exception {
+		switch (paso) {
+		case 0:
+			homeSolution.agregarTareaEnProyecto(numero, "Limpiar", "", 1);
+			break;
+		case 1:
+			homeSolution.asignarResponsableEnTarea(numero, "Limpiar");
+			break;
+		case 2:
+			homeSolution.registrarRetrasoEnTarea(numero, "Limpiar", 1);
+			break;
+		default:
+			homeSolution.finalizarTarea(numero, "Limpiar");
+		}
+	}
+
+	private static Comando comando(int numero, int paso) {
+		switch (paso) {
+		case 0:
+			return new Comando.AgregarTarea(numero, "Limpiar", "", 1);
+		case 1:
+			return new Comando.AsignarResponsable(numero, "Limpiar");
+		case 2:
+			return new Comando.RegistrarRetraso(numero, "Limpiar", 1);
+		default:
+			return new Comando.FinalizarTarea(numero, "Limpiar");
+		}
+	}
+
+	private static class Pendiente {
+		private final CompletableFuture<Void> resultado;
+		private final long inicio;
+		private final int indice;
+
+		private Pendiente(CompletableFuture<Void> resultado, long inicio, int indice) {
+			this.resultado = resultado;
+			this.inicio = inicio;
+			this.indice = indice;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import entidades.HomeSolution;
+import entidades.Instantanea;
+
+/**
+ * Compara el tiempo de construir un HomeSolution llamando a registrarProyecto
+ * (que parsea fechas y valida cada tarea) con el de cargarlo desde una
+ * instantánea.
+ *
+ * Uso: BenchmarkInstantanea [proyectos] [tareas por proyecto]
+ */
+public class BenchmarkInstantanea {
+	public static void main(String[] args) throws Exception {
+		int cantidadDeProyectos = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		int tareasPorProyecto = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+		String titulos[] = new String[tareasPorProyecto];
+		String descripciones[] = new String[tareasPorProyecto];
+		double duracion[] = new double[tareasPorProyecto];
+		for (int i = 0; i < tareasPorProyecto; i++) {
+			titulos[i] = "Tarea " + i;
+			descripciones[i] = "Descripción de la tarea " + i;
+			duracion[i] = 1 + i % 4;
+		}
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		long inicio = System.nanoTime();
+		HomeSolution homeSolution = new HomeSolution();
+		for (int i = 0; i < cantidadDeProyectos; i++)
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + i, cliente, "2025-12-01",
+					"2025-12-05");
+		for (int i = 0; i < cantidadDeProyectos / 10; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+		long construccion = System.nanoTime() - inicio;
+
+		Path directorio = Files.createTempDirectory("benchmark-instantanea");
+		Path archivo = directorio.resolve("homesolution.snap");
+
+		inicio = System.nanoTime();
+		Instantanea.guardar(homeSolution, archivo);
+		long guardado = System.nanoTime() - inicio;
+
+		homeSolution = null;
+		System.gc();
+
+		inicio = System.nanoTime();
+		HomeSolution cargado = Instantanea.cargar(archivo);
+		long carga = System.nanoTime() - inicio;
+
+		int tareas = cantidadDeProyectos * tareasPorProyecto;
+		System.out.printf("%d proyectos, %d tareas, instantánea de %d MB%n", cantidadDeProyectos, tareas,
+				Files.size(archivo) >> 20);
+		System.out.printf("Construcción con registrarProyecto: %.0f ms%n", construccion / 1e6);
+		System.out.printf("Guardado de la instantánea: %.0f ms%n", guardado / 1e6);
+		System.out.printf("Carga de la instantánea: %.0f ms (%d proyectos pendientes)%n", carga / 1e6,
+				cargado.proyectosPendientes().size());
+
+		Files.delete(archivo);
+		Files.delete(directorio);
+	}
+}
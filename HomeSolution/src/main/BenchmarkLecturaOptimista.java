@@ -0,0 +1,145 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import entidades.ConcurrentHomeSolution;
+import entidades.HomeSolution;
+import entidades.HomeSolutionConLecturaOptimista;
+import entidades.HomeSolutionConVersiones;
+import entidades.IHomeSolution;
+
+/**
+ * Mide cómo escala el rendimiento de las consultas puntuales con la cantidad de
+ * hilos, con 95% de consultas y 5% de modificaciones, en:
+ *
+ * - un HomeSolution protegido por un único candado,
+ * - ConcurrentHomeSolution (franjas de candados),
+ * - HomeSolutionConLecturaOptimista (StampedLock con lecturas optimistas), y
+ * - HomeSolutionConVersiones (lecturas sobre una versión inmutable).
+ *
+ * Las consultas rotan entre estaFinalizado, consultarCantidadRetrasosEmpleado,
+ * tieneRestrasos, consultarDomicilioProyecto y costoProyecto, sobre proyectos y
+ * legajos al azar. Las modificaciones registran un retraso en una tarea al
+ * azar, lo que cambia el costo del proyecto y los retrasos de un empleado.
+ *
+ * Uso: BenchmarkLecturaOptimista [máximo de hilos] [operaciones por hilo]
+ */
+public class BenchmarkLecturaOptimista {
+	private static final int cantidadDeProyectos = 1000;
+	private static final int porcentajeDeModificaciones = 5;
+
+	public static void main(String[] args) throws Exception {
+		int procesadores = Runtime.getRuntime().availableProcessors();
+		int maximoDeHilos = args.length > 0 ? Integer.parseInt(args[0]) : Math.max(8, procesadores);
+		int operacionesPorHilo = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+
+		System.out.printf("%d procesadores, %d operaciones por hilo, %d%% modificaciones%n", procesadores,
+				operacionesPorHilo, porcentajeDeModificaciones);
+
+		for (int ronda = 0; ronda < 2; ronda++) { // La primera ronda calienta el JIT.
+			boolean informar = ronda == 1;
+			int operaciones = informar ? operacionesPorHilo : operacionesPorHilo / 10;
+
+			for (int hilos = 1; hilos <= maximoDeHilos; hilos *= 2) {
+				if (informar)
+					System.out.printf("%n%d hilos%n", hilos);
+
+				medir("Candado único", new HomeSolution(), true, hilos, operaciones, informar);
+				medir("Franjas de candados", new ConcurrentHomeSolution(), false, hilos, operaciones, informar);
+
+				HomeSolutionConLecturaOptimista optimista = new HomeSolutionConLecturaOptimista();
+				medir("Lectura optimista", optimista, false, hilos, operaciones, informar);
+				if (informar)
+					System.out.printf("  (%d consultas tomaron la lectura pesimista)%n",
+							optimista.cantidadDeLecturasConCandado());
+
+				medir("Versiones", new HomeSolutionConVersiones(), false, hilos, operaciones, informar);
+			}
+		}
+	}
+
+	private static void preparar(IHomeSolution homeSolution) throws Exception {
+		String titulos[] = { "Pintar" };
+		String descripciones[] = { "" };
+		double duracion[] = { 1 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		for (int i = 1; i <= cantidadDeProyectos; i++) {
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + i, cliente, "2025-12-01",
+					"2025-12-05");
+			homeSolution.asignarResponsableEnTarea(i, "Pintar");
+		}
+	}
+
+	private static void medir(String nombre, IHomeSolution homeSolution, boolean sincronizar, int cantidadDeHilos,
+			int operacionesPorHilo, boolean informar) throws Exception {
+		preparar(homeSolution);
+
+		Exception[] errores = new Exception[cantidadDeHilos];
+		long[] sumas = new long[cantidadDeHilos]; // Para que el JIT no descarte las consultas.
+
+		List<Thread> hilos = new ArrayList<>();
+		for (int i = 0; i < cantidadDeHilos; i++) {
+			int hilo = i;
+			hilos.add(new Thread(() -> {
+				SplittableRandom azar = new SplittableRandom(hilo);
+
+				try {
+					for (int operacion = 0; operacion < operacionesPorHilo; operacion++) {
+						int numero = 1 + azar.nextInt(cantidadDeProyectos);
+						boolean modificar = azar.nextInt(100) < porcentajeDeModificaciones;
+
+						if (sincronizar) {
+							synchronized (homeSolution) {
+								sumas[hilo] += operar(homeSolution, numero, modificar, operacion);
+							}
+						} else {
+							sumas[hilo] += operar(homeSolution, numero, modificar, operacion);
+						}
+					}
+				} catch (Exception e) {
+					errores[hilo] = e;
+				}
+			}));
+		}
+
+		long inicio = System.nanoTime();
+		for (Thread hilo : hilos)
+			hilo.start();
+		for (Thread hilo : hilos)
+			hilo.join();
+		long duracion = System.nanoTime() - inicio;
+
+		for (Exception error : errores) {
+			if (error != null)
+				throw error;
+		}
+
+		if (informar)
+			System.out.printf("%s: %.0f op/s%n", nombre,
+					cantidadDeHilos * (double) operacionesPorHilo / (duracion / 1e9));
+	}
+
+	private static long operar(IHomeSolution homeSolution, int numero, boolean modificar, int operacion) {
+		if (modificar) {
+			homeSolution.registrarRetrasoEnTarea(numero, "Pintar", 1);
+			return 0;
+		}
+
+		switch (operacion % 5) {
+		case 0:
+			return homeSolution.estaFinalizado(numero) ? 1 : 0;
+		case 1:
+			return homeSolution.consultarCantidadRetrasosEmpleado(numero);
+		case 2:
+			return homeSolution.tieneRestrasos(numero) ? 1 : 0;
+		case 3:
+			return homeSolution.consultarDomicilioProyecto(numero).length();
+		default:
+			return (long) homeSolution.costoProyecto(numero);
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import entidades.Comando;
+import entidades.HomeSolution;
+import entidades.HomeSolutionConDiario;
+import entidades.IHomeSolution;
+import entidades.RepositorioEnArchivo;
+
+/**
+ * Compara, para varias implementaciones, aplicar los cambios de un turno de a
+ * una operación por vez contra aplicarlos con aplicarLote. Cada turno abarca
+ * varios proyectos: a cada uno se le asignan sus tareas, se le registra un
+ * retraso y se finalizan sus tareas.
+ *
+ * Uso: BenchmarkLote [proyectos] [proyectos por turno] [tareas por proyecto]
+ */
+public class BenchmarkLote {
+	private interface Apertura {
+		IHomeSolution abrir(Path directorio, List<AutoCloseable> cierres) throws IOException;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int cantidadDeProyectos = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		int proyectosPorTurno = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		int tareasPorProyecto = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+		Path directorio = Files.createTempDirectory("benchmark-lote");
+
+		medir("En memoria", (destino, cierres) -> new HomeSolution(), directorio, cantidadDeProyectos,
+				proyectosPorTurno, tareasPorProyecto);
+		medir("Repositorio en archivo (sincroniza cada 1000)", (destino, cierres) -> {
+			RepositorioEnArchivo repositorio = new RepositorioEnArchivo(destino.resolve("homesolution.dat"), 1000);
+			cierres.add(repositorio::cerrar);
+			return new HomeSolution(repositorio);
+		}, directorio, cantidadDeProyectos, proyectosPorTurno, tareasPorProyecto);
+		medir("Con diario (sincroniza cada operación)", (destino, cierres) -> {
+			HomeSolutionConDiario conDiario = new HomeSolutionConDiario(destino.resolve("homesolution.diario"));
+			cierres.add(conDiario::cerrar);
+			return conDiario;
+		}, directorio, cantidadDeProyectos, proyectosPorTurno, tareasPorProyecto);
+
+		Files.delete(directorio);
+	}
+
+	private static void medir(String nombre, Apertura apertura, Path directorio, int cantidadDeProyectos,
+			int proyectosPorTurno, int tareasPorProyecto) throws Exception {
+		System.out.printf("%s%n", nombre);
+
+		for (boolean enLote : new boolean[] { false, true }) {
+			Path destino = Files.createDirectory(directorio.resolve(enLote ? "lote" : "uno-por-uno"));
+			List<AutoCloseable> cierres = new ArrayList<>();
+			IHomeSolution homeSolution = apertura.abrir(destino, cierres);
+
+			cargarDatos(homeSolution, cantidadDeProyectos, proyectosPorTurno, tareasPorProyecto);
+
+			int operaciones = 0;
+			long inicio = System.nanoTime();
+			for (int primero = 1; primero <= cantidadDeProyectos; primero += proyectosPorTurno) {
+				int ultimo = Math.min(primero + proyectosPorTurno - 1, cantidadDeProyectos);
+				List<Comando> turno = armarTurno(primero, ultimo, tareasPorProyecto);
+
+				if (enLote)
+					homeSolution.aplicarLote(turno);
+				else
+					aplicarUnoPorUno(homeSolution, primero, ultimo, tareasPorProyecto);
+
+				operaciones += turno.size();
+			}
+			long duracion = System.nanoTime() - inicio;
+
+			double costoTotal = 0;
+			for (int numero = 1; numero <= cantidadDeProyectos; numero++)
+				costoTotal += homeSolution.costoProyecto(numero);
+
+			for (AutoCloseable cierre : cierres)
+				cierre.close();
+			borrar(destino);
+
+			System.out.printf("  %s: %d operaciones en %.1f ms (%.0f op/s, costo total %.0f)%n",
+					enLote ? "En lote    " : "Uno por uno", operaciones, duracion / 1e6,
+					operaciones / (duracion / 1e9), costoTotal);
+		}
+	}
+
+	private static void cargarDatos(IHomeSolution homeSolution, int cantidadDeProyectos, int proyectosPorTurno,
+			int tareasPorProyecto) {
+		String titulos[] = new String[tareasPorProyecto];
+		String descripciones[] = new String[tareasPorProyecto];
+		double duracion[] = new double[tareasPorProyecto];
+		for (int i = 0; i < tareasPorProyecto; i++) {
+			titulos[i] = "Tarea " + i;
+			descripciones[i] = "";
+			duracion[i] = 1 + i % 4;
+		}
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		// Alcanza con los empleados de un turno: al final de cada turno quedan libres.
+		for (int i = 0; i < proyectosPorTurno * tareasPorProyecto; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+
+		for (int numero = 1; numero <= cantidadDeProyectos; numero++)
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + numero, cliente,
+					"2025-12-01", "2025-12-05");
+	}
+
+	private static List<Comando> armarTurno(int primero, int ultimo, int tareasPorProyecto) {
+		List<Comando> turno = new ArrayList<>();
+
+		for (int numero = primero; numero <= ultimo; numero++) {
+			for (int i = 0; i < tareasPorProyecto; i++)
+				turno.add(new Comando.AsignarResponsable(numero, "Tarea " + i));
+			turno.add(new Comando.RegistrarRetraso(numero, "Tarea 0", 1));
+			for (int i = 0; i < tareasPorProyecto; i++)
+				turno.add(new Comando.FinalizarTarea(numero, "Tarea " + i));
+		}
+
+		return turno;
+	}
+
+	private static void aplicarUnoPorUno(IHomeSolution homeSolution, int primero, int ultimo, int tareasPorProyecto)
+			throws Exception {
+		for (int numero = primero; numero <= ultimo; numero++) {
+			for (int i = 0; i < tareasPorProyecto; i++)
+				homeSolution.asignarResponsableEnTarea(numero, "Tarea " + i);
+			homeSolution.registrarRetrasoEnTarea(numero, "Tarea 0", 1);
+			for (int i = 0; i < tareasPorProyecto; i++)
+				homeSolution.finalizarTarea(numero, "Tarea " + i);
+		}
+	}
+
+	private static void borrar(Path directorio) throws IOException {
+		try (DirectoryStream<Path> contenido = Files.newDirectoryStream(directorio)) {
+			for (Path archivo : contenido)
+				Files.delete(archivo);
+		}
+
+		Files.delete(directorio);
+	}
+}
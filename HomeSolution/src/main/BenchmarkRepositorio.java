@@ -0,0 +1,101 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import entidades.HomeSolution;
+import entidades.Repositorio;
+import entidades.RepositorioEnArchivo;
+import entidades.RepositorioEnMemoria;
+import entidades.RepositorioSql;
+
+/**
+ * Mide, para cada repositorio, cuánto tarda un HomeSolution en registrar
+ * empleados y proyectos y recorrer el ciclo de vida de cada proyecto, cuánto
+ * tarda en consultarlos y, para los persistentes, cuánto tarda en reabrirlos.
+ *
+ * El repositorio SQL usa una base H2 en un directorio temporal (lib/h2 tiene
+ * que estar en el classpath), o la URL JDBC indicada, de una base vacía cuyo
+ * driver esté en el classpath.
+ *
+ * Uso: BenchmarkRepositorio [proyectos] [url jdbc]
+ */
+public class BenchmarkRepositorio {
+	private interface Apertura {
+		Repositorio abrir() throws IOException;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int cantidadDeProyectos = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+
+		Path directorio = Files.createTempDirectory("benchmark-repositorio");
+		Path archivo = directorio.resolve("homesolution.dat");
+		Path archivoAgrupado = directorio.resolve("homesolution-agrupado.dat");
+		String url = args.length > 1 ? args[1] : "jdbc:h2:file:" + directorio.resolve("homesolution").toAbsolutePath();
+
+		medir("En memoria", RepositorioEnMemoria::new, cantidadDeProyectos, false);
+		medir("Archivo (sincroniza cada guardado)", () -> new RepositorioEnArchivo(archivo), cantidadDeProyectos,
+				true);
+		medir("Archivo (sincroniza cada 1000)", () -> new RepositorioEnArchivo(archivoAgrupado, 1000),
+				cantidadDeProyectos, true);
+		medir("SQL " + url, () -> new RepositorioSql(url), cantidadDeProyectos, true);
+
+		try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio)) {
+			for (Path creado : archivos)
+				Files.delete(creado);
+		}
+		Files.delete(directorio);
+	}
+
+	private static void medir(String nombre, Apertura apertura, int cantidadDeProyectos, boolean reabrir)
+			throws Exception {
+		String titulos[] = { "Pintar", "Instalacion electrica", "Limpiar" };
+		String descripciones[] = { "", "", "" };
+		double duracion[] = { 4, 2, 1 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		Repositorio repositorio = apertura.abrir();
+		HomeSolution homeSolution = new HomeSolution(repositorio);
+
+		long inicio = System.nanoTime();
+		for (int numero = 1; numero <= cantidadDeProyectos; numero++) {
+			homeSolution.registrarEmpleado("Empleado " + numero, 15000);
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + numero, cliente,
+					"2025-12-01", "2025-12-05");
+			homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+			homeSolution.registrarRetrasoEnTarea(numero, "Pintar", 1);
+			homeSolution.finalizarTarea(numero, "Pintar");
+		}
+		long escritura = System.nanoTime() - inicio;
+
+		double costoTotal = 0;
+		inicio = System.nanoTime();
+		for (int numero = 1; numero <= cantidadDeProyectos; numero++)
+			costoTotal += homeSolution.tareasDeUnProyecto(numero).length + homeSolution.costoProyecto(numero);
+		long lectura = System.nanoTime() - inicio;
+
+		repositorio.cerrar();
+
+		int operaciones = cantidadDeProyectos * 5;
+		System.out.printf("%s%n", nombre);
+		System.out.printf("  Escritura: %d operaciones en %.1f ms (%.0f op/s)%n", operaciones, escritura / 1e6,
+				operaciones / (escritura / 1e9));
+		System.out.printf("  Lectura: %d proyectos en %.1f ms (%.0f proyectos/s, suma %.0f)%n", cantidadDeProyectos,
+				lectura / 1e6, cantidadDeProyectos / (lectura / 1e9), costoTotal);
+
+		if (!reabrir)
+			return;
+
+		inicio = System.nanoTime();
+		repositorio = apertura.abrir();
+		HomeSolution recuperado = new HomeSolution(repositorio);
+		long reapertura = System.nanoTime() - inicio;
+
+		System.out.printf("  Reapertura: %d proyectos activos y %d empleados en %.1f ms%n",
+				recuperado.proyectosActivos().size(), recuperado.empleados().size(), reapertura / 1e6);
+
+		repositorio.cerrar();
+	}
+}
@@ -0,0 +1,164 @@
+package main;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import entidades.HomeSolutionConLecturaOptimista;
+import servicio.ServidorHomeSolution;
+
+/**
+ * Prueba de carga del servicio HTTP sobre la interfaz loopback. Varios clientes
+ * hacen peticiones seguidas (cada uno reusa su conexión), con 95% de consultas
+ * puntuales y 5% de registros de retraso, y se informa el rendimiento y los
+ * percentiles de latencia medidos desde el cliente.
+ *
+ * Uso: BenchmarkServicio [clientes] [peticiones por cliente]
+ */
+public class BenchmarkServicio {
+	private static final int cantidadDeProyectos = 200;
+	private static final int porcentajeDeModificaciones = 5;
+
+	public static void main(String[] args) throws Exception {
+		int cantidadDeClientes = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+		int peticionesPorCliente = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+
+		HomeSolutionConLecturaOptimista homeSolution = new HomeSolutionConLecturaOptimista();
+		preparar(homeSolution);
+
+		ServidorHomeSolution servidor = new ServidorHomeSolution(homeSolution);
+		servidor.iniciar("127.0.0.1", 0);
+		String base = "http://127.0.0.1:" + servidor.obtenerPuerto() + "/api/";
+
+		System.out.printf("%d clientes, %d peticiones por cliente, %d procesadores, hilos virtuales: %s%n",
+				cantidadDeClientes, peticionesPorCliente, Runtime.getRuntime().availableProcessors(),
+				servidor.usaHilosVirtuales() ? "sí" : "no");
+
+		try {
+			medir(base, cantidadDeClientes, peticionesPorCliente / 10, false); // Calienta el JIT.
+			medir(base, cantidadDeClientes, peticionesPorCliente, true);
+		} finally {
+			servidor.detener(0);
+		}
+	}
+
+	private static void preparar(HomeSolutionConLecturaOptimista homeSolution) throws Exception {
+		String titulos[] = { "Pintar" };
+		String descripciones[] = { "" };
+		double duracion[] = { 1 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		for (int i = 1; i <= cantidadDeProyectos; i++) {
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + i, cliente, "2025-12-01",
+					"2025-12-05");
+			homeSolution.asignarResponsableEnTarea(i, "Pintar");
+		}
+	}
+
+	private static void medir(String base, int cantidadDeClientes, int peticionesPorCliente, boolean informar)
+			throws Exception {
+		long[][] latencias = new long[cantidadDeClientes][peticionesPorCliente];
+		Exception[] errores = new Exception[cantidadDeClientes];
+
+		List<Thread> clientes = new ArrayList<>();
+		for (int i = 0; i < cantidadDeClientes; i++) {
+			int cliente = i;
+			clientes.add(new Thread(() -> {
+				SplittableRandom azar = new SplittableRandom(cliente);
+
+				try {
+					for (int peticion = 0; peticion < peticionesPorCliente; peticion++) {
+						int numero = 1 + azar.nextInt(cantidadDeProyectos);
+						long inicio = System.nanoTime();
+
+						if (azar.nextInt(100) < porcentajeDeModificaciones)
+							pedir(base + "registrarRetrasoEnTarea",
+									"{\"numero\":" + numero + ",\"titulo\":\"Pintar\",\"dias\":1}");
+						else
+							pedir(base + consulta(peticion, numero), null);
+
+						latencias[cliente][peticion] = System.nanoTime() - inicio;
+					}
+				} catch (Exception e) {
+					errores[cliente] = e;
+				}
+			}));
+		}
+
+		long inicio = System.nanoTime();
+		for (Thread cliente : clientes)
+			cliente.start();
+		for (Thread cliente : clientes)
+			cliente.join();
+		long duracion = System.nanoTime() - inicio;
+
+		for (Exception error : errores) {
+			if (error != null)
+				throw error;
+		}
+		if (!informar)
+			return;
+
+		long[] todas = new long[cantidadDeClientes * peticionesPorCliente];
+		for (int i = 0; i < cantidadDeClientes; i++)
+			System.arraycopy(latencias[i], 0, todas, i * peticionesPorCliente, peticionesPorCliente);
+		Arrays.sort(todas);
+
+		System.out.printf("%.0f peticiones/s; latencia p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms%n",
+				todas.length / (duracion / 1e9), percentil(todas, 0.50) / 1e6, percentil(todas, 0.99) / 1e6,
+				percentil(todas, 0.999) / 1e6);
+	}
+
+	private static String consulta(int peticion, int numero) {
+		switch (peticion % 5) {
+		case 0:
+			return "estaFinalizado?numero=" + numero;
+		case 1:
+			return "consultarCantidadRetrasosEmpleado?legajo=" + numero;
+		case 2:
+			return "tieneRestrasos?legajo=" + numero;
+		case 3:
+			return "consultarDomicilioProyecto?numero=" + numero;
+		default:
+			return "costoProyecto?numero=" + numero;
+		}
+	}
+
+	private static long percentil(long[] ordenadas, double fraccion) {
+		return ordenadas[Math.min(ordenadas.length - 1, (int) (ordenadas.length * fraccion))];
+	}
+
+	/**
+	 * Lee la respuesta completa para que la conexión vuelva al pool de
+	 * HttpURLConnection y se reuse.
+	 */
+	private static void pedir(String url, String cuerpo) throws Exception {
+		HttpURLConnection conexion = (HttpURLConnection) new URL(url).openConnection();
+
+		if (cuerpo != null) {
+			conexion.setRequestMethod("POST");
+			conexion.setDoOutput(true);
+			try (OutputStream salida = conexion.getOutputStream()) {
+				salida.write(cuerpo.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		int codigo = conexion.getResponseCode();
+		if (codigo != 200)
+			throw new IllegalStateException("El servicio respondió " + codigo + " a " + url);
+
+		try (InputStream entrada = conexion.getInputStream()) {
+			byte[] buffer = new byte[1024];
+			while (entrada.read(buffer) != -1) {
+				// Se descarta.
+			}
+		}
+	}
+}
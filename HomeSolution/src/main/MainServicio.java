@@ -0,0 +1,24 @@
+package main;
+
+import entidades.HomeSolutionConLecturaOptimista;
+import servicio.ServidorHomeSolution;
+
+/**
+ * Levanta HomeSolution como servicio HTTP/JSON en lugar de la interfaz Swing.
+ *
+ * Uso: MainServicio [puerto] [dirección]
+ */
+public class MainServicio {
+	public static void main(String[] args) throws Exception {
+		int puerto = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+		String direccion = args.length > 1 ? args[1] : "127.0.0.1";
+
+		ServidorHomeSolution servidor = new ServidorHomeSolution(new HomeSolutionConLecturaOptimista());
+		servidor.iniciar(direccion, puerto);
+
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> servidor.detener(1)));
+
+		System.out.printf("HomeSolution atendiendo en http://%s:%d/api/ (hilos virtuales: %s)%n", direccion,
+				servidor.obtenerPuerto(), servidor.usaHilosVirtuales() ? "sí" : "no");
+	}
+}
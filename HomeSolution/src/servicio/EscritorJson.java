@@ -0,0 +1,91 @@
+package servicio;
+
+import java.util.Map;
+
+/**
+ * Escribe como JSON los valores que devuelven las rutas del servicio: null,
+ * Boolean, Number, String, Map (objeto) e Iterable (arreglo).
+ */
+public class EscritorJson {
+	private EscritorJson() {
+	}
+
+	public static String escribir(Object valor) {
+		StringBuilder salida = new StringBuilder();
+
+		escribir(salida, valor);
+
+		return salida.toString();
+	}
+
+	private static void escribir(StringBuilder salida, Object valor) {
+		if (valor == null || valor instanceof Boolean) {
+			salida.append(valor);
+		} else if (valor instanceof Double || valor instanceof Float) {
+			double numero = ((Number) valor).doubleValue();
+
+			salida.append(Double.isNaN(numero) || Double.isInfinite(numero) ? "null" : Double.toString(numero));
+		} else if (valor instanceof Number) {
+			salida.append(valor);
+		} else if (valor instanceof Map) {
+			boolean primero = true;
+
+			salida.append('{');
+			for (Map.Entry<?, ?> campo : ((Map<?, ?>) valor).entrySet()) {
+				if (!primero)
+					salida.append(',');
+				primero = false;
+
+				escribirTexto(salida, String.valueOf(campo.getKey()));
+				salida.append(':');
+				escribir(salida, campo.getValue());
+			}
+			salida.append('}');
+		} else if (valor instanceof Iterable) {
+			boolean primero = true;
+
+			salida.append('[');
+			for (Object elemento : (Iterable<?>) valor) {
+				if (!primero)
+					salida.append(',');
+				primero = false;
+
+				escribir(salida, elemento);
+			}
+			salida.append(']');
+		} else {
+			escribirTexto(salida, valor.toString());
+		}
+	}
+
+	private static void escribirTexto(StringBuilder salida, String texto) {
+		salida.append('"');
+		for (int i = 0; i < texto.length(); i++) {
+			char caracter = texto.charAt(i);
+
+			switch (caracter) {
+			case '"':
+				salida.append("\\\"");
+				break;
+			case '\\':
+				salida.append("\\\\");
+				break;
+			case '\n':
+				salida.append("\\n");
+				break;
+			case '\r':
+				salida.append("\\r");
+				break;
+			case '\t':
+				salida.append("\\t");
+				break;
+			default:
+				if (caracter < 0x20)
+					salida.append(String.format("\\u%04x", (int) caracter));
+				else
+					salida.append(caracter);
+			}
+		}
+		salida.append('"');
+	}
+}
@@ -0,0 +1,159 @@
+package servicio;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import entidades.LectorJson;
+
+/**
+ * Parámetros de una llamada al servicio, leídos de la consulta de la URL (GET)
+ * o del objeto JSON del cuerpo (POST). Los de la URL llegan como texto y se
+ * convierten al pedirlos.
+ */
+public class Peticion {
+	private final Map<?, ?> parametros;
+
+	private Peticion(Map<?, ?> parametros) {
+		this.parametros = parametros;
+	}
+
+	protected static Peticion deConsulta(String consulta) {
+		Map<String, String> parametros = new LinkedHashMap<>();
+
+		if (consulta != null && !consulta.isEmpty()) {
+			for (String par : consulta.split("&")) {
+				int igual = par.indexOf('=');
+
+				if (igual < 0)
+					parametros.put(decodificar(par), "");
+				else
+					parametros.put(decodificar(par.substring(0, igual)), decodificar(par.substring(igual + 1)));
+			}
+		}
+
+		return new Peticion(parametros);
+	}
+
+	protected static Peticion deCuerpo(String cuerpo) {
+		if (cuerpo.trim().isEmpty())
+			return new Peticion(Collections.emptyMap());
+
+		return new Peticion(objeto(LectorJson.leer(cuerpo), "El cuerpo"));
+	}
+
+	private static String decodificar(String texto) {
+		try {
+			return URLDecoder.decode(texto, "UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e); // UTF-8 siempre está disponible.
+		}
+	}
+
+	private static Map<?, ?> objeto(Object valor, String descripcion) {
+		if (!(valor instanceof Map))
+			throw new IllegalArgumentException(descripcion + " debe ser un objeto JSON.");
+
+		return (Map<?, ?>) valor;
+	}
+
+	private Object obligatorio(String nombre) {
+		Object valor = parametros.get(nombre);
+
+		if (valor == null)
+			throw new IllegalArgumentException("Falta el parámetro '" + nombre + "'.");
+
+		return valor;
+	}
+
+	protected int entero(String nombre) {
+		double numero = decimal(nombre);
+
+		if (numero != Math.rint(numero) || Math.abs(numero) > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("El parámetro '" + nombre + "' debe ser un entero.");
+
+		return (int) numero;
+	}
+
+	protected double decimal(String nombre) {
+		return decimal(obligatorio(nombre), nombre);
+	}
+
+	private static double decimal(Object valor, String nombre) {
+		if (valor instanceof Number)
+			return ((Number) valor).doubleValue();
+
+		try {
+			if (valor instanceof String)
+				return Double.parseDouble((String) valor);
+		} catch (NumberFormatException e) {
+			// Se informa abajo.
+		}
+
+		throw new IllegalArgumentException("El parámetro '" + nombre + "' debe ser un número.");
+	}
+
+	/**
+	 * @return El parámetro como texto, o null si no está y no es obligatorio.
+	 */
+	protected String texto(String nombre, boolean obligatorio) {
+		Object valor = obligatorio ? obligatorio(nombre) : parametros.get(nombre);
+
+		if (valor != null && !(valor instanceof String))
+			throw new IllegalArgumentException("El parámetro '" + nombre + "' debe ser un texto.");
+
+		return (String) valor;
+	}
+
+	protected String[] textos(String nombre) {
+		List<?> lista = lista(nombre);
+		String[] textos = new String[lista.size()];
+
+		for (int i = 0; i < textos.length; i++) {
+			Object valor = lista.get(i);
+
+			if (valor != null && !(valor instanceof String))
+				throw new IllegalArgumentException("El parámetro '" + nombre + "' debe ser un arreglo de textos.");
+
+			textos[i] = (String) valor;
+		}
+
+		return textos;
+	}
+
+	protected double[] decimales(String nombre) {
+		List<?> lista = lista(nombre);
+		double[] decimales = new double[lista.size()];
+
+		for (int i = 0; i < decimales.length; i++)
+			decimales[i] = decimal(lista.get(i), nombre);
+
+		return decimales;
+	}
+
+	/**
+	 * @return Cada objeto del arreglo como una petición propia.
+	 */
+	protected List<Peticion> objetos(String nombre) {
+		List<?> lista = lista(nombre);
+		List<Peticion> objetos = new ArrayList<>(lista.size());
+
+		for (int i = 0; i < lista.size(); i++)
+			objetos.add(new Peticion(objeto(lista.get(i), "El elemento " + (i + 1) + " de '" + nombre + "'")));
+
+		return objetos;
+	}
+
+	private List<?> lista(String nombre) {
+		Object valor = obligatorio(nombre);
+
+		if (!(valor instanceof List))
+			throw new IllegalArgumentException("El parámetro '" + nombre + "' debe ser un arreglo.");
+
+		return (List<?>) valor;
+	}
+}
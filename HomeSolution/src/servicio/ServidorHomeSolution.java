@@ -0,0 +1,424 @@
+package servicio;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import entidades.Comando;
+import entidades.IHomeSolution;
+import entidades.Tupla;
+
+/**
+ * Servidor HTTP embebido que expone todas las operaciones de un IHomeSolution
+ * como una API JSON. Cada operación es una ruta con el nombre del método:
+ *
+ * <pre>
+ * GET  /api/costoProyecto?numero=1
+ * POST /api/asignarResponsableEnTarea   {"numero":1,"titulo":"Pintar"}
+ * </pre>
+ *
+ * Las consultas usan GET con los parámetros en la URL; las modificaciones usan
+ * POST con un objeto JSON con los parámetros por nombre. aplicarLote recibe
+ * {"comandos":[{"tipo":"asignarResponsable","numero":1,"titulo":"Pintar"}, ...]}
+ * y GET /api/resumen devuelve el toString() del sistema.
+ *
+ * Toda respuesta es un objeto JSON: {"resultado": ...} con código 200, o
+ * {"error": "mensaje"} con 400 (parámetros inválidos o IllegalArgumentException
+ * del sistema), 404 (ruta desconocida), 405 (método equivocado), 409 (regla del
+ * sistema informada con RuntimeException a secas, como no tener empleados
+ * disponibles), 503 (servidor saturado) o 500. Cualquier otra excepción es un
+ * error interno: se registra en el log y la respuesta no dice nada de ella.
+ *
+ * Cada petición se atiende en un hilo virtual si la JVM los tiene (Java 21 o
+ * posterior), así las que esperan a disco no ocupan hilos de plataforma; si no,
+ * en un pool con una cantidad fija de hilos y una cola acotada, y lo que no
+ * entra en la cola se rechaza con 503. Como las peticiones corren en paralelo,
+ * el IHomeSolution tiene que poder usarse desde varios hilos.
+ *
+ * iniciar() pone la propiedad del sistema sun.net.httpserver.nodelay en true si
+ * no tiene valor, y eso vale para todos los servidores HTTP del JDK en la JVM.
+ * Quien no lo quiera tiene que ponerla en false antes de iniciar el primero.
+ */
+public class ServidorHomeSolution {
+	private static final String prefijo = "/api/";
+	private static final int tamanioMaximoDeCuerpo = 1 << 20;
+	private static final Logger log = Logger.getLogger(ServidorHomeSolution.class.getName());
+
+	// Marca la petición que el pool rechazó y se atiende, sólo para contestar 503,
+	// en el hilo del servidor que la recibió.
+	private static final ThreadLocal<Boolean> rechazada = new ThreadLocal<>();
+
+	private final IHomeSolution homeSolution;
+	private final Map<String, Ruta> rutas;
+	private final int hilos;
+	private final int peticionesEnEspera;
+
+	private HttpServer servidor;
+	private ExecutorService ejecutor;
+	private boolean hilosVirtuales;
+
+	public ServidorHomeSolution(IHomeSolution homeSolution) {
+		this(homeSolution, Math.max(16, 4 * Runtime.getRuntime().availableProcessors()), 1024);
+	}
+
+	/**
+	 * @param hilos              Hilos del pool que se usa si la JVM no tiene
+	 *                           hilos virtuales.
+	 * @param peticionesEnEspera Peticiones que pueden esperar un hilo libre del
+	 *                           pool; las que llegan con la cola llena reciben
+	 *                           503.
+	 */
+	public ServidorHomeSolution(IHomeSolution homeSolution, int hilos, int peticionesEnEspera) {
+		if (hilos <= 0)
+			throw new IllegalArgumentException("La cantidad de hilos debe ser mayor a 0.");
+		if (peticionesEnEspera <= 0)
+			throw new IllegalArgumentException("La cantidad de peticiones en espera debe ser mayor a 0.");
+
+		this.homeSolution = homeSolution;
+		this.hilos = hilos;
+		this.peticionesEnEspera = peticionesEnEspera;
+		rutas = new HashMap<>();
+
+		registrarRutas();
+	}
+
+	/**
+	 * Empieza a atender en la dirección y el puerto indicados. Con puerto 0 se
+	 * elige uno libre; obtenerPuerto() dice cuál.
+	 */
+	public void iniciar(String direccion, int puerto) throws IOException {
+		if (servidor != null)
+			throw new IllegalStateException("El servidor ya está iniciado.");
+
+		// Sin TCP_NODELAY, el servidor del JDK escribe encabezados y cuerpo por
+		// separado y cada respuesta espera ~40 ms al ACK demorado del cliente. La
+		// propiedad es de toda la JVM y se lee al crear el primer servidor.
+		if (System.getProperty("sun.net.httpserver.nodelay") == null)
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+
+		servidor = HttpServer.create(new InetSocketAddress(direccion, puerto), 1024);
+		ejecutor = crearEjecutor();
+
+		servidor.createContext(prefijo, this::atender);
+		servidor.setExecutor(ejecutor);
+		servidor.start();
+	}
+
+	/**
+	 * Deja de aceptar conexiones, espera hasta los segundos indicados a que
+	 * terminen las peticiones en curso y libera los hilos.
+	 */
+	public void detener(int segundos) {
+		if (servidor == null)
+			return;
+
+		servidor.stop(segundos);
+		ejecutor.shutdown();
+
+		servidor = null;
+		ejecutor = null;
+	}
+
+	public int obtenerPuerto() {
+		if (servidor == null)
+			throw new IllegalStateException("El servidor no está iniciado.");
+
+		return servidor.getAddress().getPort();
+	}
+
+	/**
+	 * @return Si las peticiones se atienden en hilos virtuales.
+	 */
+	public boolean usaHilosVirtuales() {
+		return hilosVirtuales;
+	}
+
+	private ExecutorService crearEjecutor() {
+		ExecutorService virtuales = buscarHilosVirtuales(Executors.class);
+
+		hilosVirtuales = (virtuales != null);
+		if (hilosVirtuales)
+			return virtuales;
+
+		AtomicInteger creados = new AtomicInteger();
+		ThreadFactory fabrica = tarea -> {
+			Thread hilo = new Thread(tarea, "servicio-http-" + creados.incrementAndGet());
+			hilo.setDaemon(true);
+			return hilo;
+		};
+
+		// Una petición rechazada se atiende en el hilo del servidor que la recibió,
+		// sólo para contestar 503 sin ejecutar la operación.
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(hilos, hilos, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(peticionesEnEspera), fabrica, (tarea, ejecutor) -> {
+					rechazada.set(Boolean.TRUE);
+					try {
+						tarea.run();
+					} finally {
+						rechazada.remove();
+					}
+				});
+		pool.allowCoreThreadTimeOut(true);
+
+		return pool;
+	}
+
+	/**
+	 * Busca por reflexión, para poder compilar con Java 8, el método estático
+	 * newVirtualThreadPerTaskExecutor de la clase indicada (Executors, salvo en
+	 * las pruebas) y lo llama.
+	 *
+	 * @return El ejecutor de hilos virtuales, o null si la clase no tiene el
+	 *         método o no se pudo usar (en Java 19 y 20 falla si no se habilitó
+	 *         la vista previa).
+	 */
+	public static ExecutorService buscarHilosVirtuales(Class<?> fabrica) {
+		try {
+			return (ExecutorService) fabrica.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | ClassCastException e) {
+			return null;
+		}
+	}
+
+	private void atender(HttpExchange intercambio) throws IOException {
+		int codigo;
+		Map<String, Object> respuesta = new LinkedHashMap<>();
+
+		try {
+			String nombre = intercambio.getRequestURI().getPath().substring(prefijo.length());
+			Ruta ruta = rutas.get(nombre);
+			String metodo = intercambio.getRequestMethod();
+
+			if (rechazada.get() != null) {
+				codigo = 503;
+				respuesta.put("error", "El servidor está saturado. Reintente más tarde.");
+				intercambio.getResponseHeaders().set("Retry-After", "1");
+			} else if (ruta == null) {
+				codigo = 404;
+				respuesta.put("error", "No existe la operación '" + nombre + "'.");
+			} else if (!ruta.metodo.equals(metodo)) {
+				codigo = 405;
+				respuesta.put("error", "La operación '" + nombre + "' se invoca con " + ruta.metodo + ".");
+				intercambio.getResponseHeaders().set("Allow", ruta.metodo);
+			} else {
+				Peticion peticion = metodo.equals("GET")
+						? Peticion.deConsulta(intercambio.getRequestURI().getRawQuery())
+						: Peticion.deCuerpo(leerCuerpo(intercambio.getRequestBody()));
+
+				respuesta.put("resultado", ruta.manejador.manejar(peticion));
+				codigo = 200;
+			}
+		} catch (IllegalArgumentException e) {
+			codigo = 400;
+			respuesta.put("error", e.getMessage());
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			// HomeSolution informa algunas reglas (por ejemplo, que no hay empleados
+			// disponibles) con RuntimeException a secas. Sus subclases, como
+			// IllegalStateException o UncheckedIOException, son fallas del sistema.
+			if (e.getClass() == RuntimeException.class) {
+				codigo = 409;
+				respuesta.put("error", e.getMessage());
+			} else {
+				log.log(Level.SEVERE, "Falló la petición " + intercambio.getRequestMethod() + " "
+						+ intercambio.getRequestURI(), e);
+
+				codigo = 500;
+				respuesta.put("error", "Error interno del servidor.");
+			}
+		}
+
+		byte[] bytes = EscritorJson.escribir(respuesta).getBytes(StandardCharsets.UTF_8);
+
+		intercambio.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		intercambio.sendResponseHeaders(codigo, bytes.length);
+		try (OutputStream salida = intercambio.getResponseBody()) {
+			salida.write(bytes);
+		}
+	}
+
+	private static String leerCuerpo(InputStream entrada) throws IOException {
+		ByteArrayOutputStream cuerpo = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int leidos;
+
+		while ((leidos = entrada.read(buffer)) != -1) {
+			cuerpo.write(buffer, 0, leidos);
+
+			if (cuerpo.size() > tamanioMaximoDeCuerpo)
+				throw new IllegalArgumentException("El cuerpo supera los " + tamanioMaximoDeCuerpo + " bytes.");
+		}
+
+		return new String(cuerpo.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private void consulta(String nombre, Manejador manejador) {
+		rutas.put(nombre, new Ruta("GET", manejador));
+	}
+
+	private void modificacion(String nombre, Modificacion modificacion) {
+		rutas.put(nombre, new Ruta("POST", peticion -> {
+			modificacion.aplicar(peticion);
+			return null;
+		}));
+	}
+
+	private void registrarRutas() {
+		modificacion("registrarEmpleado", p -> {
+			String categoria = p.texto("categoria", false);
+
+			if (categoria == null)
+				homeSolution.registrarEmpleado(p.texto("nombre", true), p.decimal("valor"));
+			else
+				homeSolution.registrarEmpleado(p.texto("nombre", true), p.decimal("valor"), categoria);
+		});
+		modificacion("registrarProyecto",
+				p -> homeSolution.registrarProyecto(p.textos("titulos"), p.textos("descripciones"),
+						p.decimales("dias"), p.texto("domicilio", true), p.textos("cliente"), p.texto("inicio", true),
+						p.texto("fin", true)));
+		modificacion("asignarResponsableEnTarea",
+				p -> homeSolution.asignarResponsableEnTarea(p.entero("numero"), p.texto("titulo", true)));
+		modificacion("asignarResponsableMenosRetraso",
+				p -> homeSolution.asignarResponsableMenosRetraso(p.entero("numero"), p.texto("titulo", true)));
+		modificacion("registrarRetrasoEnTarea", p -> homeSolution.registrarRetrasoEnTarea(p.entero("numero"),
+				p.texto("titulo", true), p.decimal("dias")));
+		modificacion("agregarTareaEnProyecto", p -> homeSolution.agregarTareaEnProyecto(p.entero("numero"),
+				p.texto("titulo", true), p.texto("descripcion", true), p.decimal("dias")));
+		modificacion("finalizarTarea", p -> homeSolution.finalizarTarea(p.entero("numero"), p.texto("titulo", true)));
+		modificacion("finalizarProyecto",
+				p -> homeSolution.finalizarProyecto(p.entero("numero"), p.texto("fin", true)));
+		modificacion("reasignarEmpleadoEnProyecto", p -> homeSolution.reasignarEmpleadoEnProyecto(p.entero("numero"),
+				p.entero("legajo"), p.texto("titulo", true)));
+		modificacion("reasignarEmpleadoConMenosRetraso",
+				p -> homeSolution.reasignarEmpleadoConMenosRetraso(p.entero("numero"), p.texto("titulo", true)));
+		modificacion("aplicarLote", p -> {
+			List<Comando> comandos = new ArrayList<>();
+
+			for (Peticion comando : p.objetos("comandos"))
+				comandos.add(comando(comando));
+
+			homeSolution.aplicarLote(comandos);
+		});
+
+		consulta("costoProyecto", p -> homeSolution.costoProyecto(p.entero("numero")));
+		consulta("proyectosFinalizados", p -> proyectos(homeSolution.proyectosFinalizados()));
+		consulta("proyectosPendientes", p -> proyectos(homeSolution.proyectosPendientes()));
+		consulta("proyectosActivos", p -> proyectos(homeSolution.proyectosActivos()));
+		consulta("empleadosNoAsignados", p -> textos(homeSolution.empleadosNoAsignados()));
+		consulta("estaFinalizado", p -> homeSolution.estaFinalizado(p.entero("numero")));
+		consulta("consultarCantidadRetrasosEmpleado",
+				p -> homeSolution.consultarCantidadRetrasosEmpleado(p.entero("legajo")));
+		consulta("empleadosAsignadosAProyecto",
+				p -> empleados(homeSolution.empleadosAsignadosAProyecto(p.entero("numero"))));
+		consulta("tareasProyectoNoAsignadas", p -> textos(homeSolution.tareasProyectoNoAsignadas(p.entero("numero"))));
+		consulta("tareasDeUnProyecto", p -> textos(homeSolution.tareasDeUnProyecto(p.entero("numero"))));
+		consulta("consultarDomicilioProyecto", p -> homeSolution.consultarDomicilioProyecto(p.entero("numero")));
+		consulta("tieneRestrasos", p -> homeSolution.tieneRestrasos(p.entero("legajo")));
+		consulta("empleados", p -> empleados(homeSolution.empleados()));
+		consulta("consultarProyecto", p -> homeSolution.consultarProyecto(p.entero("numero")));
+		consulta("resumen", p -> homeSolution.toString());
+	}
+
+	private static Comando comando(Peticion p) {
+		String tipo = p.texto("tipo", true);
+
+		switch (tipo) {
+		case "asignarResponsable":
+			return new Comando.AsignarResponsable(p.entero("numero"), p.texto("titulo", true));
+		case "asignarResponsableMenosRetraso":
+			return new Comando.AsignarResponsableMenosRetraso(p.entero("numero"), p.texto("titulo", true));
+		case "registrarRetraso":
+			return new Comando.RegistrarRetraso(p.entero("numero"), p.texto("titulo", true), p.decimal("dias"));
+		case "agregarTarea":
+			return new Comando.AgregarTarea(p.entero("numero"), p.texto("titulo", true),
+					p.texto("descripcion", true), p.decimal("dias"));
+		case "finalizarTarea":
+			return new Comando.FinalizarTarea(p.entero("numero"), p.texto("titulo", true));
+		case "finalizarProyecto":
+			return new Comando.FinalizarProyecto(p.entero("numero"), p.texto("fin", true));
+		case "reasignarEmpleado":
+			return new Comando.ReasignarEmpleado(p.entero("numero"), p.entero("legajo"), p.texto("titulo", true));
+		default:
+			throw new IllegalArgumentException("Tipo de comando desconocido: " + tipo);
+		}
+	}
+
+	private static List<Map<String, Object>> proyectos(List<Tupla<Integer, String>> proyectos) {
+		return tuplas(proyectos, "numero", "domicilio");
+	}
+
+	private static List<Map<String, Object>> empleados(List<Tupla<Integer, String>> empleados) {
+		return tuplas(empleados, "legajo", "nombre");
+	}
+
+	private static List<Map<String, Object>> tuplas(List<Tupla<Integer, String>> tuplas, String campo1,
+			String campo2) {
+		List<Map<String, Object>> objetos = new ArrayList<>(tuplas.size());
+
+		for (Tupla<Integer, String> tupla : tuplas) {
+			Map<String, Object> objeto = new LinkedHashMap<>();
+			objeto.put(campo1, tupla.getValor1());
+			objeto.put(campo2, tupla.getValor2());
+			objetos.add(objeto);
+		}
+
+		return objetos;
+	}
+
+	/**
+	 * Los empleados y las tareas que devuelve IHomeSolution se muestran con su
+	 * toString(): el legajo y el título.
+	 */
+	private static List<String> textos(Object[] elementos) {
+		List<String> textos = new ArrayList<>(elementos.length);
+
+		for (Object elemento : elementos)
+			textos.add(elemento.toString());
+
+		return textos;
+	}
+
+	@FunctionalInterface
+	private interface Manejador {
+		/**
+		 * @return El resultado a devolver, en forma que EscritorJson sepa escribir.
+		 */
+		Object manejar(Peticion peticion) throws Exception;
+	}
+
+	@FunctionalInterface
+	private interface Modificacion {
+		void aplicar(Peticion peticion) throws Exception;
+	}
+
+	private static class Ruta {
+		private final String metodo;
+		private final Manejador manejador;
+
+		private Ruta(String metodo, Manejador manejador) {
+			this.metodo = metodo;
+			this.manejador = manejador;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.Instantanea;
+import entidades.RepositorioEnArchivo;
+import entidades.Tupla;
+
+public class AlmacenDeFinalizadosTest {
+	private Path archivo;
+	private HomeSolution archivado;
+	private HomeSolution enMemoria;
+
+	@Before
+	public void setUp() throws Exception {
+		archivo = Files.createTempFile("finalizados", ".dat");
+
+		archivado = new HomeSolution();
+		archivado.archivarFinalizadosEn(archivo, 1);
+		enMemoria = new HomeSolution();
+
+		cargarDatos(archivado);
+		cargarDatos(enMemoria);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		archivado.cerrarArchivoDeFinalizados();
+		Files.deleteIfExists(archivo);
+	}
+
+	@Test
+	public void testConsultasDeProyectosArchivadosCoincidenConLasEnMemoria() throws Exception {
+		assertEquals(enMemoria.proyectosFinalizados().size(), archivado.proyectosFinalizados().size());
+		assertEquals(enMemoria.proyectosPendientes().size(), archivado.proyectosPendientes().size());
+
+		for (int numero = 1; numero <= 4; numero++) {
+			assertEquals(enMemoria.consultarProyecto(numero), archivado.consultarProyecto(numero));
+			assertEquals(enMemoria.costoProyecto(numero), archivado.costoProyecto(numero), 0.001);
+			assertEquals(enMemoria.estaFinalizado(numero), archivado.estaFinalizado(numero));
+			assertArrayEquals(enMemoria.tareasDeUnProyecto(numero), archivado.tareasDeUnProyecto(numero));
+			assertEquals(describir(enMemoria.empleadosAsignadosAProyecto(numero)),
+					describir(archivado.empleadosAsignadosAProyecto(numero)));
+		}
+
+		assertEquals(enMemoria.toString(), archivado.toString());
+		assertEquals(describir(enMemoria.proyectosFinalizados(0, 2).obtenerElementos()),
+				describir(archivado.proyectosFinalizados(0, 2).obtenerElementos()));
+	}
+
+	@Test
+	public void testRetrasoEnProyectoArchivadoSeConserva() throws Exception {
+		archivado.registrarRetrasoEnTarea(1, "Pintar", 3);
+		enMemoria.registrarRetrasoEnTarea(1, "Pintar", 3);
+
+		archivado.consultarProyecto(2); // Saca al proyecto 1 del caché.
+
+		assertEquals(enMemoria.consultarProyecto(1), archivado.consultarProyecto(1));
+		assertEquals(enMemoria.costoProyecto(1), archivado.costoProyecto(1), 0.001);
+	}
+
+	@Test
+	public void testInstantaneaIncluyeLosProyectosArchivados() throws Exception {
+		Path instantanea = Files.createTempFile("instantanea", ".snap");
+
+		try {
+			Instantanea.guardar(archivado, instantanea);
+			HomeSolution cargado = Instantanea.cargar(instantanea);
+
+			assertEquals(enMemoria.toString(), cargado.toString());
+			assertTrue(cargado.estaFinalizado(1));
+		} finally {
+			Files.deleteIfExists(instantanea);
+		}
+	}
+
+	@Test
+	public void testLosArchivadosSobrevivenAReabrirConUnRepositorioPersistente() throws Exception {
+		Path directorio = Files.createTempDirectory("finalizados");
+		Path datos = directorio.resolve("homesolution.repo");
+		Path finalizados = directorio.resolve("finalizados.dat");
+
+		try {
+			RepositorioEnArchivo repositorio = new RepositorioEnArchivo(datos);
+			HomeSolution homeSolution = new HomeSolution(repositorio);
+			homeSolution.archivarFinalizadosEn(finalizados, 1);
+			cargarDatos(homeSolution);
+			for (int i = 0; i < 4; i++) { // Cada retraso vuelve a escribir el proyecto archivado.
+				homeSolution.registrarRetrasoEnTarea(1, "Pintar", 1);
+				enMemoria.registrarRetrasoEnTarea(1, "Pintar", 1);
+			}
+			homeSolution.cerrarArchivoDeFinalizados();
+			repositorio.cerrar();
+
+			// Un registro cortado a la mitad al final del archivo se descarta.
+			Files.write(finalizados, new byte[] { 0, 0, 0, 40, 1, 2 }, StandardOpenOption.APPEND);
+			long tamanio = Files.size(finalizados);
+
+			repositorio = new RepositorioEnArchivo(datos);
+			HomeSolution reabierto = new HomeSolution(repositorio);
+			reabierto.archivarFinalizadosEn(finalizados, 1);
+
+			assertEquals(enMemoria.toString(), reabierto.toString());
+			assertEquals(enMemoria.costoProyecto(1), reabierto.costoProyecto(1), 0.001);
+			assertTrue(Files.size(finalizados) < tamanio / 2); // Se compactó.
+
+			registrarProyecto(reabierto, "Calle 5");
+			assertEquals("Calle 5", reabierto.consultarDomicilioProyecto(5));
+
+			reabierto.cerrarArchivoDeFinalizados();
+			repositorio.cerrar();
+		} finally {
+			Files.deleteIfExists(datos);
+			Files.deleteIfExists(finalizados);
+			Files.deleteIfExists(directorio);
+		}
+	}
+
+	private static void cargarDatos(HomeSolution homeSolution) throws Exception {
+		homeSolution.registrarEmpleado("Juan", 1000);
+		homeSolution.registrarEmpleado("Luis", 10000, "EXPERTO");
+
+		for (int i = 0; i < 4; i++)
+			registrarProyecto(homeSolution, "Calle " + i);
+
+		for (int numero = 1; numero <= 3; numero++) {
+			homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+			homeSolution.asignarResponsableMenosRetraso(numero, "Instalacion electrica");
+			homeSolution.registrarRetrasoEnTarea(numero, "Pintar", numero);
+			homeSolution.finalizarProyecto(numero, "2025-12-1" + numero);
+		}
+	}
+
+	private static String describir(List<Tupla<Integer, String>> tuplas) {
+		StringBuilder descripcion = new StringBuilder();
+
+		for (Tupla<Integer, String> tupla : tuplas)
+			descripcion.append(tupla.getValor1()).append(" ").append(tupla.getValor2()).append("\n");
+
+		return descripcion.toString();
+	}
+
+	private static void registrarProyecto(HomeSolution homeSolution, String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
@@ -0,0 +1,276 @@
+package test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.Comando;
+import entidades.ConcurrentHomeSolution;
+import entidades.HomeSolution;
+import entidades.HomeSolutionConDiario;
+import entidades.HomeSolutionPorEventos;
+import entidades.IHomeSolution;
+import entidades.Proyecto;
+import entidades.RepositorioEnArchivo;
+import entidades.RepositorioEnMemoria;
+
+public class AplicarLoteTest {
+	private HomeSolution homeSolution;
+
+	@Before
+	public void setUp() throws Exception {
+		homeSolution = new HomeSolution();
+		cargarDatos(homeSolution);
+	}
+
+	@Test
+	public void testLoteDeUnProyectoEquivaleAAplicarUnoPorUno() throws Exception {
+		HomeSolution unoPorUno = new HomeSolution();
+		cargarDatos(unoPorUno);
+
+		homeSolution.aplicarLote(Arrays.asList(new Comando.AsignarResponsable(1, "Pintar"),
+				new Comando.AsignarResponsableMenosRetraso(1, "Instalacion electrica"),
+				new Comando.RegistrarRetraso(1, "Pintar", 2), new Comando.FinalizarTarea(1, "Pintar"),
+				new Comando.AgregarTarea(1, "Limpieza", "", 1), new Comando.AsignarResponsable(1, "Limpieza")));
+
+		unoPorUno.asignarResponsableEnTarea(1, "Pintar");
+		unoPorUno.asignarResponsableMenosRetraso(1, "Instalacion electrica");
+		unoPorUno.registrarRetrasoEnTarea(1, "Pintar", 2);
+		unoPorUno.finalizarTarea(1, "Pintar");
+		unoPorUno.agregarTareaEnProyecto(1, "Limpieza", "", 1);
+		unoPorUno.asignarResponsableEnTarea(1, "Limpieza");
+
+		assertEquals(unoPorUno.toString(), homeSolution.toString());
+		assertEquals(unoPorUno.costoProyecto(1), homeSolution.costoProyecto(1), 0.001);
+		assertArrayEquals(unoPorUno.empleadosNoAsignados(), homeSolution.empleadosNoAsignados());
+		assertEquals(1, homeSolution.consultarCantidadRetrasosEmpleado(1));
+	}
+
+	@Test
+	public void testLoteDeVariosProyectosAplicaCadaProyectoJunto() throws Exception {
+		HomeSolution enLote = new HomeSolution();
+		String esperado = aplicarLoteDePrueba(enLote);
+
+		// Los comandos del proyecto 1 van antes que los del 2 aunque en la lista
+		// estén intercalados.
+		HomeSolution unoPorUno = new HomeSolution();
+		cargarDatos(unoPorUno);
+		unoPorUno.asignarResponsableEnTarea(1, "Pintar");
+		unoPorUno.asignarResponsableEnTarea(1, "Instalacion electrica");
+		unoPorUno.finalizarTarea(1, "Pintar");
+		unoPorUno.asignarResponsableEnTarea(2, "Pintar");
+		unoPorUno.registrarRetrasoEnTarea(2, "Pintar", 1);
+
+		assertEquals(unoPorUno.consultarProyecto(1) + unoPorUno.consultarProyecto(2), esperado);
+		assertEquals(unoPorUno.toString(), enLote.toString());
+		assertArrayEquals(unoPorUno.empleadosNoAsignados(), enLote.empleadosNoAsignados());
+		assertEquals(1, enLote.consultarCantidadRetrasosEmpleado(1));
+	}
+
+	@Test
+	public void testCadaProyectoSeBuscaYSeGuardaUnaSolaVez() throws Exception {
+		int[] busquedas = new int[1];
+		int[] guardados = new int[1];
+		HomeSolution contado = new HomeSolution(new RepositorioEnMemoria() {
+			@Override
+			public Proyecto obtenerProyecto(int numero) {
+				busquedas[0]++;
+				return super.obtenerProyecto(numero);
+			}
+
+			@Override
+			public void guardarProyecto(Proyecto proyecto) {
+				guardados[0]++;
+				super.guardarProyecto(proyecto);
+			}
+		});
+		cargarDatos(contado);
+		busquedas[0] = 0;
+		guardados[0] = 0;
+
+		contado.aplicarLote(Arrays.asList(new Comando.AsignarResponsable(1, "Pintar"),
+				new Comando.AsignarResponsable(2, "Pintar"), new Comando.RegistrarRetraso(1, "Pintar", 2),
+				new Comando.AsignarResponsable(1, "Instalacion electrica"), new Comando.FinalizarTarea(2, "Pintar"),
+				new Comando.FinalizarProyecto(1, "2025-12-20")));
+
+		assertEquals(2, busquedas[0]);
+		assertEquals(2, guardados[0]);
+		assertTrue(contado.estaFinalizado(1));
+	}
+
+	@Test
+	public void testLoteConProyectosArchivadosSeGuardaAlTerminar() throws Exception {
+		Path directorio = Files.createTempDirectory("lote");
+
+		try {
+			RepositorioEnArchivo repositorio = new RepositorioEnArchivo(directorio.resolve("homesolution.dat"));
+			HomeSolution conArchivo = new HomeSolution(repositorio);
+			conArchivo.archivarFinalizadosEn(directorio.resolve("finalizados.dat"), 10);
+			cargarDatos(conArchivo);
+			long antes = repositorio.tamanio();
+
+			try {
+				conArchivo.aplicarLote(Arrays.asList(new Comando.AsignarResponsable(1, "Pintar"),
+						new Comando.AsignarResponsable(1, "Instalacion electrica"),
+						new Comando.FinalizarProyecto(1, "2025-12-20"), new Comando.FinalizarTarea(2, "No existe")));
+				fail("El lote debería haber fallado.");
+			} catch (IllegalArgumentException e) {
+				assertTrue(e.getMessage().contains("comando 3"));
+			}
+
+			assertEquals(antes, repositorio.tamanio());
+			assertEquals(0, conArchivo.proyectosFinalizados().size());
+			assertEquals(3, conArchivo.empleadosNoAsignados().length);
+
+			conArchivo.aplicarLote(Arrays.asList(new Comando.AsignarResponsable(1, "Pintar"),
+					new Comando.AsignarResponsable(1, "Instalacion electrica"),
+					new Comando.FinalizarProyecto(1, "2025-12-20"), new Comando.AsignarResponsable(2, "Pintar")));
+			String esperado = conArchivo.toString();
+			conArchivo.cerrarArchivoDeFinalizados();
+			repositorio.cerrar();
+
+			repositorio = new RepositorioEnArchivo(directorio.resolve("homesolution.dat"));
+			HomeSolution recuperado = new HomeSolution(repositorio);
+			recuperado.archivarFinalizadosEn(directorio.resolve("finalizados.dat"), 10);
+
+			assertEquals(esperado, recuperado.toString());
+			assertEquals(1, recuperado.proyectosFinalizados().size());
+			assertEquals(2, recuperado.empleadosNoAsignados().length);
+			recuperado.cerrarArchivoDeFinalizados();
+			repositorio.cerrar();
+		} finally {
+			borrar(directorio);
+		}
+	}
+
+	@Test
+	public void testLoteFallidoNoDejaCambios() throws Exception {
+		homeSolution.asignarResponsableEnTarea(2, "Pintar");
+
+		String antes = homeSolution.toString();
+		Object[] noAsignados = homeSolution.empleadosNoAsignados();
+		double costo = homeSolution.costoProyecto(2);
+
+		try {
+			homeSolution.aplicarLote(Arrays.asList(new Comando.AsignarResponsable(1, "Pintar"),
+					new Comando.AsignarResponsable(1, "Instalacion electrica"),
+					new Comando.FinalizarProyecto(1, "2025-12-20"), new Comando.RegistrarRetraso(2, "Pintar", 3),
+					new Comando.FinalizarTarea(2, "Pintar"), new Comando.AgregarTarea(2, "Limpieza", "", 1),
+					new Comando.FinalizarTarea(2, "No existe")));
+			fail("El lote debería haber fallado.");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("comando 6"));
+		}
+
+		assertEquals(antes, homeSolution.toString());
+		assertArrayEquals(noAsignados, homeSolution.empleadosNoAsignados());
+		assertEquals(costo, homeSolution.costoProyecto(2), 0.001);
+		assertEquals(0, homeSolution.consultarCantidadRetrasosEmpleado(1));
+		assertEquals(1, homeSolution.proyectosPendientes().size());
+		assertEquals(1, homeSolution.proyectosActivos().size());
+		assertEquals(0, homeSolution.proyectosFinalizados().size());
+		assertEquals(2, homeSolution.tareasDeUnProyecto(2).length);
+
+		// El estado restaurado sigue funcionando: los empleados que el lote había
+		// tomado vuelven a estar disponibles.
+		homeSolution.asignarResponsableEnTarea(1, "Pintar");
+		homeSolution.asignarResponsableEnTarea(1, "Instalacion electrica");
+		homeSolution.finalizarProyecto(1, "2025-12-20");
+		assertEquals(2, homeSolution.empleadosNoAsignados().length);
+	}
+
+	@Test
+	public void testLoteSeReproduceAlReabrirElDiarioYLosEventos() throws Exception {
+		Path directorio = Files.createTempDirectory("lote");
+
+		try {
+			Path archivo = directorio.resolve("homesolution.diario");
+			HomeSolutionConDiario conDiario = new HomeSolutionConDiario(archivo);
+			String esperado = aplicarLoteDePrueba(conDiario);
+			conDiario.cerrar();
+
+			conDiario = new HomeSolutionConDiario(archivo);
+			assertEquals(esperado, conDiario.consultarProyecto(1) + conDiario.consultarProyecto(2));
+			conDiario.cerrar();
+
+			Path eventos = directorio.resolve("eventos");
+			Files.createDirectory(eventos);
+			HomeSolutionPorEventos porEventos = new HomeSolutionPorEventos(eventos);
+			esperado = aplicarLoteDePrueba(porEventos);
+			porEventos.cerrar();
+
+			porEventos = new HomeSolutionPorEventos(eventos);
+			assertEquals(esperado, porEventos.consultarProyecto(1) + porEventos.consultarProyecto(2));
+			assertEquals(1, porEventos.consultarCantidadRetrasosEmpleado(1));
+			porEventos.cerrar();
+		} finally {
+			borrar(directorio);
+		}
+	}
+
+	@Test
+	public void testConcurrentHomeSolutionAplicaYDeshaceLotes() throws Exception {
+		ConcurrentHomeSolution concurrente = new ConcurrentHomeSolution();
+		String esperado = aplicarLoteDePrueba(concurrente);
+
+		try {
+			concurrente.aplicarLote(Arrays.asList(new Comando.FinalizarTarea(1, "Instalacion electrica"),
+					new Comando.ReasignarEmpleado(2, 99, "Pintar")));
+			fail("El lote debería haber fallado.");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("legajo 99"));
+		}
+
+		assertEquals(esperado, concurrente.consultarProyecto(1) + concurrente.consultarProyecto(2));
+		assertEquals(1, concurrente.empleadosNoAsignados().length);
+	}
+
+	private static String aplicarLoteDePrueba(IHomeSolution homeSolution) throws Exception {
+		cargarDatos(homeSolution);
+
+		List<Comando> comandos = Arrays.asList(new Comando.AsignarResponsable(1, "Pintar"),
+				new Comando.AsignarResponsable(2, "Pintar"), new Comando.AsignarResponsable(1, "Instalacion electrica"),
+				new Comando.RegistrarRetraso(2, "Pintar", 1), new Comando.FinalizarTarea(1, "Pintar"));
+		homeSolution.aplicarLote(comandos);
+
+		return homeSolution.consultarProyecto(1) + homeSolution.consultarProyecto(2);
+	}
+
+	private static void cargarDatos(IHomeSolution homeSolution) {
+		homeSolution.registrarEmpleado("Juan", 1000);
+		homeSolution.registrarEmpleado("Luis", 10000, "EXPERTO");
+		homeSolution.registrarEmpleado("Ana", 2000);
+
+		for (int i = 0; i < 2; i++) {
+			String titulos[] = { "Pintar", "Instalacion electrica" };
+			String descripciones[] = { "", "" };
+			double duracion[] = { 4, 2 };
+			String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + i, cliente, "2025-12-01",
+					"2025-12-05");
+		}
+	}
+
+	private static void borrar(Path directorio) throws Exception {
+		try (DirectoryStream<Path> contenido = Files.newDirectoryStream(directorio)) {
+			for (Path archivo : contenido) {
+				if (Files.isDirectory(archivo))
+					borrar(archivo);
+				else
+					Files.delete(archivo);
+			}
+		}
+
+		Files.delete(directorio);
+	}
+}
@@ -0,0 +1,93 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.ArchivoColumnar;
+import entidades.HomeSolution;
+
+public class ArchivoColumnarTest {
+	private Path archivo;
+	private HomeSolution homeSolution;
+
+	@Before
+	public void setUp() throws Exception {
+		archivo = Files.createTempFile("finalizados", ".col");
+		homeSolution = new HomeSolution();
+
+		homeSolution.registrarEmpleado("Juan", 1000);
+		homeSolution.registrarEmpleado("Luis", 10000, "EXPERTO");
+
+		for (int i = 0; i < 7; i++)
+			registrarProyecto("Calle " + (i % 3), "2025-1" + (i % 2) + "-01");
+
+		for (int numero = 1; numero <= 6; numero++) {
+			homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+			homeSolution.asignarResponsableEnTarea(numero, "Instalacion electrica");
+			homeSolution.registrarRetrasoEnTarea(numero, "Pintar", numero);
+			homeSolution.finalizarProyecto(numero, (numero <= 3 ? "2025-12-2" : "2026-01-1") + numero);
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(archivo);
+	}
+
+	@Test
+	public void testLasConsultasCoincidenConLosProyectos() throws Exception {
+		assertEquals(6, ArchivoColumnar.escribir(homeSolution, archivo, 4));
+		ArchivoColumnar columnar = ArchivoColumnar.abrir(archivo);
+
+		assertEquals(6, columnar.cantidadDeProyectos());
+		assertEquals(12, columnar.cantidadDeTareas());
+
+		Map<YearMonth, Double> costoPorMes = columnar.costoPorMes();
+		assertEquals(2, costoPorMes.size());
+		assertEquals(costo(1, 3), costoPorMes.get(YearMonth.of(2025, 12)), 0.001);
+		assertEquals(costo(4, 6), costoPorMes.get(YearMonth.of(2026, 1)), 0.001);
+
+		Map<Integer, Double> retrasos = columnar.diasDeRetrasoPorLegajo();
+		assertEquals(1, retrasos.size());
+		assertEquals(21, retrasos.get(1), 0.001);
+	}
+
+	@Test
+	public void testReconstruyeLosProyectos() throws Exception {
+		ArchivoColumnar.escribir(homeSolution, archivo, 4);
+
+		List<String> proyectos = new ArrayList<>();
+		ArchivoColumnar.abrir(archivo).recorrer(homeSolution, proyecto -> proyectos.add(proyecto.toString()));
+
+		assertEquals(6, proyectos.size());
+		for (int numero = 1; numero <= 6; numero++)
+			assertEquals(homeSolution.consultarProyecto(numero), proyectos.get(numero - 1));
+	}
+
+	private double costo(int desde, int hasta) {
+		double costo = 0;
+
+		for (int numero = desde; numero <= hasta; numero++)
+			costo += homeSolution.costoProyecto(numero);
+
+		return costo;
+	}
+
+	private void registrarProyecto(String domicilio, String inicio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, inicio, "2026-02-05");
+	}
+}
@@ -0,0 +1,259 @@
+package test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Base falsa para probar RepositorioSql sin un driver JDBC real. Sólo entiende
+ * las sentencias que usa RepositorioSql: lleva las claves de las filas de cada
+ * tabla, con commit y rollback, y cuenta las sentencias y los commits. Al
+ * abrirla está vacía. Puede fallar al confirmar o, como algunos drivers, no
+ * informar cuántas filas cambió cada sentencia de un lote.
+ */
+public class BaseSqlDePrueba {
+	private static final String prefijo = "jdbc:prueba:";
+	private static final Map<String, BaseSqlDePrueba> bases = new ConcurrentHashMap<>();
+
+	static {
+		try {
+			DriverManager.registerDriver(new DriverDePrueba());
+		} catch (SQLException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final String url;
+	private Set<String> filas = new HashSet<>();
+	private Set<String> confirmadas = new HashSet<>();
+	private List<String> sentencias = new ArrayList<>();
+	private int commits;
+	private boolean fallarAlConfirmar;
+	private boolean informarFilas = true;
+
+	public BaseSqlDePrueba() {
+		url = prefijo + System.identityHashCode(this);
+		bases.put(url, this);
+	}
+
+	public String obtenerUrl() {
+		return url;
+	}
+
+	public int obtenerCommits() {
+		return commits;
+	}
+
+	/**
+	 * @return Las sentencias ejecutadas, una vez por fila de un lote.
+	 */
+	public List<String> obtenerSentencias() {
+		return sentencias;
+	}
+
+	public void reiniciarContadores() {
+		sentencias.clear();
+		commits = 0;
+	}
+
+	public void fallarAlConfirmar(boolean fallar) {
+		fallarAlConfirmar = fallar;
+	}
+
+	/**
+	 * @param informar Si es false, executeBatch devuelve SUCCESS_NO_INFO por cada
+	 *                 sentencia.
+	 */
+	public void informarFilas(boolean informar) {
+		informarFilas = informar;
+	}
+
+	private int ejecutar(String sql, TreeMap<Integer, Object> parametros) {
+		sentencias.add(sql);
+
+		String[] palabras = sql.split(" ");
+		if (palabras[0].equals("DELETE")) {
+			String prefijoDeClave = palabras[2] + ":" + parametros.get(1);
+			int antes = filas.size();
+			filas.removeIf(fila -> fila.equals(prefijoDeClave) || fila.startsWith(prefijoDeClave + "/"));
+			return antes - filas.size();
+		}
+
+		if (palabras[0].equals("SELECT"))
+			return filas.contains("tareas:" + parametros.get(1) + "/" + parametros.get(2)) ? 1 : 0;
+
+		String tabla = palabras[0].equals("UPDATE") ? palabras[1] : palabras[2];
+		int primerParametroDeLaClave = tabla.equals("empleados") ? 6 : tabla.equals("proyectos") ? 11 : 7;
+
+		StringBuilder clave = new StringBuilder(tabla).append(':');
+		for (Object valor : parametros.tailMap(primerParametroDeLaClave).values())
+			clave.append(clave.charAt(clave.length() - 1) == ':' ? "" : "/").append(valor);
+
+		if (palabras[0].equals("UPDATE"))
+			return filas.contains(clave.toString()) ? 1 : 0;
+
+		if (!filas.add(clave.toString()))
+			throw new IllegalStateException("Clave repetida: " + clave);
+		return 1;
+	}
+
+	private void confirmar() throws SQLException {
+		if (fallarAlConfirmar)
+			throw new SQLException("Falla de prueba al confirmar.");
+
+		confirmadas = new HashSet<>(filas);
+		commits++;
+	}
+
+	private void deshacer() {
+		filas = new HashSet<>(confirmadas);
+	}
+
+	private Connection conexion() {
+		return crear(Connection.class, (proxy, metodo, argumentos) -> {
+			switch (metodo.getName()) {
+			case "createStatement":
+				return crear(Statement.class, (sentencia, metodoDeSentencia, otros) -> metodoDeSentencia
+						.getName().equals("executeQuery") ? resultadoVacio() : porDefecto(metodoDeSentencia));
+			case "prepareStatement":
+				return sentenciaPreparada((String) argumentos[0]);
+			case "commit":
+				confirmar();
+				return null;
+			case "rollback":
+				deshacer();
+				return null;
+			default:
+				return porDefecto(metodo);
+			}
+		});
+	}
+
+	private PreparedStatement sentenciaPreparada(String sql) {
+		TreeMap<Integer, Object> parametros = new TreeMap<>();
+		List<TreeMap<Integer, Object>> lote = new ArrayList<>();
+
+		return crear(PreparedStatement.class, (proxy, metodo, argumentos) -> {
+			String nombre = metodo.getName();
+
+			if (nombre.startsWith("set") && argumentos.length == 2 && argumentos[0] instanceof Integer) {
+				parametros.put((Integer) argumentos[0], nombre.equals("setNull") ? null : argumentos[1]);
+				return null;
+			}
+
+			switch (nombre) {
+			case "executeUpdate":
+				return ejecutar(sql, parametros);
+			case "executeQuery":
+				return resultado(ejecutar(sql, parametros));
+			case "addBatch":
+				lote.add(new TreeMap<>(parametros));
+				return null;
+			case "executeBatch":
+				int[] resultados = new int[lote.size()];
+				for (int i = 0; i < lote.size(); i++) {
+					resultados[i] = ejecutar(sql, lote.get(i));
+					if (!informarFilas)
+						resultados[i] = Statement.SUCCESS_NO_INFO;
+				}
+				lote.clear();
+				return resultados;
+			case "clearBatch":
+				lote.clear();
+				return null;
+			default:
+				return porDefecto(metodo);
+			}
+		});
+	}
+
+	private static ResultSet resultadoVacio() {
+		return resultado(0);
+	}
+
+	private static ResultSet resultado(int cantidadDeFilas) {
+		int[] leidas = { 0 };
+
+		return crear(ResultSet.class, (proxy, metodo, argumentos) -> metodo.getName().equals("next")
+				? leidas[0]++ < cantidadDeFilas
+				: porDefecto(metodo));
+	}
+
+	private static <T> T crear(Class<T> interfaz, InvocationHandler manejador) {
+		return interfaz.cast(Proxy.newProxyInstance(BaseSqlDePrueba.class.getClassLoader(),
+				new Class<?>[] { interfaz }, manejador));
+	}
+
+	private static Object porDefecto(Method metodo) {
+		Class<?> tipo = metodo.getReturnType();
+
+		if (tipo == boolean.class)
+			return false;
+		if (tipo == int.class)
+			return 0;
+		if (tipo == long.class)
+			return 0L;
+
+		return null;
+	}
+
+	private static class DriverDePrueba implements Driver {
+		@Override
+		public Connection connect(String url, Properties propiedades) {
+			BaseSqlDePrueba base = bases.get(url);
+
+			if (base == null)
+				return null;
+
+			base.deshacer();
+			return base.conexion();
+		}
+
+		@Override
+		public boolean acceptsURL(String url) {
+			return url.startsWith(prefijo);
+		}
+
+		@Override
+		public DriverPropertyInfo[] getPropertyInfo(String url, Properties propiedades) {
+			return new DriverPropertyInfo[0];
+		}
+
+		@Override
+		public int getMajorVersion() {
+			return 1;
+		}
+
+		@Override
+		public int getMinorVersion() {
+			return 0;
+		}
+
+		@Override
+		public boolean jdbcCompliant() {
+			return false;
+		}
+
+		@Override
+		public Logger getParentLogger() {
+			return null;
+		}
+	}
+}
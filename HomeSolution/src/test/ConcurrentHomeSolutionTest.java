@@ -0,0 +1,141 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.ConcurrentHomeSolution;
+import entidades.IHomeSolution;
+import entidades.Tupla;
+
+public class ConcurrentHomeSolutionTest {
+	private static final int cantidadDeProyectos = 16;
+	private static final String titulos[] = { "Pintar", "Instalacion electrica", "Trabajos jardineria", "Instalar AA" };
+
+	private IHomeSolution homeSolution;
+	private ExecutorService hilos;
+
+	@Before
+	public void setUp() {
+		homeSolution = new ConcurrentHomeSolution();
+		hilos = Executors.newFixedThreadPool(8);
+
+		String descripciones[] = { "", "", "", "" };
+		double duracion[] = { 4, 2, 1, .5 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		for (int i = 0; i < cantidadDeProyectos; i++)
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + i, cliente, "2025-12-01",
+					"2025-12-05");
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		hilos.shutdownNow();
+		hilos.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testProyectosEnParaleloLiberanATodosLosEmpleados() throws Exception {
+		for (int i = 0; i < cantidadDeProyectos * titulos.length; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+
+		List<Future<?>> resultados = new ArrayList<>();
+		for (Tupla<Integer, String> proyecto : homeSolution.proyectosPendientes()) {
+			Integer numero = proyecto.getValor1();
+
+			resultados.add(hilos.submit(() -> {
+				for (String titulo : titulos)
+					homeSolution.asignarResponsableMenosRetraso(numero, titulo);
+
+				homeSolution.registrarRetrasoEnTarea(numero, "Pintar", 1);
+				homeSolution.finalizarProyecto(numero, "2025-12-10");
+				return null;
+			}));
+		}
+		esperar(resultados);
+
+		assertEquals(cantidadDeProyectos, homeSolution.proyectosFinalizados().size());
+		assertEquals(cantidadDeProyectos * titulos.length, homeSolution.empleadosNoAsignados().length);
+	}
+
+	@Test
+	public void testNingunEmpleadoSeAsignaDosVeces() throws Exception {
+		int cantidadDeEmpleados = 10;
+		for (int i = 0; i < cantidadDeEmpleados; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+
+		List<Future<?>> resultados = new ArrayList<>();
+		for (Tupla<Integer, String> proyecto : homeSolution.proyectosPendientes()) {
+			Integer numero = proyecto.getValor1();
+
+			resultados.add(hilos.submit(() -> {
+				for (String titulo : titulos) {
+					try {
+						homeSolution.asignarResponsableEnTarea(numero, titulo);
+					} catch (RuntimeException e) {
+						// No quedan empleados disponibles.
+					}
+				}
+				return null;
+			}));
+		}
+		esperar(resultados);
+
+		Set<Integer> legajosAsignados = new HashSet<>();
+		int asignaciones = 0;
+		for (Tupla<Integer, String> proyecto : homeSolution.proyectosActivos()) {
+			for (Tupla<Integer, String> empleado : homeSolution.empleadosAsignadosAProyecto(proyecto.getValor1())) {
+				legajosAsignados.add(empleado.getValor1());
+				asignaciones++;
+			}
+		}
+
+		assertEquals(cantidadDeEmpleados, asignaciones);
+		assertEquals(cantidadDeEmpleados, legajosAsignados.size());
+		assertEquals(0, homeSolution.empleadosNoAsignados().length);
+	}
+
+	@Test
+	public void testReasignacionesConcurrentesNoPierdenEmpleados() throws Exception {
+		int cantidadDeEmpleados = cantidadDeProyectos * titulos.length + 4;
+		for (int i = 0; i < cantidadDeEmpleados; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+
+		List<Integer> numeros = new ArrayList<>();
+		for (Tupla<Integer, String> proyecto : homeSolution.proyectosPendientes()) {
+			numeros.add(proyecto.getValor1());
+			for (String titulo : titulos)
+				homeSolution.asignarResponsableEnTarea(proyecto.getValor1(), titulo);
+		}
+
+		List<Future<?>> resultados = new ArrayList<>();
+		for (Integer numero : numeros) {
+			resultados.add(hilos.submit(() -> {
+				for (int i = 0; i < 50; i++)
+					homeSolution.reasignarEmpleadoConMenosRetraso(numero, titulos[i % titulos.length]);
+				return null;
+			}));
+		}
+		esperar(resultados);
+
+		assertEquals(4, homeSolution.empleadosNoAsignados().length);
+		assertEquals(cantidadDeProyectos, homeSolution.proyectosActivos().size());
+	}
+
+	private void esperar(List<Future<?>> resultados) throws Exception {
+		for (Future<?> resultado : resultados)
+			resultado.get(30, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,126 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.IHomeSolutionConsultas;
+import entidades.Tupla;
+
+public class ConsultasConVisitantesTest {
+	private IHomeSolutionConsultas homeSolution;
+
+	@Before
+	public void setUp() throws Exception {
+		homeSolution = new HomeSolution();
+
+		homeSolution.registrarEmpleado("Juan", 1000);
+		homeSolution.registrarEmpleado("Luis", 10000, "EXPERTO");
+		homeSolution.registrarEmpleado("Ana", 2000);
+
+		registrarProyecto("San Martin 1000");
+		registrarProyecto("Belgrano 200");
+		registrarProyecto("Mitre 30");
+
+		homeSolution.asignarResponsableEnTarea(1, "Pintar");
+		homeSolution.asignarResponsableEnTarea(1, "Instalacion electrica");
+		homeSolution.finalizarProyecto(1, "2025-12-10");
+
+		homeSolution.asignarResponsableEnTarea(2, "Pintar");
+	}
+
+	@Test
+	public void testRecorrerProyectosVisitaLosDeCadaEstado() {
+		List<String> pendientes = new ArrayList<>();
+		List<String> activos = new ArrayList<>();
+		List<String> finalizados = new ArrayList<>();
+
+		homeSolution.recorrerProyectosPendientes((numero, domicilio) -> pendientes.add(numero + " " + domicilio));
+		homeSolution.recorrerProyectosActivos((numero, domicilio) -> activos.add(numero + " " + domicilio));
+		homeSolution.recorrerProyectosFinalizados((numero, domicilio) -> finalizados.add(numero + " " + domicilio));
+
+		assertEquals(Arrays.asList("3 Mitre 30"), pendientes);
+		assertEquals(Arrays.asList("2 Belgrano 200"), activos);
+		assertEquals(Arrays.asList("1 San Martin 1000"), finalizados);
+	}
+
+	@Test
+	public void testRecorrerEmpleadosVisitaEnOrdenDeLegajo() {
+		List<String> empleados = new ArrayList<>();
+		List<String> noAsignados = new ArrayList<>();
+
+		homeSolution.recorrerEmpleados((legajo, nombre) -> empleados.add(legajo + " " + nombre));
+		homeSolution.recorrerEmpleadosNoAsignados((legajo, nombre) -> noAsignados.add(legajo + " " + nombre));
+
+		assertEquals(Arrays.asList("1 Juan", "2 Luis", "3 Ana"), empleados);
+		assertEquals(Arrays.asList("2 Luis", "3 Ana"), noAsignados);
+	}
+
+	@Test
+	public void testRecorrerEmpleadosAsignadosVisitaLosDeLasTareas() {
+		List<String> asignados = new ArrayList<>();
+
+		homeSolution.recorrerEmpleadosAsignadosAProyecto(2, (legajo, nombre) -> asignados.add(legajo + " " + nombre));
+
+		assertEquals(Arrays.asList("1 Juan"), asignados);
+		assertEquals(describir(homeSolution.empleadosAsignadosAProyecto(1)), visitarAsignados(1));
+		assertEquals(describir(homeSolution.empleadosAsignadosAProyecto(3)), visitarAsignados(3));
+	}
+
+	@Test
+	public void testRecorrerTareasVisitaTodasOSoloLasNoAsignadas() {
+		List<String> tareas = new ArrayList<>();
+		List<String> noAsignadas = new ArrayList<>();
+
+		homeSolution.recorrerTareasDeUnProyecto(2, tarea -> tareas.add(tarea.obtenerTitulo()));
+		homeSolution.recorrerTareasProyectoNoAsignadas(2, tarea -> noAsignadas.add(tarea.obtenerTitulo()));
+
+		assertEquals(Arrays.asList("Pintar", "Instalacion electrica"), tareas);
+		assertEquals(Arrays.asList("Instalacion electrica"), noAsignadas);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRecorrerEmpleadosAsignadosDeProyectoInexistente() {
+		homeSolution.recorrerEmpleadosAsignadosAProyecto(99, (legajo, nombre) -> {
+		});
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRecorrerTareasDeProyectoInexistente() {
+		homeSolution.recorrerTareasDeUnProyecto(99, tarea -> {
+		});
+	}
+
+	private String visitarAsignados(int numero) {
+		StringBuilder descripcion = new StringBuilder();
+
+		homeSolution.recorrerEmpleadosAsignadosAProyecto(numero,
+				(legajo, nombre) -> descripcion.append(legajo).append(" ").append(nombre).append("\n"));
+
+		return descripcion.toString();
+	}
+
+	private static String describir(List<Tupla<Integer, String>> tuplas) {
+		StringBuilder descripcion = new StringBuilder();
+
+		for (Tupla<Integer, String> tupla : tuplas)
+			descripcion.append(tupla.getValor1()).append(" ").append(tupla.getValor2()).append("\n");
+
+		return descripcion.toString();
+	}
+
+	private void registrarProyecto(String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
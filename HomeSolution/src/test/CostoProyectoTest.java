@@ -0,0 +1,105 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.EmpleadoDePlanta;
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+import entidades.Tarea;
+
+public class CostoProyectoTest {
+	private IHomeSolution homeSolution;
+	private Integer numeroProyecto;
+
+	@Before
+	public void setUp() {
+		homeSolution = new HomeSolution();
+
+		String titulos[] = { "Pintar", "Instalacion electrica", "Trabajos jardineria", "Instalar AA" };
+		String descripciones[] = { "", "", "", "" };
+		double duracion[] = { 4, 2, 1, .5 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, "San Martin 1000", cliente, "2025-12-01",
+				"2025-12-05");
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");
+		homeSolution.registrarEmpleado("Julieta", 15000);
+		homeSolution.registrarEmpleado("Carlos", 50000, "INICIAL");
+
+		numeroProyecto = homeSolution.proyectosPendientes().get(0).getValor1();
+	}
+
+	@Test
+	public void testCostoSinTareasAsignadas() {
+		assertEquals(0, homeSolution.costoProyecto(numeroProyecto), 0.001);
+	}
+
+	@Test
+	public void testCostoParcialAlAsignar() throws Exception {
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Pintar");
+		assertEquals(15000 * 32 * 1.35, homeSolution.costoProyecto(numeroProyecto), 0.001);
+		assertCoincideConRecalculo(false);
+
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Instalacion electrica");
+		assertEquals((15000 * 32 + 80000 * 2 * 1.02) * 1.35, homeSolution.costoProyecto(numeroProyecto), 0.001);
+		assertCoincideConRecalculo(false);
+	}
+
+	@Test
+	public void testCostoConRetrasosSucesivos() throws Exception {
+		asignarTareas();
+		homeSolution.registrarRetrasoEnTarea(numeroProyecto, "Pintar", 1);
+		assertCoincideConRecalculo(true);
+		homeSolution.registrarRetrasoEnTarea(numeroProyecto, "Instalacion electrica", 2);
+		homeSolution.registrarRetrasoEnTarea(numeroProyecto, "Instalacion electrica", 1);
+		assertCoincideConRecalculo(true);
+		homeSolution.finalizarTarea(numeroProyecto, "Pintar");
+		assertCoincideConRecalculo(true);
+
+		double costo = 15000 * 5 * 8 + 80000 * 5 * 1.02 + 15000 * 8 + 50000 * 1 * 1.02;
+		assertEquals(costo * 1.25, homeSolution.costoProyecto(numeroProyecto), 0.001);
+	}
+
+	@Test
+	public void testCostoConReasignacionYFinalizacion() throws Exception {
+		asignarTareas();
+		homeSolution.registrarEmpleado("Lidia", 20000);
+		Integer legajo = Integer.parseInt(homeSolution.empleadosNoAsignados()[0].toString());
+		homeSolution.reasignarEmpleadoEnProyecto(numeroProyecto, legajo, "Instalacion electrica");
+		assertCoincideConRecalculo(false);
+		homeSolution.registrarRetrasoEnTarea(numeroProyecto, "Instalacion electrica", 1);
+		homeSolution.finalizarProyecto(numeroProyecto, "2025-12-10");
+		assertCoincideConRecalculo(true);
+
+		double costo = 15000 * 32 + 20000 * 3 * 8 + 15000 * 8 + 50000 * 1 * 1.02;
+		assertEquals(costo * 1.25, homeSolution.costoProyecto(numeroProyecto), 0.001);
+	}
+
+	/**
+	 * Compara el costo incremental con uno recalculado desde cero a partir de las
+	 * tareas.
+	 */
+	private void assertCoincideConRecalculo(boolean huboRetrasos) {
+		double costo = 0;
+
+		for (Object objeto : homeSolution.tareasDeUnProyecto(numeroProyecto)) {
+			Tarea tarea = (Tarea) objeto;
+
+			costo += tarea.obtenerCosto() * (tarea.obtenerEmpleado() instanceof EmpleadoDePlanta ? 1.02 : 1);
+		}
+
+		costo *= huboRetrasos ? 1.25 : 1.35;
+
+		assertEquals(costo, homeSolution.costoProyecto(numeroProyecto), 0.001);
+	}
+
+	private void asignarTareas() throws Exception {
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Pintar");
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Instalacion electrica");
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Trabajos jardineria");
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Instalar AA");
+	}
+}
@@ -0,0 +1,81 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+import entidades.Tupla;
+
+public class EmpleadosNoAsignadosTest {
+	private IHomeSolution homeSolution;
+	private Integer numeroProyecto;
+	private Integer legajoJuan;
+	private Integer legajoLuis;
+
+	@Before
+	public void setUp() {
+		homeSolution = new HomeSolution();
+
+		String titulos[] = { "Pintar", "Instalacion electrica", "Trabajos jardineria" };
+		String descripciones[] = { "", "", "" };
+		double duracion[] = { 4, 2, 1 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, "San Martin 1000", cliente, "2025-12-01",
+				"2025-12-05");
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");
+
+		numeroProyecto = homeSolution.proyectosPendientes().get(0).getValor1();
+
+		List<Tupla<Integer, String>> empleados = homeSolution.empleados();
+		legajoJuan = buscarLegajo(empleados, "Juan");
+		legajoLuis = buscarLegajo(empleados, "Luis");
+	}
+
+	@Test
+	public void testRetrasoDeEmpleadoLiberadoActualizaSuPrioridad() throws Exception {
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Pintar");
+		homeSolution.finalizarTarea(numeroProyecto, "Pintar");
+		homeSolution.registrarRetrasoEnTarea(numeroProyecto, "Pintar", 1);
+
+		homeSolution.asignarResponsableMenosRetraso(numeroProyecto, "Instalacion electrica");
+
+		Object[] noAsignados = homeSolution.empleadosNoAsignados();
+		assertEquals(1, noAsignados.length);
+		assertEquals(legajoJuan.toString(), noAsignados[0].toString());
+	}
+
+	@Test
+	public void testReasignarConMenosRetrasoConUnSoloEmpleadoLibre() throws Exception {
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Pintar");
+		homeSolution.reasignarEmpleadoConMenosRetraso(numeroProyecto, "Pintar");
+
+		Object[] noAsignados = homeSolution.empleadosNoAsignados();
+		assertEquals(1, noAsignados.length);
+		assertEquals(legajoJuan.toString(), noAsignados[0].toString());
+		assertEquals(legajoLuis, homeSolution.empleadosAsignadosAProyecto(numeroProyecto).get(0).getValor1());
+	}
+
+	@Test(expected = Exception.class)
+	public void testAsignacionFallidaNoPierdeAlEmpleado() throws Exception {
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Pintar");
+		try {
+			homeSolution.asignarResponsableMenosRetraso(numeroProyecto, "Pintar");
+		} finally {
+			assertEquals(1, homeSolution.empleadosNoAsignados().length);
+		}
+	}
+
+	private Integer buscarLegajo(List<Tupla<Integer, String>> empleados, String nombre) {
+		for (Tupla<Integer, String> empleado : empleados) {
+			if (empleado.getValor2().equals(nombre))
+				return empleado.getValor1();
+		}
+		return null;
+	}
+}
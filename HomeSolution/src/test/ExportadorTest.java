@@ -0,0 +1,147 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.ConcurrentHomeSolution;
+import entidades.Estado;
+import entidades.Exportador;
+import entidades.FormatoDeArchivo;
+import entidades.HomeSolution;
+import entidades.HomeSolutionConVersiones;
+import entidades.IHomeSolution;
+import entidades.LectorJson;
+
+public class ExportadorTest {
+	private HomeSolution homeSolution;
+	private Exportador exportador;
+
+	@Before
+	public void setUp() throws Exception {
+		homeSolution = new HomeSolution();
+		exportador = new Exportador(homeSolution);
+
+		homeSolution.registrarEmpleado("Juan", 1000);
+		homeSolution.registrarEmpleado("Luis", 10000, "EXPERTO");
+
+		registrarProyecto("San Martin 1000");
+		registrarProyecto("Belgrano, 200");
+		registrarProyecto("Mitre 30");
+
+		homeSolution.asignarResponsableEnTarea(1, "Pintar");
+		homeSolution.asignarResponsableEnTarea(1, "Instalacion electrica");
+		homeSolution.registrarRetrasoEnTarea(1, "Pintar", 2);
+		homeSolution.finalizarProyecto(1, "2025-12-10");
+
+		homeSolution.asignarResponsableEnTarea(2, "Pintar");
+		homeSolution.asignarResponsableEnTarea(2, "Instalacion electrica");
+		homeSolution.finalizarProyecto(2, "2026-01-20");
+	}
+
+	@Test
+	public void testCsvTieneUnaFilaPorTareaDeLosProyectosFinalizados() throws Exception {
+		String[] lineas = exportar(FormatoDeArchivo.CSV, Estado.FINALIZADO, null, null).split("\n");
+
+		assertEquals(5, lineas.length);
+		assertTrue(lineas[0].startsWith("proyecto,domicilio"));
+		assertEquals("1,San Martin 1000,Pedro Gomez,FINALIZADO,2025-12-01,2025-12-05,2025-12-10,"
+				+ String.format(Locale.ROOT, "%.2f", homeSolution.costoProyecto(1)) + ",Pintar,1,6.0,48000.00",
+				lineas[1]);
+		assertTrue(lineas[3].startsWith("2,\"Belgrano, 200\","));
+		assertTrue(lineas[3].endsWith(",Pintar,1,4.0,32000.00"));
+	}
+
+	@Test
+	public void testLosImportesGrandesNoUsanNotacionCientifica() throws Exception {
+		homeSolution.registrarProyecto(new String[] { "Obra" }, new String[] { "" }, new double[] { 2000 },
+				"Rivadavia 5000", new String[] { "Pedro Gomez", "", "" }, "2026-01-01", "2031-06-30");
+		homeSolution.asignarResponsableEnTarea(4, "Obra");
+
+		String[] lineas = exportar(FormatoDeArchivo.CSV, Estado.ACTIVO, null, null).split("\n");
+
+		assertEquals(2, lineas.length);
+		assertEquals("4,Rivadavia 5000,Pedro Gomez,ACTIVO,2026-01-01,2031-06-30,2031-06-30,21600000.00,Obra,1,2000.0,"
+				+ "16000000.00", lineas[1]);
+	}
+
+	@Test
+	public void testNdjsonFiltraPorFechaDeFinalizacion() throws Exception {
+		String ndjson = exportar(FormatoDeArchivo.NDJSON, null, LocalDate.parse("2026-01-01"), null);
+		String[] lineas = ndjson.split("\n");
+
+		assertEquals(1, lineas.length);
+
+		Map<?, ?> proyecto = (Map<?, ?>) LectorJson.leer(lineas[0]);
+		assertEquals(2.0, proyecto.get("numero"));
+		assertEquals("Belgrano, 200", proyecto.get("domicilio"));
+		assertEquals(2, ((List<?>) proyecto.get("tareas")).size());
+		assertEquals(1.0, ((Map<?, ?>) ((List<?>) proyecto.get("tareas")).get(0)).get("legajo"));
+	}
+
+	@Test
+	public void testSinFiltrosExportaTodos() throws Exception {
+		String[] lineas = exportar(FormatoDeArchivo.NDJSON, null, null, null).split("\n");
+
+		assertEquals(3, lineas.length);
+		assertTrue(lineas[2].contains("\"estado\":\"PENDIENTE\""));
+		assertTrue(lineas[2].contains("\"legajo\":null"));
+		assertEquals(0, exportar(FormatoDeArchivo.NDJSON, Estado.ACTIVO, null, null).length());
+	}
+
+	@Test
+	public void testExportaDesdeCualquierIHomeSolution() throws Exception {
+		IHomeSolution[] homeSolutions = { new HomeSolution(), new ConcurrentHomeSolution(),
+				new HomeSolutionConVersiones() };
+		String[] exportados = new String[homeSolutions.length];
+
+		for (int i = 0; i < homeSolutions.length; i++) {
+			homeSolutions[i].registrarEmpleado("Juan", 1000);
+			homeSolutions[i].registrarProyecto(new String[] { "Pintar" }, new String[] { "" }, new double[] { 4 },
+					"San Martin 1000", new String[] { "Pedro", "", "" }, "2025-12-01", "2025-12-05");
+			homeSolutions[i].registrarProyecto(new String[] { "Pintar" }, new String[] { "" }, new double[] { 2 },
+					"Mitre 30", new String[] { "Pedro", "", "" }, "2025-12-01", "2025-12-05");
+			homeSolutions[i].asignarResponsableEnTarea(1, "Pintar");
+			homeSolutions[i].finalizarProyecto(1, "2025-12-10");
+
+			exportados[i] = exportar(new Exportador(homeSolutions[i]), FormatoDeArchivo.CSV, null, null, null);
+		}
+
+		assertEquals(3, exportados[0].split("\n").length);
+		assertEquals(exportados[0], exportados[1]);
+		assertEquals(exportados[0], exportados[2]);
+	}
+
+	private String exportar(FormatoDeArchivo formato, Estado estado, LocalDate desde, LocalDate hasta)
+			throws Exception {
+		return exportar(exportador, formato, estado, desde, hasta);
+	}
+
+	private static String exportar(Exportador exportador, FormatoDeArchivo formato, Estado estado, LocalDate desde,
+			LocalDate hasta) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		exportador.exportar(Channels.newChannel(bytes), formato, estado, desde, hasta);
+
+		return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private void registrarProyecto(String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
@@ -0,0 +1,131 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.GeneradorDeIds;
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+
+public class GeneradorDeIdsTest {
+	private Path directorio;
+	private Path archivo;
+
+	@Before
+	public void setUp() throws Exception {
+		directorio = Files.createTempDirectory("ids");
+		archivo = directorio.resolve("legajos.ids");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(archivo);
+		Files.deleteIfExists(directorio);
+	}
+
+	@Test
+	public void testCadaInstanciaNumeraDesdeUno() {
+		IHomeSolution primera = new HomeSolution();
+		IHomeSolution segunda = new HomeSolution();
+
+		primera.registrarEmpleado("Juan", 15000);
+		primera.registrarEmpleado("Luis", 15000);
+		segunda.registrarEmpleado("Julieta", 15000);
+
+		assertEquals(Integer.valueOf(2), primera.empleados().get(1).getValor1());
+		assertEquals(Integer.valueOf(1), segunda.empleados().get(0).getValor1());
+	}
+
+	@Test
+	public void testAltaRechazadaNoDejaHuecos() {
+		IHomeSolution homeSolution = new HomeSolution();
+
+		homeSolution.registrarEmpleado("Juan", 15000);
+		try {
+			homeSolution.registrarEmpleado("Luis", -1);
+		} catch (IllegalArgumentException e) {
+			// Valor inválido.
+		}
+		homeSolution.registrarEmpleado("Julieta", 15000);
+
+		assertEquals(Integer.valueOf(2), homeSolution.empleados().get(1).getValor1());
+	}
+
+	@Test
+	public void testTrasCierreOrdenadoLosIdsSiguenSiendoConsecutivos() {
+		GeneradorDeIds generador = new GeneradorDeIds(archivo, 10);
+		generador.siguiente();
+		generador.siguiente();
+		generador.cerrar();
+
+		assertEquals(3, new GeneradorDeIds(archivo, 10).siguiente());
+	}
+
+	@Test
+	public void testSinCierreNoSeRepitenIds() {
+		GeneradorDeIds generador = new GeneradorDeIds(archivo, 10);
+		generador.siguiente();
+		generador.siguiente();
+
+		assertEquals(11, new GeneradorDeIds(archivo, 10).siguiente());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testGeneradorCerradoNoEntregaIds() {
+		GeneradorDeIds generador = new GeneradorDeIds();
+		generador.cerrar();
+
+		generador.siguiente();
+	}
+
+	@Test
+	public void testIdsConsecutivosEntreHilos() throws Exception {
+		GeneradorDeIds generador = new GeneradorDeIds(archivo, 8);
+		Set<Integer> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService hilos = Executors.newFixedThreadPool(4);
+
+		List<Future<?>> resultados = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			resultados.add(hilos.submit(() -> {
+				for (int j = 0; j < 1000; j++)
+					ids.add(generador.siguiente());
+			}));
+		}
+		for (Future<?> resultado : resultados)
+			resultado.get(30, TimeUnit.SECONDS);
+		hilos.shutdown();
+
+		assertEquals(4000, ids.size());
+		assertEquals(Integer.valueOf(4000), Collections.max(ids));
+
+		generador.cerrar();
+		int siguiente = new GeneradorDeIds(archivo, 8).siguiente();
+		for (Integer id : ids)
+			assertTrue(id < siguiente);
+	}
+
+	@Test
+	public void testLaMarcaSeGuardaDeAUnaReservaPorVez() {
+		GeneradorDeIds generador = new GeneradorDeIds(archivo, 10);
+		for (int i = 0; i < 25; i++)
+			generador.siguiente();
+
+		assertEquals(31, new GeneradorDeIds(archivo, 10).siguiente());
+	}
+}
@@ -0,0 +1,182 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolutionConDiario;
+import entidades.Tupla;
+
+public class HomeSolutionConDiarioTest {
+	private Path directorio;
+	private Path archivo;
+	private HomeSolutionConDiario homeSolution;
+
+	@Before
+	public void setUp() throws Exception {
+		directorio = Files.createTempDirectory("diario");
+		archivo = directorio.resolve("homesolution.diario");
+		homeSolution = new HomeSolutionConDiario(archivo);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		homeSolution.cerrar();
+		Files.deleteIfExists(archivo);
+		Files.deleteIfExists(directorio);
+	}
+
+	@Test
+	public void testReaperturaReconstruyeElEstado() throws Exception {
+		registrarProyecto("San Martin 1000");
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");
+		homeSolution.registrarEmpleado("Julieta", 15000);
+
+		Integer numero = homeSolution.proyectosPendientes().get(0).getValor1();
+		homeSolution.agregarTareaEnProyecto(numero, "Limpieza", "limpieza general", 1);
+		homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+		homeSolution.asignarResponsableMenosRetraso(numero, "Instalacion electrica");
+		homeSolution.asignarResponsableEnTarea(numero, "Limpieza");
+		homeSolution.registrarRetrasoEnTarea(numero, "Pintar", 2);
+		homeSolution.finalizarProyecto(numero, "2025-12-10");
+
+		double costo = homeSolution.costoProyecto(numero);
+		String proyecto = homeSolution.consultarProyecto(numero);
+
+		reabrir();
+
+		assertEquals(1, homeSolution.proyectosFinalizados().size());
+		assertEquals(costo, homeSolution.costoProyecto(numero), 0.001);
+		assertEquals(proyecto, homeSolution.consultarProyecto(numero));
+		assertEquals(3, homeSolution.empleadosNoAsignados().length);
+		assertEquals(1, homeSolution.consultarCantidadRetrasosEmpleado(1));
+
+		homeSolution.registrarEmpleado("Carlos", 50000, "INICIAL");
+		assertEquals(Integer.valueOf(4), homeSolution.empleados().get(3).getValor1());
+	}
+
+	@Test
+	public void testOperacionFallidaNoSeRegistra() throws Exception {
+		registrarProyecto("San Martin 1000");
+		Integer numero = homeSolution.proyectosPendientes().get(0).getValor1();
+
+		try {
+			homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+		} catch (RuntimeException e) {
+			// No hay empleados.
+		}
+		homeSolution.registrarEmpleado("Juan", 15000);
+
+		reabrir();
+
+		assertEquals(1, homeSolution.proyectosPendientes().size());
+		assertEquals(1, homeSolution.empleadosNoAsignados().length);
+	}
+
+	@Test
+	public void testOperacionQueFallaALaMitadNoDejaRastro() throws Exception {
+		registrarProyecto("San Martin 1000");
+		homeSolution.registrarEmpleado("Juan", 15000);
+		Integer numero = homeSolution.proyectosPendientes().get(0).getValor1();
+		homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+		homeSolution.finalizarTarea(numero, "Pintar");
+
+		double costo = homeSolution.costoProyecto(numero);
+		String proyecto = homeSolution.consultarProyecto(numero);
+
+		// Antes, estas operaciones descontaban el costo de la tarea y recién después
+		// fallaban, sin quedar en el diario.
+		try {
+			homeSolution.finalizarTarea(numero, "Pintar");
+		} catch (RuntimeException e) {
+			// Ya está finalizada.
+		}
+		try {
+			homeSolution.registrarRetrasoEnTarea(numero, "Instalacion electrica", 2);
+		} catch (IllegalArgumentException e) {
+			// No tiene empleado.
+		}
+
+		assertEquals(costo, homeSolution.costoProyecto(numero), 0.001);
+		assertEquals(proyecto, homeSolution.consultarProyecto(numero));
+
+		reabrir();
+
+		assertEquals(costo, homeSolution.costoProyecto(numero), 0.001);
+		assertEquals(proyecto, homeSolution.consultarProyecto(numero));
+	}
+
+	@Test
+	public void testRegistroIncompletoAlFinalSeDescarta() throws Exception {
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.cerrar();
+
+		long tamanio = Files.size(archivo);
+		Files.write(archivo, new byte[] { 0, 0, 0, 40, 1, 2, 3 }, StandardOpenOption.APPEND);
+
+		homeSolution = new HomeSolutionConDiario(archivo);
+
+		assertEquals(1, homeSolution.empleados().size());
+		assertEquals(tamanio, Files.size(archivo));
+	}
+
+	@Test
+	public void testEscriturasConcurrentesQuedanTodasEnElDiario() throws Exception {
+		ExecutorService hilos = Executors.newFixedThreadPool(8);
+
+		List<Future<?>> resultados = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			int hilo = i;
+			resultados.add(hilos.submit(() -> {
+				for (int j = 0; j < 50; j++)
+					homeSolution.registrarEmpleado("Empleado " + hilo + "-" + j, 15000);
+			}));
+		}
+		for (Future<?> resultado : resultados)
+			resultado.get(30, TimeUnit.SECONDS);
+		hilos.shutdown();
+
+		List<String> empleados = describirEmpleados();
+
+		reabrir();
+
+		assertEquals(400, homeSolution.empleados().size());
+		assertEquals(empleados, describirEmpleados());
+	}
+
+	private List<String> describirEmpleados() {
+		List<String> descripciones = new ArrayList<>();
+
+		for (Tupla<Integer, String> empleado : homeSolution.empleados())
+			descripciones.add(empleado.getValor1() + " " + empleado.getValor2());
+
+		return descripciones;
+	}
+
+	private void reabrir() throws Exception {
+		homeSolution.cerrar();
+		homeSolution = new HomeSolutionConDiario(archivo);
+	}
+
+	private void registrarProyecto(String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
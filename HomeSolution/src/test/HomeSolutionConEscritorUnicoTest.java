@@ -0,0 +1,113 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.Comando;
+import entidades.HomeSolutionConEscritorUnico;
+import entidades.Tupla;
+
+public class HomeSolutionConEscritorUnicoTest {
+	private static final int cantidadDeProyectos = 16;
+	private static final String titulos[] = { "Pintar", "Instalacion electrica", "Trabajos jardineria", "Instalar AA" };
+
+	private HomeSolutionConEscritorUnico homeSolution;
+	private ExecutorService hilos;
+
+	@Before
+	public void setUp() {
+		homeSolution = new HomeSolutionConEscritorUnico(4); // Chico, para que los productores den la vuelta al anillo.
+		hilos = Executors.newFixedThreadPool(8);
+
+		String descripciones[] = { "", "", "", "" };
+		double duracion[] = { 4, 2, 1, .5 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+		for (int i = 0; i < cantidadDeProyectos; i++)
+			homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + i, cliente, "2025-12-01",
+					"2025-12-05");
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		hilos.shutdownNow();
+		hilos.awaitTermination(10, TimeUnit.SECONDS);
+		homeSolution.cerrar();
+	}
+
+	@Test
+	public void testProyectosEnParaleloLiberanATodosLosEmpleados() throws Exception {
+		for (int i = 0; i < cantidadDeProyectos * titulos.length; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+
+		List<Future<?>> resultados = new ArrayList<>();
+		for (Tupla<Integer, String> proyecto : homeSolution.proyectosPendientes()) {
+			Integer numero = proyecto.getValor1();
+
+			resultados.add(hilos.submit(() -> {
+				for (String titulo : titulos)
+					homeSolution.asignarResponsableMenosRetraso(numero, titulo);
+
+				homeSolution.registrarRetrasoEnTarea(numero, "Pintar", 1);
+				homeSolution.finalizarProyecto(numero, "2025-12-10");
+				return null;
+			}));
+		}
+		for (Future<?> resultado : resultados)
+			resultado.get();
+
+		assertEquals(cantidadDeProyectos, homeSolution.proyectosFinalizados().size());
+		assertEquals(cantidadDeProyectos * titulos.length, homeSolution.empleadosNoAsignados().length);
+	}
+
+	@Test
+	public void testComandosEnviadosSeAplicanEnOrden() throws Exception {
+		homeSolution.registrarEmpleado("Juan", 1000);
+
+		List<CompletableFuture<Void>> resultados = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			resultados.add(homeSolution.enviar(new Comando.AgregarTarea(1, "Limpiar", "", 1)));
+			resultados.add(homeSolution.enviar(new Comando.AsignarResponsable(1, "Limpiar")));
+			resultados.add(homeSolution.enviar(new Comando.RegistrarRetraso(1, "Limpiar", 1)));
+			resultados.add(homeSolution.enviar(new Comando.FinalizarTarea(1, "Limpiar")));
+		}
+		for (CompletableFuture<Void> resultado : resultados)
+			resultado.get();
+
+		assertEquals(100, homeSolution.consultarCantidadRetrasosEmpleado(1));
+		assertEquals(1, homeSolution.empleadosNoAsignados().length);
+	}
+
+	@Test
+	public void testLosErroresLleganAQuienPidioLaOperacion() throws Exception {
+		try {
+			homeSolution.asignarResponsableEnTarea(1, "Pintar");
+			fail("No hay empleados para asignar.");
+		} catch (RuntimeException e) {
+			assertEquals("No hay empleados disponibles.", e.getMessage());
+		}
+
+		try {
+			homeSolution.enviar(new Comando.FinalizarTarea(99, "Pintar")).get();
+			fail("El proyecto no existe.");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+		}
+
+		assertEquals(cantidadDeProyectos, homeSolution.proyectosPendientes().size());
+	}
+}
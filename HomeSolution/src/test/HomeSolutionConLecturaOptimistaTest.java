@@ -0,0 +1,126 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.HomeSolutionConLecturaOptimista;
+import entidades.IHomeSolution;
+
+public class HomeSolutionConLecturaOptimistaTest {
+	private HomeSolutionConLecturaOptimista optimista;
+	private HomeSolution homeSolution;
+
+	@Before
+	public void setUp() throws Exception {
+		optimista = new HomeSolutionConLecturaOptimista();
+		homeSolution = new HomeSolution();
+
+		cargarDatos(optimista);
+		cargarDatos(homeSolution);
+	}
+
+	@Test
+	public void testConsultasPuntualesCoincidenConHomeSolution() throws Exception {
+		for (int numero = 1; numero <= 2; numero++) {
+			assertEquals(homeSolution.estaFinalizado(numero), optimista.estaFinalizado(numero));
+			assertEquals(homeSolution.costoProyecto(numero), optimista.costoProyecto(numero), 0.001);
+			assertEquals(homeSolution.consultarDomicilioProyecto(numero), optimista.consultarDomicilioProyecto(numero));
+		}
+
+		for (int legajo = 1; legajo <= 3; legajo++) {
+			assertEquals(homeSolution.consultarCantidadRetrasosEmpleado(legajo),
+					optimista.consultarCantidadRetrasosEmpleado(legajo));
+			assertEquals(homeSolution.tieneRestrasos(legajo), optimista.tieneRestrasos(legajo));
+		}
+
+		assertEquals(homeSolution.toString(), optimista.toString());
+
+		try {
+			optimista.costoProyecto(99);
+			fail("Debería lanzar IllegalArgumentException.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("No existe ningún proyecto con código 99", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testLecturasConcurrentesNuncaVenValoresQueRetroceden() throws Exception {
+		AtomicBoolean terminado = new AtomicBoolean();
+		AtomicReference<Throwable> error = new AtomicReference<>();
+
+		List<Thread> lectores = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			lectores.add(new Thread(() -> {
+				int retrasosAnteriores = 0;
+				double costoAnterior = 0;
+
+				try {
+					while (!terminado.get()) {
+						int retrasos = optimista.consultarCantidadRetrasosEmpleado(1);
+						double costo = optimista.costoProyecto(2);
+
+						if (retrasos < retrasosAnteriores || costo < costoAnterior)
+							throw new AssertionError("Una lectura vio un estado anterior al de la lectura previa.");
+
+						retrasosAnteriores = retrasos;
+						costoAnterior = costo;
+					}
+				} catch (Throwable e) {
+					error.set(e);
+				}
+			}));
+		}
+		for (Thread lector : lectores)
+			lector.start();
+
+		for (int i = 0; i < 2000; i++) {
+			optimista.registrarRetrasoEnTarea(2, "Instalacion electrica", 1);
+			optimista.agregarTareaEnProyecto(2, "Tarea " + i, "", 1); // Fuerza a crecer las colecciones del proyecto.
+		}
+
+		terminado.set(true);
+		for (Thread lector : lectores)
+			lector.join();
+
+		assertEquals(null, error.get());
+		assertEquals(2001, optimista.consultarCantidadRetrasosEmpleado(1));
+		assertTrue(optimista.tieneRestrasos(1));
+		assertFalse(optimista.estaFinalizado(2));
+	}
+
+	private static void cargarDatos(IHomeSolution homeSolution) throws Exception {
+		homeSolution.registrarEmpleado("Juan", 1000);
+		homeSolution.registrarEmpleado("Luis", 10000, "EXPERTO");
+		homeSolution.registrarEmpleado("Ana", 2000);
+
+		registrarProyecto(homeSolution, "San Martin 1000");
+		registrarProyecto(homeSolution, "Belgrano 200");
+
+		homeSolution.asignarResponsableEnTarea(1, "Pintar");
+		homeSolution.asignarResponsableEnTarea(1, "Instalacion electrica");
+		homeSolution.registrarRetrasoEnTarea(1, "Pintar", 2);
+		homeSolution.finalizarProyecto(1, "2025-12-10");
+
+		homeSolution.asignarResponsableEnTarea(2, "Instalacion electrica");
+	}
+
+	private static void registrarProyecto(IHomeSolution homeSolution, String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
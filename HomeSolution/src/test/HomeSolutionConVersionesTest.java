@@ -0,0 +1,187 @@
+package test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.Estado;
+import entidades.HomeSolution;
+import entidades.HomeSolutionConVersiones;
+import entidades.IHomeSolution;
+import entidades.Tupla;
+import entidades.Version;
+
+public class HomeSolutionConVersionesTest {
+	private HomeSolutionConVersiones conVersiones;
+	private HomeSolution homeSolution;
+
+	@Before
+	public void setUp() throws Exception {
+		conVersiones = new HomeSolutionConVersiones();
+		homeSolution = new HomeSolution();
+
+		cargarDatos(conVersiones);
+		cargarDatos(homeSolution);
+	}
+
+	@Test
+	public void testConsultasCoincidenConHomeSolution() throws Exception {
+		assertEquals(homeSolution.toString(), conVersiones.toString());
+		assertEquals(describir(homeSolution.proyectosFinalizados()), describir(conVersiones.proyectosFinalizados()));
+		assertEquals(describir(homeSolution.proyectosActivos()), describir(conVersiones.proyectosActivos()));
+		assertEquals(describir(homeSolution.proyectosPendientes()), describir(conVersiones.proyectosPendientes()));
+		assertEquals(describir(homeSolution.empleados()), describir(conVersiones.empleados()));
+		assertEquals(describir(homeSolution.empleadosNoAsignados()), describir(conVersiones.empleadosNoAsignados()));
+
+		for (int numero = 1; numero <= 3; numero++) {
+			assertEquals(homeSolution.consultarProyecto(numero), conVersiones.consultarProyecto(numero));
+			assertEquals(homeSolution.costoProyecto(numero), conVersiones.costoProyecto(numero), 0.001);
+			assertEquals(homeSolution.estaFinalizado(numero), conVersiones.estaFinalizado(numero));
+			assertEquals(describir(homeSolution.tareasDeUnProyecto(numero)),
+					describir(conVersiones.tareasDeUnProyecto(numero)));
+			assertEquals(describir(homeSolution.tareasProyectoNoAsignadas(numero)),
+					describir(conVersiones.tareasProyectoNoAsignadas(numero)));
+			assertEquals(describir(homeSolution.empleadosAsignadosAProyecto(numero)),
+					describir(conVersiones.empleadosAsignadosAProyecto(numero)));
+		}
+
+		for (int legajo = 1; legajo <= 3; legajo++)
+			assertEquals(homeSolution.consultarCantidadRetrasosEmpleado(legajo),
+					conVersiones.consultarCantidadRetrasosEmpleado(legajo));
+	}
+
+	@Test
+	public void testVersionAnteriorNoCambiaYComparteLoQueNoSeModifico() throws Exception {
+		Version anterior = conVersiones.obtenerVersion();
+		double costoAnterior = anterior.obtenerProyecto(2).obtenerCosto();
+
+		conVersiones.registrarRetrasoEnTarea(2, "Pintar", 5);
+		conVersiones.finalizarProyecto(2, "2025-12-20");
+
+		Version actual = conVersiones.obtenerVersion();
+
+		assertEquals(anterior.obtenerNumero() + 2, actual.obtenerNumero());
+		assertEquals(Estado.ACTIVO, anterior.obtenerProyecto(2).obtenerEstado());
+		assertEquals(costoAnterior, anterior.obtenerProyecto(2).obtenerCosto(), 0.001);
+		assertEquals(0, anterior.obtenerEmpleado(2).obtenerCantidadDeRetrasos());
+		assertEquals(1, anterior.cantidadDeProyectos(Estado.FINALIZADO));
+
+		assertTrue(actual.obtenerProyecto(2).estaFinalizado());
+		assertEquals(1, actual.obtenerEmpleado(2).obtenerCantidadDeRetrasos());
+		assertEquals(2, actual.cantidadDeProyectos(Estado.FINALIZADO));
+		assertEquals(0, actual.cantidadDeProyectos(Estado.ACTIVO));
+
+		assertNotSame(anterior.obtenerProyecto(2), actual.obtenerProyecto(2));
+		assertSame(anterior.obtenerProyecto(1), actual.obtenerProyecto(1));
+		assertSame(anterior.obtenerProyecto(3), actual.obtenerProyecto(3));
+		assertSame(anterior.obtenerEmpleado(1), actual.obtenerEmpleado(1));
+	}
+
+	@Test
+	public void testOperacionQueFallaNoPublicaUnaVersionNueva() throws Exception {
+		Version anterior = conVersiones.obtenerVersion();
+
+		try {
+			conVersiones.registrarRetrasoEnTarea(2, "Tarea inexistente", 5);
+		} catch (IllegalArgumentException e) {
+		}
+
+		assertSame(anterior, conVersiones.obtenerVersion());
+		assertEquals(homeSolution.toString(), conVersiones.toString());
+	}
+
+	@Test
+	public void testLectorConcurrenteNuncaVeUnEstadoAMedias() throws Exception {
+		AtomicBoolean terminado = new AtomicBoolean();
+		AtomicReference<String> error = new AtomicReference<>();
+
+		Thread lector = new Thread(() -> {
+			while (!terminado.get()) {
+				Version version = conVersiones.obtenerVersion();
+				int asignados = version.cantidadDeEmpleados() - version.cantidadDeEmpleadosNoAsignados();
+				int[] tareasAsignadas = new int[1];
+
+				version.recorrerProyectos(Estado.ACTIVO, proyecto -> proyecto.obtenerTareas().forEach(tarea -> {
+					if (tarea.obtenerLegajo() != null && !tarea.estaFinalizada())
+						tareasAsignadas[0]++;
+				}));
+
+				if (asignados != tareasAsignadas[0])
+					error.set("Versión " + version.obtenerNumero() + ": " + asignados + " empleados asignados y "
+							+ tareasAsignadas[0] + " tareas asignadas.");
+			}
+		});
+		lector.start();
+
+		for (int i = 0; i < 200; i++) {
+			registrarProyecto(conVersiones, "Calle " + i);
+			int numero = 4 + i;
+
+			conVersiones.asignarResponsableEnTarea(numero, "Pintar");
+			conVersiones.asignarResponsableEnTarea(numero, "Instalacion electrica");
+			conVersiones.finalizarProyecto(numero, "2026-01-10");
+		}
+
+		terminado.set(true);
+		lector.join();
+
+		assertEquals(null, error.get());
+		assertFalse(conVersiones.estaFinalizado(3));
+	}
+
+	private static void cargarDatos(IHomeSolution homeSolution) throws Exception {
+		homeSolution.registrarEmpleado("Juan", 1000);
+		homeSolution.registrarEmpleado("Luis", 10000, "EXPERTO");
+		homeSolution.registrarEmpleado("Ana", 2000);
+		homeSolution.registrarEmpleado("Sofia", 2500);
+
+		for (int i = 0; i < 3; i++)
+			registrarProyecto(homeSolution, "Calle " + i);
+
+		homeSolution.asignarResponsableEnTarea(1, "Pintar");
+		homeSolution.asignarResponsableEnTarea(1, "Instalacion electrica");
+		homeSolution.registrarRetrasoEnTarea(1, "Pintar", 2);
+		homeSolution.finalizarProyecto(1, "2025-12-10");
+
+		homeSolution.asignarResponsableMenosRetraso(2, "Pintar");
+		homeSolution.asignarResponsableEnTarea(2, "Instalacion electrica");
+		homeSolution.reasignarEmpleadoConMenosRetraso(2, "Instalacion electrica");
+	}
+
+	private static String describir(List<Tupla<Integer, String>> tuplas) {
+		StringBuilder descripcion = new StringBuilder();
+
+		for (Tupla<Integer, String> tupla : tuplas)
+			descripcion.append(tupla.getValor1()).append(" ").append(tupla.getValor2()).append("\n");
+
+		return descripcion.toString();
+	}
+
+	private static String describir(Object[] elementos) {
+		StringBuilder descripcion = new StringBuilder();
+
+		for (Object elemento : elementos)
+			descripcion.append(elemento).append("\n");
+
+		return descripcion.toString();
+	}
+
+	private static void registrarProyecto(IHomeSolution homeSolution, String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
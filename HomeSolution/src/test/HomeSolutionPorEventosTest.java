@@ -0,0 +1,234 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.Evento;
+import entidades.HomeSolutionPorEventos;
+import entidades.InformeDeRecuperacion;
+
+public class HomeSolutionPorEventosTest {
+	private Path directorio;
+	private HomeSolutionPorEventos homeSolution;
+
+	@Before
+	public void setUp() throws Exception {
+		directorio = Files.createTempDirectory("eventos");
+		homeSolution = new HomeSolutionPorEventos(directorio, 4);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		homeSolution.cerrar();
+		for (Path archivo : archivos("*"))
+			Files.delete(archivo);
+		Files.delete(directorio);
+	}
+
+	@Test
+	public void testReaperturaReconstruyeElEstado() throws Exception {
+		registrarProyecto("San Martin 1000");
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");
+		homeSolution.registrarEmpleado("Julieta", 15000);
+
+		Integer numero = homeSolution.proyectosPendientes().get(0).getValor1();
+		homeSolution.agregarTareaEnProyecto(numero, "Limpieza", "limpieza general", 1);
+		homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+		homeSolution.asignarResponsableMenosRetraso(numero, "Instalacion electrica");
+		homeSolution.registrarRetrasoEnTarea(numero, "Pintar", 2);
+		homeSolution.reasignarEmpleadoConMenosRetraso(numero, "Pintar");
+		homeSolution.finalizarTarea(numero, "Pintar");
+
+		String proyecto = homeSolution.consultarProyecto(numero);
+		Object[] noAsignados = homeSolution.empleadosNoAsignados();
+
+		reabrir();
+
+		assertEquals(proyecto, homeSolution.consultarProyecto(numero));
+		assertEquals(noAsignados.length, homeSolution.empleadosNoAsignados().length);
+		assertEquals(1, homeSolution.consultarCantidadRetrasosEmpleado(1));
+
+		homeSolution.registrarEmpleado("Carlos", 50000, "INICIAL");
+		assertEquals(Integer.valueOf(4), homeSolution.empleados().get(3).getValor1());
+	}
+
+	@Test
+	public void testCompactarReemplazaLosSegmentosPorUnaInstantanea() throws Exception {
+		for (int i = 0; i < 10; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+		registrarProyecto("San Martin 1000");
+		Integer numero = homeSolution.proyectosPendientes().get(0).getValor1();
+		homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+
+		homeSolution.compactarAhora();
+
+		assertEquals(1, archivos("instantanea-*.snap").size());
+		assertTrue(archivos("eventos-*.log").size() <= 1);
+
+		String proyecto = homeSolution.consultarProyecto(numero);
+
+		reabrir();
+
+		assertEquals(0, homeSolution.obtenerEventosReproducidos());
+		assertEquals(proyecto, homeSolution.consultarProyecto(numero));
+		assertEquals(9, homeSolution.empleadosNoAsignados().length);
+	}
+
+	@Test
+	public void testSoloSeReproducenLosEventosPosterioresALaInstantanea() throws Exception {
+		for (int i = 0; i < 6; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 15000);
+		homeSolution.compactarAhora();
+
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");
+
+		List<String> eventos = new ArrayList<>();
+		homeSolution.recorrerEventos(evento -> eventos.add(evento.toString()));
+
+		reabrir();
+
+		assertEquals(2, homeSolution.obtenerEventosReproducidos());
+		assertEquals(8, homeSolution.empleados().size());
+		assertEquals(2, eventos.size());
+		assertTrue(eventos.get(1).contains("legajo 8"));
+	}
+
+	@Test
+	public void testLosEventosGuardanElEmpleadoElegido() throws Exception {
+		homeSolution.cerrar();
+		homeSolution = new HomeSolutionPorEventos(directorio, 100); // Sin compactaciones en segundo plano.
+
+		registrarProyecto("San Martin 1000");
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 15000);
+		Integer numero = homeSolution.proyectosPendientes().get(0).getValor1();
+		homeSolution.asignarResponsableMenosRetraso(numero, "Pintar");
+
+		List<Evento> eventos = new ArrayList<>();
+		homeSolution.recorrerEventos(eventos::add);
+
+		assertEquals(4, eventos.size());
+		assertTrue(eventos.get(3) instanceof Evento.TareaAsignada);
+		assertTrue(eventos.get(3).toString().endsWith("al legajo 1"));
+	}
+
+	@Test
+	public void testEscrituraCortadaAlFinalSeTruncaYSeInforma() throws Exception {
+		homeSolution.cerrar();
+		homeSolution = new HomeSolutionPorEventos(directorio, 100);
+
+		registrarProyecto("San Martin 1000");
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 15000);
+		homeSolution.cerrar();
+
+		List<Path> segmentos = archivos("eventos-*.log");
+		Path segmento = Collections.max(segmentos);
+		long tamanio = Files.size(segmento);
+		Files.write(segmento, new byte[] { 0, 0, 0, 40, 1, 2, 3 }, StandardOpenOption.APPEND);
+
+		homeSolution = new HomeSolutionPorEventos(directorio, 100);
+		InformeDeRecuperacion informe = homeSolution.obtenerInformeDeRecuperacion();
+
+		assertEquals(segmentos.size(), informe.obtenerSegmentosLeidos());
+		assertEquals(3, informe.obtenerEventosReproducidos());
+		assertEquals(1, informe.obtenerRegistrosDescartados());
+		assertEquals(7, informe.obtenerBytesDescartados());
+		assertEquals(tamanio, Files.size(segmento));
+		assertEquals(2, homeSolution.empleados().size());
+	}
+
+	@Test
+	public void testSeInformanTodosLosRegistrosQueSiguenAUnoCorrupto() throws Exception {
+		homeSolution.cerrar();
+		homeSolution = new HomeSolutionPorEventos(directorio, 100);
+
+		homeSolution.registrarEmpleado("Juan", 15000);
+		Path segmento = Collections.max(archivos("eventos-*.log"));
+		long tamanio = Files.size(segmento);
+		homeSolution.registrarEmpleado("Luis", 15000);
+		homeSolution.registrarEmpleado("Maria", 15000);
+		homeSolution.cerrar();
+
+		byte[] contenido = Files.readAllBytes(segmento);
+		contenido[(int) tamanio + 8] ^= 1; // Primer byte del registro de Luis.
+		Files.write(segmento, contenido);
+		Files.write(segmento, new byte[] { 0, 0, 0, 40, 1, 2, 3 }, StandardOpenOption.APPEND);
+
+		homeSolution = new HomeSolutionPorEventos(directorio, 100);
+		InformeDeRecuperacion informe = homeSolution.obtenerInformeDeRecuperacion();
+
+		assertEquals(3, informe.obtenerRegistrosDescartados());
+		assertEquals(contenido.length + 7 - tamanio, informe.obtenerBytesDescartados());
+		assertEquals(1, homeSolution.empleados().size());
+	}
+
+	@Test
+	public void testSegmentoDanadoQueNoEsElUltimoImpideRecuperar() throws Exception {
+		homeSolution.cerrar();
+		homeSolution = new HomeSolutionPorEventos(directorio, 100);
+
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 15000);
+		homeSolution.cerrar();
+
+		Path segmento = Collections.max(archivos("eventos-*.log"));
+		byte[] contenido = Files.readAllBytes(segmento);
+		contenido[contenido.length - 3] ^= 1;
+		Files.write(segmento, contenido);
+		Files.createFile(directorio.resolve("eventos-0000000099.log"));
+
+		try {
+			homeSolution = new HomeSolutionPorEventos(directorio, 100);
+			fail("Se esperaba que la recuperación fallara.");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains(segmento.getFileName().toString()));
+		}
+
+		Files.delete(directorio.resolve("eventos-0000000099.log"));
+		homeSolution = new HomeSolutionPorEventos(directorio, 100); // Ahora es el último: se trunca.
+		assertEquals(1, homeSolution.obtenerInformeDeRecuperacion().obtenerEventosReproducidos());
+	}
+
+	private List<Path> archivos(String patron) throws Exception {
+		List<Path> archivos = new ArrayList<>();
+
+		try (DirectoryStream<Path> contenido = Files.newDirectoryStream(directorio, patron)) {
+			for (Path archivo : contenido)
+				archivos.add(archivo);
+		}
+
+		return archivos;
+	}
+
+	private void reabrir() throws Exception {
+		homeSolution.cerrar();
+		homeSolution = new HomeSolutionPorEventos(directorio, 4);
+	}
+
+	private void registrarProyecto(String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
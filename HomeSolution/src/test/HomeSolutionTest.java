@@ -99,7 +99,7 @@ public class HomeSolutionTest {
         assertTrue(lista.size()==2);
     }
     // ============================================================
-    // REASIGNACIN Y FINALIZACIN
+    // REASIGNACIÓN Y FINALIZACIÓN
     // ============================================================
     @Test(expected = IllegalArgumentException.class)
     public void testTareasNoAsignadasProyectoFinalizadoLanzaExcepcion() {
@@ -101,7 +101,7 @@ public class HomeSolutionTestModif {
 	}
 
 	// ============================================================
-	// REASIGNACIN Y FINALIZACIN
+	// REASIGNACIÓN Y FINALIZACIÓN
 	// ============================================================
 	@Test(expected = IllegalArgumentException.class)
 	public void testTareasNoAsignadasProyectoFinalizadoLanzaExcepcion() {
@@ -116,7 +116,7 @@ public class HomeSolutionTestModif {
 		Integer numeroProyecto = (homeSolution.proyectosPendientes().get(0)).getValor1();
 
 		try {
-			asignarTareas(numeroProyecto); // No puedo finalizar un proyecto con tareas sin asignar, pues nunca pas a estar activo. Para demostrar ese comportamiento est el test anterior.
+			asignarTareas(numeroProyecto); // No puedo finalizar un proyecto con tareas sin asignar, pues nunca pasó a estar activo. Para demostrar ese comportamiento está el test anterior.
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
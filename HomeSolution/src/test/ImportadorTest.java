@@ -0,0 +1,217 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.FormatoDeArchivo;
+import entidades.HomeSolution;
+import entidades.HomeSolutionConDiario;
+import entidades.HomeSolutionPorEventos;
+import entidades.Importador;
+import entidades.Repositorio;
+import entidades.RepositorioSql;
+import entidades.ResultadoDeImportacion;
+import entidades.Tupla;
+
+public class ImportadorTest {
+	private HomeSolution homeSolution;
+	private Importador importador;
+
+	@Before
+	public void setUp() {
+		homeSolution = new HomeSolution();
+		importador = new Importador(homeSolution, 4, 3);
+	}
+
+	@Test
+	public void testImportaCsvConTareasYReportaLineasRechazadas() throws Exception {
+		String csv = "# empleados\n"
+				+ "empleado,Juan,15000\n"
+				+ "empleado,Luis,80000,EXPERTO\n"
+				+ "empleado,Ana,80000,GERENTE\n"
+				+ "empleado,\"Gomez, Julieta\",15000\n"
+				+ "\n"
+				+ "proyecto,San Martin 1000,Pedro,mail@mail.com,123456,2025-12-01,2025-12-05\n"
+				+ "tarea,Pintar,\"pintar \"\"todo\"\"\",4\n"
+				+ "tarea,Instalacion electrica,,2\n"
+				+ "proyecto,Belgrano 200,Pedro,mail@mail.com,123456,2025-12-01,2025-12-05\n"
+				+ "tarea,Pintar,,0.3\n"
+				+ "proyecto,Mitre 30,Pedro,mail@mail.com,123456,2025-12-10,2025-12-05\n"
+				+ "tarea,Pintar,,1\n"
+				+ "empleado,Carlos,abc\n";
+
+		ResultadoDeImportacion resultado = importador.importar(new StringReader(csv), FormatoDeArchivo.CSV);
+
+		assertEquals(3, resultado.obtenerEmpleadosImportados());
+		assertEquals(1, resultado.obtenerProyectosImportados());
+		assertEquals(4, resultado.obtenerFilasRechazadas());
+
+		List<Tupla<Integer, String>> errores = resultado.obtenerErrores();
+		assertEquals(Integer.valueOf(4), errores.get(0).getValor1());
+		assertEquals(Integer.valueOf(11), errores.get(1).getValor1());
+		assertEquals(Integer.valueOf(12), errores.get(2).getValor1());
+		assertEquals(Integer.valueOf(14), errores.get(3).getValor1());
+
+		assertEquals("Gomez, Julieta", homeSolution.empleados().get(2).getValor2());
+		assertEquals(Integer.valueOf(3), homeSolution.empleados().get(2).getValor1());
+		assertEquals(2, homeSolution.tareasDeUnProyecto(1).length);
+	}
+
+	@Test
+	public void testImportaNdjson() throws Exception {
+		String ndjson = "{\"tipo\":\"empleado\",\"nombre\":\"Juan\",\"valor\":15000}\n"
+				+ "{\"tipo\":\"empleado\",\"nombre\":\"Luis\",\"valor\":80000,\"categoria\":\"TECNICO\"}\n"
+				+ "{\"tipo\":\"proyecto\",\"domicilio\":\"San Martin 1000\","
+				+ "\"cliente\":{\"nombre\":\"Pedro\",\"mail\":\"mail@mail.com\",\"telefono\":\"123456\"},"
+				+ "\"inicio\":\"2025-12-01\",\"fin\":\"2025-12-05\","
+				+ "\"tareas\":[{\"titulo\":\"Pintar\",\"descripcion\":\"\",\"dias\":4},"
+				+ "{\"titulo\":\"Limpiar\",\"dias\":1}]}\n"
+				+ "{\"tipo\":\"empleado\",\"nombre\":\"Ana\"}\n"
+				+ "{\"tipo\":\"empleado\",\"nombre\":\"Ana\",\n";
+
+		ResultadoDeImportacion resultado = importador.importar(new StringReader(ndjson), FormatoDeArchivo.NDJSON);
+
+		assertEquals(2, resultado.obtenerEmpleadosImportados());
+		assertEquals(1, resultado.obtenerProyectosImportados());
+		assertEquals(Integer.valueOf(4), resultado.obtenerErrores().get(0).getValor1());
+		assertEquals(Integer.valueOf(5), resultado.obtenerErrores().get(1).getValor1());
+		assertEquals(2, homeSolution.tareasProyectoNoAsignadas(1).length);
+	}
+
+	@Test
+	public void testArchivoGrandeConservaElOrden() throws Exception {
+		StringBuilder csv = new StringBuilder();
+		for (int i = 1; i <= 20000; i++)
+			csv.append("empleado,Empleado ").append(i).append(",").append(i % 100 == 0 ? "-1" : "15000").append("\n");
+
+		ResultadoDeImportacion resultado = new Importador(homeSolution).importar(new StringReader(csv.toString()),
+				FormatoDeArchivo.CSV);
+
+		assertEquals(19800, resultado.obtenerEmpleadosImportados());
+		assertEquals(200, resultado.obtenerFilasRechazadas());
+		assertEquals(Integer.valueOf(100), resultado.obtenerErrores().get(0).getValor1());
+
+		List<Tupla<Integer, String>> empleados = homeSolution.empleados();
+		assertEquals(Integer.valueOf(19800), empleados.get(19799).getValor1());
+		assertTrue(empleados.get(19799).getValor2().equals("Empleado 19999"));
+	}
+
+	@Test
+	public void testLoImportadoQuedaEnElDiario() throws Exception {
+		Path directorio = Files.createTempDirectory("importacion");
+		Path archivo = directorio.resolve("homesolution.diario");
+		String csv = "empleado,Juan,15000\n"
+				+ "proyecto,San Martin 1000,Pedro,mail@mail.com,123456,2025-12-01,2025-12-05\n"
+				+ "tarea,Pintar,,4\n";
+
+		HomeSolutionConDiario conDiario = new HomeSolutionConDiario(archivo);
+		new Importador(conDiario, 2, 1).importar(new StringReader(csv), FormatoDeArchivo.CSV);
+		conDiario.cerrar();
+
+		HomeSolutionConDiario reabierto = new HomeSolutionConDiario(archivo);
+		try {
+			assertEquals("Juan", reabierto.empleados().get(0).getValor2());
+			assertEquals(1, reabierto.tareasProyectoNoAsignadas(1).length);
+		} finally {
+			reabierto.cerrar();
+			Files.delete(archivo);
+			Files.delete(directorio);
+		}
+	}
+
+	@Test
+	public void testLoImportadoQuedaEnLosEventos() throws Exception {
+		Path directorio = Files.createTempDirectory("importacion");
+		String csv = "empleado,Juan,15000\n"
+				+ "empleado,Ana,-1\n"
+				+ "proyecto,San Martin 1000,Pedro,mail@mail.com,123456,2025-12-01,2025-12-05\n"
+				+ "tarea,Pintar,,4\n"
+				+ "empleado,Luis,20000,EXPERTO\n";
+
+		HomeSolutionPorEventos porEventos = new HomeSolutionPorEventos(directorio);
+		new Importador(porEventos, 2, 3).importar(new StringReader(csv), FormatoDeArchivo.CSV);
+		porEventos.cerrar();
+
+		HomeSolutionPorEventos reabierto = new HomeSolutionPorEventos(directorio);
+		try {
+			assertEquals(2, reabierto.empleados().size());
+			assertEquals("Luis", reabierto.empleados().get(1).getValor2());
+			assertEquals(1, reabierto.tareasProyectoNoAsignadas(1).length);
+		} finally {
+			reabierto.cerrar();
+			try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio)) {
+				for (Path archivo : archivos)
+					Files.delete(archivo);
+			}
+			Files.delete(directorio);
+		}
+	}
+
+	@Test
+	public void testCadaLoteSeGuardaEnUnaSolaTransaccion() throws Exception {
+		BaseSqlDePrueba base = new BaseSqlDePrueba();
+		Repositorio repositorio = new RepositorioSql(base.obtenerUrl());
+		try {
+			HomeSolution conSql = new HomeSolution(repositorio);
+			base.reiniciarContadores();
+			String csv = "empleado,Juan,15000\n"
+					+ "empleado,Luis,20000\n"
+					+ "proyecto,San Martin 1000,Pedro,mail@mail.com,123456,2025-12-01,2025-12-05\n"
+					+ "tarea,Pintar,,4\n"
+					+ "empleado,Ana,15000\n"
+					+ "empleado,Julieta,15000\n"
+					+ "empleado,Carlos,15000\n";
+
+			ResultadoDeImportacion resultado = new Importador(conSql, 2, 3).importar(new StringReader(csv),
+					FormatoDeArchivo.CSV);
+
+			assertEquals(5, resultado.obtenerEmpleadosImportados());
+			assertEquals(1, resultado.obtenerProyectosImportados());
+			assertEquals(2, base.obtenerCommits());
+		} finally {
+			repositorio.cerrar();
+		}
+	}
+
+	@Test
+	public void testLasFilasQueNoSePuedenGuardarQuedanRechazadas() throws Exception {
+		BaseSqlDePrueba base = new BaseSqlDePrueba();
+		Repositorio repositorio = new RepositorioSql(base.obtenerUrl());
+		try {
+			HomeSolution conSql = new HomeSolution(repositorio);
+			String csv = "empleado,Juan,15000\n"
+					+ "proyecto,San Martin 1000,Pedro,mail@mail.com,123456,2025-12-01,2025-12-05\n"
+					+ "tarea,Pintar,,4\n"
+					+ "empleado,Luis,20000\n";
+			base.fallarAlConfirmar(true);
+
+			ResultadoDeImportacion resultado = new Importador(conSql, 2, 3).importar(new StringReader(csv),
+					FormatoDeArchivo.CSV);
+
+			assertEquals(0, resultado.obtenerEmpleadosImportados());
+			assertEquals(3, resultado.obtenerFilasRechazadas());
+			assertEquals(Integer.valueOf(2), resultado.obtenerErrores().get(1).getValor1());
+			assertEquals(Integer.valueOf(4), resultado.obtenerErrores().get(2).getValor1());
+			assertEquals(0, conSql.empleadosNoAsignados().length);
+			assertEquals(0, conSql.proyectosPendientes().size());
+
+			base.fallarAlConfirmar(false);
+			resultado = new Importador(conSql, 2, 3).importar(new StringReader(csv), FormatoDeArchivo.CSV);
+
+			assertEquals(2, resultado.obtenerEmpleadosImportados());
+			assertEquals(2, conSql.empleadosNoAsignados().length);
+			assertEquals(1, conSql.proyectosPendientes().size());
+		} finally {
+			repositorio.cerrar();
+		}
+	}
+}
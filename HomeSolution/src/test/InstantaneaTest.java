@@ -0,0 +1,126 @@
+package test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.Instantanea;
+
+public class InstantaneaTest {
+	private Path directorio;
+	private Path archivo;
+	private HomeSolution homeSolution;
+	private Integer primero;
+	private Integer segundo;
+
+	@Before
+	public void setUp() throws Exception {
+		directorio = Files.createTempDirectory("instantanea");
+		archivo = directorio.resolve("homesolution.snap");
+
+		homeSolution = new HomeSolution();
+		registrarProyecto("San Martin 1000");
+		registrarProyecto("Belgrano 200");
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");
+		homeSolution.registrarEmpleado("Julieta", 15000);
+		homeSolution.registrarEmpleado("Carlos", 50000, "INICIAL");
+
+		primero = homeSolution.proyectosPendientes().get(0).getValor1();
+		segundo = homeSolution.proyectosPendientes().get(1).getValor1();
+
+		homeSolution.asignarResponsableEnTarea(primero, "Pintar");
+		homeSolution.asignarResponsableEnTarea(primero, "Instalacion electrica");
+		homeSolution.registrarRetrasoEnTarea(primero, "Pintar", 2);
+		homeSolution.finalizarProyecto(primero, "2025-12-10");
+
+		homeSolution.agregarTareaEnProyecto(segundo, "Limpieza", "limpieza general", 1.5);
+		homeSolution.asignarResponsableMenosRetraso(segundo, "Pintar");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(archivo);
+		Files.deleteIfExists(directorio);
+	}
+
+	@Test
+	public void testCargaRecuperaElMismoEstado() throws Exception {
+		HomeSolution cargado = guardarYCargar();
+
+		assertEquals(homeSolution.consultarProyecto(primero), cargado.consultarProyecto(primero));
+		assertEquals(homeSolution.consultarProyecto(segundo), cargado.consultarProyecto(segundo));
+		assertEquals(homeSolution.costoProyecto(segundo), cargado.costoProyecto(segundo), 0.001);
+		assertEquals(1, cargado.proyectosFinalizados().size());
+		assertEquals(1, cargado.proyectosActivos().size());
+		assertArrayEquals(homeSolution.empleadosNoAsignados(), cargado.empleadosNoAsignados());
+		assertArrayEquals(homeSolution.tareasProyectoNoAsignadas(segundo), cargado.tareasProyectoNoAsignadas(segundo));
+		assertEquals(1, cargado.consultarCantidadRetrasosEmpleado(1));
+	}
+
+	@Test
+	public void testElEstadoCargadoSigueOperando() throws Exception {
+		HomeSolution cargado = guardarYCargar();
+
+		homeSolution.asignarResponsableMenosRetraso(segundo, "Instalacion electrica");
+		cargado.asignarResponsableMenosRetraso(segundo, "Instalacion electrica");
+		assertEquals(homeSolution.empleadosAsignadosAProyecto(segundo).get(1).getValor1(),
+				cargado.empleadosAsignadosAProyecto(segundo).get(1).getValor1());
+		assertEquals(homeSolution.costoProyecto(segundo), cargado.costoProyecto(segundo), 0.001);
+
+		cargado.registrarEmpleado("Lidia", 20000);
+		assertEquals(Integer.valueOf(5), cargado.empleados().get(4).getValor1());
+
+		registrarProyecto(cargado, "Mitre 300");
+		assertEquals(Integer.valueOf(3), cargado.proyectosPendientes().get(0).getValor1());
+	}
+
+	@Test(expected = IOException.class)
+	public void testArchivoQueNoEsInstantanea() throws Exception {
+		Files.write(archivo, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 });
+
+		Instantanea.cargar(archivo);
+	}
+
+	@Test(expected = IOException.class)
+	public void testEstadoDeProyectoInvalido() throws Exception {
+		HomeSolution unProyecto = new HomeSolution();
+		registrarProyecto(unProyecto, "Mitre 300");
+		Instantanea.guardar(unProyecto, archivo);
+
+		// Encabezado, cantidades, número, cuatro textos y tres fechas.
+		int posicionDelEstado = 16 + 4 + 4 + 4 + (4 + 9) + (4 + 11) + (4 + 13) + (4 + 6) + 3 * 8;
+		byte[] contenido = Files.readAllBytes(archivo);
+		contenido[posicionDelEstado] = 99;
+		Files.write(archivo, contenido);
+
+		Instantanea.cargar(archivo);
+	}
+
+	private HomeSolution guardarYCargar() throws IOException {
+		Instantanea.guardar(homeSolution, archivo);
+
+		return Instantanea.cargar(archivo);
+	}
+
+	private void registrarProyecto(String domicilio) {
+		registrarProyecto(homeSolution, domicilio);
+	}
+
+	private void registrarProyecto(HomeSolution homeSolution, String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
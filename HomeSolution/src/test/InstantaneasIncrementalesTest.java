@@ -0,0 +1,143 @@
+package test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.InstantaneasIncrementales;
+
+public class InstantaneasIncrementalesTest {
+	private Path directorio;
+	private InstantaneasIncrementales instantaneas;
+	private HomeSolution homeSolution;
+
+	@Before
+	public void setUp() throws Exception {
+		directorio = Files.createTempDirectory("incrementales");
+		instantaneas = new InstantaneasIncrementales(directorio, 100);
+		homeSolution = instantaneas.cargar();
+
+		for (int i = 0; i < 20; i++)
+			homeSolution.registrarEmpleado("Empleado " + i, 1000 + i);
+		for (int i = 0; i < 200; i++)
+			registrarProyecto("Calle " + i);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		instantaneas.cerrar();
+		for (Path archivo : archivos("*"))
+			Files.delete(archivo);
+		Files.delete(directorio);
+	}
+
+	@Test
+	public void testElDeltaSoloTieneLoQueCambio() throws Exception {
+		assertEquals(220, instantaneas.guardar());
+		long base = Files.size(archivos("base-*").get(0));
+
+		homeSolution.asignarResponsableEnTarea(5, "Pintar");
+
+		assertEquals(2, instantaneas.guardar()); // El proyecto y el empleado asignado.
+		assertEquals(0, instantaneas.guardar());
+
+		long delta = Files.size(archivos("delta-*").get(0));
+		assertTrue(delta * 50 < base);
+	}
+
+	@Test
+	public void testLaBaseConSusDeltasReconstruyeElEstado() throws Exception {
+		instantaneas.guardar();
+		modificar();
+
+		verificarQueSeRecupera();
+	}
+
+	@Test
+	public void testLaFusionEnSegundoPlanoReemplazaLosDeltas() throws Exception {
+		instantaneas.guardar();
+		instantaneas.cerrar();
+		instantaneas = new InstantaneasIncrementales(directorio, 2);
+		homeSolution = instantaneas.cargar();
+
+		for (int i = 0; i < 5; i++)
+			registrarProyecto("Otra calle " + i);
+		instantaneas.guardar();
+		modificar();
+		instantaneas.cerrar();
+
+		assertEquals(1, archivos("base-*").size());
+		assertTrue(archivos("delta-*").size() <= 1);
+
+		instantaneas = new InstantaneasIncrementales(directorio, 2);
+		verificarQueSeRecupera();
+	}
+
+	/**
+	 * Hace cambios guardando después de cada uno, y deja el último sin guardar.
+	 */
+	private void modificar() throws Exception {
+		homeSolution.asignarResponsableEnTarea(1, "Pintar");
+		instantaneas.guardar();
+		homeSolution.asignarResponsableMenosRetraso(1, "Instalacion electrica");
+		homeSolution.registrarRetrasoEnTarea(1, "Pintar", 2);
+		instantaneas.guardar();
+		homeSolution.finalizarProyecto(1, "2025-12-20");
+		homeSolution.asignarResponsableEnTarea(2, "Pintar");
+		instantaneas.guardar();
+		homeSolution.agregarTareaEnProyecto(3, "Limpiar", "", 1);
+		instantaneas.guardar();
+		homeSolution.asignarResponsableEnTarea(4, "Pintar"); // Sin guardar.
+	}
+
+	private void verificarQueSeRecupera() throws Exception {
+		String[] proyectos = { homeSolution.consultarProyecto(1), homeSolution.consultarProyecto(2),
+				homeSolution.consultarProyecto(3) };
+		int noAsignados = homeSolution.empleadosNoAsignados().length;
+
+		instantaneas.cerrar();
+		instantaneas = new InstantaneasIncrementales(directorio, 100);
+		HomeSolution recuperado = instantaneas.cargar();
+
+		assertArrayEquals(proyectos, new String[] { recuperado.consultarProyecto(1),
+				recuperado.consultarProyecto(2), recuperado.consultarProyecto(3) });
+		assertEquals(noAsignados + 1, recuperado.empleadosNoAsignados().length); // El último cambio no se guardó.
+		assertEquals(1, recuperado.consultarCantidadRetrasosEmpleado(1));
+		assertEquals(3, recuperado.tareasDeUnProyecto(3).length);
+		assertEquals(homeSolution.proyectosPendientes().size() + 1, recuperado.proyectosPendientes().size());
+
+		recuperado.registrarEmpleado("Ana", 1000);
+		assertEquals(Integer.valueOf(21), recuperado.empleados().get(20).getValor1());
+	}
+
+	private List<Path> archivos(String patron) throws Exception {
+		List<Path> archivos = new ArrayList<>();
+
+		try (DirectoryStream<Path> contenido = Files.newDirectoryStream(directorio, patron)) {
+			for (Path archivo : contenido)
+				archivos.add(archivo);
+		}
+
+		return archivos;
+	}
+
+	private void registrarProyecto(String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
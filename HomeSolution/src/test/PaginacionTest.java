@@ -0,0 +1,97 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.IHomeSolutionConsultas;
+import entidades.Pagina;
+import entidades.Tupla;
+
+public class PaginacionTest {
+	private IHomeSolutionConsultas homeSolution;
+
+	@Before
+	public void setUp() {
+		homeSolution = new HomeSolution();
+
+		for (int i = 1; i <= 5; i++)
+			ProyectosDePrueba.registrar(homeSolution, "Calle " + i);
+
+		homeSolution.registrarEmpleado("Juan", 15000);
+		homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");
+		homeSolution.registrarEmpleado("Julieta", 15000);
+	}
+
+	@Test
+	public void testPaginasPorCursorRecorrenTodosLosProyectos() {
+		List<String> domicilios = new ArrayList<>();
+
+		Pagina<Tupla<Integer, String>> pagina = homeSolution.proyectosPendientes((String) null, 2);
+		agregarDomicilios(pagina, domicilios);
+		assertTrue(pagina.haySiguiente());
+
+		ProyectosDePrueba.registrar(homeSolution, "Calle 6");
+
+		while (pagina.haySiguiente()) {
+			pagina = homeSolution.proyectosPendientes(pagina.obtenerSiguienteCursor(), 2);
+			agregarDomicilios(pagina, domicilios);
+		}
+
+		assertEquals(6, domicilios.size());
+		assertEquals("Calle 1", domicilios.get(0));
+		assertEquals("Calle 6", domicilios.get(5));
+	}
+
+	@Test
+	public void testPaginaPorDesplazamiento() {
+		Pagina<Tupla<Integer, String>> pagina = homeSolution.proyectosPendientes(3, 10);
+
+		assertEquals(2, pagina.obtenerElementos().size());
+		assertEquals("Calle 4", pagina.obtenerElementos().get(0).getValor2());
+		assertFalse(pagina.haySiguiente());
+		assertNull(pagina.obtenerSiguienteCursor());
+	}
+
+	@Test
+	public void testPaginasDeEmpleadosYTareas() throws Exception {
+		Integer numeroProyecto = homeSolution.proyectosPendientes().get(0).getValor1();
+		homeSolution.agregarTareaEnProyecto(numeroProyecto, "Limpieza", "limpieza general", 1);
+		homeSolution.asignarResponsableEnTarea(numeroProyecto, "Pintar");
+
+		Pagina<Tupla<Integer, String>> empleados = homeSolution.empleados(1, 1);
+		assertEquals("Luis", empleados.obtenerElementos().get(0).getValor2());
+		assertTrue(empleados.haySiguiente());
+
+		Pagina<Object> noAsignados = homeSolution.empleadosNoAsignados((String) null, 5);
+		assertEquals(2, noAsignados.obtenerElementos().size());
+
+		Pagina<Object> tareas = homeSolution.tareasDeUnProyecto(numeroProyecto, (String) null, 1);
+		assertEquals("Pintar", tareas.obtenerElementos().get(0).toString());
+
+		tareas = homeSolution.tareasProyectoNoAsignadas(numeroProyecto, (String) null, 1);
+		assertEquals("Instalacion electrica", tareas.obtenerElementos().get(0).toString());
+
+		tareas = homeSolution.tareasProyectoNoAsignadas(numeroProyecto, tareas.obtenerSiguienteCursor(), 1);
+		assertEquals("Limpieza", tareas.obtenerElementos().get(0).toString());
+		assertFalse(tareas.haySiguiente());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCursorInvalidoLanzaExcepcion() {
+		homeSolution.proyectosActivos("cualquiera", 10);
+	}
+
+	private void agregarDomicilios(Pagina<Tupla<Integer, String>> pagina, List<String> domicilios) {
+		for (Tupla<Integer, String> proyecto : pagina.obtenerElementos())
+			domicilios.add(proyecto.getValor2());
+	}
+}
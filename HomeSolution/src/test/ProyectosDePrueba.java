@@ -0,0 +1,22 @@
+package test;
+
+import entidades.IHomeSolution;
+
+/**
+ * Registra proyectos de prueba con las tareas "Pintar" (4 días) e "Instalacion
+ * electrica" (2 días), el cliente Pedro Gomez y del 2025-12-01 al 2025-12-05.
+ */
+public class ProyectosDePrueba {
+	private static final String titulos[] = { "Pintar", "Instalacion electrica" };
+	private static final String descripciones[] = { "", "" };
+	private static final double duracion[] = { 4, 2 };
+	private static final String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+
+	private ProyectosDePrueba() {
+	}
+
+	public static void registrar(IHomeSolution homeSolution, String domicilio) {
+		homeSolution.registrarProyecto(titulos.clone(), descripciones.clone(), duracion.clone(), domicilio,
+				cliente.clone(), "2025-12-01", "2025-12-05");
+	}
+}
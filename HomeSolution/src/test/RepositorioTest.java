@@ -0,0 +1,273 @@
+package test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.Repositorio;
+import entidades.RepositorioEnArchivo;
+import entidades.RepositorioSql;
+
+public class RepositorioTest {
+	private Path directorio;
+	private HomeSolution enMemoria;
+
+	@Before
+	public void setUp() throws Exception {
+		directorio = Files.createTempDirectory("repositorio");
+
+		enMemoria = new HomeSolution();
+		cargarDatos(enMemoria);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio)) {
+			for (Path archivo : archivos)
+				Files.delete(archivo);
+		}
+		Files.delete(directorio);
+	}
+
+	@Test
+	public void testArchivoRecuperaElEstadoAlReabrirlo() throws Exception {
+		Path archivo = directorio.resolve("homesolution.dat");
+
+		RepositorioEnArchivo repositorio = new RepositorioEnArchivo(archivo);
+		cargarDatos(new HomeSolution(repositorio));
+		repositorio.cerrar();
+
+		verificarIgualAEnMemoria(new RepositorioEnArchivo(archivo));
+	}
+
+	@Test
+	public void testArchivoSeCompactaSinPerderDatos() throws Exception {
+		Path archivo = directorio.resolve("homesolution.dat");
+
+		RepositorioEnArchivo repositorio = new RepositorioEnArchivo(archivo, 100);
+		cargarDatos(new HomeSolution(repositorio));
+		repositorio.cerrar();
+		long antes = Files.size(archivo);
+
+		repositorio = new RepositorioEnArchivo(archivo); // Hay más versiones viejas que registros vigentes.
+		assertTrue(repositorio.tamanio() < antes);
+		repositorio.cerrar();
+
+		verificarIgualAEnMemoria(new RepositorioEnArchivo(archivo));
+	}
+
+	@Test
+	public void testArchivoRecuperaCadaOperacionEnteraONada() throws Exception {
+		Path archivo = directorio.resolve("homesolution.dat");
+
+		RepositorioEnArchivo repositorio = new RepositorioEnArchivo(archivo);
+		HomeSolution homeSolution = new HomeSolution(repositorio);
+		homeSolution.registrarEmpleado("Juan", 1000);
+		registrarProyecto(homeSolution, "Mitre 300");
+		long antes = repositorio.tamanio();
+
+		homeSolution.asignarResponsableEnTarea(1, "Pintar"); // Guarda el empleado y el proyecto.
+		long despues = repositorio.tamanio();
+		repositorio.cerrar();
+
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+			canal.truncate(despues - 1); // La caída corta el último registro.
+		}
+		assertTrue(despues - 1 > antes);
+
+		repositorio = new RepositorioEnArchivo(archivo);
+		try {
+			HomeSolution recuperado = new HomeSolution(repositorio);
+
+			assertEquals(1, recuperado.empleadosNoAsignados().length);
+			assertEquals(2, recuperado.tareasProyectoNoAsignadas(1).length);
+		} finally {
+			repositorio.cerrar();
+		}
+	}
+
+	@Test
+	public void testSqlGuardaCadaOperacionEnUnaTransaccion() throws Exception {
+		BaseSqlDePrueba base = new BaseSqlDePrueba();
+		Repositorio repositorio = new RepositorioSql(base.obtenerUrl());
+		try {
+			HomeSolution homeSolution = new HomeSolution(repositorio);
+			homeSolution.registrarEmpleado("Juan", 1000);
+			registrarProyecto(homeSolution, "Mitre 300");
+			base.reiniciarContadores();
+
+			homeSolution.asignarResponsableEnTarea(1, "Pintar");
+			homeSolution.registrarRetrasoEnTarea(1, "Pintar", 2);
+
+			assertEquals(2, base.obtenerCommits());
+			for (String sentencia : base.obtenerSentencias())
+				assertFalse(sentencia, sentencia.startsWith("DELETE") || sentencia.startsWith("INSERT INTO tareas"));
+		} finally {
+			repositorio.cerrar();
+		}
+	}
+
+	@Test
+	public void testSqlInsertaSoloTareasNuevasAunqueElDriverNoInformeFilas() throws Exception {
+		BaseSqlDePrueba base = new BaseSqlDePrueba();
+		base.informarFilas(false);
+		Repositorio repositorio = new RepositorioSql(base.obtenerUrl());
+		try {
+			HomeSolution homeSolution = new HomeSolution(repositorio);
+			homeSolution.registrarEmpleado("Juan", 1000);
+			registrarProyecto(homeSolution, "Mitre 300");
+			base.reiniciarContadores();
+
+			homeSolution.asignarResponsableEnTarea(1, "Pintar");
+			homeSolution.agregarTareaEnProyecto(1, "Limpiar", "", 1);
+
+			long insertadas = base.obtenerSentencias().stream().filter(s -> s.startsWith("INSERT INTO tareas"))
+					.count();
+			assertEquals(1, insertadas);
+		} finally {
+			repositorio.cerrar();
+		}
+	}
+
+	@Test
+	public void testSqlNoCambiaLaMemoriaSiFallaLaTransaccion() throws Exception {
+		BaseSqlDePrueba base = new BaseSqlDePrueba();
+		Repositorio repositorio = new RepositorioSql(base.obtenerUrl());
+		try {
+			HomeSolution homeSolution = new HomeSolution(repositorio);
+			homeSolution.registrarEmpleado("Juan", 1000);
+			base.fallarAlConfirmar(true);
+
+			try {
+				registrarProyecto(homeSolution, "Mitre 300");
+				fail();
+			} catch (IllegalStateException e) {
+			}
+
+			assertNull(repositorio.obtenerProyecto(1));
+			assertEquals(0, repositorio.cantidadDeProyectos());
+			assertEquals(0, homeSolution.proyectosPendientes().size());
+		} finally {
+			repositorio.cerrar();
+		}
+	}
+
+	@Test
+	public void testSqlDeshaceLaOperacionEnMemoriaSiFallaLaTransaccion() throws Exception {
+		BaseSqlDePrueba base = new BaseSqlDePrueba();
+		Repositorio repositorio = new RepositorioSql(base.obtenerUrl());
+		try {
+			HomeSolution homeSolution = new HomeSolution(repositorio);
+			homeSolution.registrarEmpleado("Juan", 1000);
+			registrarProyecto(homeSolution, "Mitre 300");
+			double costo = homeSolution.costoProyecto(1);
+			base.fallarAlConfirmar(true);
+
+			try {
+				homeSolution.asignarResponsableEnTarea(1, "Pintar");
+				fail();
+			} catch (IllegalStateException e) {
+			}
+			try {
+				homeSolution.agregarTareaEnProyecto(1, "Limpiar", "", 1);
+				fail();
+			} catch (IllegalStateException e) {
+			}
+
+			assertEquals(1, homeSolution.empleadosNoAsignados().length);
+			assertEquals(2, homeSolution.tareasProyectoNoAsignadas(1).length);
+			assertEquals(2, homeSolution.tareasDeUnProyecto(1).length);
+			assertEquals(costo, homeSolution.costoProyecto(1), 0.001);
+			assertEquals(1, homeSolution.proyectosPendientes().size());
+
+			base.fallarAlConfirmar(false);
+			homeSolution.asignarResponsableEnTarea(1, "Pintar");
+			assertEquals(0, homeSolution.empleadosNoAsignados().length);
+		} finally {
+			repositorio.cerrar();
+		}
+	}
+
+	/**
+	 * Usa una base H2 en un archivo, o la indicada con -Dhomesolution.jdbc=URL,
+	 * que tiene que estar vacía y tener su driver en el classpath.
+	 */
+	@Test
+	public void testSqlRecuperaElEstadoAlReabrirlo() throws Exception {
+		String url = System.getProperty("homesolution.jdbc",
+				"jdbc:h2:file:" + directorio.resolve("homesolution").toAbsolutePath());
+
+		Repositorio repositorio = new RepositorioSql(url);
+		assertEquals(0, repositorio.cantidadDeProyectos());
+		cargarDatos(new HomeSolution(repositorio));
+		repositorio.cerrar();
+
+		verificarIgualAEnMemoria(new RepositorioSql(url));
+	}
+
+	private void verificarIgualAEnMemoria(Repositorio repositorio) throws Exception {
+		try {
+			HomeSolution recuperado = new HomeSolution(repositorio);
+
+			assertEquals(enMemoria.toString(), recuperado.toString());
+			assertEquals(enMemoria.empleados().size(), recuperado.empleados().size());
+			assertArrayEquals(enMemoria.empleadosNoAsignados(), recuperado.empleadosNoAsignados());
+
+			for (int numero = 1; numero <= 4; numero++) {
+				assertEquals(enMemoria.costoProyecto(numero), recuperado.costoProyecto(numero), 0.001);
+				assertEquals(enMemoria.estaFinalizado(numero), recuperado.estaFinalizado(numero));
+				assertArrayEquals(enMemoria.tareasProyectoNoAsignadas(numero),
+						recuperado.tareasProyectoNoAsignadas(numero));
+			}
+
+			recuperado.registrarEmpleado("Ana", 1000);
+			assertEquals(Integer.valueOf(4), recuperado.empleados().get(3).getValor1());
+		} finally {
+			repositorio.cerrar();
+		}
+	}
+
+	private static void cargarDatos(HomeSolution homeSolution) throws Exception {
+		homeSolution.registrarEmpleado("Juan", 1000);
+		homeSolution.registrarEmpleado("Luis", 10000, "EXPERTO");
+		homeSolution.registrarEmpleado("Maria", 2000);
+
+		for (int i = 0; i < 4; i++)
+			registrarProyecto(homeSolution, "Calle " + i);
+
+		for (int numero = 1; numero <= 2; numero++) {
+			homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+			homeSolution.asignarResponsableMenosRetraso(numero, "Instalacion electrica");
+			homeSolution.registrarRetrasoEnTarea(numero, "Pintar", numero);
+			homeSolution.finalizarProyecto(numero, "2025-12-1" + numero);
+		}
+
+		homeSolution.asignarResponsableEnTarea(3, "Pintar");
+		homeSolution.agregarTareaEnProyecto(3, "Limpiar", "", 1);
+		homeSolution.finalizarTarea(3, "Pintar");
+		homeSolution.asignarResponsableEnTarea(3, "Limpiar");
+	}
+
+	private static void registrarProyecto(HomeSolution homeSolution, String domicilio) {
+		String titulos[] = { "Pintar", "Instalacion electrica" };
+		String descripciones[] = { "", "" };
+		double duracion[] = { 4, 2 };
+		String cliente[] = { "Pedro Gomez", "mail@mail.com", "123456" };
+		homeSolution.registrarProyecto(titulos, descripciones, duracion, domicilio, cliente, "2025-12-01",
+				"2025-12-05");
+	}
+}
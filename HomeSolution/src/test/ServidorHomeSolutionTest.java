@@ -0,0 +1,302 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolutionConLecturaOptimista;
+import entidades.IHomeSolution;
+import entidades.LectorJson;
+import servicio.ServidorHomeSolution;
+
+public class ServidorHomeSolutionTest {
+	private HomeSolutionConLecturaOptimista homeSolution;
+	private ServidorHomeSolution servidor;
+
+	@Before
+	public void setUp() throws Exception {
+		homeSolution = new HomeSolutionConLecturaOptimista();
+		servidor = new ServidorHomeSolution(homeSolution);
+		servidor.iniciar("127.0.0.1", 0);
+
+		assertEquals(200, pedir("POST", "registrarEmpleado", "{\"nombre\":\"Juan\",\"valor\":1000}").codigo);
+		assertEquals(200, pedir("POST", "registrarEmpleado",
+				"{\"nombre\":\"Luis\",\"valor\":10000,\"categoria\":\"EXPERTO\"}").codigo);
+		assertEquals(200, pedir("POST", "registrarProyecto", "{\"titulos\":[\"Pintar\",\"Instalacion electrica\"],"
+				+ "\"descripciones\":[\"\",\"\"],\"dias\":[4,2],\"domicilio\":\"San Martin 1000\","
+				+ "\"cliente\":[\"Pedro Gomez\",\"mail@mail.com\",\"123456\"],"
+				+ "\"inicio\":\"2025-12-01\",\"fin\":\"2025-12-05\"}").codigo);
+	}
+
+	@After
+	public void tearDown() {
+		servidor.detener(0);
+	}
+
+	@Test
+	public void testOperacionesYConsultasPorHttp() throws Exception {
+		pedir("POST", "asignarResponsableEnTarea", "{\"numero\":1,\"titulo\":\"Pintar\"}");
+		pedir("POST", "registrarRetrasoEnTarea", "{\"numero\":1,\"titulo\":\"Pintar\",\"dias\":2}");
+
+		assertEquals(homeSolution.costoProyecto(1), pedir("GET", "costoProyecto?numero=1", null).resultado);
+		assertEquals(1.0, pedir("GET", "consultarCantidadRetrasosEmpleado?legajo=1", null).resultado);
+		assertEquals(Boolean.TRUE, pedir("GET", "tieneRestrasos?legajo=1", null).resultado);
+		assertEquals(Boolean.FALSE, pedir("GET", "estaFinalizado?numero=1", null).resultado);
+		assertEquals("San Martin 1000", pedir("GET", "consultarDomicilioProyecto?numero=1", null).resultado);
+		assertEquals(homeSolution.consultarProyecto(1), pedir("GET", "consultarProyecto?numero=1", null).resultado);
+		assertEquals(homeSolution.toString(), pedir("GET", "resumen", null).resultado);
+
+		List<?> activos = (List<?>) pedir("GET", "proyectosActivos", null).resultado;
+		assertEquals(1, activos.size());
+		assertEquals("San Martin 1000", ((Map<?, ?>) activos.get(0)).get("domicilio"));
+
+		List<?> asignados = (List<?>) pedir("GET", "empleadosAsignadosAProyecto?numero=1", null).resultado;
+		assertEquals("Juan", ((Map<?, ?>) asignados.get(0)).get("nombre"));
+
+		assertEquals("[Instalacion electrica]",
+				pedir("GET", "tareasProyectoNoAsignadas?numero=1", null).resultado.toString());
+		assertEquals("[2]", pedir("GET", "empleadosNoAsignados", null).resultado.toString());
+
+		Respuesta lote = pedir("POST", "aplicarLote", "{\"comandos\":["
+				+ "{\"tipo\":\"asignarResponsable\",\"numero\":1,\"titulo\":\"Instalacion electrica\"},"
+				+ "{\"tipo\":\"finalizarProyecto\",\"numero\":1,\"fin\":\"2025-12-10\"}]}");
+		assertEquals(200, lote.codigo);
+		assertEquals(Boolean.TRUE, pedir("GET", "estaFinalizado?numero=1", null).resultado);
+		assertEquals(2, ((List<?>) pedir("GET", "empleadosNoAsignados", null).resultado).size());
+	}
+
+	@Test
+	public void testErroresDevuelvenCodigoYMensaje() throws Exception {
+		Respuesta inexistente = pedir("GET", "costoProyecto?numero=99", null);
+		assertEquals(400, inexistente.codigo);
+		assertEquals("No existe ningún proyecto con código 99", inexistente.error);
+
+		assertEquals(400, pedir("GET", "costoProyecto", null).codigo);
+		assertEquals(400, pedir("POST", "asignarResponsableEnTarea", "{\"numero\":1,").codigo);
+		assertEquals(404, pedir("GET", "noExiste", null).codigo);
+		assertEquals(405, pedir("GET", "finalizarProyecto?numero=1&fin=2025-12-10", null).codigo);
+
+		pedir("POST", "asignarResponsableEnTarea", "{\"numero\":1,\"titulo\":\"Pintar\"}");
+		pedir("POST", "asignarResponsableEnTarea", "{\"numero\":1,\"titulo\":\"Instalacion electrica\"}");
+		pedir("POST", "registrarProyecto", "{\"titulos\":[\"Pintar\"],\"descripciones\":[\"\"],\"dias\":[1],"
+				+ "\"domicilio\":\"Belgrano 200\",\"cliente\":[\"Ana\",\"\",\"\"],"
+				+ "\"inicio\":\"2025-12-01\",\"fin\":\"2025-12-05\"}");
+
+		Respuesta sinEmpleados = pedir("POST", "asignarResponsableEnTarea", "{\"numero\":2,\"titulo\":\"Pintar\"}");
+		assertEquals(409, sinEmpleados.codigo);
+		assertEquals("No hay empleados disponibles.", sinEmpleados.error);
+
+		Respuesta loteFallido = pedir("POST", "aplicarLote", "{\"comandos\":["
+				+ "{\"tipo\":\"registrarRetraso\",\"numero\":1,\"titulo\":\"Pintar\",\"dias\":1},"
+				+ "{\"tipo\":\"registrarRetraso\",\"numero\":1,\"titulo\":\"No existe\",\"dias\":1}]}");
+		assertEquals(400, loteFallido.codigo);
+		assertEquals(0.0, pedir("GET", "consultarCantidadRetrasosEmpleado?legajo=1", null).resultado);
+	}
+
+	@Test
+	public void testAtiendePeticionesConcurrentes() throws Exception {
+		Thread[] clientes = new Thread[8];
+		Exception[] errores = new Exception[clientes.length];
+
+		for (int i = 0; i < clientes.length; i++) {
+			int cliente = i;
+			clientes[i] = new Thread(() -> {
+				try {
+					for (int j = 0; j < 50; j++) {
+						if (j == cliente)
+							pedir("POST", "registrarEmpleado", "{\"nombre\":\"Cliente " + cliente + "\",\"valor\":1}");
+
+						Respuesta respuesta = pedir("GET", "consultarDomicilioProyecto?numero=1", null);
+						if (respuesta.codigo != 200 || !"San Martin 1000".equals(respuesta.resultado))
+							throw new IllegalStateException("Respuesta inesperada: " + respuesta.codigo);
+					}
+				} catch (Exception e) {
+					errores[cliente] = e;
+				}
+			});
+			clientes[i].start();
+		}
+
+		for (Thread cliente : clientes)
+			cliente.join();
+		for (Exception error : errores) {
+			if (error != null)
+				throw error;
+		}
+
+		List<?> empleados = (List<?>) pedir("GET", "empleados", null).resultado;
+		assertEquals(10, empleados.size());
+		assertEquals(10.0, ((Map<?, ?>) empleados.get(9)).get("legajo")); // Consecutivos aunque cambie el hilo.
+	}
+
+	@Test
+	public void testLasFallasDelSistemaDevuelven500SinDetalles() throws Exception {
+		ServidorHomeSolution otro = new ServidorHomeSolution(homeSolutionQueCalculaCon(numero -> {
+			throw new IllegalStateException("No se pudo leer /var/datos/proyectos.dat");
+		}));
+		otro.iniciar("127.0.0.1", 0);
+
+		try {
+			Respuesta respuesta = pedir(otro, "GET", "costoProyecto?numero=1", null);
+
+			assertEquals(500, respuesta.codigo);
+			assertEquals("Error interno del servidor.", respuesta.error);
+		} finally {
+			otro.detener(0);
+		}
+	}
+
+	@Test
+	public void testConLaColaLlenaDevuelve503() throws Exception {
+		CountDownLatch entro = new CountDownLatch(1);
+		CountDownLatch seguir = new CountDownLatch(1);
+		ServidorHomeSolution otro = new ServidorHomeSolution(homeSolutionQueCalculaCon(numero -> {
+			entro.countDown();
+			seguir.await();
+			return 1.0;
+		}), 1, 1);
+		otro.iniciar("127.0.0.1", 0);
+		ExecutorService clientes = Executors.newFixedThreadPool(3);
+
+		try {
+			assumeFalse(otro.usaHilosVirtuales());
+
+			// La primera ocupa el único hilo; de las otras dos, una espera en la cola y
+			// la otra se rechaza.
+			Future<Respuesta> primera = clientes.submit(() -> pedir(otro, "GET", "costoProyecto?numero=1", null));
+			entro.await();
+			Future<Respuesta> segunda = clientes.submit(() -> pedir(otro, "GET", "costoProyecto?numero=1", null));
+			Future<Respuesta> tercera = clientes.submit(() -> pedir(otro, "GET", "costoProyecto?numero=1", null));
+
+			Respuesta rechazada = null;
+			while (rechazada == null) {
+				if (segunda.isDone())
+					rechazada = segunda.get();
+				else if (tercera.isDone())
+					rechazada = tercera.get();
+				else
+					Thread.sleep(10);
+			}
+
+			assertEquals(503, rechazada.codigo);
+			assertEquals("El servidor está saturado. Reintente más tarde.", rechazada.error);
+
+			seguir.countDown();
+
+			assertEquals(200, primera.get().codigo);
+			assertEquals(200, (segunda.get() == rechazada ? tercera : segunda).get().codigo);
+		} finally {
+			seguir.countDown();
+			clientes.shutdown();
+			clientes.awaitTermination(10, TimeUnit.SECONDS);
+			otro.detener(0);
+		}
+	}
+
+	@Test
+	public void testBuscaHilosVirtualesPorReflexion() {
+		assertNotNull(ServidorHomeSolution.buscarHilosVirtuales(ConHilosVirtuales.class));
+		assertNull(ServidorHomeSolution.buscarHilosVirtuales(SinVistaPrevia.class));
+		assertNull(ServidorHomeSolution.buscarHilosVirtuales(Object.class));
+
+		boolean hay = ServidorHomeSolution.buscarHilosVirtuales(Executors.class) != null;
+		assertEquals(hay, servidor.usaHilosVirtuales());
+	}
+
+	public static class ConHilosVirtuales {
+		public static ExecutorService newVirtualThreadPerTaskExecutor() {
+			return Executors.newSingleThreadExecutor();
+		}
+	}
+
+	public static class SinVistaPrevia {
+		public static ExecutorService newVirtualThreadPerTaskExecutor() {
+			throw new UnsupportedOperationException("Preview Features not enabled");
+		}
+	}
+
+	private interface Costo {
+		double calcular(Integer numero) throws Exception;
+	}
+
+	/**
+	 * Un IHomeSolution que sólo sabe calcular el costo de un proyecto.
+	 */
+	private static IHomeSolution homeSolutionQueCalculaCon(Costo costo) {
+		InvocationHandler manejador = (proxy, metodo, argumentos) -> {
+			if (!metodo.getName().equals("costoProyecto"))
+				throw new UnsupportedOperationException(metodo.getName());
+
+			return costo.calcular((Integer) argumentos[0]);
+		};
+
+		return (IHomeSolution) Proxy.newProxyInstance(IHomeSolution.class.getClassLoader(),
+				new Class<?>[] { IHomeSolution.class }, manejador);
+	}
+
+	private Respuesta pedir(String metodo, String ruta, String cuerpo) throws Exception {
+		return pedir(servidor, metodo, ruta, cuerpo);
+	}
+
+	private static Respuesta pedir(ServidorHomeSolution servidor, String metodo, String ruta, String cuerpo)
+			throws Exception {
+		HttpURLConnection conexion = (HttpURLConnection) new URL(
+				"http://127.0.0.1:" + servidor.obtenerPuerto() + "/api/" + ruta).openConnection();
+		conexion.setRequestMethod(metodo);
+
+		if (cuerpo != null) {
+			conexion.setDoOutput(true);
+			conexion.setRequestProperty("Content-Type", "application/json");
+			try (OutputStream salida = conexion.getOutputStream()) {
+				salida.write(cuerpo.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		int codigo = conexion.getResponseCode();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (InputStream entrada = codigo < 400 ? conexion.getInputStream() : conexion.getErrorStream()) {
+			byte[] buffer = new byte[4096];
+			int leidos;
+			while ((leidos = entrada.read(buffer)) != -1)
+				bytes.write(buffer, 0, leidos);
+		}
+
+		Map<?, ?> json = (Map<?, ?>) LectorJson.leer(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+
+		return new Respuesta(codigo, json.get("resultado"), (String) json.get("error"));
+	}
+
+	private static class Respuesta {
+		private final int codigo;
+		private final Object resultado;
+		private final String error;
+
+		private Respuesta(int codigo, Object resultado, String error) {
+			this.codigo = codigo;
+			this.resultado = resultado;
+			this.error = error;
+		}
+	}
+}